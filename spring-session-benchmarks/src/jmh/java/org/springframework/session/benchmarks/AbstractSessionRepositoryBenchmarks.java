@@ -0,0 +1,112 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.benchmarks;
+
+import java.time.Instant;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+
+/**
+ * Base class for {@link SessionRepository} benchmarks. Subclasses provide the repository
+ * under test, this class seeds it with a session of the configured shape and measures the
+ * operations performed by a typical request.
+ *
+ * @author Spring Session Team
+ */
+@State(Scope.Benchmark)
+public abstract class AbstractSessionRepositoryBenchmarks {
+
+	/**
+	 * The number of attributes stored next to the security context.
+	 */
+	@Param({ "5", "50" })
+	public int attributeCount;
+
+	private SessionRepository<Session> sessionRepository;
+
+	private String sessionId;
+
+	@Setup
+	@SuppressWarnings("unchecked")
+	public void setUp() throws Exception {
+		this.sessionRepository = (SessionRepository<Session>) createSessionRepository();
+		Session session = this.sessionRepository.createSession();
+		BenchmarkSessions.populate(session, this.attributeCount);
+		this.sessionRepository.save(session);
+		this.sessionId = session.getId();
+	}
+
+	@TearDown
+	public void tearDown() throws Exception {
+		this.sessionRepository.deleteById(this.sessionId);
+		destroySessionRepository();
+	}
+
+	/**
+	 * Create the {@link SessionRepository} under test.
+	 * @return the session repository
+	 * @throws Exception if the repository could not be created
+	 */
+	protected abstract SessionRepository<?> createSessionRepository() throws Exception;
+
+	/**
+	 * Release any resources held by the repository under test.
+	 * @throws Exception if the resources could not be released
+	 */
+	protected void destroySessionRepository() throws Exception {
+	}
+
+	@Benchmark
+	public Session findById() {
+		return this.sessionRepository.findById(this.sessionId);
+	}
+
+	@Benchmark
+	public Session findByIdAndSave() {
+		Session session = this.sessionRepository.findById(this.sessionId);
+		session.setLastAccessedTime(Instant.now());
+		this.sessionRepository.save(session);
+		return session;
+	}
+
+	@Benchmark
+	public Session findByIdUpdateAttributeAndSave() {
+		Session session = this.sessionRepository.findById(this.sessionId);
+		session.setLastAccessedTime(Instant.now());
+		session.setAttribute(BenchmarkSessions.ATTRIBUTE_PREFIX + 0, Instant.now().toString());
+		this.sessionRepository.save(session);
+		return session;
+	}
+
+	@Benchmark
+	public Session createSaveAndDelete() {
+		Session session = this.sessionRepository.createSession();
+		BenchmarkSessions.populate(session, this.attributeCount);
+		this.sessionRepository.save(session);
+		this.sessionRepository.deleteById(session.getId());
+		return session;
+	}
+
+}
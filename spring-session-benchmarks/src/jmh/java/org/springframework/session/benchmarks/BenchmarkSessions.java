@@ -0,0 +1,90 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.benchmarks;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.session.Session;
+
+/**
+ * Builds realistic session shapes for the benchmarks: a Spring Security context plus a
+ * configurable number of additional attributes of the types that usually dominate
+ * sessions.
+ *
+ * @author Spring Session Team
+ */
+final class BenchmarkSessions {
+
+	static final String SPRING_SECURITY_CONTEXT = "SPRING_SECURITY_CONTEXT";
+
+	static final String ATTRIBUTE_PREFIX = "attribute";
+
+	private BenchmarkSessions() {
+	}
+
+	/**
+	 * Populate the session with a security context and the given number of attributes.
+	 * @param session the session to populate
+	 * @param attributeCount the number of attributes to add next to the security context
+	 */
+	static void populate(Session session, int attributeCount) {
+		session.setAttribute(SPRING_SECURITY_CONTEXT, securityContext("user"));
+		for (int i = 0; i < attributeCount; i++) {
+			session.setAttribute(ATTRIBUTE_PREFIX + i, attributeValue(i));
+		}
+	}
+
+	static SecurityContext securityContext(String username) {
+		UsernamePasswordAuthenticationToken authentication = UsernamePasswordAuthenticationToken.authenticated(username,
+				null, AuthorityUtils.createAuthorityList("ROLE_USER", "ROLE_ADMIN"));
+		return new SecurityContextImpl(authentication);
+	}
+
+	static Object attributeValue(int index) {
+		return switch (index % 5) {
+			case 0 -> "value-" + index;
+			case 1 -> index;
+			case 2 -> (long) index * 31;
+			case 3 -> list(index);
+			default -> map(index);
+		};
+	}
+
+	private static List<String> list(int index) {
+		List<String> list = new ArrayList<>();
+		for (int i = 0; i < 4; i++) {
+			list.add("item-" + index + "-" + i);
+		}
+		return list;
+	}
+
+	private static Map<String, Object> map(int index) {
+		Map<String, Object> map = new HashMap<>();
+		map.put("id", index);
+		map.put("name", "entry-" + index);
+		map.put("enabled", Boolean.TRUE);
+		return map;
+	}
+
+}
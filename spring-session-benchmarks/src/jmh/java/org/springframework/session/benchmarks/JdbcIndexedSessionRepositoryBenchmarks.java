@@ -0,0 +1,70 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.benchmarks;
+
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.session.SessionRepository;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * Benchmarks for {@link JdbcIndexedSessionRepository} against embedded H2 and HSQLDB
+ * databases.
+ *
+ * @author Spring Session Team
+ */
+@State(Scope.Benchmark)
+public class JdbcIndexedSessionRepositoryBenchmarks extends AbstractSessionRepositoryBenchmarks {
+
+	/**
+	 * The embedded database to run against.
+	 */
+	@Param({ "H2", "HSQL" })
+	public EmbeddedDatabaseType databaseType;
+
+	private EmbeddedDatabase database;
+
+	@Override
+	protected SessionRepository<?> createSessionRepository() {
+		this.database = new EmbeddedDatabaseBuilder().generateUniqueName(true)
+			.setType(this.databaseType)
+			.addScript(schemaScript(this.databaseType))
+			.build();
+		TransactionTemplate transactionTemplate = new TransactionTemplate(
+				new DataSourceTransactionManager(this.database));
+		return new JdbcIndexedSessionRepository(new JdbcTemplate(this.database), transactionTemplate);
+	}
+
+	@Override
+	protected void destroySessionRepository() {
+		this.database.shutdown();
+	}
+
+	private static String schemaScript(EmbeddedDatabaseType databaseType) {
+		String platform = (databaseType == EmbeddedDatabaseType.HSQL) ? "hsqldb" : "h2";
+		return "org/springframework/session/jdbc/schema-" + platform + ".sql";
+	}
+
+}
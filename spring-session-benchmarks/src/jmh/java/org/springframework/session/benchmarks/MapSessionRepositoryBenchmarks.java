@@ -0,0 +1,40 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.benchmarks;
+
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.session.MapSessionRepository;
+import org.springframework.session.SessionRepository;
+
+/**
+ * Benchmarks for {@link MapSessionRepository}.
+ *
+ * @author Spring Session Team
+ */
+@State(Scope.Benchmark)
+public class MapSessionRepositoryBenchmarks extends AbstractSessionRepositoryBenchmarks {
+
+	@Override
+	protected SessionRepository<?> createSessionRepository() {
+		return new MapSessionRepository(new ConcurrentHashMap<>());
+	}
+
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.benchmarks;
+
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.testcontainers.containers.MongoDBContainer;
+
+import org.springframework.data.mongodb.core.MongoTemplate;
+import org.springframework.session.SessionRepository;
+import org.springframework.session.data.mongo.MongoIndexedSessionRepository;
+
+/**
+ * Benchmarks for {@link MongoIndexedSessionRepository} against a MongoDB container.
+ *
+ * @author Spring Session Team
+ */
+@State(Scope.Benchmark)
+public class MongoIndexedSessionRepositoryBenchmarks extends AbstractSessionRepositoryBenchmarks {
+
+	private static final String DOCKER_IMAGE = "mongo:5.0.11";
+
+	private MongoDBContainer container;
+
+	private MongoClient mongoClient;
+
+	@Override
+	protected SessionRepository<?> createSessionRepository() {
+		this.container = new MongoDBContainer(DOCKER_IMAGE);
+		this.container.start();
+		this.mongoClient = MongoClients.create(this.container.getReplicaSetUrl());
+		MongoIndexedSessionRepository sessionRepository = new MongoIndexedSessionRepository(
+				new MongoTemplate(this.mongoClient, "benchmarks"));
+		sessionRepository.afterPropertiesSet();
+		return sessionRepository;
+	}
+
+	@Override
+	protected void destroySessionRepository() {
+		this.mongoClient.close();
+		this.container.stop();
+	}
+
+}
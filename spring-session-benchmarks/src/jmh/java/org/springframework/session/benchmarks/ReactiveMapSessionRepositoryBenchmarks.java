@@ -0,0 +1,85 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.benchmarks;
+
+import java.time.Instant;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.session.MapSession;
+import org.springframework.session.ReactiveMapSessionRepository;
+
+/**
+ * Benchmarks for {@link ReactiveMapSessionRepository}.
+ *
+ * @author Spring Session Team
+ */
+@State(Scope.Benchmark)
+public class ReactiveMapSessionRepositoryBenchmarks {
+
+	/**
+	 * The number of attributes stored next to the security context.
+	 */
+	@Param({ "5", "50" })
+	public int attributeCount;
+
+	private ReactiveMapSessionRepository sessionRepository;
+
+	private String sessionId;
+
+	@Setup
+	public void setUp() {
+		this.sessionRepository = new ReactiveMapSessionRepository(new ConcurrentHashMap<>());
+		MapSession session = this.sessionRepository.createSession().block();
+		BenchmarkSessions.populate(session, this.attributeCount);
+		this.sessionRepository.save(session).block();
+		this.sessionId = session.getId();
+	}
+
+	@Benchmark
+	public MapSession findById() {
+		return this.sessionRepository.findById(this.sessionId).block();
+	}
+
+	@Benchmark
+	public MapSession findByIdAndSave() {
+		// @formatter:off
+		return this.sessionRepository.findById(this.sessionId)
+				.doOnNext((session) -> session.setLastAccessedTime(Instant.now()))
+				.flatMap((session) -> this.sessionRepository.save(session).thenReturn(session))
+				.block();
+		// @formatter:on
+	}
+
+	@Benchmark
+	public MapSession createSaveAndDelete() {
+		// @formatter:off
+		return this.sessionRepository.createSession()
+				.doOnNext((session) -> BenchmarkSessions.populate(session, this.attributeCount))
+				.flatMap((session) -> this.sessionRepository.save(session)
+						.then(this.sessionRepository.deleteById(session.getId()))
+						.thenReturn(session))
+				.block();
+		// @formatter:on
+	}
+
+}
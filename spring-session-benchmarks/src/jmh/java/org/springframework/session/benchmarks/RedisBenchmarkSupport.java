@@ -0,0 +1,62 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.benchmarks;
+
+import com.redis.testcontainers.RedisContainer;
+
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * Manages the Redis container and the {@link RedisTemplate} shared by the Redis
+ * benchmarks.
+ *
+ * @author Spring Session Team
+ */
+final class RedisBenchmarkSupport {
+
+	private RedisContainer container;
+
+	private LettuceConnectionFactory connectionFactory;
+
+	RedisTemplate<String, Object> start() {
+		this.container = new RedisContainer(RedisContainer.DEFAULT_IMAGE_NAME.withTag(RedisContainer.DEFAULT_TAG));
+		this.container.start();
+		this.connectionFactory = new LettuceConnectionFactory(
+				new RedisStandaloneConfiguration(this.container.getHost(), this.container.getFirstMappedPort()));
+		this.connectionFactory.afterPropertiesSet();
+		this.connectionFactory.start();
+		RedisTemplate<String, Object> redisTemplate = new RedisTemplate<>();
+		redisTemplate.setKeySerializer(RedisSerializer.string());
+		redisTemplate.setHashKeySerializer(RedisSerializer.string());
+		redisTemplate.setConnectionFactory(this.connectionFactory);
+		redisTemplate.afterPropertiesSet();
+		return redisTemplate;
+	}
+
+	void stop() {
+		if (this.connectionFactory != null) {
+			this.connectionFactory.destroy();
+		}
+		if (this.container != null) {
+			this.container.stop();
+		}
+	}
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.benchmarks;
+
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.session.SessionRepository;
+import org.springframework.session.data.redis.RedisIndexedSessionRepository;
+
+/**
+ * Benchmarks for {@link RedisIndexedSessionRepository} against a Redis container.
+ *
+ * @author Spring Session Team
+ */
+@State(Scope.Benchmark)
+public class RedisIndexedSessionRepositoryBenchmarks extends AbstractSessionRepositoryBenchmarks {
+
+	private final RedisBenchmarkSupport redis = new RedisBenchmarkSupport();
+
+	private RedisIndexedSessionRepository sessionRepository;
+
+	@Override
+	protected SessionRepository<?> createSessionRepository() {
+		this.sessionRepository = new RedisIndexedSessionRepository(this.redis.start());
+		this.sessionRepository.afterPropertiesSet();
+		return this.sessionRepository;
+	}
+
+	@Override
+	protected void destroySessionRepository() {
+		this.sessionRepository.destroy();
+		this.redis.stop();
+	}
+
+}
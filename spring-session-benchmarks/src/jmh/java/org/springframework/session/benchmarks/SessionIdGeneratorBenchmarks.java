@@ -0,0 +1,74 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.benchmarks;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import org.springframework.session.SecureRandomSessionIdGenerator;
+import org.springframework.session.SessionIdGenerator;
+import org.springframework.session.UuidSessionIdGenerator;
+
+/**
+ * Benchmarks comparing the {@link SessionIdGenerator} implementations, from a single
+ * thread and from as many threads as there are processors.
+ *
+ * @author Spring Session Team
+ */
+@State(Scope.Benchmark)
+public class SessionIdGeneratorBenchmarks {
+
+	/**
+	 * The generator under test: {@code uuid} for {@link UuidSessionIdGenerator},
+	 * {@code secureRandom} for {@link SecureRandomSessionIdGenerator} and
+	 * {@code reseedingDrbg} for the latter reseeding every 1024 ids.
+	 */
+	@Param({ "uuid", "secureRandom", "reseedingDrbg" })
+	public String generator;
+
+	private SessionIdGenerator sessionIdGenerator;
+
+	@Setup
+	public void setUp() {
+		this.sessionIdGenerator = switch (this.generator) {
+			case "uuid" -> UuidSessionIdGenerator.getInstance();
+			case "secureRandom" -> new SecureRandomSessionIdGenerator();
+			case "reseedingDrbg" -> {
+				SecureRandomSessionIdGenerator reseeding = new SecureRandomSessionIdGenerator();
+				reseeding.setReseedInterval(1024);
+				yield reseeding;
+			}
+			default -> throw new IllegalArgumentException("Unknown generator " + this.generator);
+		};
+	}
+
+	@Benchmark
+	public String generate() {
+		return this.sessionIdGenerator.generate();
+	}
+
+	@Benchmark
+	@Threads(Threads.MAX)
+	public String generateContended() {
+		return this.sessionIdGenerator.generate();
+	}
+
+}
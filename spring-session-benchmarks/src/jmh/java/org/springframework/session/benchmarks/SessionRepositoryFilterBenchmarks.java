@@ -0,0 +1,116 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.benchmarks;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.ConcurrentHashMap;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.session.MapSession;
+import org.springframework.session.MapSessionRepository;
+import org.springframework.session.web.http.SessionRepositoryFilter;
+
+/**
+ * End-to-end benchmarks of a request going through {@link SessionRepositoryFilter} backed
+ * by a {@link MapSessionRepository}, isolating the cost of the filter itself.
+ *
+ * @author Spring Session Team
+ */
+@State(Scope.Benchmark)
+public class SessionRepositoryFilterBenchmarks {
+
+	/**
+	 * The number of attributes stored next to the security context.
+	 */
+	@Param({ "5", "50" })
+	public int attributeCount;
+
+	private SessionRepositoryFilter<MapSession> filter;
+
+	private Cookie sessionCookie;
+
+	@Setup
+	public void setUp() {
+		MapSessionRepository sessionRepository = new MapSessionRepository(new ConcurrentHashMap<>());
+		MapSession session = sessionRepository.createSession();
+		BenchmarkSessions.populate(session, this.attributeCount);
+		sessionRepository.save(session);
+		this.filter = new SessionRepositoryFilter<>(sessionRepository);
+		String encodedId = Base64.getEncoder().encodeToString(session.getId().getBytes(StandardCharsets.UTF_8));
+		this.sessionCookie = new Cookie("SESSION", encodedId);
+	}
+
+	@Benchmark
+	public MockHttpServletResponse requestWithoutSession() throws ServletException, IOException {
+		return doFilter(new MockFilterChain());
+	}
+
+	@Benchmark
+	public MockHttpServletResponse requestReadingSession() throws ServletException, IOException {
+		return doFilter(new MockFilterChain() {
+
+			@Override
+			public void doFilter(ServletRequest request, ServletResponse response) {
+				HttpSession session = ((HttpServletRequest) request).getSession(false);
+				session.getAttribute(BenchmarkSessions.SPRING_SECURITY_CONTEXT);
+				session.getAttribute(BenchmarkSessions.ATTRIBUTE_PREFIX + 0);
+			}
+
+		}, this.sessionCookie);
+	}
+
+	@Benchmark
+	public MockHttpServletResponse requestWritingSession() throws ServletException, IOException {
+		return doFilter(new MockFilterChain() {
+
+			@Override
+			public void doFilter(ServletRequest request, ServletResponse response) {
+				HttpSession session = ((HttpServletRequest) request).getSession(false);
+				session.setAttribute(BenchmarkSessions.ATTRIBUTE_PREFIX + 0, "updated");
+			}
+
+		}, this.sessionCookie);
+	}
+
+	private MockHttpServletResponse doFilter(MockFilterChain chain, Cookie... cookies)
+			throws ServletException, IOException {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/");
+		if (cookies.length > 0) {
+			request.setCookies(cookies);
+		}
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		this.filter.doFilter(request, response, chain);
+		return response;
+	}
+
+}
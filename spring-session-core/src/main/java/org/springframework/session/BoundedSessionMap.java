@@ -0,0 +1,469 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.util.AbstractMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+import org.springframework.util.Assert;
+
+/**
+ * A size-bounded {@link Map} of sessions to be supplied to a {@link MapSessionRepository}
+ * or {@link ReactiveMapSessionRepository}, for instance
+ * {@code new MapSessionRepository(new BoundedSessionMap(10000))}.
+ * <p>
+ * The map holds sessions up to a maximum total weight. By default every session weighs
+ * one, which bounds the number of sessions; {@link #setWeigher(ToLongFunction)} with
+ * {@link #estimatedSizeWeigher()} bounds the estimated memory used by their attributes
+ * instead. Once the maximum is exceeded, entries are evicted following the W-TinyLFU
+ * policy: new sessions enter a small LRU window and then compete for a place in the main
+ * segmented LRU against its least recently used entry, based on how often each of them
+ * has been accessed according to a compact frequency sketch. A flood of sessions that are
+ * used only once therefore cannot displace sessions that are in active use.
+ * <p>
+ * A session heavier than the maximum weight is not stored at all. All operations are
+ * synchronized on the map; {@link #getStatistics()} reports its hit, miss and eviction
+ * counts as well as its current size and weight.
+ *
+ * @author Spring Session Team
+ * @since 3.5
+ */
+public class BoundedSessionMap extends AbstractMap<String, Session> {
+
+	private static final int WINDOW = 0;
+
+	private static final int PROBATION = 1;
+
+	private static final int PROTECTED = 2;
+
+	private final Map<String, Node> nodes = new HashMap<>();
+
+	private final AccessOrder[] queues = { new AccessOrder(), new AccessOrder(), new AccessOrder() };
+
+	private final FrequencySketch sketch;
+
+	private final long maximumWeight;
+
+	private final long windowMaximum;
+
+	private final long protectedMaximum;
+
+	private ToLongFunction<? super Session> weigher = (session) -> 1;
+
+	private long hitCount;
+
+	private long missCount;
+
+	private long evictionCount;
+
+	/**
+	 * Create a new instance.
+	 * @param maximumWeight the maximum total weight of the sessions, which is the maximum
+	 * number of sessions unless a different weigher is configured
+	 */
+	public BoundedSessionMap(long maximumWeight) {
+		Assert.isTrue(maximumWeight > 0, "maximumWeight must be positive");
+		this.maximumWeight = maximumWeight;
+		this.windowMaximum = Math.max(1, maximumWeight / 100);
+		this.protectedMaximum = (maximumWeight - this.windowMaximum) * 8 / 10;
+		this.sketch = new FrequencySketch((int) Math.min(maximumWeight, 1 << 20));
+	}
+
+	/**
+	 * Set the function computing the weight of a session. It is evaluated whenever a
+	 * session is stored and must return a non-negative value. The default weighs every
+	 * session as one.
+	 * @param weigher the weigher to use
+	 * @see #estimatedSizeWeigher()
+	 */
+	public void setWeigher(ToLongFunction<? super Session> weigher) {
+		Assert.notNull(weigher, "weigher cannot be null");
+		synchronized (this) {
+			this.weigher = weigher;
+		}
+	}
+
+	/**
+	 * Return a weigher that estimates the number of bytes used by a session and its
+	 * attributes. The estimate is coarse and meant for relative comparison.
+	 * @return the weigher
+	 */
+	public static ToLongFunction<Session> estimatedSizeWeigher() {
+		return (session) -> {
+			long weight = 128;
+			for (String attributeName : session.getAttributeNames()) {
+				weight += 48 + 2L * attributeName.length() + estimateSize(session.getAttribute(attributeName));
+			}
+			return weight;
+		};
+	}
+
+	private static long estimateSize(Object value) {
+		if (value == null) {
+			return 0;
+		}
+		if (value instanceof CharSequence sequence) {
+			return 40 + 2L * sequence.length();
+		}
+		if (value instanceof byte[] bytes) {
+			return 16 + bytes.length;
+		}
+		if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+			return 16;
+		}
+		if (value instanceof Map<?, ?> map) {
+			long size = 64;
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				size += 32 + estimateSize(entry.getKey()) + estimateSize(entry.getValue());
+			}
+			return size;
+		}
+		if (value instanceof Iterable<?> iterable) {
+			long size = 48;
+			for (Object element : iterable) {
+				size += 8 + estimateSize(element);
+			}
+			return size;
+		}
+		return 256;
+	}
+
+	@Override
+	public synchronized Session get(Object key) {
+		Node node = this.nodes.get(key);
+		if (node == null) {
+			this.missCount++;
+			return null;
+		}
+		this.hitCount++;
+		this.sketch.increment(node.key);
+		onAccess(node);
+		return node.session;
+	}
+
+	@Override
+	public synchronized boolean containsKey(Object key) {
+		return this.nodes.containsKey(key);
+	}
+
+	@Override
+	public synchronized Session put(String key, Session session) {
+		Assert.notNull(key, "key cannot be null");
+		Assert.notNull(session, "session cannot be null");
+		long weight = this.weigher.applyAsLong(session);
+		Assert.isTrue(weight >= 0, "weight cannot be negative");
+		this.sketch.increment(key);
+		Node node = this.nodes.get(key);
+		if (weight > this.maximumWeight) {
+			if (node != null) {
+				removeNode(node);
+			}
+			this.evictionCount++;
+			return (node != null) ? node.session : null;
+		}
+		Session previous = null;
+		if (node != null) {
+			previous = node.session;
+			node.session = session;
+			this.queues[node.queue].weight += weight - node.weight;
+			node.weight = weight;
+			onAccess(node);
+		}
+		else {
+			node = new Node(key, session, weight);
+			this.nodes.put(key, node);
+			this.queues[WINDOW].addFirst(node, WINDOW);
+		}
+		evict();
+		return previous;
+	}
+
+	@Override
+	public synchronized Session remove(Object key) {
+		Node node = this.nodes.get(key);
+		if (node == null) {
+			return null;
+		}
+		removeNode(node);
+		return node.session;
+	}
+
+	@Override
+	public synchronized boolean remove(Object key, Object value) {
+		Node node = this.nodes.get(key);
+		if (node == null || !node.session.equals(value)) {
+			return false;
+		}
+		removeNode(node);
+		return true;
+	}
+
+	@Override
+	public synchronized int size() {
+		return this.nodes.size();
+	}
+
+	@Override
+	public synchronized void clear() {
+		this.nodes.clear();
+		for (AccessOrder queue : this.queues) {
+			queue.clear();
+		}
+	}
+
+	/**
+	 * Return a snapshot of the entries of this map, without counting as access.
+	 * @return the entries
+	 */
+	@Override
+	public synchronized Set<Map.Entry<String, Session>> entrySet() {
+		Set<Map.Entry<String, Session>> entries = new LinkedHashSet<>();
+		this.nodes.forEach((key, node) -> entries.add(new SimpleImmutableEntry<>(key, node.session)));
+		return entries;
+	}
+
+	/**
+	 * Return a snapshot of the statistics of this map.
+	 * @return the statistics
+	 */
+	public synchronized Statistics getStatistics() {
+		long weight = 0;
+		for (AccessOrder queue : this.queues) {
+			weight += queue.weight;
+		}
+		return new Statistics(this.hitCount, this.missCount, this.evictionCount, this.nodes.size(), weight);
+	}
+
+	private void onAccess(Node node) {
+		if (node.queue == PROBATION) {
+			this.queues[PROBATION].remove(node);
+			this.queues[PROTECTED].addFirst(node, PROTECTED);
+			while (this.queues[PROTECTED].weight > this.protectedMaximum && this.queues[PROTECTED].tail != node) {
+				Node demoted = this.queues[PROTECTED].tail;
+				this.queues[PROTECTED].remove(demoted);
+				this.queues[PROBATION].addFirst(demoted, PROBATION);
+			}
+		}
+		else {
+			this.queues[node.queue].moveToFirst(node);
+		}
+	}
+
+	private void evict() {
+		while (this.queues[WINDOW].weight > this.windowMaximum && this.queues[WINDOW].tail != null) {
+			Node candidate = this.queues[WINDOW].tail;
+			this.queues[WINDOW].remove(candidate);
+			this.queues[PROBATION].addFirst(candidate, PROBATION);
+		}
+		while (totalWeight() > this.maximumWeight) {
+			Node victim = lastOf(PROBATION, PROTECTED, WINDOW);
+			Node candidate = this.queues[PROBATION].head;
+			if (candidate != null && candidate != victim
+					&& this.sketch.frequency(candidate.key) <= this.sketch.frequency(victim.key)) {
+				victim = candidate;
+			}
+			removeNode(victim);
+			this.evictionCount++;
+		}
+	}
+
+	private Node lastOf(int... queues) {
+		for (int queue : queues) {
+			if (this.queues[queue].tail != null) {
+				return this.queues[queue].tail;
+			}
+		}
+		throw new IllegalStateException("No entries to evict");
+	}
+
+	private long totalWeight() {
+		return this.queues[WINDOW].weight + this.queues[PROBATION].weight + this.queues[PROTECTED].weight;
+	}
+
+	private void removeNode(Node node) {
+		this.nodes.remove(node.key);
+		this.queues[node.queue].remove(node);
+	}
+
+	/**
+	 * Statistics of a {@link BoundedSessionMap}.
+	 *
+	 * @param hitCount the number of lookups that found a session
+	 * @param missCount the number of lookups that found no session
+	 * @param evictionCount the number of sessions evicted or rejected because of the size
+	 * bound
+	 * @param size the current number of sessions
+	 * @param weight the current total weight of the sessions
+	 */
+	public record Statistics(long hitCount, long missCount, long evictionCount, long size, long weight) {
+
+	}
+
+	private static final class Node {
+
+		private final String key;
+
+		private Session session;
+
+		private long weight;
+
+		private int queue;
+
+		private Node previous;
+
+		private Node next;
+
+		private Node(String key, Session session, long weight) {
+			this.key = key;
+			this.session = session;
+			this.weight = weight;
+		}
+
+	}
+
+	/**
+	 * A doubly linked list of nodes from most to least recently used, with their total
+	 * weight.
+	 */
+	private static final class AccessOrder {
+
+		private Node head;
+
+		private Node tail;
+
+		private long weight;
+
+		private void addFirst(Node node, int queue) {
+			node.queue = queue;
+			node.previous = null;
+			node.next = this.head;
+			if (this.head != null) {
+				this.head.previous = node;
+			}
+			this.head = node;
+			if (this.tail == null) {
+				this.tail = node;
+			}
+			this.weight += node.weight;
+		}
+
+		private void remove(Node node) {
+			if (node.previous != null) {
+				node.previous.next = node.next;
+			}
+			else {
+				this.head = node.next;
+			}
+			if (node.next != null) {
+				node.next.previous = node.previous;
+			}
+			else {
+				this.tail = node.previous;
+			}
+			node.previous = null;
+			node.next = null;
+			this.weight -= node.weight;
+		}
+
+		private void moveToFirst(Node node) {
+			if (this.head != node) {
+				remove(node);
+				addFirst(node, node.queue);
+			}
+		}
+
+		private void clear() {
+			this.head = null;
+			this.tail = null;
+			this.weight = 0;
+		}
+
+	}
+
+	/**
+	 * A count-min sketch of 4-bit counters estimating how often each key was accessed
+	 * recently. All counters are halved periodically so that the estimate ages.
+	 */
+	private static final class FrequencySketch {
+
+		private static final long[] SEEDS = { 0xC3A5C85C97CB3127L, 0xB492B66FBE98F273L, 0x9AE16A3B2F90404FL,
+				0xCBF29CE484222325L };
+
+		private final long[] table;
+
+		private final int counterMask;
+
+		private final int sampleSize;
+
+		private int additions;
+
+		private FrequencySketch(int expectedSize) {
+			int counters = Integer.highestOneBit(Math.max(64, expectedSize - 1) << 1);
+			this.table = new long[counters / 16];
+			this.counterMask = counters - 1;
+			this.sampleSize = 10 * Math.max(64, expectedSize);
+		}
+
+		private int frequency(String key) {
+			int hash = spread(key.hashCode());
+			int frequency = Integer.MAX_VALUE;
+			for (long seed : SEEDS) {
+				int index = index(hash, seed);
+				frequency = Math.min(frequency, (int) ((this.table[index >>> 4] >>> ((index & 15) << 2)) & 0xF));
+			}
+			return frequency;
+		}
+
+		private void increment(String key) {
+			int hash = spread(key.hashCode());
+			boolean added = false;
+			for (long seed : SEEDS) {
+				int index = index(hash, seed);
+				int word = index >>> 4;
+				int offset = (index & 15) << 2;
+				if (((this.table[word] >>> offset) & 0xF) < 15) {
+					this.table[word] += 1L << offset;
+					added = true;
+				}
+			}
+			if (added && ++this.additions >= this.sampleSize) {
+				for (int i = 0; i < this.table.length; i++) {
+					this.table[i] = (this.table[i] >>> 1) & 0x7777777777777777L;
+				}
+				this.additions /= 2;
+			}
+		}
+
+		private int index(int hash, long seed) {
+			long h = (hash + seed) * seed;
+			h += h >>> 32;
+			return (int) h & this.counterMask;
+		}
+
+		private static int spread(int hash) {
+			hash = ((hash >>> 16) ^ hash) * 0x45D9F3B;
+			hash = ((hash >>> 16) ^ hash) * 0x45D9F3B;
+			return (hash >>> 16) ^ hash;
+		}
+
+	}
+
+}
@@ -0,0 +1,431 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link SessionRepository} that decorates another {@link SessionRepository} with a
+ * bounded local cache of recently used sessions. Reads of a cached session are served
+ * from the cache without accessing the underlying store.
+ *
+ * <p>
+ * The cache holds sessions of the delegate repository as they were loaded or last saved,
+ * and serves each request an independent copy created by the {@link SessionCopier} of the
+ * delegate, such as {@code getSessionCopier()} of the Redis, JDBC and Hazelcast
+ * repositories or {@code MapSession::new} for {@link MapSession} based repositories. The
+ * sessions returned by this repository pass every read and write through to that copy, so
+ * that the delegate tracks the changes and applies its own {@link SaveMode save mode},
+ * and {@link #save(CachedSession)} saves the copy without loading the session again. A
+ * session without changes is not written at all. Every save and delete is published
+ * through the configured {@link SessionCacheInvalidationChannel} so that other nodes
+ * discard their cached copy. Each cache entry also has a time to live, which bounds
+ * staleness should an invalidation be lost.
+ * </p>
+ *
+ * <p>
+ * Copies do not share their attribute maps. Attribute values loaded lazily by the
+ * delegate, as a {@link LazySessionAttribute}, are deserialized separately for each copy,
+ * other attribute values are shared between the copies of a session.
+ * </p>
+ *
+ * <p>
+ * Since every request updates the last accessed time of its session, this repository is
+ * most effective when combined with a touch policy that avoids persisting the last
+ * accessed time on every request.
+ * </p>
+ *
+ * @param <S> the {@link Session} type of the delegate repository
+ * @author Spring Session Team
+ * @since 3.5
+ */
+public class CachingSessionRepository<S extends Session>
+		implements SessionRepository<CachingSessionRepository.CachedSession> {
+
+	/**
+	 * The default maximum number of cached sessions.
+	 */
+	public static final int DEFAULT_MAXIMUM_SIZE = 10000;
+
+	/**
+	 * The default time to live of a cached session.
+	 */
+	public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofSeconds(30);
+
+	private final SessionRepository<S> delegate;
+
+	private final SessionCopier<S> sessionCopier;
+
+	private final SessionCacheInvalidationChannel invalidationChannel;
+
+	private final Segment[] segments;
+
+	private SaveMode saveMode = SaveMode.ON_SET_ATTRIBUTE;
+
+	private Duration timeToLive = DEFAULT_TIME_TO_LIVE;
+
+	private Clock clock = Clock.systemUTC();
+
+	/**
+	 * Create a new instance.
+	 * @param delegate the {@link SessionRepository} to decorate
+	 * @param sessionCopier the {@link SessionCopier} creating independent copies of the
+	 * sessions of the delegate
+	 * @param invalidationChannel the {@link SessionCacheInvalidationChannel} to use to
+	 * exchange invalidations with other nodes
+	 */
+	public CachingSessionRepository(SessionRepository<S> delegate, SessionCopier<S> sessionCopier,
+			SessionCacheInvalidationChannel invalidationChannel) {
+		Assert.notNull(delegate, "delegate cannot be null");
+		Assert.notNull(sessionCopier, "sessionCopier cannot be null");
+		Assert.notNull(invalidationChannel, "invalidationChannel cannot be null");
+		this.delegate = delegate;
+		this.sessionCopier = sessionCopier;
+		this.invalidationChannel = invalidationChannel;
+		int segments = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1));
+		this.segments = new Segment[segments];
+		for (int i = 0; i < segments; i++) {
+			this.segments[i] = new Segment();
+		}
+		setMaximumSize(DEFAULT_MAXIMUM_SIZE);
+		this.invalidationChannel.subscribe(this::invalidate);
+	}
+
+	/**
+	 * Set the maximum number of cached sessions. The cache is split into segments that
+	 * each evict their least recently used sessions first. Default is
+	 * {@link #DEFAULT_MAXIMUM_SIZE}.
+	 * @param maximumSize the maximum number of cached sessions
+	 */
+	public void setMaximumSize(int maximumSize) {
+		Assert.isTrue(maximumSize >= 0, "maximumSize cannot be negative");
+		int segmentMaximumSize = (maximumSize + this.segments.length - 1) / this.segments.length;
+		for (Segment segment : this.segments) {
+			segment.maximumSize = segmentMaximumSize;
+		}
+	}
+
+	/**
+	 * Set the {@link SaveMode} of the delegate repository. Sessions whose attributes were
+	 * read are then saved, and invalidated on other nodes, as the delegate requires, so
+	 * that changes made to mutable attribute values are not lost. Default is
+	 * {@link SaveMode#ON_SET_ATTRIBUTE}.
+	 * @param saveMode the save mode of the delegate repository
+	 */
+	public void setSaveMode(SaveMode saveMode) {
+		Assert.notNull(saveMode, "saveMode cannot be null");
+		this.saveMode = saveMode;
+	}
+
+	/**
+	 * Set how long a session can be served from the cache before being reloaded from the
+	 * delegate. Default is {@link #DEFAULT_TIME_TO_LIVE}.
+	 * @param timeToLive the time to live of a cached session
+	 */
+	public void setTimeToLive(Duration timeToLive) {
+		Assert.notNull(timeToLive, "timeToLive cannot be null");
+		Assert.isTrue(!timeToLive.isNegative(), "timeToLive cannot be negative");
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * Set the {@link Clock} used to expire cache entries.
+	 * @param clock the clock to use
+	 */
+	public void setClock(Clock clock) {
+		Assert.notNull(clock, "clock cannot be null");
+		this.clock = clock;
+	}
+
+	@Override
+	public CachedSession createSession() {
+		S session = this.delegate.createSession();
+		return new CachedSession(session, register(session.getId()), true, this.saveMode);
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public void save(CachedSession session) {
+		if (!session.hasChanges()) {
+			return;
+		}
+		S delegateSession = (S) session.delegate;
+		String id = delegateSession.getId();
+		CacheEntry token = id.equals(session.originalId) ? session.token : register(id);
+		this.delegate.save(delegateSession);
+		if (!id.equals(session.originalId)) {
+			invalidate(session.originalId);
+			this.invalidationChannel.publish(session.originalId);
+		}
+		session.token = update(id, this.sessionCopier.copy(delegateSession), token);
+		this.invalidationChannel.publish(id);
+		session.markSaved();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public CachedSession findById(String id) {
+		CacheEntry cached = getCached(id);
+		if (cached != null) {
+			return new CachedSession(this.sessionCopier.copy((S) cached.session), cached, false, this.saveMode);
+		}
+		CacheEntry token = register(id);
+		S session = this.delegate.findById(id);
+		if (session == null) {
+			cacheIfCurrent(id, null, token);
+			return null;
+		}
+		CacheEntry entry = cacheIfCurrent(id, this.sessionCopier.copy(session), token);
+		return new CachedSession(session, entry, false, this.saveMode);
+	}
+
+	@Override
+	public void deleteById(String id) {
+		this.delegate.deleteById(id);
+		invalidate(id);
+		this.invalidationChannel.publish(id);
+	}
+
+	/**
+	 * Discard the cached copy of the session with the given id, if any.
+	 * @param id the session id
+	 */
+	public void invalidate(String id) {
+		Segment segment = segmentFor(id);
+		synchronized (segment) {
+			segment.remove(id);
+		}
+	}
+
+	private CacheEntry getCached(String id) {
+		Segment segment = segmentFor(id);
+		synchronized (segment) {
+			CacheEntry entry = segment.get(id);
+			if (entry == null || entry.isLoading()) {
+				return null;
+			}
+			if (entry.expiresAt.isBefore(this.clock.instant()) || entry.session.isExpired()) {
+				segment.remove(id);
+				return null;
+			}
+			return entry;
+		}
+	}
+
+	/**
+	 * Return the entry of the given id, registering a loading entry if there is none. The
+	 * returned entry is used as a token: state loaded from the delegate after this call
+	 * may only be cached if the entry of the id is still the same, which is no longer the
+	 * case once the id has been invalidated.
+	 * @param id the session id
+	 * @return the token
+	 */
+	private CacheEntry register(String id) {
+		Segment segment = segmentFor(id);
+		synchronized (segment) {
+			CacheEntry entry = segment.get(id);
+			if (entry == null) {
+				entry = new CacheEntry(null, null);
+				segment.put(id, entry);
+			}
+			return entry;
+		}
+	}
+
+	private CacheEntry cacheIfCurrent(String id, Session session, CacheEntry token) {
+		Segment segment = segmentFor(id);
+		synchronized (segment) {
+			if (segment.get(id) != token) {
+				return null;
+			}
+			if (session == null) {
+				segment.remove(id);
+				return null;
+			}
+			CacheEntry entry = new CacheEntry(session, this.clock.instant().plus(this.timeToLive));
+			segment.put(id, entry);
+			return entry;
+		}
+	}
+
+	private CacheEntry update(String id, Session session, CacheEntry token) {
+		Segment segment = segmentFor(id);
+		synchronized (segment) {
+			if (token == null || segment.get(id) != token) {
+				segment.remove(id);
+				return null;
+			}
+			CacheEntry entry = new CacheEntry(session, this.clock.instant().plus(this.timeToLive));
+			segment.put(id, entry);
+			return entry;
+		}
+	}
+
+	private Segment segmentFor(String id) {
+		int hash = id.hashCode();
+		return this.segments[(hash ^ (hash >>> 16)) & (this.segments.length - 1)];
+	}
+
+	/**
+	 * A cached session. An entry without session marks a load in progress.
+	 *
+	 * @param session the cached session
+	 * @param expiresAt when the entry expires
+	 */
+	private record CacheEntry(Session session, Instant expiresAt) {
+
+		boolean isLoading() {
+			return this.session == null;
+		}
+
+	}
+
+	/**
+	 * A segment of the cache, guarded by its own monitor and evicting its least recently
+	 * used entries first.
+	 */
+	private static final class Segment extends LinkedHashMap<String, CacheEntry> {
+
+		private volatile int maximumSize;
+
+		private Segment() {
+			super(16, 0.75f, true);
+		}
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, CacheEntry> eldest) {
+			return size() > this.maximumSize;
+		}
+
+	}
+
+	/**
+	 * A {@link Session} served by a {@link CachingSessionRepository}. It passes reads and
+	 * writes through to a copy of the session of the delegate repository and keeps track
+	 * of whether it has to be saved.
+	 */
+	public static final class CachedSession implements Session {
+
+		private final Session delegate;
+
+		private final SaveMode saveMode;
+
+		private CacheEntry token;
+
+		private String originalId;
+
+		private boolean isNew;
+
+		private boolean changed;
+
+		CachedSession(Session delegate, CacheEntry token, boolean isNew, SaveMode saveMode) {
+			this.delegate = delegate;
+			this.token = token;
+			this.originalId = delegate.getId();
+			this.isNew = isNew;
+			this.saveMode = saveMode;
+		}
+
+		@Override
+		public String getId() {
+			return this.delegate.getId();
+		}
+
+		@Override
+		public String changeSessionId() {
+			this.changed = true;
+			return this.delegate.changeSessionId();
+		}
+
+		@Override
+		public <T> T getAttribute(String attributeName) {
+			T attributeValue = this.delegate.getAttribute(attributeName);
+			if (attributeValue != null && this.saveMode == SaveMode.ON_GET_ATTRIBUTE) {
+				this.changed = true;
+			}
+			return attributeValue;
+		}
+
+		@Override
+		public Set<String> getAttributeNames() {
+			return this.delegate.getAttributeNames();
+		}
+
+		@Override
+		public void setAttribute(String attributeName, Object attributeValue) {
+			this.delegate.setAttribute(attributeName, attributeValue);
+			this.changed = true;
+		}
+
+		@Override
+		public void removeAttribute(String attributeName) {
+			this.delegate.removeAttribute(attributeName);
+			this.changed = true;
+		}
+
+		@Override
+		public Instant getCreationTime() {
+			return this.delegate.getCreationTime();
+		}
+
+		@Override
+		public void setLastAccessedTime(Instant lastAccessedTime) {
+			this.delegate.setLastAccessedTime(lastAccessedTime);
+			this.changed = true;
+		}
+
+		@Override
+		public Instant getLastAccessedTime() {
+			return this.delegate.getLastAccessedTime();
+		}
+
+		@Override
+		public void setMaxInactiveInterval(Duration interval) {
+			this.delegate.setMaxInactiveInterval(interval);
+			this.changed = true;
+		}
+
+		@Override
+		public Duration getMaxInactiveInterval() {
+			return this.delegate.getMaxInactiveInterval();
+		}
+
+		@Override
+		public boolean isExpired() {
+			return this.delegate.isExpired();
+		}
+
+		private boolean hasChanges() {
+			return this.isNew || this.changed || this.saveMode == SaveMode.ALWAYS;
+		}
+
+		private void markSaved() {
+			this.isNew = false;
+			this.changed = false;
+			this.originalId = getId();
+		}
+
+	}
+
+}
@@ -44,9 +44,23 @@ public class DelegatingIndexResolver<S extends Session> implements IndexResolver
 	}
 
 	public Map<String, String> resolveIndexesFor(S session) {
-		Map<String, String> indexes = new HashMap<>();
+		Map<String, String> indexes = Collections.emptyMap();
+		boolean merged = false;
 		for (IndexResolver<S> delegate : this.delegates) {
-			indexes.putAll(delegate.resolveIndexesFor(session));
+			Map<String, String> resolved = delegate.resolveIndexesFor(session);
+			if (resolved.isEmpty()) {
+				continue;
+			}
+			if (indexes.isEmpty()) {
+				indexes = resolved;
+			}
+			else {
+				if (!merged) {
+					indexes = new HashMap<>(indexes);
+					merged = true;
+				}
+				indexes.putAll(resolved);
+			}
 		}
 		return indexes;
 	}
@@ -0,0 +1,723 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.session.events.SessionExpiredEvent;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link SessionRepository} that keeps sessions in memory like
+ * {@link MapSessionRepository} and persists them to a local directory, so that sessions
+ * survive a restart of the application without an external session store.
+ *
+ * <p>
+ * Every {@link #save(MapSession)} appends a record to a memory-mapped, append-only log
+ * segment. The record holds the session metadata and only the attributes whose serialized
+ * form changed since the session was last saved, along with the names of the removed
+ * attributes. {@link #compact()} writes a snapshot of all sessions and deletes the log
+ * segments it supersedes; it is invoked automatically once the number of segments written
+ * since the last snapshot reaches the {@link #setCompactionThreshold(int) compaction
+ * threshold}, and may also be invoked periodically, for instance by a
+ * {@link SessionExpirationSweeper}. When the repository is created, the snapshot and the
+ * subsequent log segments are replayed, keeping the attribute values serialized, and the
+ * resulting sessions are then deserialized in parallel. Expired sessions are skipped.
+ * </p>
+ *
+ * <p>
+ * Records are written to the memory-mapped segments without forcing them to the storage
+ * device, so they survive the termination of the process but not necessarily the failure
+ * of the host. Each record is checksummed and a truncated or corrupted record ends the
+ * replay of its segment, while a record that cannot be decoded is skipped, as is a
+ * session whose attributes cannot be deserialized; both are logged. Session attributes
+ * are serialized with Java serialization by default.
+ * </p>
+ *
+ * <p>
+ * As with {@link MapSessionRepository}, {@link #cleanUpExpiredSessions()} removes the
+ * expired sessions and fires a {@link SessionExpiredEvent} for each of them if an
+ * {@link ApplicationEventPublisher} is configured.
+ * </p>
+ *
+ * @author Spring Session Team
+ * @since 3.5
+ */
+public class FileSessionRepository implements SessionRepository<MapSession>, DisposableBean {
+
+	/**
+	 * The default size of the log segments (16 MiB).
+	 */
+	public static final int DEFAULT_SEGMENT_SIZE = 16 * 1024 * 1024;
+
+	/**
+	 * The default number of log segments written since the last snapshot that triggers a
+	 * compaction.
+	 */
+	public static final int DEFAULT_COMPACTION_THRESHOLD = 16;
+
+	private static final Log logger = LogFactory.getLog(FileSessionRepository.class);
+
+	private static final String SNAPSHOT_FILE_NAME = "sessions.snapshot";
+
+	private static final String SEGMENT_FILE_PREFIX = "sessions-";
+
+	private static final String SEGMENT_FILE_SUFFIX = ".log";
+
+	private static final int SNAPSHOT_MAGIC = 0x53534E50;
+
+	private static final byte SAVE = 1;
+
+	private static final byte DELETE = 2;
+
+	private static final int FRAME_HEADER_LENGTH = 8;
+
+	private final Path directory;
+
+	private final Converter<Object, byte[]> serializer;
+
+	private final Converter<byte[], Object> deserializer;
+
+	private final Map<String, StoredSession> sessions = new ConcurrentHashMap<>();
+
+	private final SessionExpirationWheel expirations = new SessionExpirationWheel(Duration.ofSeconds(1), Instant.now());
+
+	private final ReentrantLock logLock = new ReentrantLock();
+
+	private final Object compactionMonitor = new Object();
+
+	private final AtomicBoolean compactionRequested = new AtomicBoolean();
+
+	private int segmentSize = DEFAULT_SEGMENT_SIZE;
+
+	private int compactionThreshold = DEFAULT_COMPACTION_THRESHOLD;
+
+	private long segmentIndex;
+
+	private long snapshotSegment;
+
+	private MappedByteBuffer segment;
+
+	private Duration defaultMaxInactiveInterval = Duration.ofSeconds(MapSession.DEFAULT_MAX_INACTIVE_INTERVAL_SECONDS);
+
+	private SessionIdGenerator sessionIdGenerator = UuidSessionIdGenerator.getInstance();
+
+	private ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * Create a new instance storing its files in the given directory, using Java
+	 * serialization for the session attributes, and load the sessions stored there.
+	 * @param directory the directory to use, created if it does not exist
+	 */
+	public FileSessionRepository(Path directory) {
+		this(directory, new SerializingConverter(), new DeserializingConverter());
+	}
+
+	/**
+	 * Create a new instance storing its files in the given directory and load the
+	 * sessions stored there.
+	 * @param directory the directory to use, created if it does not exist
+	 * @param serializer the converter used to serialize attribute values
+	 * @param deserializer the converter used to deserialize attribute values
+	 */
+	public FileSessionRepository(Path directory, Converter<Object, byte[]> serializer,
+			Converter<byte[], Object> deserializer) {
+		Assert.notNull(directory, "directory cannot be null");
+		Assert.notNull(serializer, "serializer cannot be null");
+		Assert.notNull(deserializer, "deserializer cannot be null");
+		this.directory = directory;
+		this.serializer = serializer;
+		this.deserializer = deserializer;
+		try {
+			Files.createDirectories(directory);
+			load();
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to load sessions from " + directory, ex);
+		}
+	}
+
+	/**
+	 * Set the size of newly created log segments. A record larger than the segment size
+	 * gets a segment of its own. The default is {@link #DEFAULT_SEGMENT_SIZE}.
+	 * @param segmentSize the segment size in bytes
+	 */
+	public void setSegmentSize(int segmentSize) {
+		Assert.isTrue(segmentSize > 0, "segmentSize must be positive");
+		this.segmentSize = segmentSize;
+	}
+
+	/**
+	 * Set the number of log segments written since the last snapshot that triggers a
+	 * {@link #compact() compaction}, which then runs on the thread that saved or deleted
+	 * the session that filled the last segment. A value of {@code 0} disables automatic
+	 * compaction. The default is {@link #DEFAULT_COMPACTION_THRESHOLD}.
+	 * @param compactionThreshold the number of segments, or {@code 0}
+	 */
+	public void setCompactionThreshold(int compactionThreshold) {
+		Assert.isTrue(compactionThreshold >= 0, "compactionThreshold must not be negative");
+		this.compactionThreshold = compactionThreshold;
+	}
+
+	/**
+	 * Set the maximum inactive interval between requests before newly created sessions
+	 * will be invalidated. A negative time indicates that the session will never time
+	 * out. The default is 30 minutes.
+	 * @param defaultMaxInactiveInterval the default maxInactiveInterval
+	 */
+	public void setDefaultMaxInactiveInterval(Duration defaultMaxInactiveInterval) {
+		Assert.notNull(defaultMaxInactiveInterval, "defaultMaxInactiveInterval must not be null");
+		this.defaultMaxInactiveInterval = defaultMaxInactiveInterval;
+	}
+
+	/**
+	 * Set the {@link SessionIdGenerator} used to generate the ids of new sessions and of
+	 * sessions whose id is changed. The default is {@link UuidSessionIdGenerator}.
+	 * @param sessionIdGenerator the session id generator to use
+	 */
+	public void setSessionIdGenerator(SessionIdGenerator sessionIdGenerator) {
+		Assert.notNull(sessionIdGenerator, "sessionIdGenerator cannot be null");
+		this.sessionIdGenerator = sessionIdGenerator;
+	}
+
+	/**
+	 * Set the {@link ApplicationEventPublisher} used to publish a
+	 * {@link SessionExpiredEvent} for each session removed by
+	 * {@link #cleanUpExpiredSessions()}. The default is {@code null}, which publishes no
+	 * events.
+	 * @param eventPublisher the event publisher to use
+	 */
+	public void setApplicationEventPublisher(ApplicationEventPublisher eventPublisher) {
+		this.eventPublisher = eventPublisher;
+	}
+
+	@Override
+	public MapSession createSession() {
+		MapSession result = new MapSession(this.sessionIdGenerator);
+		result.setMaxInactiveInterval(this.defaultMaxInactiveInterval);
+		return result;
+	}
+
+	@Override
+	public void save(MapSession session) {
+		MapSession saved = new MapSession(session);
+		saved.setSessionIdGenerator(this.sessionIdGenerator);
+		Map<String, byte[]> attributes = serializeAttributes(saved);
+		Map<String, Long> hashes = new HashMap<>(attributes.size());
+		attributes.forEach((name, value) -> hashes.put(name, hash(value)));
+		this.logLock.lock();
+		try {
+			if (!session.getId().equals(session.getOriginalId())) {
+				remove(session.getOriginalId());
+			}
+			StoredSession previous = this.sessions.get(saved.getId());
+			Map<String, byte[]> changed = new LinkedHashMap<>();
+			attributes.forEach((name, value) -> {
+				if (previous == null || !hashes.get(name).equals(previous.attributeHashes.get(name))) {
+					changed.put(name, value);
+				}
+			});
+			List<String> removed = new ArrayList<>();
+			if (previous != null) {
+				for (String name : previous.attributeHashes.keySet()) {
+					if (!hashes.containsKey(name)) {
+						removed.add(name);
+					}
+				}
+			}
+			append(encodeSave(saved, previous == null, changed, removed));
+			this.sessions.put(saved.getId(), new StoredSession(saved, hashes));
+			if (saved.getMaxInactiveInterval().isNegative()) {
+				this.expirations.remove(saved.getId());
+			}
+			else {
+				this.expirations.schedule(saved.getId(),
+						saved.getLastAccessedTime().plus(saved.getMaxInactiveInterval()));
+			}
+		}
+		finally {
+			this.logLock.unlock();
+		}
+		compactIfRequested();
+	}
+
+	@Override
+	public MapSession findById(String id) {
+		StoredSession stored = this.sessions.get(id);
+		if (stored == null) {
+			return null;
+		}
+		if (stored.session.isExpired()) {
+			deleteById(id);
+			return null;
+		}
+		MapSession result = new MapSession(stored.session);
+		result.setSessionIdGenerator(this.sessionIdGenerator);
+		return result;
+	}
+
+	@Override
+	public void deleteById(String id) {
+		this.logLock.lock();
+		try {
+			remove(id);
+		}
+		finally {
+			this.logLock.unlock();
+		}
+		compactIfRequested();
+	}
+
+	/**
+	 * Remove the sessions that have expired, publishing a {@link SessionExpiredEvent} for
+	 * each of them if an event publisher is configured.
+	 */
+	public void cleanUpExpiredSessions() {
+		for (String id : this.expirations.expire(Instant.now())) {
+			MapSession expired = null;
+			this.logLock.lock();
+			try {
+				StoredSession stored = this.sessions.get(id);
+				if (stored == null) {
+					continue;
+				}
+				if (stored.session.isExpired()) {
+					remove(id);
+					expired = stored.session;
+				}
+				else {
+					this.expirations.schedule(id,
+							stored.session.getLastAccessedTime().plus(stored.session.getMaxInactiveInterval()));
+				}
+			}
+			finally {
+				this.logLock.unlock();
+			}
+			if (expired != null && this.eventPublisher != null) {
+				this.eventPublisher.publishEvent(new SessionExpiredEvent(this, expired));
+			}
+		}
+	}
+
+	/**
+	 * Write a snapshot of all sessions and delete the log segments it supersedes, so that
+	 * the next start replays only the snapshot and the records appended after it.
+	 */
+	public void compact() {
+		synchronized (this.compactionMonitor) {
+			long firstSegment;
+			List<MapSession> sessions = new ArrayList<>(this.sessions.size());
+			this.logLock.lock();
+			try {
+				rollSegment(0);
+				firstSegment = this.segmentIndex;
+				this.snapshotSegment = firstSegment;
+				this.compactionRequested.set(false);
+				this.sessions.values().forEach((stored) -> sessions.add(stored.session));
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException("Failed to create a log segment in " + this.directory, ex);
+			}
+			finally {
+				this.logLock.unlock();
+			}
+			try {
+				writeSnapshot(firstSegment, sessions);
+				for (Map.Entry<Long, Path> segment : listSegments().entrySet()) {
+					if (segment.getKey() < firstSegment) {
+						Files.deleteIfExists(segment.getValue());
+					}
+				}
+			}
+			catch (IOException ex) {
+				throw new UncheckedIOException("Failed to write a snapshot to " + this.directory, ex);
+			}
+		}
+	}
+
+	/**
+	 * Force the records appended to the current log segment to the storage device.
+	 */
+	@Override
+	public void destroy() {
+		this.logLock.lock();
+		try {
+			if (this.segment != null) {
+				this.segment.force();
+			}
+		}
+		finally {
+			this.logLock.unlock();
+		}
+	}
+
+	private void compactIfRequested() {
+		if (this.compactionRequested.compareAndSet(true, false)) {
+			try {
+				compact();
+			}
+			catch (UncheckedIOException ex) {
+				logger.error("Failed to compact the sessions in " + this.directory, ex);
+			}
+		}
+	}
+
+	private void remove(String id) {
+		StoredSession removed = this.sessions.remove(id);
+		this.expirations.remove(id);
+		if (removed != null) {
+			append(encodeDelete(id));
+		}
+	}
+
+	private Map<String, byte[]> serializeAttributes(MapSession session) {
+		Map<String, byte[]> attributes = new LinkedHashMap<>();
+		for (String name : session.getAttributeNames()) {
+			attributes.put(name, this.serializer.convert(session.getAttribute(name)));
+		}
+		return attributes;
+	}
+
+	private void append(byte[] payload) {
+		int frameLength = FRAME_HEADER_LENGTH + payload.length;
+		try {
+			if (this.segment == null || this.segment.remaining() < frameLength) {
+				rollSegment(frameLength);
+			}
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException("Failed to create a log segment in " + this.directory, ex);
+		}
+		this.segment.putInt(payload.length);
+		this.segment.putInt(checksum(payload));
+		this.segment.put(payload);
+	}
+
+	private void rollSegment(int minimumSize) throws IOException {
+		this.segmentIndex++;
+		Path file = this.directory.resolve(segmentFileName(this.segmentIndex));
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ,
+				StandardOpenOption.WRITE)) {
+			this.segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, Math.max(this.segmentSize, minimumSize));
+		}
+		if (this.compactionThreshold > 0 && this.segmentIndex - this.snapshotSegment >= this.compactionThreshold) {
+			this.compactionRequested.set(true);
+		}
+	}
+
+	private void writeSnapshot(long firstSegment, List<MapSession> sessions) throws IOException {
+		Path temporary = this.directory.resolve(SNAPSHOT_FILE_NAME + ".tmp");
+		try (FileOutputStream file = new FileOutputStream(temporary.toFile());
+				DataOutputStream output = new DataOutputStream(new BufferedOutputStream(file))) {
+			output.writeInt(SNAPSHOT_MAGIC);
+			output.writeLong(firstSegment);
+			for (MapSession session : sessions) {
+				byte[] payload = encodeSave(session, true, serializeAttributes(session), Collections.emptyList());
+				output.writeInt(payload.length);
+				output.writeInt(checksum(payload));
+				output.write(payload);
+			}
+			output.flush();
+			file.getFD().sync();
+		}
+		Files.move(temporary, this.directory.resolve(SNAPSHOT_FILE_NAME), StandardCopyOption.REPLACE_EXISTING,
+				StandardCopyOption.ATOMIC_MOVE);
+	}
+
+	private void load() throws IOException {
+		Map<String, ReplayedSession> replayed = new HashMap<>();
+		long firstSegment = 0;
+		Path snapshot = this.directory.resolve(SNAPSHOT_FILE_NAME);
+		if (Files.exists(snapshot)) {
+			firstSegment = replaySnapshot(snapshot, replayed);
+		}
+		this.segmentIndex = firstSegment;
+		this.snapshotSegment = firstSegment;
+		for (Map.Entry<Long, Path> segment : listSegments().entrySet()) {
+			this.segmentIndex = Math.max(this.segmentIndex, segment.getKey());
+			if (segment.getKey() >= firstSegment) {
+				replaySegment(segment.getValue(), replayed);
+			}
+		}
+		Instant now = Instant.now();
+		replayed.values()
+			.parallelStream()
+			.filter((session) -> !session.metadata.isExpired(now))
+			.map(this::materialize)
+			.filter(Objects::nonNull)
+			.forEach((stored) -> this.sessions.put(stored.session.getId(), stored));
+		this.sessions.values().forEach((stored) -> {
+			if (!stored.session.getMaxInactiveInterval().isNegative()) {
+				this.expirations.schedule(stored.session.getId(),
+						stored.session.getLastAccessedTime().plus(stored.session.getMaxInactiveInterval()));
+			}
+		});
+	}
+
+	private long replaySnapshot(Path snapshot, Map<String, ReplayedSession> replayed) throws IOException {
+		long remaining = Files.size(snapshot);
+		try (DataInputStream input = new DataInputStream(new BufferedInputStream(Files.newInputStream(snapshot)))) {
+			if (remaining < 12 || input.readInt() != SNAPSHOT_MAGIC) {
+				logger.warn("Ignoring invalid snapshot " + snapshot + ", replaying all log segments");
+				return 0;
+			}
+			long firstSegment = input.readLong();
+			remaining -= 12;
+			while (remaining >= FRAME_HEADER_LENGTH) {
+				int length = input.readInt();
+				int checksum = input.readInt();
+				remaining -= FRAME_HEADER_LENGTH;
+				if (length <= 0 || length > remaining) {
+					logger.warn("Truncated record in snapshot " + snapshot + ", ignoring the remaining records");
+					break;
+				}
+				byte[] payload = new byte[length];
+				input.readFully(payload);
+				remaining -= length;
+				if (checksum(payload) != checksum) {
+					logger.warn("Corrupted record in snapshot " + snapshot + ", ignoring the remaining records");
+					break;
+				}
+				replay(payload, replayed, snapshot);
+			}
+			return firstSegment;
+		}
+	}
+
+	private void replaySegment(Path file, Map<String, ReplayedSession> replayed) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			while (buffer.remaining() >= FRAME_HEADER_LENGTH) {
+				int position = buffer.position();
+				int length = buffer.getInt();
+				int checksum = buffer.getInt();
+				if (length == 0 && checksum == 0) {
+					// the unused end of the segment
+					return;
+				}
+				if (length <= 0 || length > buffer.remaining()) {
+					logger.warn("Truncated record at offset " + position + " of " + file
+							+ ", ignoring the remainder of the segment");
+					return;
+				}
+				byte[] payload = new byte[length];
+				buffer.get(payload);
+				if (checksum(payload) != checksum) {
+					logger.warn("Corrupted record at offset " + position + " of " + file
+							+ ", ignoring the remainder of the segment");
+					return;
+				}
+				replay(payload, replayed, file);
+			}
+		}
+	}
+
+	private static void replay(byte[] payload, Map<String, ReplayedSession> replayed, Path file) {
+		try {
+			replay(payload, replayed);
+		}
+		catch (IOException | RuntimeException ex) {
+			logger.warn("Skipping a record of " + file + " that cannot be decoded", ex);
+		}
+	}
+
+	private static void replay(byte[] payload, Map<String, ReplayedSession> replayed) throws IOException {
+		DataInputStream input = new DataInputStream(new ByteArrayInputStream(payload));
+		byte type = input.readByte();
+		String id = input.readUTF();
+		if (type == DELETE) {
+			replayed.remove(id);
+			return;
+		}
+		boolean full = input.readBoolean();
+		MapSession metadata = new MapSession(id);
+		metadata.setCreationTime(Instant.ofEpochSecond(input.readLong(), input.readInt()));
+		metadata.setLastAccessedTime(Instant.ofEpochSecond(input.readLong(), input.readInt()));
+		metadata.setMaxInactiveInterval(Duration.ofSeconds(input.readLong(), input.readInt()));
+		ReplayedSession session = replayed.get(id);
+		if (full || session == null) {
+			session = new ReplayedSession();
+			replayed.put(id, session);
+		}
+		session.metadata = metadata;
+		for (int i = input.readInt(); i > 0; i--) {
+			String name = input.readUTF();
+			byte[] value = new byte[input.readInt()];
+			input.readFully(value);
+			session.attributes.put(name, value);
+		}
+		for (int i = input.readInt(); i > 0; i--) {
+			session.attributes.remove(input.readUTF());
+		}
+	}
+
+	private StoredSession materialize(ReplayedSession replayed) {
+		MapSession session = replayed.metadata;
+		session.setSessionIdGenerator(this.sessionIdGenerator);
+		Map<String, Long> hashes = new HashMap<>(replayed.attributes.size());
+		for (Map.Entry<String, byte[]> attribute : replayed.attributes.entrySet()) {
+			try {
+				session.setAttribute(attribute.getKey(), this.deserializer.convert(attribute.getValue()));
+			}
+			catch (RuntimeException ex) {
+				logger.warn("Skipping session " + session.getId() + " whose attribute '" + attribute.getKey()
+						+ "' cannot be deserialized", ex);
+				return null;
+			}
+			hashes.put(attribute.getKey(), hash(attribute.getValue()));
+		}
+		return new StoredSession(session, hashes);
+	}
+
+	private Map<Long, Path> listSegments() throws IOException {
+		Map<Long, Path> segments = new TreeMap<>();
+		try (Stream<Path> files = Files.list(this.directory)) {
+			files.forEach((file) -> {
+				String name = file.getFileName().toString();
+				if (name.startsWith(SEGMENT_FILE_PREFIX) && name.endsWith(SEGMENT_FILE_SUFFIX)) {
+					String index = name.substring(SEGMENT_FILE_PREFIX.length(),
+							name.length() - SEGMENT_FILE_SUFFIX.length());
+					try {
+						segments.put(Long.parseLong(index), file);
+					}
+					catch (NumberFormatException ex) {
+						// not a log segment
+					}
+				}
+			});
+		}
+		return segments;
+	}
+
+	private static String segmentFileName(long index) {
+		return SEGMENT_FILE_PREFIX + String.format("%016d", index) + SEGMENT_FILE_SUFFIX;
+	}
+
+	private static byte[] encodeSave(MapSession session, boolean full, Map<String, byte[]> attributes,
+			Collection<String> removed) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(256);
+		try (DataOutputStream output = new DataOutputStream(bytes)) {
+			output.writeByte(SAVE);
+			output.writeUTF(session.getId());
+			output.writeBoolean(full);
+			output.writeLong(session.getCreationTime().getEpochSecond());
+			output.writeInt(session.getCreationTime().getNano());
+			output.writeLong(session.getLastAccessedTime().getEpochSecond());
+			output.writeInt(session.getLastAccessedTime().getNano());
+			output.writeLong(session.getMaxInactiveInterval().getSeconds());
+			output.writeInt(session.getMaxInactiveInterval().getNano());
+			output.writeInt(attributes.size());
+			for (Map.Entry<String, byte[]> attribute : attributes.entrySet()) {
+				output.writeUTF(attribute.getKey());
+				output.writeInt(attribute.getValue().length);
+				output.write(attribute.getValue());
+			}
+			output.writeInt(removed.size());
+			for (String name : removed) {
+				output.writeUTF(name);
+			}
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static byte[] encodeDelete(String id) {
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream(64);
+		try (DataOutputStream output = new DataOutputStream(bytes)) {
+			output.writeByte(DELETE);
+			output.writeUTF(id);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		return bytes.toByteArray();
+	}
+
+	private static int checksum(byte[] payload) {
+		CRC32 crc = new CRC32();
+		crc.update(payload);
+		return (int) crc.getValue();
+	}
+
+	private static long hash(byte[] value) {
+		long hash = 0xCBF29CE484222325L;
+		for (byte b : value) {
+			hash = (hash ^ (b & 0xFF)) * 0x100000001B3L;
+		}
+		return hash;
+	}
+
+	/**
+	 * A saved session along with the hashes of its serialized attributes as last written
+	 * to the log.
+	 */
+	private record StoredSession(MapSession session, Map<String, Long> attributeHashes) {
+
+	}
+
+	/**
+	 * A session being replayed, whose attributes are kept serialized.
+	 */
+	private static final class ReplayedSession {
+
+		private MapSession metadata;
+
+		private final Map<String, byte[]> attributes = new HashMap<>();
+
+	}
+
+}
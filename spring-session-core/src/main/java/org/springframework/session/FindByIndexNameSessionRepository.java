@@ -17,6 +17,7 @@
 package org.springframework.session;
 
 import java.util.Map;
+import java.util.stream.Stream;
 
 /**
  * Extends a basic {@link SessionRepository} to allow finding sessions by the specified
@@ -69,4 +70,73 @@ public interface FindByIndexNameSessionRepository<S extends Session> extends Ses
 
 	}
 
+	/**
+	 * Find the {@link SessionMetadata} of all sessions that contain the specified index
+	 * name and index value. Sessions that have expired are not included.
+	 *
+	 * <p>
+	 * The default implementation loads the full sessions through
+	 * {@link #findByIndexNameAndIndexValue(String, String)}. Implementations are
+	 * encouraged to override it and load only the metadata, without reading the attribute
+	 * values.
+	 * </p>
+	 * @param indexName the name of the index (i.e.
+	 * {@link FindByIndexNameSessionRepository#PRINCIPAL_NAME_INDEX_NAME})
+	 * @param indexValue the value of the index to search for
+	 * @return a {@code Stream} (never {@code null}) of the metadata of all sessions that
+	 * contain the specified index name and index value
+	 * @since 3.5
+	 */
+	default Stream<SessionMetadata> findSessionMetadataByIndexNameAndIndexValue(String indexName, String indexValue) {
+		return findByIndexNameAndIndexValue(indexName, indexValue).values()
+			.stream()
+			.filter((session) -> !session.isExpired())
+			.map((session) -> PRINCIPAL_NAME_INDEX_NAME.equals(indexName) ? SessionMetadata.from(session, indexValue)
+					: SessionMetadata.from(session));
+	}
+
+	/**
+	 * Find the {@link SessionMetadata} of all sessions that contain the index with the
+	 * name {@link FindByIndexNameSessionRepository#PRINCIPAL_NAME_INDEX_NAME} and the
+	 * specified principal name.
+	 * @param principalName the principal name
+	 * @return a {@code Stream} (never {@code null}) of the metadata of all sessions that
+	 * contain the specified principal name
+	 * @since 3.5
+	 */
+	default Stream<SessionMetadata> findSessionMetadataByPrincipalName(String principalName) {
+		return findSessionMetadataByIndexNameAndIndexValue(PRINCIPAL_NAME_INDEX_NAME, principalName);
+	}
+
+	/**
+	 * Delete all sessions that contain the specified index name and index value.
+	 *
+	 * <p>
+	 * The default implementation deletes the sessions found by
+	 * {@link #findByIndexNameAndIndexValue(String, String)} through
+	 * {@link #deleteByIds(java.util.Collection)}. Implementations are encouraged to
+	 * override it and delete the sessions without loading them, while still publishing a
+	 * {@link org.springframework.session.events.SessionDeletedEvent} for each of them if
+	 * they support session events.
+	 * </p>
+	 * @param indexName the name of the index (i.e.
+	 * {@link FindByIndexNameSessionRepository#PRINCIPAL_NAME_INDEX_NAME})
+	 * @param indexValue the value of the index to search for
+	 * @since 3.5
+	 */
+	default void deleteByIndexNameAndIndexValue(String indexName, String indexValue) {
+		deleteByIds(findByIndexNameAndIndexValue(indexName, indexValue).keySet());
+	}
+
+	/**
+	 * Delete all sessions that contain the index with the name
+	 * {@link FindByIndexNameSessionRepository#PRINCIPAL_NAME_INDEX_NAME} and the
+	 * specified principal name.
+	 * @param principalName the principal name
+	 * @since 3.5
+	 */
+	default void deleteByPrincipalName(String principalName) {
+		deleteByIndexNameAndIndexValue(PRINCIPAL_NAME_INDEX_NAME, principalName);
+	}
+
 }
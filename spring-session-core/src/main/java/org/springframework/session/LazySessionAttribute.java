@@ -0,0 +1,217 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A session attribute value kept in serialized form until it is first read, so that
+ * loading a session only pays for deserializing the attributes the request actually uses.
+ * Session implementations storing such a value return the deserialized value from
+ * {@link Session#getAttribute(String)}, and repositories write the original bytes back as
+ * long as the value was never deserialized, since it cannot have been modified.
+ * <p>
+ * When created with a serializer, a value that was deserialized is also considered
+ * unmodified as long as it serializes to the original bytes, which lets repositories
+ * optionally skip writing attributes that were read, as with
+ * {@link SaveMode#ON_GET_ATTRIBUTE} and {@link SaveMode#ALWAYS}, but whose content did
+ * not change.
+ * <p>
+ * Instances are thread-safe; the value is deserialized at most once. When written with
+ * Java serialization, an instance is replaced by its deserialized value.
+ *
+ * @author Spring Session Team
+ * @since 3.5
+ * @see MapSession#getStoredAttribute(String)
+ */
+public final class LazySessionAttribute implements Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	private final byte[] serializedValue;
+
+	private final transient Converter<byte[], Object> deserializer;
+
+	@Nullable
+	private final transient Converter<Object, byte[]> serializer;
+
+	@Nullable
+	private transient volatile Object value;
+
+	private transient volatile boolean deserialized;
+
+	private LazySessionAttribute(byte[] serializedValue, Converter<byte[], Object> deserializer,
+			@Nullable Converter<Object, byte[]> serializer) {
+		this.serializedValue = serializedValue;
+		this.deserializer = deserializer;
+		this.serializer = serializer;
+	}
+
+	/**
+	 * Create a new instance.
+	 * @param serializedValue the serialized attribute value
+	 * @param deserializer the converter used to deserialize the value on first access
+	 * @return the lazy attribute value
+	 */
+	public static LazySessionAttribute of(byte[] serializedValue, Converter<byte[], Object> deserializer) {
+		Assert.notNull(serializedValue, "serializedValue cannot be null");
+		Assert.notNull(deserializer, "deserializer cannot be null");
+		return new LazySessionAttribute(serializedValue, deserializer, null);
+	}
+
+	/**
+	 * Create a new instance able to tell whether its deserialized value was modified.
+	 * @param serializedValue the serialized attribute value
+	 * @param deserializer the converter used to deserialize the value on first access
+	 * @param serializer the converter the value was serialized with
+	 * @return the lazy attribute value
+	 * @see #getIfModified()
+	 */
+	public static LazySessionAttribute of(byte[] serializedValue, Converter<byte[], Object> deserializer,
+			Converter<Object, byte[]> serializer) {
+		Assert.notNull(serializedValue, "serializedValue cannot be null");
+		Assert.notNull(deserializer, "deserializer cannot be null");
+		Assert.notNull(serializer, "serializer cannot be null");
+		return new LazySessionAttribute(serializedValue, deserializer, serializer);
+	}
+
+	/**
+	 * Return the deserialized value of the given attribute value if it is a
+	 * {@link LazySessionAttribute}, or the given value otherwise.
+	 * @param value the attribute value as stored, possibly {@code null}
+	 * @param <T> the type of the attribute value
+	 * @return the attribute value
+	 */
+	@Nullable
+	@SuppressWarnings("unchecked")
+	public static <T> T resolve(@Nullable Object value) {
+		return (T) ((value instanceof LazySessionAttribute lazy) ? lazy.get() : value);
+	}
+
+	/**
+	 * Return the serialized form of the given attribute value if it is a
+	 * {@link LazySessionAttribute} that was never deserialized.
+	 * @param value the attribute value as stored, possibly {@code null}
+	 * @return the serialized value, or {@code null} if the value must be serialized
+	 */
+	@Nullable
+	public static byte[] getUntouchedSerializedValue(@Nullable Object value) {
+		return (value instanceof LazySessionAttribute lazy && !lazy.isDeserialized()) ? lazy.serializedValue : null;
+	}
+
+	/**
+	 * Return a new, never deserialized, instance holding the same bytes if the given
+	 * attribute value is a {@link LazySessionAttribute}, or the given value otherwise.
+	 * @param value the attribute value as stored, possibly {@code null}
+	 * @return the value to store in a copy of the session
+	 * @see SessionCopier
+	 */
+	@Nullable
+	public static Object copy(@Nullable Object value) {
+		return (value instanceof LazySessionAttribute lazy)
+				? new LazySessionAttribute(lazy.serializedValue, lazy.deserializer, lazy.serializer) : value;
+	}
+
+	/**
+	 * Return the deserialized value, deserializing it on first access.
+	 * @return the attribute value
+	 */
+	@Nullable
+	public Object get() {
+		if (!this.deserialized) {
+			synchronized (this) {
+				if (!this.deserialized) {
+					this.value = this.deserializer.convert(this.serializedValue);
+					this.deserialized = true;
+				}
+			}
+		}
+		return this.value;
+	}
+
+	/**
+	 * Return a copy of the given session in which every {@link LazySessionAttribute} is
+	 * replaced by a new, never deserialized, instance holding the same bytes, so that the
+	 * copy does not share deserialized values with the given session.
+	 * @param session the session to copy
+	 * @return the copy
+	 * @see SessionCopier
+	 */
+	public static MapSession copyOf(MapSession session) {
+		MapSession copy = new MapSession(session);
+		for (String attributeName : session.getAttributeNames()) {
+			if (session.getStoredAttribute(attributeName) instanceof LazySessionAttribute lazy) {
+				copy.setAttribute(attributeName, copy(lazy));
+			}
+		}
+		return copy;
+	}
+
+	/**
+	 * Return the current content of this attribute if it changed since it was loaded. A
+	 * deserialized value is serialized again and compared with the original bytes, and
+	 * the returned instance holds the new bytes, so that they can be written without
+	 * serializing the value once more.
+	 * @return a never deserialized instance holding the current serialized value, or
+	 * {@code null} if the content did not change
+	 * @throws IllegalStateException if this instance was created without a serializer
+	 */
+	@Nullable
+	public LazySessionAttribute getIfModified() {
+		if (!this.deserialized) {
+			return null;
+		}
+		Assert.state(this.serializer != null, "Cannot detect modifications without a serializer");
+		Object current = get();
+		if (current == null) {
+			return null;
+		}
+		byte[] bytes = this.serializer.convert(current);
+		return Arrays.equals(this.serializedValue, bytes) ? null
+				: new LazySessionAttribute(bytes, this.deserializer, this.serializer);
+	}
+
+	/**
+	 * Return whether the value was deserialized, in which case it may have been modified
+	 * and must be serialized again when saving the session.
+	 * @return whether the value was deserialized
+	 */
+	public boolean isDeserialized() {
+		return this.deserialized;
+	}
+
+	/**
+	 * Return the serialized value this instance was created with.
+	 * @return the serialized value
+	 */
+	public byte[] getSerializedValue() {
+		return this.serializedValue;
+	}
+
+	@Serial
+	private Object writeReplace() {
+		return get();
+	}
+
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link SessionCacheInvalidationChannel} that delivers invalidations to the other
+ * channels of its group within the same JVM. Each instance represents a node, and nodes
+ * join a group by being created from an existing peer. This is mostly useful for tests
+ * and for running several {@link CachingSessionRepository} instances side by side.
+ *
+ * @author Spring Session Team
+ * @since 3.5
+ */
+public class LocalSessionCacheInvalidationChannel implements SessionCacheInvalidationChannel {
+
+	private final List<LocalSessionCacheInvalidationChannel> group;
+
+	private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Create a new channel that starts a new group.
+	 */
+	public LocalSessionCacheInvalidationChannel() {
+		this.group = new CopyOnWriteArrayList<>();
+		this.group.add(this);
+	}
+
+	/**
+	 * Create a new channel that joins the group of the given peer.
+	 * @param peer the channel whose group to join
+	 */
+	public LocalSessionCacheInvalidationChannel(LocalSessionCacheInvalidationChannel peer) {
+		Assert.notNull(peer, "peer cannot be null");
+		this.group = peer.group;
+		this.group.add(this);
+	}
+
+	@Override
+	public void publish(String sessionId) {
+		for (LocalSessionCacheInvalidationChannel channel : this.group) {
+			if (channel != this) {
+				channel.deliver(sessionId);
+			}
+		}
+	}
+
+	@Override
+	public void subscribe(Consumer<String> listener) {
+		Assert.notNull(listener, "listener cannot be null");
+		this.listeners.add(listener);
+	}
+
+	private void deliver(String sessionId) {
+		for (Consumer<String> listener : this.listeners) {
+			listener.accept(sessionId);
+		}
+	}
+
+}
@@ -19,12 +19,16 @@ package org.springframework.session;
 import java.io.Serializable;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.AbstractSet;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.Set;
 import java.util.UUID;
 
+import org.springframework.lang.Nullable;
+
 /**
  * <p>
  * A {@link Session} implementation that is backed by a {@link java.util.Map}. The
@@ -39,7 +43,13 @@ import java.util.UUID;
  *
  * <p>
  * This implementation has no synchronization, so it is best to use the copy constructor
- * when working on multiple threads.
+ * when working on multiple threads. Copying another {@link MapSession} is cheap: both
+ * instances share their attributes until either of them modifies an attribute, at which
+ * point that instance takes a private copy. {@link #getAttributeNames()} returns a
+ * read-only view of the attribute names, and the attributes are only copied when they are
+ * modified while that view is being iterated over, so reading a session does not
+ * allocate. A session can be copied by another thread than the one modifying it, but not
+ * while it is being modified.
  * </p>
  *
  * @author Rob Winch
@@ -65,6 +75,25 @@ public final class MapSession implements Session, Serializable {
 
 	private Map<String, Object> sessionAttrs = new HashMap<>();
 
+	/**
+	 * Whether {@link #sessionAttrs} may be referenced by another {@link MapSession} and
+	 * must therefore be copied before being modified. Volatile since copies are commonly
+	 * made by another thread than the one modifying this session.
+	 */
+	private transient volatile boolean sessionAttrsShared;
+
+	/**
+	 * Read-only view of the keys of {@link #sessionAttrs}, created on demand.
+	 */
+	private transient Set<String> sessionAttrNames;
+
+	/**
+	 * Number of iterations over {@link #sessionAttrNames} that have not completed yet and
+	 * iterate over the current {@link #sessionAttrs}, which must therefore be copied
+	 * before being modified.
+	 */
+	private transient int sessionAttrNamesIterations;
+
 	private Instant creationTime = Instant.now();
 
 	private Instant lastAccessedTime = this.creationTime;
@@ -116,11 +145,19 @@ public final class MapSession implements Session, Serializable {
 		}
 		this.id = session.getId();
 		this.originalId = this.id;
-		this.sessionAttrs = new HashMap<>(session.getAttributeNames().size());
-		for (String attrName : session.getAttributeNames()) {
-			Object attrValue = session.getAttribute(attrName);
-			if (attrValue != null) {
-				this.sessionAttrs.put(attrName, attrValue);
+		if (session instanceof MapSession mapSession) {
+			mapSession.markSessionAttrsShared();
+			this.sessionAttrs = mapSession.sessionAttrs;
+			this.sessionAttrsShared = true;
+		}
+		else {
+			Set<String> attrNames = session.getAttributeNames();
+			this.sessionAttrs = new HashMap<>(attrNames.size());
+			for (String attrName : attrNames) {
+				Object attrValue = session.getAttribute(attrName);
+				if (attrValue != null) {
+					this.sessionAttrs.put(attrName, attrValue);
+				}
 			}
 		}
 		this.lastAccessedTime = session.getLastAccessedTime();
@@ -174,27 +211,76 @@ public final class MapSession implements Session, Serializable {
 		return this.maxInactiveInterval;
 	}
 
+	/**
+	 * Determine whether the session has expired, based on the current time in
+	 * milliseconds. Unlike {@link #isExpired(Instant)} this does not allocate.
+	 * @return whether the session has expired
+	 */
 	@Override
 	public boolean isExpired() {
-		return isExpired(Instant.now());
+		long now = System.currentTimeMillis();
+		return isExpired(Math.floorDiv(now, 1000), Math.floorMod(now, 1000) * 1_000_000, 1_000_000);
 	}
 
 	boolean isExpired(Instant now) {
+		return isExpired(now.getEpochSecond(), now.getNano(), 1);
+	}
+
+	/**
+	 * Determine whether the session has expired at the given time, comparing with its
+	 * expiration time truncated to the given precision.
+	 * @param nowSeconds the epoch seconds of the current time
+	 * @param nowNanos the nanoseconds of the current time
+	 * @param precisionNanos the precision of the current time in nanoseconds
+	 * @return whether the session has expired
+	 */
+	private boolean isExpired(long nowSeconds, int nowNanos, int precisionNanos) {
 		if (this.maxInactiveInterval.isNegative()) {
 			return false;
 		}
-		return now.minus(this.maxInactiveInterval).compareTo(this.lastAccessedTime) >= 0;
+		long expirySeconds = this.lastAccessedTime.getEpochSecond() + this.maxInactiveInterval.getSeconds();
+		if (expirySeconds < this.lastAccessedTime.getEpochSecond()) {
+			return false;
+		}
+		int expiryNanos = this.lastAccessedTime.getNano() + this.maxInactiveInterval.getNano();
+		if (expiryNanos >= 1_000_000_000) {
+			expirySeconds++;
+			expiryNanos -= 1_000_000_000;
+		}
+		expiryNanos -= expiryNanos % precisionNanos;
+		return nowSeconds > expirySeconds || (nowSeconds == expirySeconds && nowNanos >= expiryNanos);
 	}
 
 	@Override
-	@SuppressWarnings("unchecked")
 	public <T> T getAttribute(String attributeName) {
-		return (T) this.sessionAttrs.get(attributeName);
+		return LazySessionAttribute.resolve(this.sessionAttrs.get(attributeName));
 	}
 
+	/**
+	 * Return the value of the attribute as stored in this session, that is a
+	 * {@link LazySessionAttribute} if the value was set as such and not deserialized
+	 * since, without deserializing it.
+	 * @param attributeName the name of the attribute
+	 * @return the stored value or {@code null} if the attribute is not set
+	 * @since 3.5
+	 */
+	@Nullable
+	public Object getStoredAttribute(String attributeName) {
+		return this.sessionAttrs.get(attributeName);
+	}
+
+	/**
+	 * Return a read-only view of the attribute names. Attributes can be set or removed
+	 * while iterating over it, the iteration then continuing over the names the session
+	 * had when it started.
+	 * @return the attribute names
+	 */
 	@Override
 	public Set<String> getAttributeNames() {
-		return new HashSet<>(this.sessionAttrs.keySet());
+		if (this.sessionAttrNames == null) {
+			this.sessionAttrNames = new AttributeNames();
+		}
+		return this.sessionAttrNames;
 	}
 
 	@Override
@@ -203,13 +289,30 @@ public final class MapSession implements Session, Serializable {
 			removeAttribute(attributeName);
 		}
 		else {
-			this.sessionAttrs.put(attributeName, attributeValue);
+			writableSessionAttrs().put(attributeName, attributeValue);
 		}
 	}
 
 	@Override
 	public void removeAttribute(String attributeName) {
-		this.sessionAttrs.remove(attributeName);
+		if (this.sessionAttrs.containsKey(attributeName)) {
+			writableSessionAttrs().remove(attributeName);
+		}
+	}
+
+	private void markSessionAttrsShared() {
+		if (!this.sessionAttrsShared) {
+			this.sessionAttrsShared = true;
+		}
+	}
+
+	private Map<String, Object> writableSessionAttrs() {
+		if (this.sessionAttrsShared || this.sessionAttrNamesIterations > 0) {
+			this.sessionAttrs = new HashMap<>(this.sessionAttrs);
+			this.sessionAttrsShared = false;
+			this.sessionAttrNamesIterations = 0;
+		}
+		return this.sessionAttrs;
 	}
 
 	/**
@@ -256,4 +359,54 @@ public final class MapSession implements Session, Serializable {
 
 	private static final long serialVersionUID = 7160779239673823561L;
 
+	/**
+	 * Read-only view of the attribute names whose iterators keep iterating over the
+	 * attributes they started with when the session is modified.
+	 */
+	private final class AttributeNames extends AbstractSet<String> {
+
+		@Override
+		public int size() {
+			return MapSession.this.sessionAttrs.size();
+		}
+
+		@Override
+		public boolean contains(Object name) {
+			return MapSession.this.sessionAttrs.containsKey(name);
+		}
+
+		@Override
+		public Iterator<String> iterator() {
+			Map<String, Object> sessionAttrs = MapSession.this.sessionAttrs;
+			if (sessionAttrs.isEmpty()) {
+				return Collections.emptyIterator();
+			}
+			Iterator<String> names = sessionAttrs.keySet().iterator();
+			MapSession.this.sessionAttrNamesIterations++;
+			return new Iterator<>() {
+
+				private boolean completed;
+
+				@Override
+				public boolean hasNext() {
+					boolean hasNext = names.hasNext();
+					if (!hasNext && !this.completed) {
+						this.completed = true;
+						if (sessionAttrs == MapSession.this.sessionAttrs) {
+							MapSession.this.sessionAttrNamesIterations--;
+						}
+					}
+					return hasNext;
+				}
+
+				@Override
+				public String next() {
+					return names.next();
+				}
+
+			};
+		}
+
+	}
+
 }
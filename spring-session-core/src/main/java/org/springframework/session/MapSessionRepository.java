@@ -17,8 +17,10 @@
 package org.springframework.session;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Map;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.session.events.SessionDeletedEvent;
 import org.springframework.session.events.SessionExpiredEvent;
 import org.springframework.util.Assert;
@@ -26,12 +28,22 @@ import org.springframework.util.Assert;
 /**
  * A {@link SessionRepository} backed by a {@link java.util.Map} and that uses a
  * {@link MapSession}. The injected {@link java.util.Map} can be backed by a distributed
- * NoSQL store like Hazelcast, for instance. Note that the supplied map itself is
- * responsible for purging the expired sessions.
+ * NoSQL store like Hazelcast, for instance.
  *
  * <p>
- * The implementation does NOT support firing {@link SessionDeletedEvent} or
- * {@link SessionExpiredEvent}.
+ * {@link #cleanUpExpiredSessions()} removes the sessions that expired in time
+ * proportional to their number. It is not invoked automatically; a
+ * {@link SessionExpirationSweeper} can invoke it periodically. Its first invocation
+ * indexes the sessions of the map by expiration time, and from then on the sessions saved
+ * through this repository are kept in that index, so that no index is maintained unless
+ * expired sessions are cleaned up. Otherwise, or for sessions placed in the supplied map
+ * directly afterwards, the map itself is responsible for purging the expired sessions.
+ * </p>
+ *
+ * <p>
+ * The implementation fires a {@link SessionExpiredEvent} for each session removed by
+ * {@link #cleanUpExpiredSessions()} if an {@link ApplicationEventPublisher} is
+ * configured. It does NOT support firing {@link SessionDeletedEvent}.
  * </p>
  *
  * @author Rob Winch
@@ -45,6 +57,12 @@ public class MapSessionRepository implements SessionRepository<MapSession> {
 
 	private SessionIdGenerator sessionIdGenerator = UuidSessionIdGenerator.getInstance();
 
+	private final SessionExpirationWheel expirations = new SessionExpirationWheel(Duration.ofSeconds(1), Instant.now());
+
+	private ApplicationEventPublisher eventPublisher;
+
+	private volatile boolean expirationsIndexed;
+
 	/**
 	 * Creates a new instance backed by the provided {@link java.util.Map}. This allows
 	 * injecting a distributed {@link java.util.Map}.
@@ -68,14 +86,28 @@ public class MapSessionRepository implements SessionRepository<MapSession> {
 		this.defaultMaxInactiveInterval = defaultMaxInactiveInterval;
 	}
 
+	/**
+	 * Set the {@link ApplicationEventPublisher} used to publish a
+	 * {@link SessionExpiredEvent} for each session removed by
+	 * {@link #cleanUpExpiredSessions()}. The default is {@code null}, which publishes no
+	 * events.
+	 * @param eventPublisher the event publisher to use
+	 * @since 3.5
+	 */
+	public void setApplicationEventPublisher(ApplicationEventPublisher eventPublisher) {
+		this.eventPublisher = eventPublisher;
+	}
+
 	@Override
 	public void save(MapSession session) {
 		if (!session.getId().equals(session.getOriginalId())) {
 			this.sessions.remove(session.getOriginalId());
+			this.expirations.remove(session.getOriginalId());
 		}
 		MapSession saved = new MapSession(session);
 		saved.setSessionIdGenerator(this.sessionIdGenerator);
 		this.sessions.put(session.getId(), saved);
+		scheduleExpiration(saved);
 	}
 
 	@Override
@@ -96,6 +128,47 @@ public class MapSessionRepository implements SessionRepository<MapSession> {
 	@Override
 	public void deleteById(String id) {
 		this.sessions.remove(id);
+		this.expirations.remove(id);
+	}
+
+	/**
+	 * Remove the sessions saved through this repository that have expired, publishing a
+	 * {@link SessionExpiredEvent} for each of them if an event publisher is configured. A
+	 * session that was updated in the supplied map by other means and is no longer
+	 * expired is kept. The first invocation indexes all the sessions of the map, later
+	 * invocations only visit the expired ones.
+	 * @since 3.5
+	 */
+	public void cleanUpExpiredSessions() {
+		if (!this.expirationsIndexed) {
+			this.expirationsIndexed = true;
+			this.sessions.values().forEach(this::scheduleExpiration);
+		}
+		for (String id : this.expirations.expire(Instant.now())) {
+			Session session = this.sessions.get(id);
+			if (session == null) {
+				continue;
+			}
+			if (!session.isExpired()) {
+				scheduleExpiration(session);
+			}
+			else if (this.sessions.remove(id, session) && this.eventPublisher != null) {
+				this.eventPublisher.publishEvent(new SessionExpiredEvent(this, session));
+			}
+		}
+	}
+
+	private void scheduleExpiration(Session session) {
+		if (!this.expirationsIndexed) {
+			return;
+		}
+		if (session.getMaxInactiveInterval().isNegative()) {
+			this.expirations.remove(session.getId());
+		}
+		else {
+			this.expirations.schedule(session.getId(),
+					session.getLastAccessedTime().plus(session.getMaxInactiveInterval()));
+		}
 	}
 
 	@Override
@@ -0,0 +1,213 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.util.Assert;
+
+/**
+ * A bounded, time-limited record of session ids that are known not to exist, used to
+ * answer lookups of unknown or deleted session ids without accessing the session store.
+ * <p>
+ * Ids are stored as 64-bit fingerprints in fixed-size tables that are split into blocks
+ * of eight slots, so recording or checking an id touches a single block. When the block
+ * of an id is full, one of its fingerprints is overwritten, which bounds memory at the
+ * cost of forgetting some ids early. Unlike a Bloom filter, a fingerprint table only
+ * reports an id that was never recorded if two ids share the same 64-bit fingerprint,
+ * which is negligible, so a valid session is not mistaken for a missing one.
+ * <p>
+ * Two generations of tables are kept and rotated every half of the time to live, so an id
+ * is remembered for at least half and at most the full time to live. The time to live
+ * should be short because a session created on another node with an id this node has
+ * recorded as missing is only visible once that record expires. Session ids that are
+ * saved through this node should therefore be {@link #remove(String) removed}.
+ *
+ * @author Spring Session Team
+ * @since 3.5
+ */
+public class NegativeSessionIdCache {
+
+	/**
+	 * The default maximum number of session ids per generation.
+	 */
+	public static final int DEFAULT_CAPACITY = 65536;
+
+	/**
+	 * The default time to live of a recorded session id.
+	 */
+	public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofSeconds(30);
+
+	private static final int BLOCK_SIZE = 8;
+
+	private final int blockCount;
+
+	private final long rotationIntervalMillis;
+
+	private Clock clock = Clock.systemUTC();
+
+	private volatile Generation current;
+
+	private volatile Generation previous;
+
+	private volatile long nextRotationMillis;
+
+	/**
+	 * Create a new instance with {@link #DEFAULT_CAPACITY} and
+	 * {@link #DEFAULT_TIME_TO_LIVE}.
+	 */
+	public NegativeSessionIdCache() {
+		this(DEFAULT_CAPACITY, DEFAULT_TIME_TO_LIVE);
+	}
+
+	/**
+	 * Create a new instance.
+	 * @param capacity the maximum number of session ids per generation
+	 * @param timeToLive the maximum amount of time a session id is remembered
+	 */
+	public NegativeSessionIdCache(int capacity, Duration timeToLive) {
+		Assert.isTrue(capacity > 0, "capacity must be positive");
+		Assert.notNull(timeToLive, "timeToLive cannot be null");
+		Assert.isTrue(timeToLive.toMillis() >= 2, "timeToLive must be at least 2 milliseconds");
+		this.blockCount = Math.max(1, (capacity + BLOCK_SIZE - 1) / BLOCK_SIZE);
+		this.rotationIntervalMillis = timeToLive.toMillis() / 2;
+		this.current = new Generation(this.blockCount);
+		this.previous = new Generation(this.blockCount);
+		this.nextRotationMillis = this.clock.millis() + this.rotationIntervalMillis;
+	}
+
+	/**
+	 * Set the {@link Clock} used to expire recorded session ids.
+	 * @param clock the clock to use
+	 */
+	public void setClock(Clock clock) {
+		Assert.notNull(clock, "clock cannot be null");
+		this.clock = clock;
+		this.nextRotationMillis = clock.millis() + this.rotationIntervalMillis;
+	}
+
+	/**
+	 * Record that no session exists for the given id.
+	 * @param sessionId the session id
+	 */
+	public void add(String sessionId) {
+		rotateIfNecessary();
+		this.current.add(fingerprint(sessionId));
+	}
+
+	/**
+	 * Determine whether the given id was recently recorded as missing.
+	 * @param sessionId the session id
+	 * @return {@code true} if no session is known to exist for the id
+	 */
+	public boolean contains(String sessionId) {
+		rotateIfNecessary();
+		long fingerprint = fingerprint(sessionId);
+		return this.current.contains(fingerprint) || this.previous.contains(fingerprint);
+	}
+
+	/**
+	 * Forget the given id, typically because a session with that id was saved.
+	 * @param sessionId the session id
+	 */
+	public void remove(String sessionId) {
+		long fingerprint = fingerprint(sessionId);
+		this.current.remove(fingerprint);
+		this.previous.remove(fingerprint);
+	}
+
+	private void rotateIfNecessary() {
+		long now = this.clock.millis();
+		if (now < this.nextRotationMillis) {
+			return;
+		}
+		synchronized (this) {
+			if (now < this.nextRotationMillis) {
+				return;
+			}
+			boolean idle = now >= this.nextRotationMillis + this.rotationIntervalMillis;
+			this.previous = idle ? new Generation(this.blockCount) : this.current;
+			this.current = new Generation(this.blockCount);
+			this.nextRotationMillis = now + this.rotationIntervalMillis;
+		}
+	}
+
+	private static long fingerprint(String sessionId) {
+		long hash = 0xCBF29CE484222325L;
+		for (int i = 0; i < sessionId.length(); i++) {
+			hash = (hash ^ sessionId.charAt(i)) * 0x100000001B3L;
+		}
+		hash = (hash ^ (hash >>> 33)) * 0xFF51AFD7ED558CCDL;
+		hash = (hash ^ (hash >>> 33)) * 0xC4CEB9FE1A85EC53L;
+		hash = hash ^ (hash >>> 33);
+		return (hash != 0) ? hash : 1;
+	}
+
+	private static final class Generation {
+
+		private final AtomicLongArray slots;
+
+		private final int blockCount;
+
+		private Generation(int blockCount) {
+			this.blockCount = blockCount;
+			this.slots = new AtomicLongArray(blockCount * BLOCK_SIZE);
+		}
+
+		private void add(long fingerprint) {
+			int start = blockStart(fingerprint);
+			int empty = -1;
+			for (int i = start; i < start + BLOCK_SIZE; i++) {
+				long slot = this.slots.get(i);
+				if (slot == fingerprint) {
+					return;
+				}
+				if (slot == 0 && empty == -1) {
+					empty = i;
+				}
+			}
+			if (empty == -1 || !this.slots.compareAndSet(empty, 0, fingerprint)) {
+				this.slots.set(start + (int) (fingerprint & (BLOCK_SIZE - 1)), fingerprint);
+			}
+		}
+
+		private boolean contains(long fingerprint) {
+			int start = blockStart(fingerprint);
+			for (int i = start; i < start + BLOCK_SIZE; i++) {
+				if (this.slots.get(i) == fingerprint) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		private void remove(long fingerprint) {
+			int start = blockStart(fingerprint);
+			for (int i = start; i < start + BLOCK_SIZE; i++) {
+				this.slots.compareAndSet(i, fingerprint, 0);
+			}
+		}
+
+		private int blockStart(long fingerprint) {
+			return (int) Long.remainderUnsigned(fingerprint >>> 16, this.blockCount) * BLOCK_SIZE;
+		}
+
+	}
+
+}
@@ -0,0 +1,499 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.nio.ByteBuffer;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.session.events.SessionExpiredEvent;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link SessionRepository} that keeps serialized {@link MapSession} instances outside
+ * of the Java heap, for single node and embedded deployments holding large numbers of
+ * mostly idle sessions.
+ *
+ * <p>
+ * Sessions are serialized on {@link #save(MapSession)} and stored in direct
+ * {@link ByteBuffer} slabs that are allocated on demand up to the configured maximum
+ * capacity. Each session occupies a chunk whose size is the next power of two of its
+ * serialized size, aligned on that size within its slab. Free chunks are split to serve
+ * smaller sessions and merged with their free neighbor of the same size once the session
+ * is deleted or outgrows them, so that memory freed by small sessions can be reused by
+ * larger ones. Only an open addressing index from session id to chunk is kept on the
+ * heap, so idle sessions no longer add to the old generation. A session that does not fit
+ * in the remaining capacity cannot be saved and causes an {@link IllegalStateException}.
+ * </p>
+ *
+ * <p>
+ * As with {@link MapSessionRepository}, {@link #cleanUpExpiredSessions()} removes the
+ * expired sessions and fires a {@link SessionExpiredEvent} for each of them if an
+ * {@link ApplicationEventPublisher} is configured, and must be invoked periodically, for
+ * instance by a {@link SessionExpirationSweeper}. Session attributes are serialized with
+ * Java serialization by default and must therefore be {@link java.io.Serializable}.
+ * </p>
+ *
+ * @author Spring Session Team
+ * @since 3.5
+ */
+public class OffHeapSessionRepository implements SessionRepository<MapSession> {
+
+	/**
+	 * The default size of the slabs sessions are stored in (4 MiB).
+	 */
+	public static final int DEFAULT_SLAB_SIZE = 4 * 1024 * 1024;
+
+	private static final int MIN_CHUNK_SHIFT = 6;
+
+	private final int slabSize;
+
+	private final int maxSlabs;
+
+	private final List<ByteBuffer> slabs = new ArrayList<>();
+
+	private final List<Set<Long>> freeChunks = new ArrayList<>(Integer.SIZE);
+
+	private final SlotIndex index = new SlotIndex();
+
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private final SessionExpirationWheel expirations = new SessionExpirationWheel(Duration.ofSeconds(1), Instant.now());
+
+	private Duration defaultMaxInactiveInterval = Duration.ofSeconds(MapSession.DEFAULT_MAX_INACTIVE_INTERVAL_SECONDS);
+
+	private SessionIdGenerator sessionIdGenerator = UuidSessionIdGenerator.getInstance();
+
+	private Converter<Object, byte[]> serializer = new SerializingConverter();
+
+	private Converter<byte[], Object> deserializer = new DeserializingConverter();
+
+	private ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * Create a new instance using slabs of {@link #DEFAULT_SLAB_SIZE}.
+	 * @param maximumCapacity the maximum number of bytes of off-heap memory to allocate
+	 */
+	public OffHeapSessionRepository(long maximumCapacity) {
+		this(maximumCapacity, (int) Math.min(DEFAULT_SLAB_SIZE, maximumCapacity));
+	}
+
+	/**
+	 * Create a new instance.
+	 * @param maximumCapacity the maximum number of bytes of off-heap memory to allocate
+	 * @param slabSize the size of each slab, which bounds the serialized size of a
+	 * session
+	 */
+	public OffHeapSessionRepository(long maximumCapacity, int slabSize) {
+		Assert.isTrue(slabSize >= (1 << MIN_CHUNK_SHIFT), "slabSize must be at least " + (1 << MIN_CHUNK_SHIFT));
+		Assert.isTrue(maximumCapacity >= slabSize, "maximumCapacity must be at least slabSize");
+		this.slabSize = slabSize;
+		this.maxSlabs = (int) Math.min(Integer.MAX_VALUE, maximumCapacity / slabSize);
+		for (int i = 0; i < Integer.SIZE; i++) {
+			this.freeChunks.add(new LinkedHashSet<>());
+		}
+	}
+
+	/**
+	 * Set the maximum inactive interval between requests before newly created sessions
+	 * will be invalidated. A negative time indicates that the session will never time
+	 * out. The default is 30 minutes.
+	 * @param defaultMaxInactiveInterval the default maxInactiveInterval
+	 */
+	public void setDefaultMaxInactiveInterval(Duration defaultMaxInactiveInterval) {
+		Assert.notNull(defaultMaxInactiveInterval, "defaultMaxInactiveInterval must not be null");
+		this.defaultMaxInactiveInterval = defaultMaxInactiveInterval;
+	}
+
+	/**
+	 * Set the {@link SessionIdGenerator} used to generate the ids of new sessions and of
+	 * sessions whose id is changed. The default is {@link UuidSessionIdGenerator}.
+	 * @param sessionIdGenerator the session id generator to use
+	 */
+	public void setSessionIdGenerator(SessionIdGenerator sessionIdGenerator) {
+		Assert.notNull(sessionIdGenerator, "sessionIdGenerator cannot be null");
+		this.sessionIdGenerator = sessionIdGenerator;
+	}
+
+	/**
+	 * Set the converter used to serialize sessions. The default uses Java serialization.
+	 * @param serializer the serializer to use
+	 */
+	public void setSerializer(Converter<Object, byte[]> serializer) {
+		Assert.notNull(serializer, "serializer cannot be null");
+		this.serializer = serializer;
+	}
+
+	/**
+	 * Set the converter used to deserialize sessions. The default uses Java
+	 * serialization.
+	 * @param deserializer the deserializer to use
+	 */
+	public void setDeserializer(Converter<byte[], Object> deserializer) {
+		Assert.notNull(deserializer, "deserializer cannot be null");
+		this.deserializer = deserializer;
+	}
+
+	/**
+	 * Set the {@link ApplicationEventPublisher} used to publish a
+	 * {@link SessionExpiredEvent} for each session removed by
+	 * {@link #cleanUpExpiredSessions()}. The default is {@code null}, which publishes no
+	 * events.
+	 * @param eventPublisher the event publisher to use
+	 */
+	public void setApplicationEventPublisher(ApplicationEventPublisher eventPublisher) {
+		this.eventPublisher = eventPublisher;
+	}
+
+	@Override
+	public MapSession createSession() {
+		MapSession result = new MapSession(this.sessionIdGenerator);
+		result.setMaxInactiveInterval(this.defaultMaxInactiveInterval);
+		return result;
+	}
+
+	@Override
+	public void save(MapSession session) {
+		byte[] bytes = this.serializer.convert(new MapSession(session));
+		long expiresAt = expiresAt(session);
+		this.lock.writeLock().lock();
+		try {
+			if (!session.getId().equals(session.getOriginalId())) {
+				remove(session.getOriginalId());
+			}
+			int slot = this.index.find(session.getId());
+			if (slot >= 0 && chunkShift(this.index.lengths[slot]) == chunkShift(bytes.length)) {
+				write(this.index.addresses[slot], bytes);
+				this.index.lengths[slot] = bytes.length;
+				this.index.expirations[slot] = expiresAt;
+			}
+			else {
+				long address = allocate(bytes.length);
+				write(address, bytes);
+				if (slot >= 0) {
+					release(this.index.addresses[slot], this.index.lengths[slot]);
+				}
+				this.index.put(session.getId(), address, bytes.length, expiresAt);
+			}
+			if (expiresAt == Long.MAX_VALUE) {
+				this.expirations.remove(session.getId());
+			}
+			else {
+				this.expirations.schedule(session.getId(), Instant.ofEpochMilli(expiresAt));
+			}
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	@Override
+	public MapSession findById(String id) {
+		byte[] bytes;
+		this.lock.readLock().lock();
+		try {
+			int slot = this.index.find(id);
+			if (slot < 0) {
+				return null;
+			}
+			bytes = (this.index.expirations[slot] > System.currentTimeMillis())
+					? read(this.index.addresses[slot], this.index.lengths[slot]) : null;
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+		MapSession session = (bytes != null) ? (MapSession) this.deserializer.convert(bytes) : null;
+		if (session == null || session.isExpired()) {
+			deleteById(id);
+			return null;
+		}
+		session.setSessionIdGenerator(this.sessionIdGenerator);
+		return session;
+	}
+
+	@Override
+	public void deleteById(String id) {
+		this.lock.writeLock().lock();
+		try {
+			remove(id);
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * Remove the sessions that have expired, publishing a {@link SessionExpiredEvent} for
+	 * each of them if an event publisher is configured.
+	 */
+	public void cleanUpExpiredSessions() {
+		List<byte[]> expired = new ArrayList<>();
+		long now = System.currentTimeMillis();
+		this.lock.writeLock().lock();
+		try {
+			for (String id : this.expirations.expire(Instant.ofEpochMilli(now))) {
+				int slot = this.index.find(id);
+				if (slot < 0) {
+					continue;
+				}
+				if (this.index.expirations[slot] > now) {
+					this.expirations.schedule(id, Instant.ofEpochMilli(this.index.expirations[slot]));
+					continue;
+				}
+				if (this.eventPublisher != null) {
+					expired.add(read(this.index.addresses[slot], this.index.lengths[slot]));
+				}
+				remove(id);
+			}
+		}
+		finally {
+			this.lock.writeLock().unlock();
+		}
+		for (byte[] bytes : expired) {
+			MapSession session = (MapSession) this.deserializer.convert(bytes);
+			this.eventPublisher.publishEvent(new SessionExpiredEvent(this, session));
+		}
+	}
+
+	/**
+	 * Return the number of sessions currently stored.
+	 * @return the number of sessions
+	 */
+	public int getSessionCount() {
+		this.lock.readLock().lock();
+		try {
+			return this.index.size;
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Return the number of bytes of off-heap memory allocated so far.
+	 * @return the allocated capacity
+	 */
+	public long getAllocatedCapacity() {
+		this.lock.readLock().lock();
+		try {
+			return (long) this.slabs.size() * this.slabSize;
+		}
+		finally {
+			this.lock.readLock().unlock();
+		}
+	}
+
+	private static long expiresAt(Session session) {
+		Duration maxInactiveInterval = session.getMaxInactiveInterval();
+		if (maxInactiveInterval.isNegative()) {
+			return Long.MAX_VALUE;
+		}
+		return session.getLastAccessedTime().plus(maxInactiveInterval).toEpochMilli();
+	}
+
+	private void remove(String id) {
+		int slot = this.index.find(id);
+		if (slot >= 0) {
+			release(this.index.addresses[slot], this.index.lengths[slot]);
+			this.index.remove(slot);
+		}
+		this.expirations.remove(id);
+	}
+
+	private long allocate(int length) {
+		int shift = chunkShift(length);
+		if ((1 << shift) > this.slabSize) {
+			throw new IllegalStateException("Session of " + length + " bytes exceeds the slab size");
+		}
+		Long chunk = allocateFree(shift);
+		if (chunk == null) {
+			if (this.slabs.size() >= this.maxSlabs) {
+				throw new IllegalStateException("Off-heap session storage is full");
+			}
+			this.slabs.add(ByteBuffer.allocateDirect(this.slabSize));
+			long slab = (long) (this.slabs.size() - 1) << 32;
+			int offset = 0;
+			while (this.slabSize - offset >= (1 << MIN_CHUNK_SHIFT)) {
+				int chunkShift = Math.min(Integer.numberOfTrailingZeros(offset),
+						Integer.SIZE - 1 - Integer.numberOfLeadingZeros(this.slabSize - offset));
+				this.freeChunks.get(chunkShift).add(slab | offset);
+				offset += 1 << chunkShift;
+			}
+			chunk = allocateFree(shift);
+		}
+		return chunk;
+	}
+
+	private Long allocateFree(int shift) {
+		for (int freeShift = shift; freeShift < Integer.SIZE - 1; freeShift++) {
+			Iterator<Long> chunks = this.freeChunks.get(freeShift).iterator();
+			if (chunks.hasNext()) {
+				long chunk = chunks.next();
+				chunks.remove();
+				while (freeShift > shift) {
+					freeShift--;
+					this.freeChunks.get(freeShift).add(chunk + (1L << freeShift));
+				}
+				return chunk;
+			}
+		}
+		return null;
+	}
+
+	private void release(long address, int length) {
+		long slab = address & 0xFFFFFFFF00000000L;
+		int offset = (int) address;
+		int shift = chunkShift(length);
+		while (shift < Integer.SIZE - 2) {
+			int buddy = offset ^ (1 << shift);
+			if (!this.freeChunks.get(shift).remove(slab | buddy)) {
+				break;
+			}
+			offset = Math.min(offset, buddy);
+			shift++;
+		}
+		this.freeChunks.get(shift).add(slab | offset);
+	}
+
+	private void write(long address, byte[] bytes) {
+		this.slabs.get((int) (address >>> 32)).put((int) address, bytes);
+	}
+
+	private byte[] read(long address, int length) {
+		byte[] bytes = new byte[length];
+		this.slabs.get((int) (address >>> 32)).get((int) address, bytes);
+		return bytes;
+	}
+
+	private static int chunkShift(int length) {
+		return Math.max(MIN_CHUNK_SHIFT, Integer.SIZE - Integer.numberOfLeadingZeros(length - 1));
+	}
+
+	/**
+	 * An open addressing hash table with linear probing from session id to the location,
+	 * length and expiration time of its serialized form.
+	 */
+	private static final class SlotIndex {
+
+		private String[] keys = new String[16];
+
+		private long[] addresses = new long[16];
+
+		private int[] lengths = new int[16];
+
+		private long[] expirations = new long[16];
+
+		private int size;
+
+		private int find(String key) {
+			int mask = this.keys.length - 1;
+			for (int slot = home(key, mask);; slot = (slot + 1) & mask) {
+				String candidate = this.keys[slot];
+				if (candidate == null) {
+					return -1;
+				}
+				if (candidate.equals(key)) {
+					return slot;
+				}
+			}
+		}
+
+		private void put(String key, long address, int length, long expiresAt) {
+			int slot = find(key);
+			if (slot < 0) {
+				if ((this.size + 1) * 3 > this.keys.length * 2) {
+					resize();
+				}
+				int mask = this.keys.length - 1;
+				slot = home(key, mask);
+				while (this.keys[slot] != null) {
+					slot = (slot + 1) & mask;
+				}
+				this.keys[slot] = key;
+				this.size++;
+			}
+			this.addresses[slot] = address;
+			this.lengths[slot] = length;
+			this.expirations[slot] = expiresAt;
+		}
+
+		private void remove(int slot) {
+			int mask = this.keys.length - 1;
+			int hole = slot;
+			for (int next = (hole + 1) & mask; this.keys[next] != null; next = (next + 1) & mask) {
+				int home = home(this.keys[next], mask);
+				boolean movable = (hole <= next) ? (home <= hole || home > next) : (home <= hole && home > next);
+				if (movable) {
+					move(next, hole);
+					hole = next;
+				}
+			}
+			this.keys[hole] = null;
+			this.size--;
+		}
+
+		private void move(int from, int to) {
+			this.keys[to] = this.keys[from];
+			this.addresses[to] = this.addresses[from];
+			this.lengths[to] = this.lengths[from];
+			this.expirations[to] = this.expirations[from];
+		}
+
+		private void resize() {
+			String[] oldKeys = this.keys;
+			long[] oldAddresses = this.addresses;
+			int[] oldLengths = this.lengths;
+			long[] oldExpirations = this.expirations;
+			int capacity = oldKeys.length * 2;
+			this.keys = new String[capacity];
+			this.addresses = new long[capacity];
+			this.lengths = new int[capacity];
+			this.expirations = new long[capacity];
+			int mask = capacity - 1;
+			for (int i = 0; i < oldKeys.length; i++) {
+				if (oldKeys[i] != null) {
+					int slot = home(oldKeys[i], mask);
+					while (this.keys[slot] != null) {
+						slot = (slot + 1) & mask;
+					}
+					this.keys[slot] = oldKeys[i];
+					this.addresses[slot] = oldAddresses[i];
+					this.lengths[slot] = oldLengths[i];
+					this.expirations[slot] = oldExpirations[i];
+				}
+			}
+		}
+
+		private static int home(String key, int mask) {
+			int hash = key.hashCode() * 0x9E3779B9;
+			return (hash ^ (hash >>> 16)) & mask;
+		}
+
+	}
+
+}
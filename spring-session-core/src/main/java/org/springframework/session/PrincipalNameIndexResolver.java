@@ -18,11 +18,17 @@ package org.springframework.session;
 
 import org.springframework.expression.Expression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.util.ClassUtils;
 
 /**
  * {@link IndexResolver} to resolve the principal name from session attribute named
  * {@link FindByIndexNameSessionRepository#PRINCIPAL_NAME_INDEX_NAME} or Spring Security
  * context stored in the session under {@code SPRING_SECURITY_CONTEXT} attribute.
+ * <p>
+ * A Spring Security {@link SecurityContext} is read through its accessors, other values
+ * fall back to evaluating {@code authentication?.name} against them.
  *
  * @param <S> the type of Session being handled
  * @author Vedran Pavic
@@ -32,6 +38,10 @@ public class PrincipalNameIndexResolver<S extends Session> extends SingleIndexRe
 
 	private static final String SPRING_SECURITY_CONTEXT = "SPRING_SECURITY_CONTEXT";
 
+	private static final boolean springSecurityPresent = ClassUtils.isPresent(
+			"org.springframework.security.core.context.SecurityContext",
+			PrincipalNameIndexResolver.class.getClassLoader());
+
 	private static final Expression expression = new SpelExpressionParser().parseExpression("authentication?.name");
 
 	public PrincipalNameIndexResolver() {
@@ -53,10 +63,29 @@ public class PrincipalNameIndexResolver<S extends Session> extends SingleIndexRe
 			return principalName;
 		}
 		Object authentication = session.getAttribute(SPRING_SECURITY_CONTEXT);
-		if (authentication != null) {
-			return expression.getValue(authentication, String.class);
+		if (authentication == null) {
+			return null;
+		}
+		if (springSecurityPresent && SecurityContextAccessor.isSecurityContext(authentication)) {
+			return SecurityContextAccessor.getName(authentication);
 		}
-		return null;
+		return expression.getValue(authentication, String.class);
+	}
+
+	/**
+	 * Inner class to avoid a hard dependency on Spring Security at runtime.
+	 */
+	private static final class SecurityContextAccessor {
+
+		static boolean isSecurityContext(Object value) {
+			return value instanceof SecurityContext;
+		}
+
+		static String getName(Object securityContext) {
+			Authentication authentication = ((SecurityContext) securityContext).getAuthentication();
+			return (authentication != null) ? authentication.getName() : null;
+		}
+
 	}
 
 }
@@ -18,6 +18,7 @@ package org.springframework.session;
 
 import java.util.Map;
 
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 /**
@@ -57,4 +58,77 @@ public interface ReactiveFindByIndexNameSessionRepository<S extends Session> {
 		return findByIndexNameAndIndexValue(PRINCIPAL_NAME_INDEX_NAME, principalName);
 	}
 
+	/**
+	 * Find the {@link SessionMetadata} of all sessions that contain the specified index
+	 * name and index value. Sessions that have expired are not included.
+	 *
+	 * <p>
+	 * The default implementation loads the full sessions through
+	 * {@link #findByIndexNameAndIndexValue(String, String)}. Implementations are
+	 * encouraged to override it and load only the metadata, without reading the attribute
+	 * values.
+	 * </p>
+	 * @param indexName the name of the index (i.e. {@link #PRINCIPAL_NAME_INDEX_NAME})
+	 * @param indexValue the value of the index to search for
+	 * @return the metadata of all sessions that contain the specified index name and
+	 * index value
+	 * @since 3.5
+	 */
+	default Flux<SessionMetadata> findSessionMetadataByIndexNameAndIndexValue(String indexName, String indexValue) {
+		return findByIndexNameAndIndexValue(indexName, indexValue)
+			.flatMapMany((sessions) -> Flux.fromIterable(sessions.values()))
+			.filter((session) -> !session.isExpired())
+			.map((session) -> PRINCIPAL_NAME_INDEX_NAME.equals(indexName) ? SessionMetadata.from(session, indexValue)
+					: SessionMetadata.from(session));
+	}
+
+	/**
+	 * A shortcut for {@link #findSessionMetadataByIndexNameAndIndexValue(String, String)}
+	 * that uses {@link #PRINCIPAL_NAME_INDEX_NAME} for the index name.
+	 * @param principalName the principal name
+	 * @return the metadata of all sessions that contain the specified principal name
+	 * @since 3.5
+	 */
+	default Flux<SessionMetadata> findSessionMetadataByPrincipalName(String principalName) {
+		return findSessionMetadataByIndexNameAndIndexValue(PRINCIPAL_NAME_INDEX_NAME, principalName);
+	}
+
+	/**
+	 * Delete all sessions that contain the specified index name and index value.
+	 * Implementations that support session events still publish a
+	 * {@link org.springframework.session.events.SessionDeletedEvent} for each of them.
+	 *
+	 * <p>
+	 * If this repository is a {@link ReactiveSessionRepository}, the default
+	 * implementation deletes the sessions found by
+	 * {@link #findByIndexNameAndIndexValue(String, String)} through
+	 * {@link ReactiveSessionRepository#deleteByIds(java.util.Collection)}, otherwise it
+	 * signals an {@link UnsupportedOperationException}. Implementations are encouraged to
+	 * override it and delete the sessions without loading them.
+	 * </p>
+	 * @param indexName the name of the index (i.e. {@link #PRINCIPAL_NAME_INDEX_NAME})
+	 * @param indexValue the value of the index to search for
+	 * @return a {@link Mono} that completes once the sessions are deleted
+	 * @since 3.5
+	 */
+	default Mono<Void> deleteByIndexNameAndIndexValue(String indexName, String indexValue) {
+		if (!(this instanceof ReactiveSessionRepository<?> repository)) {
+			return Mono.error(() -> new UnsupportedOperationException(
+					getClass().getName() + " does not support deleting sessions by index name and index value"));
+		}
+		return findByIndexNameAndIndexValue(indexName, indexValue)
+			.flatMap((sessions) -> repository.deleteByIds(sessions.keySet()));
+	}
+
+	/**
+	 * A shortcut for {@link #deleteByIndexNameAndIndexValue(String, String)} that uses
+	 * {@link #PRINCIPAL_NAME_INDEX_NAME} for the index name.
+	 * @param principalName the principal name
+	 * @return a {@link Mono} that completes once the sessions are deleted
+	 * @since 3.5
+	 */
+	default Mono<Void> deleteByPrincipalName(String principalName) {
+		return deleteByIndexNameAndIndexValue(PRINCIPAL_NAME_INDEX_NAME, principalName);
+	}
+
 }
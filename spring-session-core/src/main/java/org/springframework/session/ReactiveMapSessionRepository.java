@@ -17,11 +17,13 @@
 package org.springframework.session;
 
 import java.time.Duration;
+import java.time.Instant;
 import java.util.Map;
 
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.session.events.SessionDeletedEvent;
 import org.springframework.session.events.SessionExpiredEvent;
 import org.springframework.util.Assert;
@@ -30,11 +32,22 @@ import org.springframework.util.Assert;
  * A {@link ReactiveSessionRepository} backed by a {@link Map} and that uses a
  * {@link MapSession}. The injected {@link java.util.Map} can be backed by a distributed
  * NoSQL store like Hazelcast, for instance. Note that the supplied map must be a
- * non-blocking map, and is itself responsible for purging the expired sessions.
+ * non-blocking map.
  *
  * <p>
- * The implementation does NOT support firing {@link SessionDeletedEvent} or
- * {@link SessionExpiredEvent}.
+ * {@link #cleanUpExpiredSessions()} removes the sessions that expired in time
+ * proportional to their number. It is not invoked automatically; a
+ * {@link SessionExpirationSweeper} can invoke it periodically. Its first invocation
+ * indexes the sessions of the map by expiration time, and from then on the sessions saved
+ * through this repository are kept in that index, so that no index is maintained unless
+ * expired sessions are cleaned up. Otherwise, or for sessions placed in the supplied map
+ * directly afterwards, the map itself is responsible for purging the expired sessions.
+ * </p>
+ *
+ * <p>
+ * The implementation fires a {@link SessionExpiredEvent} for each session removed by
+ * {@link #cleanUpExpiredSessions()} if an {@link ApplicationEventPublisher} is
+ * configured. It does NOT support firing {@link SessionDeletedEvent}.
  * </p>
  *
  * @author Rob Winch
@@ -49,6 +62,12 @@ public class ReactiveMapSessionRepository implements ReactiveSessionRepository<M
 
 	private SessionIdGenerator sessionIdGenerator = UuidSessionIdGenerator.getInstance();
 
+	private final SessionExpirationWheel expirations = new SessionExpirationWheel(Duration.ofSeconds(1), Instant.now());
+
+	private ApplicationEventPublisher eventPublisher;
+
+	private volatile boolean expirationsIndexed;
+
 	/**
 	 * Creates a new instance backed by the provided {@link Map}. This allows injecting a
 	 * distributed {@link Map}.
@@ -72,13 +91,27 @@ public class ReactiveMapSessionRepository implements ReactiveSessionRepository<M
 		this.defaultMaxInactiveInterval = defaultMaxInactiveInterval;
 	}
 
+	/**
+	 * Set the {@link ApplicationEventPublisher} used to publish a
+	 * {@link SessionExpiredEvent} for each session removed by
+	 * {@link #cleanUpExpiredSessions()}. The default is {@code null}, which publishes no
+	 * events.
+	 * @param eventPublisher the event publisher to use
+	 * @since 3.5
+	 */
+	public void setApplicationEventPublisher(ApplicationEventPublisher eventPublisher) {
+		this.eventPublisher = eventPublisher;
+	}
+
 	@Override
 	public Mono<Void> save(MapSession session) {
 		return Mono.fromRunnable(() -> {
 			if (!session.getId().equals(session.getOriginalId())) {
 				this.sessions.remove(session.getOriginalId());
+				this.expirations.remove(session.getOriginalId());
 			}
 			this.sessions.put(session.getId(), new MapSession(session));
+			scheduleExpiration(session);
 		});
 	}
 
@@ -86,24 +119,69 @@ public class ReactiveMapSessionRepository implements ReactiveSessionRepository<M
 	public Mono<MapSession> findById(String id) {
 		// @formatter:off
 		return Mono.defer(() -> Mono.justOrEmpty(this.sessions.get(id))
-				.filter((session) -> !session.isExpired())
-				.map(MapSession::new)
-				.doOnNext((session) -> session.setSessionIdGenerator(this.sessionIdGenerator))
-				.switchIfEmpty(deleteById(id).then(Mono.empty())));
+				.flatMap((session) -> session.isExpired()
+						? deleteById(id).then(Mono.<MapSession>empty())
+						: Mono.just(new MapSession(session)))
+				.doOnNext((session) -> session.setSessionIdGenerator(this.sessionIdGenerator)));
 		// @formatter:on
 	}
 
 	@Override
 	public Mono<Void> deleteById(String id) {
-		return Mono.fromRunnable(() -> this.sessions.remove(id));
+		return Mono.fromRunnable(() -> {
+			this.sessions.remove(id);
+			this.expirations.remove(id);
+		});
+	}
+
+	/**
+	 * Remove the sessions saved through this repository that have expired, publishing a
+	 * {@link SessionExpiredEvent} for each of them if an event publisher is configured. A
+	 * session that was updated in the supplied map by other means and is no longer
+	 * expired is kept. The first invocation indexes all the sessions of the map, later
+	 * invocations only visit the expired ones.
+	 * @since 3.5
+	 */
+	public void cleanUpExpiredSessions() {
+		if (!this.expirationsIndexed) {
+			this.expirationsIndexed = true;
+			this.sessions.values().forEach(this::scheduleExpiration);
+		}
+		for (String id : this.expirations.expire(Instant.now())) {
+			Session session = this.sessions.get(id);
+			if (session == null) {
+				continue;
+			}
+			if (!session.isExpired()) {
+				scheduleExpiration(session);
+			}
+			else if (this.sessions.remove(id, session) && this.eventPublisher != null) {
+				this.eventPublisher.publishEvent(new SessionExpiredEvent(this, session));
+			}
+		}
+	}
+
+	private void scheduleExpiration(Session session) {
+		if (!this.expirationsIndexed) {
+			return;
+		}
+		if (session.getMaxInactiveInterval().isNegative()) {
+			this.expirations.remove(session.getId());
+		}
+		else {
+			this.expirations.schedule(session.getId(),
+					session.getLastAccessedTime().plus(session.getMaxInactiveInterval()));
+		}
 	}
 
 	@Override
 	public Mono<MapSession> createSession() {
+		Mono<String> generatedId = Mono.fromSupplier(() -> this.sessionIdGenerator.generate());
+		if (this.sessionIdGenerator.isBlocking()) {
+			generatedId = generatedId.subscribeOn(Schedulers.boundedElastic()).publishOn(Schedulers.parallel());
+		}
 		// @formatter:off
-		return Mono.fromSupplier(() -> this.sessionIdGenerator.generate())
-				.subscribeOn(Schedulers.boundedElastic())
-				.publishOn(Schedulers.parallel())
+		return generatedId
 				.map((sessionId) -> {
 					MapSession result = new MapSession(sessionId);
 					result.setMaxInactiveInterval(this.defaultMaxInactiveInterval);
@@ -16,8 +16,13 @@
 
 package org.springframework.session;
 
+import java.util.Collection;
+
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
+import org.springframework.util.Assert;
+
 /**
  * A repository interface for managing {@link Session} instances.
  *
@@ -72,4 +77,56 @@ public interface ReactiveSessionRepository<S extends Session> {
 	 */
 	Mono<Void> deleteById(String id);
 
+	/**
+	 * Gets the {@link Session}s with the given {@link Session#getId()}s. Ids for which no
+	 * {@link Session} is found are skipped.
+	 *
+	 * <p>
+	 * The default implementation subscribes to {@link #findById(String)} for each id
+	 * concurrently. Implementations are encouraged to override it and load all sessions
+	 * in a single round trip to the underlying store.
+	 * </p>
+	 * @param ids the {@link Session#getId()}s to lookup
+	 * @return the {@link Session}s that were found
+	 * @since 3.5
+	 */
+	default Flux<S> findByIds(Collection<String> ids) {
+		Assert.notNull(ids, "ids must not be null");
+		return Flux.fromIterable(ids).flatMapSequential(this::findById);
+	}
+
+	/**
+	 * Deletes the {@link Session}s with the given {@link Session#getId()}s. Ids for which
+	 * no {@link Session} is found are ignored.
+	 *
+	 * <p>
+	 * The default implementation subscribes to {@link #deleteById(String)} for each id
+	 * concurrently. Implementations are encouraged to override it and delete all sessions
+	 * in a single round trip to the underlying store.
+	 * </p>
+	 * @param ids the {@link Session#getId()}s to delete
+	 * @return indicator of operation completion
+	 * @since 3.5
+	 */
+	default Mono<Void> deleteByIds(Collection<String> ids) {
+		Assert.notNull(ids, "ids must not be null");
+		return Flux.fromIterable(ids).flatMap(this::deleteById).then();
+	}
+
+	/**
+	 * Ensures all the given {@link Session}s are saved.
+	 *
+	 * <p>
+	 * The default implementation subscribes to {@link #save(Session)} for each session
+	 * concurrently.
+	 * </p>
+	 * @param sessions the {@link Session}s to save
+	 * @return indicator of operation completion
+	 * @since 3.5
+	 */
+	default Mono<Void> saveAll(Collection<S> sessions) {
+		Assert.notNull(sessions, "sessions must not be null");
+		return Flux.fromIterable(sessions).flatMap(this::save).then();
+	}
+
 }
@@ -0,0 +1,110 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.util.Collection;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link ReactiveSessionRepository} that coalesces concurrent {@link #findById(String)}
+ * calls for the same session id into a single lookup on the delegate repository.
+ * <p>
+ * Every subscriber receives its own copy of the session returned by the delegate, created
+ * with the configured {@link SessionCopier} from a snapshot that is never handed out.
+ * Saving or deleting a session makes subsequent lookups of its id start a new lookup
+ * rather than join one already in flight.
+ *
+ * @param <S> the {@link Session} type
+ * @author Spring Session Team
+ * @since 3.5
+ * @see SingleFlightSessionRepository
+ */
+public class ReactiveSingleFlightSessionRepository<S extends Session> implements ReactiveSessionRepository<S> {
+
+	private final ReactiveSessionRepository<S> delegate;
+
+	private final SessionCopier<S> sessionCopier;
+
+	private final ConcurrentHashMap<String, Mono<S>> lookups = new ConcurrentHashMap<>();
+
+	/**
+	 * Create a new instance.
+	 * @param delegate the repository to delegate to
+	 * @param sessionCopier the {@link SessionCopier} used to create an independent copy
+	 * of a session
+	 */
+	public ReactiveSingleFlightSessionRepository(ReactiveSessionRepository<S> delegate,
+			SessionCopier<S> sessionCopier) {
+		Assert.notNull(delegate, "delegate cannot be null");
+		Assert.notNull(sessionCopier, "sessionCopier cannot be null");
+		this.delegate = delegate;
+		this.sessionCopier = sessionCopier;
+	}
+
+	@Override
+	public Mono<S> createSession() {
+		return this.delegate.createSession();
+	}
+
+	@Override
+	public Mono<Void> save(S session) {
+		return this.delegate.save(session).doOnSuccess((unused) -> this.lookups.remove(session.getId()));
+	}
+
+	@Override
+	public Mono<S> findById(String id) {
+		return Mono.defer(() -> this.lookups.computeIfAbsent(id, this::lookup)).map(this.sessionCopier::copy);
+	}
+
+	@Override
+	public Mono<Void> deleteById(String id) {
+		return this.delegate.deleteById(id).doOnSuccess((unused) -> this.lookups.remove(id));
+	}
+
+	@Override
+	public Flux<S> findByIds(Collection<String> ids) {
+		return this.delegate.findByIds(ids);
+	}
+
+	@Override
+	public Mono<Void> deleteByIds(Collection<String> ids) {
+		return this.delegate.deleteByIds(ids).doOnSuccess((unused) -> ids.forEach(this.lookups::remove));
+	}
+
+	@Override
+	public Mono<Void> saveAll(Collection<S> sessions) {
+		return this.delegate.saveAll(sessions)
+			.doOnSuccess((unused) -> sessions.forEach((session) -> this.lookups.remove(session.getId())));
+	}
+
+	private Mono<S> lookup(String id) {
+		AtomicReference<Mono<S>> self = new AtomicReference<>();
+		Mono<S> lookup = this.delegate.findById(id)
+			.map(this.sessionCopier::copy)
+			.doFinally((signal) -> this.lookups.remove(id, self.get()))
+			.cache();
+		self.set(lookup);
+		return lookup;
+	}
+
+}
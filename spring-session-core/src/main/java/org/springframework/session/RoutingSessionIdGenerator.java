@@ -0,0 +1,186 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.lang.NonNull;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link SessionIdGenerator} that embeds an integrity protected routing token in the
+ * session ids, so that the store or node owning a session can be determined from its id
+ * alone.
+ * <p>
+ * A generated id has the form {@code <random>.<route>.<mac>}, where {@code <random>} is
+ * generated by the delegate {@link SessionIdGenerator}, {@code <route>} is obtained from
+ * the route supplier when the id is generated, and {@code <mac>} is a truncated
+ * HMAC-SHA256 of the two. The route is a short string of letters, digits, {@code '-'} and
+ * {@code '_'}, for instance the index of the shard holding the session ({@code 7}) or the
+ * owner node and its epoch ({@code node1-42}). Load balancers can route on it directly,
+ * and {@link #resolveRoute(String)} returns it to partitioned repositories after
+ * verifying that it was not tampered with.
+ * <p>
+ * A generated id is 13 characters longer than the random part and the route together, for
+ * instance 36 characters for the 22 characters of a
+ * {@link SecureRandomSessionIdGenerator} id of 128 bits and a route of a single
+ * character. Stores limiting the length of the ids, such as the
+ * {@code SESSION_ID CHAR(36)} column of the JDBC schema scripts, must be widened
+ * accordingly, and {@link #setMaxIdLength(int)} makes the generation of longer ids fail
+ * instead of their storage.
+ * <p>
+ * All nodes resolving the routes of each other's ids must share the same key.
+ *
+ * @author Spring Session Team
+ * @since 3.5
+ */
+public final class RoutingSessionIdGenerator implements SessionIdGenerator {
+
+	private static final Pattern ROUTE_PATTERN = Pattern.compile("[A-Za-z0-9_-]{1,64}");
+
+	private static final String MAC_ALGORITHM = "HmacSHA256";
+
+	private static final int MAC_LENGTH = 8;
+
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+	private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+	private final SessionIdGenerator delegate;
+
+	private final Supplier<String> routeSupplier;
+
+	private final Mac mac;
+
+	private int maxIdLength = Integer.MAX_VALUE;
+
+	/**
+	 * Create a new instance using a {@link SecureRandomSessionIdGenerator} for the random
+	 * part of the ids.
+	 * @param routeSupplier the supplier of the route of newly generated ids
+	 * @param key the key of the HMAC protecting the routes, of at least 16 bytes
+	 */
+	public RoutingSessionIdGenerator(Supplier<String> routeSupplier, byte[] key) {
+		this(new SecureRandomSessionIdGenerator(), routeSupplier, key);
+	}
+
+	/**
+	 * Create a new instance.
+	 * @param delegate the generator of the random part of the ids, which must not contain
+	 * {@code '.'}
+	 * @param routeSupplier the supplier of the route of newly generated ids
+	 * @param key the key of the HMAC protecting the routes, of at least 16 bytes
+	 */
+	public RoutingSessionIdGenerator(SessionIdGenerator delegate, Supplier<String> routeSupplier, byte[] key) {
+		Assert.notNull(delegate, "delegate cannot be null");
+		Assert.notNull(routeSupplier, "routeSupplier cannot be null");
+		Assert.isTrue(key != null && key.length >= 16, "key must have at least 16 bytes");
+		this.delegate = delegate;
+		this.routeSupplier = routeSupplier;
+		try {
+			this.mac = Mac.getInstance(MAC_ALGORITHM);
+			this.mac.init(new SecretKeySpec(key.clone(), MAC_ALGORITHM));
+		}
+		catch (GeneralSecurityException ex) {
+			throw new IllegalStateException("Unable to initialize " + MAC_ALGORITHM, ex);
+		}
+	}
+
+	/**
+	 * Set the maximum length of the generated ids, typically the length of the column
+	 * storing them. Generating a longer id fails with an {@link IllegalStateException}.
+	 * The default is no limit.
+	 * @param maxIdLength the maximum length of the generated ids
+	 */
+	public void setMaxIdLength(int maxIdLength) {
+		Assert.isTrue(maxIdLength > 0, "maxIdLength must be positive");
+		this.maxIdLength = maxIdLength;
+	}
+
+	@Override
+	@NonNull
+	public String generate() {
+		String random = this.delegate.generate();
+		Assert.state(random.indexOf('.') < 0, () -> "Delegate generated an id containing '.': " + random);
+		String route = this.routeSupplier.get();
+		Assert.state(route != null && ROUTE_PATTERN.matcher(route).matches(), () -> "Invalid route " + route);
+		String payload = random + "." + route;
+		String id = payload + "." + ENCODER.encodeToString(mac(payload));
+		Assert.state(id.length() <= this.maxIdLength,
+				() -> "Generated id of " + id.length() + " characters exceeds maxIdLength " + this.maxIdLength);
+		return id;
+	}
+
+	@Override
+	public boolean isBlocking() {
+		return this.delegate.isBlocking();
+	}
+
+	/**
+	 * Return the route embedded in the given session id.
+	 * @param sessionId the session id
+	 * @return the route, or {@code null} if the id carries no route or its route does not
+	 * match its MAC
+	 */
+	@Nullable
+	public String resolveRoute(String sessionId) {
+		if (sessionId == null) {
+			return null;
+		}
+		int macSeparator = sessionId.lastIndexOf('.');
+		int routeSeparator = (macSeparator > 0) ? sessionId.lastIndexOf('.', macSeparator - 1) : -1;
+		if (routeSeparator <= 0) {
+			return null;
+		}
+		String payload = sessionId.substring(0, macSeparator);
+		byte[] actual;
+		try {
+			actual = DECODER.decode(sessionId.substring(macSeparator + 1));
+		}
+		catch (IllegalArgumentException ex) {
+			return null;
+		}
+		if (!MessageDigest.isEqual(mac(payload), actual)) {
+			return null;
+		}
+		return payload.substring(routeSeparator + 1);
+	}
+
+	private byte[] mac(String payload) {
+		Mac mac;
+		try {
+			mac = (Mac) this.mac.clone();
+		}
+		catch (CloneNotSupportedException ex) {
+			synchronized (this.mac) {
+				return Arrays.copyOf(this.mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)), MAC_LENGTH);
+			}
+		}
+		return Arrays.copyOf(mac.doFinal(payload.getBytes(StandardCharsets.UTF_8)), MAC_LENGTH);
+	}
+
+}
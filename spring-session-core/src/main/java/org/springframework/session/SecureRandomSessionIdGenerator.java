@@ -0,0 +1,179 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.security.DrbgParameters;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.function.Supplier;
+
+import org.springframework.lang.NonNull;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link SessionIdGenerator} that generates base64url encoded ids from the output of
+ * {@link SecureRandom} instances, without contending for a shared instance.
+ * <p>
+ * {@link UuidSessionIdGenerator} draws from a single, shared {@link SecureRandom}. This
+ * generator instead keeps a small number of independent {@link SecureRandom} instances,
+ * by default DRBG instances created and seeded once each when the generator is created,
+ * and selects one of them from the id of the current thread. Each instance fills a buffer
+ * with the bytes of several ids at once. Generating an id therefore neither blocks nor
+ * contends across cores, and {@link #isBlocking()} returns {@code false} so that reactive
+ * session repositories can create sessions without switching threads.
+ * <p>
+ * Optionally, every instance can be {@link SecureRandom#reseed() reseeded} after having
+ * generated a given number of ids, see {@link #setReseedInterval(int)}. Since reseeding
+ * may block while gathering entropy, {@link #isBlocking()} then returns {@code true}.
+ * <p>
+ * The ids are URL-safe Base64 encoded, so an id of 128 bits has 22 characters and an id
+ * of 256 bits has 43 characters, which exceeds the {@code SESSION_ID CHAR(36)} column of
+ * the JDBC schema scripts.
+ *
+ * @author Spring Session Team
+ * @since 3.5
+ */
+public final class SecureRandomSessionIdGenerator implements SessionIdGenerator {
+
+	/**
+	 * The default number of random bits of a session id.
+	 */
+	public static final int DEFAULT_ID_BITS = 128;
+
+	private static final int IDS_PER_BUFFER = 16;
+
+	private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+	private final int idLength;
+
+	private final Source[] sources;
+
+	private volatile int reseedInterval;
+
+	/**
+	 * Create a new instance generating ids of {@link #DEFAULT_ID_BITS} random bits from
+	 * DRBG instances.
+	 */
+	public SecureRandomSessionIdGenerator() {
+		this(DEFAULT_ID_BITS);
+	}
+
+	/**
+	 * Create a new instance generating ids of the given number of random bits from DRBG
+	 * instances.
+	 * @param idBits the number of random bits of an id, a multiple of 8 between 128 and
+	 * 256
+	 */
+	public SecureRandomSessionIdGenerator(int idBits) {
+		this(idBits, SecureRandomSessionIdGenerator::createDrbg);
+	}
+
+	/**
+	 * Create a new instance generating ids of the given number of random bits from
+	 * {@link SecureRandom} instances created by the given factory.
+	 * @param idBits the number of random bits of an id, a multiple of 8 between 128 and
+	 * 256
+	 * @param secureRandomFactory the factory creating the {@link SecureRandom} instances,
+	 * which must not block once created
+	 */
+	public SecureRandomSessionIdGenerator(int idBits, Supplier<SecureRandom> secureRandomFactory) {
+		Assert.isTrue(idBits >= 128 && idBits <= 256 && idBits % 8 == 0,
+				"idBits must be a multiple of 8 between 128 and 256");
+		Assert.notNull(secureRandomFactory, "secureRandomFactory cannot be null");
+		this.idLength = idBits / 8;
+		int stripes = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1)) << 1;
+		this.sources = new Source[stripes];
+		for (int i = 0; i < stripes; i++) {
+			this.sources[i] = new Source(secureRandomFactory, this.idLength * IDS_PER_BUFFER);
+		}
+	}
+
+	/**
+	 * Set the number of ids each {@link SecureRandom} instance generates before it is
+	 * reseeded from the entropy source of its provider. The bytes buffered before a
+	 * reseed are discarded, so that every id generated after a reseed depends on it. The
+	 * default is {@code 0}, which never reseeds.
+	 * @param reseedInterval the number of ids between reseeds, or {@code 0}
+	 */
+	public void setReseedInterval(int reseedInterval) {
+		Assert.isTrue(reseedInterval >= 0, "reseedInterval cannot be negative");
+		this.reseedInterval = reseedInterval;
+	}
+
+	@Override
+	@NonNull
+	public String generate() {
+		Source source = this.sources[(int) Thread.currentThread().getId() & (this.sources.length - 1)];
+		byte[] id = new byte[this.idLength];
+		source.next(id, this.reseedInterval);
+		return ENCODER.encodeToString(id);
+	}
+
+	@Override
+	public boolean isBlocking() {
+		return this.reseedInterval > 0;
+	}
+
+	private static SecureRandom createDrbg() {
+		try {
+			return SecureRandom.getInstance("DRBG",
+					DrbgParameters.instantiation(256, DrbgParameters.Capability.RESEED_ONLY, null));
+		}
+		catch (NoSuchAlgorithmException ex) {
+			return new SecureRandom();
+		}
+	}
+
+	/**
+	 * A {@link SecureRandom} instance along with a buffer of its output.
+	 */
+	private static final class Source {
+
+		private final SecureRandom secureRandom;
+
+		private final byte[] buffer;
+
+		private int position;
+
+		private int generated;
+
+		private Source(Supplier<SecureRandom> factory, int bufferLength) {
+			this.secureRandom = factory.get();
+			Assert.state(this.secureRandom != null, "secureRandomFactory returned null");
+			this.buffer = new byte[bufferLength];
+			this.secureRandom.nextBytes(this.buffer);
+		}
+
+		private synchronized void next(byte[] id, int reseedInterval) {
+			if (reseedInterval > 0 && this.generated >= reseedInterval) {
+				this.secureRandom.reseed();
+				this.generated = 0;
+				this.position = this.buffer.length;
+			}
+			if (this.position + id.length > this.buffer.length) {
+				this.secureRandom.nextBytes(this.buffer);
+				this.position = 0;
+			}
+			System.arraycopy(this.buffer, this.position, id, 0, id.length);
+			this.position += id.length;
+			this.generated++;
+		}
+
+	}
+
+}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.util.function.Consumer;
+
+/**
+ * A channel used by {@link CachingSessionRepository} instances running on different nodes
+ * to notify each other that a session has been modified or deleted, so that any locally
+ * cached copy can be discarded.
+ *
+ * <p>
+ * Implementations must not deliver invalidations back to the node that published them.
+ * </p>
+ *
+ * @author Spring Session Team
+ * @since 3.5
+ * @see CachingSessionRepository
+ * @see LocalSessionCacheInvalidationChannel
+ */
+public interface SessionCacheInvalidationChannel {
+
+	/**
+	 * Notify the other nodes that the session with the given id has changed.
+	 * @param sessionId the id of the session that changed
+	 */
+	void publish(String sessionId);
+
+	/**
+	 * Register a listener that is invoked with the id of every session changed by another
+	 * node.
+	 * @param listener the listener to register
+	 */
+	void subscribe(Consumer<String> listener);
+
+}
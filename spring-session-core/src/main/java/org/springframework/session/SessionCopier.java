@@ -0,0 +1,51 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+/**
+ * Creates independent copies of the sessions returned by a repository, allowing a single
+ * loaded session to be handed out to several callers, as done by
+ * {@link SingleFlightSessionRepository} and
+ * {@link ReactiveSingleFlightSessionRepository}.
+ *
+ * <p>
+ * The copy must behave as if it had been loaded from the store: it has no pending changes
+ * and can be modified and saved without affecting the original. Attribute values loaded
+ * as a {@link LazySessionAttribute} are not shared, other attribute values may be. For
+ * {@link MapSession} based repositories the copier is {@code MapSession::new}.
+ * </p>
+ *
+ * <p>
+ * Repositories expose their copier by implementing {@link SessionCopierProvider}.
+ * </p>
+ *
+ * @param <S> the {@link Session} type
+ * @author Spring Session Team
+ * @since 3.5
+ */
+@FunctionalInterface
+public interface SessionCopier<S extends Session> {
+
+	/**
+	 * Create a copy of the given session, which was loaded from the store and not
+	 * modified.
+	 * @param session the session to copy
+	 * @return the copy
+	 */
+	S copy(S session);
+
+}
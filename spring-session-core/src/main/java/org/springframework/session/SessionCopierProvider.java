@@ -0,0 +1,40 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+/**
+ * Implemented by a {@link SessionRepository} or {@link ReactiveSessionRepository} that
+ * can copy the sessions it returns. The Spring Session configuration uses the copier of
+ * the repository to coalesce concurrent lookups of the same session id, so the copier
+ * always matches the session type of the repository it is applied to.
+ *
+ * @param <S> the {@link Session} type
+ * @author Spring Session Team
+ * @since 3.5
+ * @see SingleFlightSessionRepository
+ * @see ReactiveSingleFlightSessionRepository
+ */
+public interface SessionCopierProvider<S extends Session> {
+
+	/**
+	 * Return the {@link SessionCopier} creating independent copies of the sessions loaded
+	 * by this repository.
+	 * @return the session copier
+	 */
+	SessionCopier<S> getSessionCopier();
+
+}
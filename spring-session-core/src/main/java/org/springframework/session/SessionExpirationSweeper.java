@@ -0,0 +1,82 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.util.Assert;
+
+/**
+ * Periodically runs a clean-up task, such as
+ * {@link MapSessionRepository#cleanUpExpiredSessions()}, on a dedicated daemon thread
+ * until it is {@link #close() closed}. For example:
+ *
+ * <pre class="code">
+ * &#64;Bean
+ * SessionExpirationSweeper sessionExpirationSweeper(MapSessionRepository sessionRepository) {
+ *     return new SessionExpirationSweeper(sessionRepository::cleanUpExpiredSessions, Duration.ofSeconds(1));
+ * }
+ * </pre>
+ *
+ * @author Spring Session Team
+ * @since 3.5
+ */
+public final class SessionExpirationSweeper implements AutoCloseable {
+
+	private static final Log logger = LogFactory.getLog(SessionExpirationSweeper.class);
+
+	private final ScheduledExecutorService executor;
+
+	/**
+	 * Create a new instance and start running the clean-up task.
+	 * @param cleanUpTask the task that removes expired sessions
+	 * @param interval the interval between two runs of the task
+	 */
+	public SessionExpirationSweeper(Runnable cleanUpTask, Duration interval) {
+		Assert.notNull(cleanUpTask, "cleanUpTask cannot be null");
+		Assert.notNull(interval, "interval cannot be null");
+		Assert.isTrue(interval.toMillis() > 0, "interval must be at least one millisecond");
+		this.executor = Executors.newSingleThreadScheduledExecutor((runnable) -> {
+			Thread thread = new Thread(runnable, "spring-session-expiration-sweeper");
+			thread.setDaemon(true);
+			return thread;
+		});
+		this.executor.scheduleWithFixedDelay(() -> {
+			try {
+				cleanUpTask.run();
+			}
+			catch (RuntimeException ex) {
+				logger.error("Failed to clean up expired sessions", ex);
+			}
+		}, interval.toMillis(), interval.toMillis(), TimeUnit.MILLISECONDS);
+	}
+
+	/**
+	 * Stop running the clean-up task.
+	 */
+	@Override
+	public void close() {
+		this.executor.shutdownNow();
+	}
+
+}
@@ -0,0 +1,295 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.util.Assert;
+
+/**
+ * An index of session expiration times based on hierarchical timing wheels, used by the
+ * {@link Map} based repositories to find expired sessions without scanning all of them.
+ * <p>
+ * Sessions are spread over independently locked stripes by id, so that concurrent saves
+ * do not contend on a single lock. Each stripe is a wheel of four levels of 64 slots. A
+ * slot of the lowest level covers one tick, a slot of each higher level covers 64 slots
+ * of the level below. Sessions are placed in the lowest level that covers their
+ * expiration time and move down a level whenever the wheel reaches their slot, so
+ * scheduling, rescheduling and removing a session is constant time. The occupied slots of
+ * the lowest level are tracked in a bitmap so that {@link #expire(Instant)} skips the
+ * empty ticks in bulk, costing time proportional to the number of elapsed rotations of
+ * the lowest level and expired sessions.
+ *
+ * @author Spring Session Team
+ * @since 3.5
+ */
+final class SessionExpirationWheel {
+
+	private static final int SLOT_BITS = 6;
+
+	private static final int SLOTS = 1 << SLOT_BITS;
+
+	private static final int SLOT_MASK = SLOTS - 1;
+
+	private static final int LEVELS = 4;
+
+	private static final long RANGE = 1L << (SLOT_BITS * LEVELS);
+
+	private final long tickMillis;
+
+	private final Stripe[] stripes;
+
+	SessionExpirationWheel(Duration tickDuration, Instant start) {
+		Assert.isTrue(tickDuration.toMillis() > 0, "tickDuration must be at least one millisecond");
+		this.tickMillis = tickDuration.toMillis();
+		long startTick = start.toEpochMilli() / this.tickMillis;
+		int stripes = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() * 2 - 1));
+		this.stripes = new Stripe[stripes];
+		for (int i = 0; i < stripes; i++) {
+			this.stripes[i] = new Stripe(startTick);
+		}
+	}
+
+	/**
+	 * Schedule or reschedule the expiration of the given session.
+	 * @param sessionId the session id
+	 * @param expiresAt the time at which the session expires
+	 */
+	void schedule(String sessionId, Instant expiresAt) {
+		long deadline = Math.floorDiv(expiresAt.toEpochMilli() + this.tickMillis - 1, this.tickMillis);
+		stripe(sessionId).schedule(sessionId, deadline);
+	}
+
+	/**
+	 * Remove the given session from the index.
+	 * @param sessionId the session id
+	 */
+	void remove(String sessionId) {
+		stripe(sessionId).remove(sessionId);
+	}
+
+	/**
+	 * Advance the wheel to the given time and remove the sessions that expired.
+	 * @param now the current time
+	 * @return the ids of the sessions that expired
+	 */
+	List<String> expire(Instant now) {
+		long targetTick = now.toEpochMilli() / this.tickMillis;
+		List<String> expired = new ArrayList<>();
+		for (Stripe stripe : this.stripes) {
+			stripe.expire(targetTick, expired);
+		}
+		return expired;
+	}
+
+	/**
+	 * Return the number of indexed sessions.
+	 * @return the number of indexed sessions
+	 */
+	int size() {
+		int size = 0;
+		for (Stripe stripe : this.stripes) {
+			size += stripe.size();
+		}
+		return size;
+	}
+
+	private Stripe stripe(String sessionId) {
+		int hash = sessionId.hashCode();
+		return this.stripes[(hash ^ (hash >>> 16)) & (this.stripes.length - 1)];
+	}
+
+	private static final class Stripe {
+
+		private final List<List<Set<String>>> wheel = new ArrayList<>(LEVELS);
+
+		private final Set<String> overdue = new LinkedHashSet<>();
+
+		private final Map<String, Entry> entries = new HashMap<>();
+
+		private long currentTick;
+
+		private long occupied;
+
+		private boolean cascading;
+
+		private Stripe(long startTick) {
+			this.currentTick = startTick;
+			for (int level = 0; level < LEVELS; level++) {
+				List<Set<String>> slots = new ArrayList<>(SLOTS);
+				for (int slot = 0; slot < SLOTS; slot++) {
+					slots.add(new LinkedHashSet<>());
+				}
+				this.wheel.add(slots);
+			}
+		}
+
+		synchronized void schedule(String sessionId, long deadline) {
+			Entry entry = this.entries.get(sessionId);
+			if (entry != null) {
+				if (entry.deadline == deadline) {
+					return;
+				}
+				unlink(sessionId, entry);
+			}
+			else {
+				entry = new Entry();
+				this.entries.put(sessionId, entry);
+			}
+			entry.deadline = deadline;
+			place(sessionId, entry);
+		}
+
+		synchronized void remove(String sessionId) {
+			Entry entry = this.entries.remove(sessionId);
+			if (entry != null) {
+				unlink(sessionId, entry);
+			}
+		}
+
+		synchronized void expire(long targetTick, List<String> expired) {
+			expired.addAll(this.overdue);
+			this.overdue.forEach(this.entries::remove);
+			this.overdue.clear();
+			if (this.entries.isEmpty()) {
+				this.currentTick = Math.max(this.currentTick, targetTick);
+				return;
+			}
+			if (targetTick - this.currentTick >= RANGE) {
+				rebuild(targetTick, expired);
+				return;
+			}
+			while (this.currentTick < targetTick) {
+				this.currentTick = nextTick(targetTick);
+				if ((this.currentTick & SLOT_MASK) == 0) {
+					for (int level = LEVELS - 1; level > 0; level--) {
+						if ((this.currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+							cascade(slot(level, this.currentTick));
+						}
+					}
+				}
+				Set<String> due = slot(0, this.currentTick);
+				if (!due.isEmpty()) {
+					for (String sessionId : due) {
+						this.entries.remove(sessionId);
+						expired.add(sessionId);
+					}
+					due.clear();
+					this.occupied &= ~(1L << (this.currentTick & SLOT_MASK));
+				}
+			}
+		}
+
+		synchronized int size() {
+			return this.entries.size();
+		}
+
+		/**
+		 * Return the next tick, up to the given one, at which a slot of the lowest level
+		 * is due or the higher levels cascade.
+		 * @param targetTick the tick to advance to
+		 * @return the next tick to process
+		 */
+		private long nextTick(long targetTick) {
+			int index = (int) (this.currentTick & SLOT_MASK);
+			long pending = (index < SLOT_MASK) ? (this.occupied & (-1L << (index + 1))) : 0;
+			long next = (pending != 0) ? this.currentTick - index + Long.numberOfTrailingZeros(pending)
+					: (this.currentTick | SLOT_MASK) + 1;
+			return Math.min(next, targetTick);
+		}
+
+		private void cascade(Set<String> slot) {
+			List<String> sessionIds = new ArrayList<>(slot);
+			slot.clear();
+			this.cascading = true;
+			for (String sessionId : sessionIds) {
+				place(sessionId, this.entries.get(sessionId));
+			}
+			this.cascading = false;
+		}
+
+		private void rebuild(long targetTick, List<String> expired) {
+			this.wheel.forEach((slots) -> slots.forEach(Set::clear));
+			this.occupied = 0;
+			this.currentTick = targetTick;
+			this.entries.entrySet().removeIf((e) -> {
+				if (e.getValue().deadline <= targetTick) {
+					expired.add(e.getKey());
+					return true;
+				}
+				return false;
+			});
+			this.entries.forEach(this::place);
+		}
+
+		private void place(String sessionId, Entry entry) {
+			long delta = entry.deadline - this.currentTick;
+			if (delta < 0 || (delta == 0 && !this.cascading)) {
+				// due now and not cascading: its slot has already been processed
+				this.overdue.add(sessionId);
+				entry.level = -1;
+				return;
+			}
+			long deadline = Math.min(entry.deadline, this.currentTick + RANGE - 1);
+			int level = 0;
+			while (level < LEVELS - 1 && (deadline - this.currentTick) >= (1L << (SLOT_BITS * (level + 1)))) {
+				level++;
+			}
+			slot(level, deadline).add(sessionId);
+			entry.level = level;
+			entry.slotTick = deadline;
+			if (level == 0) {
+				this.occupied |= 1L << (deadline & SLOT_MASK);
+			}
+		}
+
+		private void unlink(String sessionId, Entry entry) {
+			if (entry.level < 0) {
+				this.overdue.remove(sessionId);
+				return;
+			}
+			Set<String> slot = slot(entry.level, entry.slotTick);
+			slot.remove(sessionId);
+			if (entry.level == 0 && slot.isEmpty()) {
+				this.occupied &= ~(1L << (entry.slotTick & SLOT_MASK));
+			}
+		}
+
+		private Set<String> slot(int level, long tick) {
+			return this.wheel.get(level).get((int) ((tick >>> (SLOT_BITS * level)) & SLOT_MASK));
+		}
+
+	}
+
+	private static final class Entry {
+
+		private long deadline;
+
+		private int level;
+
+		private long slotTick;
+
+	}
+
+}
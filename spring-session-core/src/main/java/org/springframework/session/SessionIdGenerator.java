@@ -29,4 +29,15 @@ public interface SessionIdGenerator {
 	@NonNull
 	String generate();
 
+	/**
+	 * Whether {@link #generate()} may block the calling thread, for instance while
+	 * waiting for entropy. Reactive session repositories generate the ids of such
+	 * generators on a scheduler that allows blocking. The default is {@code true}.
+	 * @return whether generating an id may block
+	 * @since 3.5
+	 */
+	default boolean isBlocking() {
+		return true;
+	}
+
 }
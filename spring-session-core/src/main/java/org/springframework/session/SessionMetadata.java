@@ -0,0 +1,176 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A lightweight, read-only projection of a {@link Session} that holds its id, timestamps,
+ * principal name and attribute names, but none of its attribute values. Repositories that
+ * support it load this projection without reading or deserializing the attribute values,
+ * which makes listing the sessions of a principal cheap.
+ *
+ * @author Spring Session Team
+ * @since 3.5
+ * @see FindByIndexNameSessionRepository#findSessionMetadataByIndexNameAndIndexValue(String,
+ * String)
+ */
+public final class SessionMetadata implements Serializable {
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	private final String id;
+
+	private final Instant creationTime;
+
+	private final Instant lastAccessedTime;
+
+	private final Duration maxInactiveInterval;
+
+	@Nullable
+	private final String principalName;
+
+	private final Set<String> attributeNames;
+
+	/**
+	 * Create a new {@link SessionMetadata} instance.
+	 * @param id the session id
+	 * @param creationTime the time the session was created
+	 * @param lastAccessedTime the last time the session was accessed
+	 * @param maxInactiveInterval the maximum inactive interval of the session
+	 * @param principalName the name of the principal the session belongs to, or
+	 * {@code null} if unknown
+	 * @param attributeNames the names of the session attributes
+	 */
+	public SessionMetadata(String id, Instant creationTime, Instant lastAccessedTime, Duration maxInactiveInterval,
+			@Nullable String principalName, Set<String> attributeNames) {
+		Assert.notNull(id, "id must not be null");
+		Assert.notNull(creationTime, "creationTime must not be null");
+		Assert.notNull(lastAccessedTime, "lastAccessedTime must not be null");
+		Assert.notNull(maxInactiveInterval, "maxInactiveInterval must not be null");
+		Assert.notNull(attributeNames, "attributeNames must not be null");
+		this.id = id;
+		this.creationTime = creationTime;
+		this.lastAccessedTime = lastAccessedTime;
+		this.maxInactiveInterval = maxInactiveInterval;
+		this.principalName = principalName;
+		this.attributeNames = Collections.unmodifiableSet(new LinkedHashSet<>(attributeNames));
+	}
+
+	/**
+	 * Create a {@link SessionMetadata} from a fully loaded {@link Session}, resolving the
+	 * principal name the same way {@link PrincipalNameIndexResolver} does.
+	 * @param session the session
+	 * @return the metadata of the session
+	 */
+	public static SessionMetadata from(Session session) {
+		Assert.notNull(session, "session must not be null");
+		return from(session, new PrincipalNameIndexResolver<>().resolveIndexValueFor(session));
+	}
+
+	/**
+	 * Create a {@link SessionMetadata} from a fully loaded {@link Session} whose
+	 * principal name is already known.
+	 * @param session the session
+	 * @param principalName the name of the principal the session belongs to, or
+	 * {@code null} if unknown
+	 * @return the metadata of the session
+	 */
+	public static SessionMetadata from(Session session, @Nullable String principalName) {
+		Assert.notNull(session, "session must not be null");
+		return new SessionMetadata(session.getId(), session.getCreationTime(), session.getLastAccessedTime(),
+				session.getMaxInactiveInterval(), principalName, session.getAttributeNames());
+	}
+
+	/**
+	 * Return the session id.
+	 * @return the session id
+	 */
+	public String getId() {
+		return this.id;
+	}
+
+	/**
+	 * Return the time the session was created.
+	 * @return the creation time
+	 */
+	public Instant getCreationTime() {
+		return this.creationTime;
+	}
+
+	/**
+	 * Return the last time the session was accessed.
+	 * @return the last accessed time
+	 */
+	public Instant getLastAccessedTime() {
+		return this.lastAccessedTime;
+	}
+
+	/**
+	 * Return the maximum inactive interval of the session.
+	 * @return the maximum inactive interval
+	 */
+	public Duration getMaxInactiveInterval() {
+		return this.maxInactiveInterval;
+	}
+
+	/**
+	 * Return the name of the principal the session belongs to.
+	 * @return the principal name, or {@code null} if unknown
+	 */
+	@Nullable
+	public String getPrincipalName() {
+		return this.principalName;
+	}
+
+	/**
+	 * Return the names of the session attributes.
+	 * @return the attribute names, never {@code null}
+	 */
+	public Set<String> getAttributeNames() {
+		return this.attributeNames;
+	}
+
+	/**
+	 * Return whether the session had expired at the time it was loaded.
+	 * @return {@code true} if the session has expired
+	 * @see Session#isExpired()
+	 */
+	public boolean isExpired() {
+		if (this.maxInactiveInterval.isNegative()) {
+			return false;
+		}
+		return !Instant.now().minus(this.maxInactiveInterval).isBefore(this.lastAccessedTime);
+	}
+
+	@Override
+	public String toString() {
+		return "SessionMetadata [id=" + this.id + ", principalName=" + this.principalName + ", lastAccessedTime="
+				+ this.lastAccessedTime + "]";
+	}
+
+}
@@ -16,6 +16,12 @@
 
 package org.springframework.session;
 
+import java.util.Collection;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
+
 /**
  * A repository interface for managing {@link Session} instances.
  *
@@ -68,4 +74,65 @@ public interface SessionRepository<S extends Session> {
 	 */
 	void deleteById(String id);
 
+	/**
+	 * Gets the {@link Session}s with the given {@link Session#getId()}s. Ids for which no
+	 * {@link Session} is found are not present in the result.
+	 *
+	 * <p>
+	 * The default implementation invokes {@link #findById(String)} for each id.
+	 * Implementations are encouraged to override it and load all sessions in a single
+	 * round trip to the underlying store.
+	 * </p>
+	 * @param ids the {@link Session#getId()}s to lookup
+	 * @return a {@code Map} (never {@code null}) of the session id to the {@code Session}
+	 * of all sessions that were found
+	 * @since 3.5
+	 */
+	default Map<String, S> findByIds(Collection<String> ids) {
+		Assert.notNull(ids, "ids must not be null");
+		Map<String, S> sessions = CollectionUtils.newLinkedHashMap(ids.size());
+		for (String id : ids) {
+			S session = findById(id);
+			if (session != null) {
+				sessions.put(id, session);
+			}
+		}
+		return sessions;
+	}
+
+	/**
+	 * Deletes the {@link Session}s with the given {@link Session#getId()}s. Ids for which
+	 * no {@link Session} is found are ignored.
+	 *
+	 * <p>
+	 * The default implementation invokes {@link #deleteById(String)} for each id.
+	 * Implementations are encouraged to override it and delete all sessions in a single
+	 * round trip to the underlying store.
+	 * </p>
+	 * @param ids the {@link Session#getId()}s to delete
+	 * @since 3.5
+	 */
+	default void deleteByIds(Collection<String> ids) {
+		Assert.notNull(ids, "ids must not be null");
+		for (String id : ids) {
+			deleteById(id);
+		}
+	}
+
+	/**
+	 * Ensures all the given {@link Session}s are saved.
+	 *
+	 * <p>
+	 * The default implementation invokes {@link #save(Session)} for each session.
+	 * </p>
+	 * @param sessions the {@link Session}s to save
+	 * @since 3.5
+	 */
+	default void saveAll(Collection<S> sessions) {
+		Assert.notNull(sessions, "sessions must not be null");
+		for (S session : sessions) {
+			save(session);
+		}
+	}
+
 }
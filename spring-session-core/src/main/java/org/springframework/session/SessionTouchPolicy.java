@@ -0,0 +1,93 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.springframework.util.Assert;
+
+/**
+ * A strategy for deciding whether the last accessed time of an existing session should be
+ * updated when the session is accessed.
+ * <p>
+ * Updating the last accessed time marks the session as changed, which makes most
+ * {@link SessionRepository} implementations write to the backing store even when the
+ * request did not modify the session otherwise. Skipping the update while the stored
+ * value is still recent removes those writes for read-heavy traffic, at the cost of the
+ * session expiring up to the skipped amount of time earlier than it otherwise would.
+ *
+ * @author Spring Session Team
+ * @since 3.5
+ */
+@FunctionalInterface
+public interface SessionTouchPolicy {
+
+	/**
+	 * Determine whether the last accessed time of the given session should be updated.
+	 * @param session the session being accessed
+	 * @param now the current time
+	 * @return {@code true} if {@link Session#setLastAccessedTime(Instant)} should be
+	 * invoked with {@code now}
+	 */
+	boolean shouldTouch(Session session, Instant now);
+
+	/**
+	 * Returns a {@link SessionTouchPolicy} that updates the last accessed time on every
+	 * access. This is the default behavior.
+	 * @return the policy
+	 */
+	static SessionTouchPolicy always() {
+		return (session, now) -> true;
+	}
+
+	/**
+	 * Returns a {@link SessionTouchPolicy} that updates the last accessed time only if
+	 * the current value is at least the given threshold old.
+	 * @param threshold the minimum age of the last accessed time before it is updated
+	 * @return the policy
+	 */
+	static SessionTouchPolicy olderThan(Duration threshold) {
+		Assert.notNull(threshold, "threshold cannot be null");
+		Assert.isTrue(!threshold.isNegative(), "threshold cannot be negative");
+		return (session, now) -> !session.getLastAccessedTime().plus(threshold).isAfter(now);
+	}
+
+	/**
+	 * Returns a {@link SessionTouchPolicy} that updates the last accessed time only if
+	 * the current value is older than the given fraction of the session's
+	 * {@link Session#getMaxInactiveInterval() max inactive interval}. For instance, a
+	 * fraction of {@code 0.1} with a 30 minute interval updates the last accessed time at
+	 * most every 3 minutes. Sessions without a positive max inactive interval are always
+	 * updated.
+	 * @param fraction the fraction of the max inactive interval, between {@code 0} and
+	 * {@code 1}
+	 * @return the policy
+	 */
+	static SessionTouchPolicy olderThanFractionOfMaxInactiveInterval(double fraction) {
+		Assert.isTrue(fraction >= 0 && fraction <= 1, "fraction must be between 0 and 1");
+		return (session, now) -> {
+			Duration maxInactiveInterval = session.getMaxInactiveInterval();
+			if (maxInactiveInterval.isNegative() || maxInactiveInterval.isZero()) {
+				return true;
+			}
+			long thresholdMillis = (long) (maxInactiveInterval.toMillis() * fraction);
+			return !session.getLastAccessedTime().plusMillis(thresholdMillis).isAfter(now);
+		};
+	}
+
+}
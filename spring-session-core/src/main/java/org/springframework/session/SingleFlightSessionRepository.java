@@ -0,0 +1,137 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link SessionRepository} that coalesces concurrent {@link #findById(String)} calls
+ * for the same session id into a single lookup on the delegate repository. This reduces
+ * redundant store reads when a client sends many parallel requests with the same session
+ * id, for instance while a page loads.
+ * <p>
+ * The caller that triggers the lookup receives the session returned by the delegate.
+ * Every caller that joins the lookup receives its own copy of it, created with the
+ * configured {@link SessionCopier} from a snapshot that is never handed out, so callers
+ * can modify and save their session independently. Saving or deleting a session makes
+ * subsequent lookups of its id start a new lookup rather than join one already in flight.
+ *
+ * @param <S> the {@link Session} type
+ * @author Spring Session Team
+ * @since 3.5
+ * @see ReactiveSingleFlightSessionRepository
+ * @see org.springframework.session.web.http.SessionRepositoryFilter
+ */
+public class SingleFlightSessionRepository<S extends Session> implements SessionRepository<S> {
+
+	private final SessionRepository<S> delegate;
+
+	private final SessionCopier<S> sessionCopier;
+
+	private final ConcurrentHashMap<String, CompletableFuture<S>> lookups = new ConcurrentHashMap<>();
+
+	/**
+	 * Create a new instance.
+	 * @param delegate the repository to delegate to
+	 * @param sessionCopier the {@link SessionCopier} used to create an independent copy
+	 * of a session
+	 */
+	public SingleFlightSessionRepository(SessionRepository<S> delegate, SessionCopier<S> sessionCopier) {
+		Assert.notNull(delegate, "delegate cannot be null");
+		Assert.notNull(sessionCopier, "sessionCopier cannot be null");
+		this.delegate = delegate;
+		this.sessionCopier = sessionCopier;
+	}
+
+	@Override
+	public S createSession() {
+		return this.delegate.createSession();
+	}
+
+	@Override
+	public void save(S session) {
+		this.delegate.save(session);
+		this.lookups.remove(session.getId());
+	}
+
+	@Override
+	public S findById(String id) {
+		CompletableFuture<S> lookup = new CompletableFuture<>();
+		CompletableFuture<S> inFlight = this.lookups.putIfAbsent(id, lookup);
+		if (inFlight != null) {
+			return copyOf(join(inFlight));
+		}
+		try {
+			S session = this.delegate.findById(id);
+			lookup.complete(copyOf(session));
+			return session;
+		}
+		catch (RuntimeException ex) {
+			lookup.completeExceptionally(ex);
+			throw ex;
+		}
+		finally {
+			this.lookups.remove(id, lookup);
+		}
+	}
+
+	@Override
+	public void deleteById(String id) {
+		this.delegate.deleteById(id);
+		this.lookups.remove(id);
+	}
+
+	@Override
+	public Map<String, S> findByIds(Collection<String> ids) {
+		return this.delegate.findByIds(ids);
+	}
+
+	@Override
+	public void deleteByIds(Collection<String> ids) {
+		this.delegate.deleteByIds(ids);
+		ids.forEach(this.lookups::remove);
+	}
+
+	@Override
+	public void saveAll(Collection<S> sessions) {
+		this.delegate.saveAll(sessions);
+		sessions.forEach((session) -> this.lookups.remove(session.getId()));
+	}
+
+	private S copyOf(S session) {
+		return (session != null) ? this.sessionCopier.copy(session) : null;
+	}
+
+	private static <S> S join(CompletableFuture<S> lookup) {
+		try {
+			return lookup.join();
+		}
+		catch (CompletionException ex) {
+			if (ex.getCause() instanceof RuntimeException runtimeException) {
+				throw runtimeException;
+			}
+			throw ex;
+		}
+	}
+
+}
@@ -0,0 +1,411 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializationFailedException;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.lang.Nullable;
+
+/**
+ * A {@link SessionAttributeCodec} using a compact, tagged binary format for the types
+ * that dominate sessions and Java serialization for any other type.
+ * <p>
+ * Each value is written as a one byte tag followed by its content. {@code null},
+ * {@link String}, the boxed primitives, {@code byte[]}, {@link Instant}, {@link Duration}
+ * and {@link UUID} values are written directly, with variable-length integers where
+ * applicable. {@link HashMap}, {@link LinkedHashMap}, {@link ArrayList}, {@link HashSet}
+ * and {@link LinkedHashSet} instances are written element by element, so that they only
+ * fall back to Java serialization for the elements that require it. A value of any other
+ * type is written in Java serialization format. Values previously written with plain Java
+ * serialization, for instance by
+ * {@link org.springframework.core.serializer.support.SerializingConverter}, can be
+ * decoded as well, so an existing store can switch to this codec without migration.
+ *
+ * @author Spring Session Team
+ * @since 3.5
+ */
+public class BinarySessionAttributeCodec implements SessionAttributeCodec {
+
+	private static final byte NULL = 0;
+
+	private static final byte STRING = 1;
+
+	private static final byte INTEGER = 2;
+
+	private static final byte LONG = 3;
+
+	private static final byte TRUE = 4;
+
+	private static final byte FALSE = 5;
+
+	private static final byte DOUBLE = 6;
+
+	private static final byte FLOAT = 7;
+
+	private static final byte SHORT = 8;
+
+	private static final byte BYTE = 9;
+
+	private static final byte CHARACTER = 10;
+
+	private static final byte BYTE_ARRAY = 11;
+
+	private static final byte HASH_MAP = 12;
+
+	private static final byte LINKED_HASH_MAP = 13;
+
+	private static final byte ARRAY_LIST = 14;
+
+	private static final byte HASH_SET = 15;
+
+	private static final byte LINKED_HASH_SET = 16;
+
+	private static final byte INSTANT = 17;
+
+	private static final byte DURATION = 18;
+
+	private static final byte UUID_TYPE = 19;
+
+	private static final byte SERIALIZED = 127;
+
+	private static final byte[] STREAM_MAGIC = { (byte) 0xAC, (byte) 0xED };
+
+	private final SerializingConverter serializer = new SerializingConverter();
+
+	private final DeserializingConverter deserializer;
+
+	/**
+	 * Create a new instance using the default class loader to deserialize values written
+	 * with Java serialization.
+	 */
+	public BinarySessionAttributeCodec() {
+		this.deserializer = new DeserializingConverter();
+	}
+
+	/**
+	 * Create a new instance using the given class loader to deserialize values written
+	 * with Java serialization.
+	 * @param classLoader the class loader to use
+	 */
+	public BinarySessionAttributeCodec(ClassLoader classLoader) {
+		this.deserializer = new DeserializingConverter(classLoader);
+	}
+
+	@Override
+	public byte[] encode(@Nullable Object value) {
+		if (value != null && !isSupported(value)) {
+			return this.serializer.convert(value);
+		}
+		Output output = new Output();
+		write(output, value);
+		return output.toByteArray();
+	}
+
+	@Override
+	@Nullable
+	public Object decode(byte[] bytes) {
+		if (bytes.length >= 2 && bytes[0] == STREAM_MAGIC[0] && bytes[1] == STREAM_MAGIC[1]) {
+			return this.deserializer.convert(bytes);
+		}
+		Input input = new Input(bytes);
+		try {
+			return read(input);
+		}
+		catch (ArrayIndexOutOfBoundsException | IllegalArgumentException ex) {
+			throw new SerializationFailedException("Failed to decode attribute value", ex);
+		}
+	}
+
+	private static boolean isSupported(Object value) {
+		Class<?> type = value.getClass();
+		return type == String.class || type == Integer.class || type == Long.class || type == Boolean.class
+				|| type == Double.class || type == Float.class || type == Short.class || type == Byte.class
+				|| type == Character.class || type == byte[].class || type == HashMap.class
+				|| type == LinkedHashMap.class || type == ArrayList.class || type == HashSet.class
+				|| type == LinkedHashSet.class || type == Instant.class || type == Duration.class || type == UUID.class;
+	}
+
+	private void write(Output output, @Nullable Object value) {
+		if (value == null) {
+			output.writeByte(NULL);
+		}
+		else if (value instanceof String string) {
+			output.writeByte(STRING);
+			output.writeBytes(string.getBytes(StandardCharsets.UTF_8));
+		}
+		else if (!isSupported(value)) {
+			output.writeByte(SERIALIZED);
+			output.writeBytes(this.serializer.convert(value));
+		}
+		else if (value instanceof Integer integer) {
+			output.writeByte(INTEGER);
+			output.writeVarLong(zigZag(integer));
+		}
+		else if (value instanceof Long longValue) {
+			output.writeByte(LONG);
+			output.writeVarLong(zigZag(longValue));
+		}
+		else if (value instanceof Boolean bool) {
+			output.writeByte(bool ? TRUE : FALSE);
+		}
+		else if (value instanceof Double doubleValue) {
+			output.writeByte(DOUBLE);
+			output.writeFixedLong(Double.doubleToRawLongBits(doubleValue));
+		}
+		else if (value instanceof Float floatValue) {
+			output.writeByte(FLOAT);
+			output.writeVarLong(Integer.toUnsignedLong(Float.floatToRawIntBits(floatValue)));
+		}
+		else if (value instanceof Short shortValue) {
+			output.writeByte(SHORT);
+			output.writeVarLong(zigZag(shortValue));
+		}
+		else if (value instanceof Byte byteValue) {
+			output.writeByte(BYTE);
+			output.writeByte(byteValue);
+		}
+		else if (value instanceof Character character) {
+			output.writeByte(CHARACTER);
+			output.writeVarLong(character);
+		}
+		else if (value instanceof byte[] bytes) {
+			output.writeByte(BYTE_ARRAY);
+			output.writeBytes(bytes);
+		}
+		else if (value instanceof Map<?, ?> map) {
+			output.writeByte((value instanceof LinkedHashMap) ? LINKED_HASH_MAP : HASH_MAP);
+			output.writeVarLong(map.size());
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				write(output, entry.getKey());
+				write(output, entry.getValue());
+			}
+		}
+		else if (value instanceof Collection<?> collection) {
+			output.writeByte((value instanceof ArrayList) ? ARRAY_LIST
+					: (value instanceof LinkedHashSet) ? LINKED_HASH_SET : HASH_SET);
+			output.writeVarLong(collection.size());
+			for (Object element : collection) {
+				write(output, element);
+			}
+		}
+		else if (value instanceof Instant instant) {
+			output.writeByte(INSTANT);
+			output.writeVarLong(zigZag(instant.getEpochSecond()));
+			output.writeVarLong(instant.getNano());
+		}
+		else if (value instanceof Duration duration) {
+			output.writeByte(DURATION);
+			output.writeVarLong(zigZag(duration.getSeconds()));
+			output.writeVarLong(duration.getNano());
+		}
+		else if (value instanceof UUID uuid) {
+			output.writeByte(UUID_TYPE);
+			output.writeFixedLong(uuid.getMostSignificantBits());
+			output.writeFixedLong(uuid.getLeastSignificantBits());
+		}
+	}
+
+	@Nullable
+	private Object read(Input input) {
+		byte tag = input.readByte();
+		switch (tag) {
+			case NULL:
+				return null;
+			case STRING:
+				return new String(input.readBytes(), StandardCharsets.UTF_8);
+			case INTEGER:
+				return (int) unZigZag(input.readVarLong());
+			case LONG:
+				return unZigZag(input.readVarLong());
+			case TRUE:
+				return Boolean.TRUE;
+			case FALSE:
+				return Boolean.FALSE;
+			case DOUBLE:
+				return Double.longBitsToDouble(input.readFixedLong());
+			case FLOAT:
+				return Float.intBitsToFloat((int) input.readVarLong());
+			case SHORT:
+				return (short) unZigZag(input.readVarLong());
+			case BYTE:
+				return input.readByte();
+			case CHARACTER:
+				return (char) input.readVarLong();
+			case BYTE_ARRAY:
+				return input.readBytes();
+			case HASH_MAP:
+			case LINKED_HASH_MAP:
+				int mapSize = input.readLength();
+				Map<Object, Object> map = (tag == HASH_MAP) ? new HashMap<>(capacity(mapSize))
+						: new LinkedHashMap<>(capacity(mapSize));
+				for (int i = 0; i < mapSize; i++) {
+					map.put(read(input), read(input));
+				}
+				return map;
+			case ARRAY_LIST:
+			case HASH_SET:
+			case LINKED_HASH_SET:
+				int size = input.readLength();
+				Collection<Object> collection = (tag == ARRAY_LIST) ? new ArrayList<>(Math.min(size, 1024))
+						: (tag == HASH_SET) ? new HashSet<>(capacity(size)) : new LinkedHashSet<>(capacity(size));
+				for (int i = 0; i < size; i++) {
+					collection.add(read(input));
+				}
+				return collection;
+			case INSTANT:
+				return Instant.ofEpochSecond(unZigZag(input.readVarLong()), input.readVarLong());
+			case DURATION:
+				return Duration.ofSeconds(unZigZag(input.readVarLong()), input.readVarLong());
+			case UUID_TYPE:
+				return new UUID(input.readFixedLong(), input.readFixedLong());
+			case SERIALIZED:
+				return this.deserializer.convert(input.readBytes());
+			default:
+				throw new SerializationFailedException("Unknown attribute value tag " + tag);
+		}
+	}
+
+	private static int capacity(int size) {
+		return (int) Math.min(1024, size / 0.75f + 1);
+	}
+
+	private static long zigZag(long value) {
+		return (value << 1) ^ (value >> 63);
+	}
+
+	private static long unZigZag(long value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	/**
+	 * A growable byte buffer.
+	 */
+	private static final class Output {
+
+		private byte[] buffer = new byte[64];
+
+		private int length;
+
+		private void writeByte(int value) {
+			ensureCapacity(1);
+			this.buffer[this.length++] = (byte) value;
+		}
+
+		private void writeVarLong(long value) {
+			ensureCapacity(10);
+			while ((value & ~0x7FL) != 0) {
+				this.buffer[this.length++] = (byte) ((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+			this.buffer[this.length++] = (byte) value;
+		}
+
+		private void writeFixedLong(long value) {
+			ensureCapacity(8);
+			for (int shift = 56; shift >= 0; shift -= 8) {
+				this.buffer[this.length++] = (byte) (value >>> shift);
+			}
+		}
+
+		private void writeBytes(byte[] bytes) {
+			writeVarLong(bytes.length);
+			ensureCapacity(bytes.length);
+			System.arraycopy(bytes, 0, this.buffer, this.length, bytes.length);
+			this.length += bytes.length;
+		}
+
+		private void ensureCapacity(int additional) {
+			if (this.length + additional > this.buffer.length) {
+				this.buffer = Arrays.copyOf(this.buffer, Math.max(this.buffer.length * 2, this.length + additional));
+			}
+		}
+
+		private byte[] toByteArray() {
+			return Arrays.copyOf(this.buffer, this.length);
+		}
+
+	}
+
+	/**
+	 * A cursor over an encoded value.
+	 */
+	private static final class Input {
+
+		private final byte[] buffer;
+
+		private int position;
+
+		private Input(byte[] buffer) {
+			this.buffer = buffer;
+		}
+
+		private byte readByte() {
+			return this.buffer[this.position++];
+		}
+
+		private long readVarLong() {
+			long value = 0;
+			for (int shift = 0; shift < 64; shift += 7) {
+				byte b = readByte();
+				value |= (long) (b & 0x7F) << shift;
+				if (b >= 0) {
+					return value;
+				}
+			}
+			throw new IllegalArgumentException("Malformed variable-length integer");
+		}
+
+		private long readFixedLong() {
+			long value = 0;
+			for (int i = 0; i < 8; i++) {
+				value = (value << 8) | (readByte() & 0xFF);
+			}
+			return value;
+		}
+
+		private int readLength() {
+			long length = readVarLong();
+			if (length < 0 || length > this.buffer.length - this.position) {
+				throw new IllegalArgumentException("Invalid length " + length);
+			}
+			return (int) length;
+		}
+
+		private byte[] readBytes() {
+			int length = readLength();
+			byte[] bytes = Arrays.copyOfRange(this.buffer, this.position, this.position + length);
+			this.position += length;
+			return bytes;
+		}
+
+	}
+
+}
@@ -0,0 +1,207 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.springframework.core.serializer.support.SerializationFailedException;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link SessionAttributeCodec} that compresses the values encoded by a delegate codec
+ * with {@link Deflater}, optionally primed with a {@link SessionAttributeDictionary}.
+ * Values smaller than the {@link #setThreshold(int) threshold}, or that do not shrink,
+ * are stored as encoded by the delegate, so compression can be enabled on an existing
+ * store. Compressed values carry the identifier of their dictionary, so dictionaries can
+ * be rotated as long as the previous ones remain registered for decoding.
+ * <p>
+ * Since this codec is a regular {@link SessionAttributeCodec}, it is configured on the
+ * stores through the same adapters as its delegate, for instance
+ * {@code new SessionAttributeCodecRedisSerializer(new CompressingSessionAttributeCodec(new BinarySessionAttributeCodec(), dictionary))}.
+ * The delegate encoding must not start with the two byte compression marker
+ * {@code 0xDC 0x5A}, which holds for {@link BinarySessionAttributeCodec} and JDK
+ * serialization.
+ *
+ * @author Spring Session Team
+ * @since 3.5
+ */
+public class CompressingSessionAttributeCodec implements SessionAttributeCodec {
+
+	/**
+	 * The default minimum encoded size, in bytes, for a value to be compressed.
+	 */
+	public static final int DEFAULT_THRESHOLD = 256;
+
+	private static final byte MARKER_0 = (byte) 0xDC;
+
+	private static final byte MARKER_1 = (byte) 0x5A;
+
+	private static final int HEADER_LENGTH = 4;
+
+	private static final int NO_DICTIONARY = 0;
+
+	private final SessionAttributeCodec delegate;
+
+	@Nullable
+	private final SessionAttributeDictionary dictionary;
+
+	private final Map<Integer, SessionAttributeDictionary> dictionaries = new HashMap<>();
+
+	private int threshold = DEFAULT_THRESHOLD;
+
+	private int level = Deflater.DEFAULT_COMPRESSION;
+
+	/**
+	 * Create a new instance compressing without a dictionary.
+	 * @param delegate the codec encoding the values to compress
+	 */
+	public CompressingSessionAttributeCodec(SessionAttributeCodec delegate) {
+		Assert.notNull(delegate, "delegate cannot be null");
+		this.delegate = delegate;
+		this.dictionary = null;
+	}
+
+	/**
+	 * Create a new instance compressing with the first given dictionary. The other
+	 * dictionaries are only used to decode values compressed with them.
+	 * @param delegate the codec encoding the values to compress
+	 * @param dictionary the dictionary to compress with
+	 * @param previousDictionaries the dictionaries previously compressed with
+	 */
+	public CompressingSessionAttributeCodec(SessionAttributeCodec delegate, SessionAttributeDictionary dictionary,
+			SessionAttributeDictionary... previousDictionaries) {
+		Assert.notNull(delegate, "delegate cannot be null");
+		Assert.notNull(dictionary, "dictionary cannot be null");
+		Assert.noNullElements(previousDictionaries, "previousDictionaries cannot contain null elements");
+		this.delegate = delegate;
+		this.dictionary = dictionary;
+		this.dictionaries.put(dictionary.getId(), dictionary);
+		for (SessionAttributeDictionary previous : previousDictionaries) {
+			Assert.isTrue(this.dictionaries.putIfAbsent(previous.getId(), previous) == null,
+					() -> "Duplicate dictionary id " + previous.getId());
+		}
+	}
+
+	/**
+	 * Set the minimum encoded size, in bytes, for a value to be compressed. Default is
+	 * {@link #DEFAULT_THRESHOLD}.
+	 * @param threshold the threshold
+	 */
+	public void setThreshold(int threshold) {
+		Assert.isTrue(threshold >= 0, "threshold cannot be negative");
+		this.threshold = threshold;
+	}
+
+	/**
+	 * Set the compression level, from {@link Deflater#BEST_SPEED} to
+	 * {@link Deflater#BEST_COMPRESSION}. Default is {@link Deflater#DEFAULT_COMPRESSION}.
+	 * @param level the compression level
+	 */
+	public void setLevel(int level) {
+		Assert.isTrue(level == Deflater.DEFAULT_COMPRESSION
+				|| (level >= Deflater.NO_COMPRESSION && level <= Deflater.BEST_COMPRESSION), "invalid level");
+		this.level = level;
+	}
+
+	@Override
+	public byte[] encode(@Nullable Object value) {
+		byte[] encoded = this.delegate.encode(value);
+		if (encoded.length <= HEADER_LENGTH || encoded.length < this.threshold) {
+			return encoded;
+		}
+		Deflater deflater = new Deflater(this.level);
+		try {
+			if (this.dictionary != null) {
+				deflater.setDictionary(this.dictionary.content());
+			}
+			deflater.setInput(encoded);
+			deflater.finish();
+			byte[] compressed = new byte[encoded.length];
+			compressed[0] = MARKER_0;
+			compressed[1] = MARKER_1;
+			int id = (this.dictionary != null) ? this.dictionary.getId() : NO_DICTIONARY;
+			compressed[2] = (byte) (id >>> 8);
+			compressed[3] = (byte) id;
+			int length = HEADER_LENGTH;
+			while (!deflater.finished() && length < compressed.length) {
+				length += deflater.deflate(compressed, length, compressed.length - length);
+			}
+			if (!deflater.finished()) {
+				return encoded;
+			}
+			byte[] result = new byte[length];
+			System.arraycopy(compressed, 0, result, 0, length);
+			return result;
+		}
+		finally {
+			deflater.end();
+		}
+	}
+
+	@Override
+	@Nullable
+	public Object decode(byte[] bytes) {
+		if (bytes.length < HEADER_LENGTH || bytes[0] != MARKER_0 || bytes[1] != MARKER_1) {
+			return this.delegate.decode(bytes);
+		}
+		return this.delegate.decode(inflate(bytes));
+	}
+
+	private byte[] inflate(byte[] bytes) {
+		int id = ((bytes[2] & 0xFF) << 8) | (bytes[3] & 0xFF);
+		SessionAttributeDictionary dictionary = null;
+		if (id != NO_DICTIONARY) {
+			dictionary = this.dictionaries.get(id);
+			if (dictionary == null) {
+				throw new SerializationFailedException("Unknown compression dictionary " + id);
+			}
+		}
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(bytes, HEADER_LENGTH, bytes.length - HEADER_LENGTH);
+			ByteArrayOutputStream out = new ByteArrayOutputStream(bytes.length * 4);
+			byte[] buffer = new byte[Math.max(256, bytes.length * 2)];
+			while (!inflater.finished()) {
+				int count = inflater.inflate(buffer);
+				if (count > 0) {
+					out.write(buffer, 0, count);
+				}
+				else if (inflater.needsDictionary() && dictionary != null) {
+					inflater.setDictionary(dictionary.content());
+					dictionary = null;
+				}
+				else if (inflater.needsInput() || inflater.needsDictionary()) {
+					throw new SerializationFailedException("Truncated compressed attribute value");
+				}
+			}
+			return out.toByteArray();
+		}
+		catch (DataFormatException | IllegalArgumentException ex) {
+			throw new SerializationFailedException("Failed to decompress attribute value", ex);
+		}
+		finally {
+			inflater.end();
+		}
+	}
+
+}
@@ -0,0 +1,243 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.codec;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * A {@link SessionAttributeCodec} that stores selected values once in a shared
+ * {@link SessionAttributeContentStore}, addressed by the SHA-256 hash of their encoding,
+ * and encodes them as a short reference. By default the values deduplicated are Spring
+ * Security {@code SecurityContext} instances: the sessions of a principal logged in from
+ * several devices then share a single copy of the authentication, and saving a session
+ * whose security context did not change writes the reference instead of the full context.
+ * <p>
+ * References are resolved through a bounded local cache, so that the shared store is only
+ * read the first time a node sees a given value. The content is written, or its time to
+ * live extended, when it is first encoded or decoded by this node and again every half
+ * {@link #setTimeToLive(Duration) time to live}. A session saved just before an extension
+ * falls due only keeps the content alive for half the time to live, so the time to live
+ * must be at least twice the maximum inactive interval of the sessions.
+ * <p>
+ * A reference whose content is missing from the store, for instance because the time to
+ * live was too short, decodes to {@code null}, so that only the affected attribute is
+ * lost and the rest of the session remains readable.
+ *
+ * @author Spring Session Team
+ * @since 3.5
+ */
+public class DeduplicatingSessionAttributeCodec implements SessionAttributeCodec {
+
+	/**
+	 * The default time to live of the shared content.
+	 */
+	public static final Duration DEFAULT_TIME_TO_LIVE = Duration.ofDays(1);
+
+	/**
+	 * The default number of shared values cached locally.
+	 */
+	public static final int DEFAULT_CACHE_SIZE = 1024;
+
+	private static final Log logger = LogFactory.getLog(DeduplicatingSessionAttributeCodec.class);
+
+	private static final String SECURITY_CONTEXT_CLASS_NAME = "org.springframework.security.core.context.SecurityContext";
+
+	private static final byte MARKER_0 = (byte) 0xDC;
+
+	private static final byte MARKER_1 = (byte) 0x5B;
+
+	private static final int HASH_LENGTH = 32;
+
+	private static final HexFormat HEX = HexFormat.of();
+
+	private final SessionAttributeCodec delegate;
+
+	private final SessionAttributeContentStore store;
+
+	private final Map<String, CachedContent> cache = new LinkedHashMap<>(16, 0.75f, true) {
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, CachedContent> eldest) {
+			return size() > DeduplicatingSessionAttributeCodec.this.cacheSize;
+		}
+
+	};
+
+	private Predicate<Object> deduplicated = defaultDeduplicated();
+
+	private Duration timeToLive = DEFAULT_TIME_TO_LIVE;
+
+	private int cacheSize = DEFAULT_CACHE_SIZE;
+
+	private Clock clock = Clock.systemUTC();
+
+	/**
+	 * Create a new instance.
+	 * @param delegate the codec encoding the values
+	 * @param store the store shared by the nodes accessing the sessions
+	 */
+	public DeduplicatingSessionAttributeCodec(SessionAttributeCodec delegate, SessionAttributeContentStore store) {
+		Assert.notNull(delegate, "delegate cannot be null");
+		Assert.notNull(store, "store cannot be null");
+		this.delegate = delegate;
+		this.store = store;
+	}
+
+	/**
+	 * Set the predicate selecting the values to store once. Default selects Spring
+	 * Security {@code SecurityContext} instances.
+	 * @param deduplicated the predicate to use
+	 */
+	public void setDeduplicated(Predicate<Object> deduplicated) {
+		Assert.notNull(deduplicated, "deduplicated cannot be null");
+		this.deduplicated = deduplicated;
+	}
+
+	/**
+	 * Set the time to live of the shared content, which must be at least twice the
+	 * maximum inactive interval of the sessions. Default is
+	 * {@link #DEFAULT_TIME_TO_LIVE}.
+	 * @param timeToLive the time to live
+	 */
+	public void setTimeToLive(Duration timeToLive) {
+		Assert.notNull(timeToLive, "timeToLive cannot be null");
+		Assert.isTrue(!timeToLive.isNegative() && !timeToLive.isZero(), "timeToLive must be positive");
+		this.timeToLive = timeToLive;
+	}
+
+	/**
+	 * Set the maximum number of shared values cached locally. Default is
+	 * {@link #DEFAULT_CACHE_SIZE}.
+	 * @param cacheSize the cache size
+	 */
+	public void setCacheSize(int cacheSize) {
+		Assert.isTrue(cacheSize > 0, "cacheSize must be positive");
+		this.cacheSize = cacheSize;
+	}
+
+	/**
+	 * Set the clock used to decide when to extend the time to live of the shared content.
+	 * Default is {@link Clock#systemUTC()}.
+	 * @param clock the clock to use
+	 */
+	public void setClock(Clock clock) {
+		Assert.notNull(clock, "clock cannot be null");
+		this.clock = clock;
+	}
+
+	@Override
+	public byte[] encode(@Nullable Object value) {
+		byte[] encoded = this.delegate.encode(value);
+		if (value == null || !this.deduplicated.test(value)) {
+			return encoded;
+		}
+		byte[] hash = sha256(encoded);
+		String key = HEX.formatHex(hash);
+		CachedContent cached = getCached(key);
+		if (cached == null || isStale(cached)) {
+			this.store.put(key, encoded, this.timeToLive);
+			putCached(key, new CachedContent(encoded, this.clock.millis()));
+		}
+		byte[] reference = new byte[2 + HASH_LENGTH];
+		reference[0] = MARKER_0;
+		reference[1] = MARKER_1;
+		System.arraycopy(hash, 0, reference, 2, HASH_LENGTH);
+		return reference;
+	}
+
+	@Override
+	@Nullable
+	public Object decode(byte[] bytes) {
+		if (bytes.length != 2 + HASH_LENGTH || bytes[0] != MARKER_0 || bytes[1] != MARKER_1) {
+			return this.delegate.decode(bytes);
+		}
+		String key = HEX.formatHex(bytes, 2, bytes.length);
+		CachedContent cached = getCached(key);
+		byte[] content;
+		if (cached != null) {
+			content = cached.content();
+		}
+		else {
+			content = this.store.get(key);
+			if (content == null) {
+				if (logger.isWarnEnabled()) {
+					logger.warn("Missing shared attribute content " + key + ", decoding the attribute as null");
+				}
+				return null;
+			}
+		}
+		if (cached == null || isStale(cached)) {
+			this.store.put(key, content, this.timeToLive);
+			putCached(key, new CachedContent(content, this.clock.millis()));
+		}
+		return this.delegate.decode(content);
+	}
+
+	private boolean isStale(CachedContent cached) {
+		return this.clock.millis() - cached.touchedAt() >= this.timeToLive.toMillis() / 2;
+	}
+
+	@Nullable
+	private CachedContent getCached(String key) {
+		synchronized (this.cache) {
+			return this.cache.get(key);
+		}
+	}
+
+	private void putCached(String key, CachedContent content) {
+		synchronized (this.cache) {
+			this.cache.put(key, content);
+		}
+	}
+
+	private static byte[] sha256(byte[] bytes) {
+		try {
+			return MessageDigest.getInstance("SHA-256").digest(bytes);
+		}
+		catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private static Predicate<Object> defaultDeduplicated() {
+		ClassLoader classLoader = DeduplicatingSessionAttributeCodec.class.getClassLoader();
+		if (!ClassUtils.isPresent(SECURITY_CONTEXT_CLASS_NAME, classLoader)) {
+			return (value) -> false;
+		}
+		Class<?> securityContextClass = ClassUtils.resolveClassName(SECURITY_CONTEXT_CLASS_NAME, classLoader);
+		return securityContextClass::isInstance;
+	}
+
+	private record CachedContent(byte[] content, long touchedAt) {
+
+	}
+
+}
@@ -0,0 +1,91 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.codec;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link SessionAttributeContentStore} backed by a {@link Map}, suitable for
+ * repositories that keep sessions in the local JVM, such as
+ * {@link org.springframework.session.MapSessionRepository}.
+ *
+ * @author Spring Session Team
+ * @since 3.5
+ */
+public class MapSessionAttributeContentStore implements SessionAttributeContentStore {
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	private Clock clock = Clock.systemUTC();
+
+	/**
+	 * Set the clock used to expire the content. Default is {@link Clock#systemUTC()}.
+	 * @param clock the clock to use
+	 */
+	public void setClock(Clock clock) {
+		Assert.notNull(clock, "clock cannot be null");
+		this.clock = clock;
+	}
+
+	@Override
+	@Nullable
+	public byte[] get(String hash) {
+		Entry entry = this.entries.get(hash);
+		if (entry == null) {
+			return null;
+		}
+		if (entry.expiresAt() <= this.clock.millis()) {
+			this.entries.remove(hash, entry);
+			return null;
+		}
+		return entry.content();
+	}
+
+	@Override
+	public void put(String hash, byte[] content, Duration timeToLive) {
+		long expiresAt = this.clock.millis() + timeToLive.toMillis();
+		this.entries.merge(hash, new Entry(content, expiresAt),
+				(current, added) -> (current.expiresAt() >= expiresAt) ? current : added);
+	}
+
+	/**
+	 * Remove the content whose time to live elapsed.
+	 */
+	public void cleanUpExpiredContent() {
+		long now = this.clock.millis();
+		this.entries.values().removeIf((entry) -> entry.expiresAt() <= now);
+	}
+
+	/**
+	 * Return the number of stored entries, including expired entries not yet removed.
+	 * @return the number of entries
+	 */
+	public int size() {
+		return this.entries.size();
+	}
+
+	private record Entry(byte[] content, long expiresAt) {
+
+	}
+
+}
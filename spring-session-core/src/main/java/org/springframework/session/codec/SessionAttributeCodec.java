@@ -0,0 +1,52 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.codec;
+
+import org.springframework.core.serializer.support.SerializationFailedException;
+import org.springframework.lang.Nullable;
+
+/**
+ * Strategy for encoding session attribute values to bytes and decoding them back, used by
+ * the session repositories that store attributes in serialized form. Implementations must
+ * be thread-safe.
+ *
+ * @author Spring Session Team
+ * @since 3.5
+ * @see BinarySessionAttributeCodec
+ * @see CompressingSessionAttributeCodec
+ * @see SessionAttributeCodecConverter
+ */
+public interface SessionAttributeCodec {
+
+	/**
+	 * Encode the given attribute value.
+	 * @param value the attribute value, possibly {@code null}
+	 * @return the encoded value
+	 * @throws SerializationFailedException if the value cannot be encoded
+	 */
+	byte[] encode(@Nullable Object value);
+
+	/**
+	 * Decode an attribute value previously encoded by {@link #encode(Object)}.
+	 * @param bytes the encoded value
+	 * @return the attribute value, possibly {@code null}
+	 * @throws SerializationFailedException if the value cannot be decoded
+	 */
+	@Nullable
+	Object decode(byte[] bytes);
+
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.codec;
+
+import java.util.Set;
+
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.core.convert.converter.GenericConverter;
+import org.springframework.lang.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Adapts a {@link SessionAttributeCodec} to the {@link GenericConverter} and
+ * {@link Converter} contracts used by the session repositories that serialize attributes
+ * through a {@link org.springframework.core.convert.ConversionService} or a pair of
+ * converters. For instance, it can be registered with the conversion service of the JDBC
+ * session repository:
+ *
+ * <pre class="code">
+ * GenericConversionService conversionService = new GenericConversionService();
+ * conversionService.addConverter(new SessionAttributeCodecConverter(new BinarySessionAttributeCodec()));
+ * sessionRepository.setConversionService(conversionService);
+ * </pre>
+ *
+ * @author Spring Session Team
+ * @since 3.5
+ */
+public class SessionAttributeCodecConverter implements GenericConverter {
+
+	private static final Set<ConvertiblePair> CONVERTIBLE_TYPES = Set
+		.of(new ConvertiblePair(Object.class, byte[].class), new ConvertiblePair(byte[].class, Object.class));
+
+	private final SessionAttributeCodec codec;
+
+	/**
+	 * Create a new instance.
+	 * @param codec the codec to adapt
+	 */
+	public SessionAttributeCodecConverter(SessionAttributeCodec codec) {
+		Assert.notNull(codec, "codec cannot be null");
+		this.codec = codec;
+	}
+
+	@Override
+	public Set<ConvertiblePair> getConvertibleTypes() {
+		return CONVERTIBLE_TYPES;
+	}
+
+	@Override
+	@Nullable
+	public Object convert(@Nullable Object source, TypeDescriptor sourceType, TypeDescriptor targetType) {
+		if (byte[].class == targetType.getType()) {
+			return this.codec.encode(source);
+		}
+		return (source != null) ? this.codec.decode((byte[]) source) : null;
+	}
+
+	/**
+	 * Return a {@link Converter} encoding attribute values with the codec.
+	 * @return the serializing converter
+	 */
+	public Converter<Object, byte[]> serializer() {
+		return this.codec::encode;
+	}
+
+	/**
+	 * Return a {@link Converter} decoding attribute values with the codec.
+	 * @return the deserializing converter
+	 */
+	public Converter<byte[], Object> deserializer() {
+		return this.codec::decode;
+	}
+
+}
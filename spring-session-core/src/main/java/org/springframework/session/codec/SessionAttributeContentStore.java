@@ -0,0 +1,51 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.codec;
+
+import java.time.Duration;
+
+import org.springframework.lang.Nullable;
+
+/**
+ * A shared store of encoded attribute values keyed by their content hash, used by
+ * {@link DeduplicatingSessionAttributeCodec} so that identical values referenced by
+ * several sessions are stored once. Implementations must be thread-safe.
+ *
+ * @author Spring Session Team
+ * @since 3.5
+ * @see MapSessionAttributeContentStore
+ */
+public interface SessionAttributeContentStore {
+
+	/**
+	 * Return the content stored under the given hash.
+	 * @param hash the hex encoded content hash
+	 * @return the content or {@code null} if none is stored or it expired
+	 */
+	@Nullable
+	byte[] get(String hash);
+
+	/**
+	 * Store the given content under its hash, or extend the time to live of the content
+	 * already stored under that hash.
+	 * @param hash the hex encoded content hash
+	 * @param content the content
+	 * @param timeToLive how long the content must be kept
+	 */
+	void put(String hash, byte[] content, Duration timeToLive);
+
+}
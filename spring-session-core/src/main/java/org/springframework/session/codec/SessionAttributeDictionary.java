@@ -0,0 +1,239 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.util.Assert;
+
+/**
+ * A versioned preset dictionary for {@link CompressingSessionAttributeCodec}. Serialized
+ * sessions repeat the same class names, field names and attribute structure, which a
+ * generic compressor cannot exploit on small payloads; a dictionary trained from sampled
+ * sessions primes the compressor with that shared content.
+ * <p>
+ * The identifier is written with every compressed value so that values compressed with an
+ * older dictionary remain readable once a new one is rolled out.
+ *
+ * @author Spring Session Team
+ * @since 3.5
+ */
+public final class SessionAttributeDictionary {
+
+	/**
+	 * The maximum dictionary size, bounded by the deflate window.
+	 */
+	public static final int MAX_SIZE = 32 * 1024;
+
+	private static final int SEGMENT_LENGTH = 16;
+
+	private final int id;
+
+	private final byte[] content;
+
+	/**
+	 * Create a new dictionary.
+	 * @param id the dictionary identifier, between 1 and 65535
+	 * @param content the dictionary content, at most {@link #MAX_SIZE} bytes, with the
+	 * most common content at the end
+	 */
+	public SessionAttributeDictionary(int id, byte[] content) {
+		Assert.isTrue(id > 0 && id <= 0xFFFF, "id must be between 1 and 65535");
+		Assert.notNull(content, "content cannot be null");
+		Assert.isTrue(content.length > 0 && content.length <= MAX_SIZE,
+				"content must be between 1 and " + MAX_SIZE + " bytes");
+		this.id = id;
+		this.content = content.clone();
+	}
+
+	/**
+	 * Train a dictionary from sampled encoded attribute values, typically obtained from
+	 * the {@link SessionAttributeCodec} used by the store. Fixed length segments shared
+	 * by the most samples are considered first, ties being broken by their content so
+	 * that the same samples always yield the same dictionary. Each selected segment is
+	 * extended to the longest substring its occurrences have in common, and the
+	 * occurrences it covers are excluded from later segments, so that overlapping
+	 * segments of the same content are not selected twice. Segments are selected until
+	 * the dictionary reaches the given size.
+	 * @param id the dictionary identifier, between 1 and 65535
+	 * @param samples the sampled encoded values
+	 * @param maxSize the maximum dictionary size, at most {@link #MAX_SIZE} bytes
+	 * @return the trained dictionary
+	 */
+	public static SessionAttributeDictionary train(int id, Collection<byte[]> samples, int maxSize) {
+		Assert.notNull(samples, "samples cannot be null");
+		Assert.isTrue(maxSize > 0 && maxSize <= MAX_SIZE, "maxSize must be between 1 and " + MAX_SIZE);
+		List<byte[]> sampleList = new ArrayList<>(samples);
+		Map<Segment, List<Occurrence>> occurrences = new HashMap<>();
+		for (int sample = 0; sample < sampleList.size(); sample++) {
+			byte[] bytes = sampleList.get(sample);
+			for (int i = 0; i + SEGMENT_LENGTH <= bytes.length; i++) {
+				Segment segment = new Segment(Arrays.copyOfRange(bytes, i, i + SEGMENT_LENGTH));
+				List<Occurrence> segmentOccurrences = occurrences.computeIfAbsent(segment, (key) -> new ArrayList<>());
+				if (segmentOccurrences.isEmpty()
+						|| segmentOccurrences.get(segmentOccurrences.size() - 1).sample != sample) {
+					segmentOccurrences.add(new Occurrence(sample, i));
+				}
+			}
+		}
+		List<Map.Entry<Segment, List<Occurrence>>> ranked = new ArrayList<>(occurrences.entrySet());
+		ranked.removeIf((entry) -> entry.getValue().size() < 2);
+		ranked
+			.sort(Comparator
+				.comparing((Map.Entry<Segment, List<Occurrence>> entry) -> entry.getValue().size(),
+						Comparator.reverseOrder())
+				.thenComparing((entry) -> entry.getKey().bytes, Arrays::compareUnsigned));
+		boolean[][] covered = new boolean[sampleList.size()][];
+		for (int sample = 0; sample < covered.length; sample++) {
+			covered[sample] = new boolean[sampleList.get(sample).length];
+		}
+		List<byte[]> selected = new ArrayList<>();
+		StringBuilder content = new StringBuilder();
+		for (Map.Entry<Segment, List<Occurrence>> entry : ranked) {
+			if (maxSize - content.length() < SEGMENT_LENGTH) {
+				break;
+			}
+			List<Occurrence> free = new ArrayList<>();
+			for (Occurrence occurrence : entry.getValue()) {
+				if (!isCovered(covered[occurrence.sample], occurrence.position, SEGMENT_LENGTH)) {
+					free.add(occurrence);
+				}
+			}
+			if (free.size() < 2) {
+				continue;
+			}
+			byte[] common = extend(sampleList, covered, free, maxSize - content.length());
+			String text = new String(common, StandardCharsets.ISO_8859_1);
+			if (content.indexOf(text) == -1) {
+				content.append(text);
+				selected.add(common);
+			}
+		}
+		Assert.isTrue(!selected.isEmpty(), "samples do not share any content");
+		byte[] dictionary = new byte[content.length()];
+		int position = dictionary.length;
+		for (byte[] segment : selected) {
+			position -= segment.length;
+			System.arraycopy(segment, 0, dictionary, position, segment.length);
+		}
+		return new SessionAttributeDictionary(id, dictionary);
+	}
+
+	/**
+	 * Extend the segment at the given occurrences to the longest substring they have in
+	 * common without overlapping covered content, and mark that substring as covered.
+	 * @param samples the samples
+	 * @param covered the covered bytes of each sample
+	 * @param occurrences the uncovered occurrences of the segment
+	 * @param maxLength the maximum length of the substring
+	 * @return the common substring
+	 */
+	private static byte[] extend(List<byte[]> samples, boolean[][] covered, List<Occurrence> occurrences,
+			int maxLength) {
+		Occurrence first = occurrences.get(0);
+		byte[] bytes = samples.get(first.sample);
+		int before = 0;
+		while (SEGMENT_LENGTH + before < maxLength && extendable(samples, covered, occurrences, -before - 1)) {
+			before++;
+		}
+		int after = 0;
+		while (SEGMENT_LENGTH + before + after < maxLength
+				&& extendable(samples, covered, occurrences, SEGMENT_LENGTH + after)) {
+			after++;
+		}
+		int length = before + SEGMENT_LENGTH + after;
+		for (Occurrence occurrence : occurrences) {
+			Arrays.fill(covered[occurrence.sample], occurrence.position - before, occurrence.position - before + length,
+					true);
+		}
+		return Arrays.copyOfRange(bytes, first.position - before, first.position - before + length);
+	}
+
+	private static boolean extendable(List<byte[]> samples, boolean[][] covered, List<Occurrence> occurrences,
+			int offset) {
+		Occurrence first = occurrences.get(0);
+		int index = first.position + offset;
+		byte[] bytes = samples.get(first.sample);
+		if (index < 0 || index >= bytes.length) {
+			return false;
+		}
+		for (Occurrence occurrence : occurrences) {
+			int position = occurrence.position + offset;
+			byte[] sample = samples.get(occurrence.sample);
+			if (position < 0 || position >= sample.length || covered[occurrence.sample][position]
+					|| sample[position] != bytes[index]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean isCovered(boolean[] covered, int position, int length) {
+		for (int i = position; i < position + length; i++) {
+			if (covered[i]) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Return the dictionary identifier.
+	 * @return the identifier
+	 */
+	public int getId() {
+		return this.id;
+	}
+
+	/**
+	 * Return a copy of the dictionary content.
+	 * @return the content
+	 */
+	public byte[] getContent() {
+		return this.content.clone();
+	}
+
+	byte[] content() {
+		return this.content;
+	}
+
+	private record Occurrence(int sample, int position) {
+
+	}
+
+	private record Segment(byte[] bytes) {
+
+		@Override
+		public boolean equals(Object other) {
+			return other instanceof Segment segment && Arrays.equals(this.bytes, segment.bytes);
+		}
+
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(this.bytes);
+		}
+
+	}
+
+}
@@ -32,8 +32,13 @@ import org.springframework.context.ApplicationContext;
 import org.springframework.context.ApplicationContextAware;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.session.NegativeSessionIdCache;
 import org.springframework.session.Session;
+import org.springframework.session.SessionCopier;
+import org.springframework.session.SessionCopierProvider;
 import org.springframework.session.SessionRepository;
+import org.springframework.session.SessionTouchPolicy;
+import org.springframework.session.SingleFlightSessionRepository;
 import org.springframework.session.events.SessionCreatedEvent;
 import org.springframework.session.events.SessionDestroyedEvent;
 import org.springframework.session.security.web.authentication.SpringSessionRememberMeServices;
@@ -43,6 +48,8 @@ import org.springframework.session.web.http.DefaultCookieSerializer;
 import org.springframework.session.web.http.HttpSessionIdResolver;
 import org.springframework.session.web.http.SessionEventHttpSessionListenerAdapter;
 import org.springframework.session.web.http.SessionRepositoryFilter;
+import org.springframework.session.web.http.SessionRequestPolicy;
+import org.springframework.session.web.http.WriteBehindSessionSaver;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.ObjectUtils;
 
@@ -84,6 +91,12 @@ import org.springframework.util.ObjectUtils;
  * <li>
  * </ul>
  *
+ * <p>
+ * If the {@link SessionRepository} implements {@link SessionCopierProvider}, concurrent
+ * lookups of the same session id are coalesced using a
+ * {@link SingleFlightSessionRepository} created with the copier of the repository.
+ * </p>
+ *
  * @author Rob Winch
  * @author Vedran Pavic
  * @since 1.1
@@ -106,6 +119,14 @@ public class SpringHttpSessionConfiguration implements InitializingBean, Applica
 
 	private List<HttpSessionListener> httpSessionListeners = new ArrayList<>();
 
+	private SessionTouchPolicy sessionTouchPolicy;
+
+	private SessionRequestPolicy sessionRequestPolicy;
+
+	private WriteBehindSessionSaver writeBehindSessionSaver;
+
+	private NegativeSessionIdCache negativeSessionIdCache;
+
 	@Override
 	public void afterPropertiesSet() {
 		this.defaultHttpSessionIdResolver.setCookieSerializer(getCookieSerializer());
@@ -117,10 +138,22 @@ public class SpringHttpSessionConfiguration implements InitializingBean, Applica
 	}
 
 	@Bean
+	@SuppressWarnings("unchecked")
 	public <S extends Session> SessionRepositoryFilter<? extends Session> springSessionRepositoryFilter(
 			SessionRepository<S> sessionRepository) {
-		SessionRepositoryFilter<S> sessionRepositoryFilter = new SessionRepositoryFilter<>(sessionRepository);
+		SessionRepository<S> repository = (sessionRepository instanceof SessionCopierProvider<?> provider)
+				? new SingleFlightSessionRepository<>(sessionRepository, (SessionCopier<S>) provider.getSessionCopier())
+				: sessionRepository;
+		SessionRepositoryFilter<S> sessionRepositoryFilter = new SessionRepositoryFilter<>(repository);
 		sessionRepositoryFilter.setHttpSessionIdResolver(this.httpSessionIdResolver);
+		if (this.sessionTouchPolicy != null) {
+			sessionRepositoryFilter.setSessionTouchPolicy(this.sessionTouchPolicy);
+		}
+		if (this.sessionRequestPolicy != null) {
+			sessionRepositoryFilter.setSessionRequestPolicy(this.sessionRequestPolicy);
+		}
+		sessionRepositoryFilter.setWriteBehindSessionSaver(this.writeBehindSessionSaver);
+		sessionRepositoryFilter.setNegativeSessionIdCache(this.negativeSessionIdCache);
 		return sessionRepositoryFilter;
 	}
 
@@ -152,6 +185,26 @@ public class SpringHttpSessionConfiguration implements InitializingBean, Applica
 		this.httpSessionListeners = listeners;
 	}
 
+	@Autowired(required = false)
+	public void setSessionTouchPolicy(SessionTouchPolicy sessionTouchPolicy) {
+		this.sessionTouchPolicy = sessionTouchPolicy;
+	}
+
+	@Autowired(required = false)
+	public void setSessionRequestPolicy(SessionRequestPolicy sessionRequestPolicy) {
+		this.sessionRequestPolicy = sessionRequestPolicy;
+	}
+
+	@Autowired(required = false)
+	public void setWriteBehindSessionSaver(WriteBehindSessionSaver writeBehindSessionSaver) {
+		this.writeBehindSessionSaver = writeBehindSessionSaver;
+	}
+
+	@Autowired(required = false)
+	public void setNegativeSessionIdCache(NegativeSessionIdCache negativeSessionIdCache) {
+		this.negativeSessionIdCache = negativeSessionIdCache;
+	}
+
 	private CookieSerializer getCookieSerializer() {
 		if (this.cookieSerializer != null) {
 			if (this.cookieSerializer instanceof DefaultCookieSerializer defaultCookieSerializer
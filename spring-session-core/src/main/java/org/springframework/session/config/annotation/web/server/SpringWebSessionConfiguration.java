@@ -19,8 +19,13 @@ package org.springframework.session.config.annotation.web.server;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.session.NegativeSessionIdCache;
 import org.springframework.session.ReactiveSessionRepository;
+import org.springframework.session.ReactiveSingleFlightSessionRepository;
 import org.springframework.session.Session;
+import org.springframework.session.SessionCopier;
+import org.springframework.session.SessionCopierProvider;
+import org.springframework.session.SessionTouchPolicy;
 import org.springframework.session.web.server.session.SpringSessionWebSessionStore;
 import org.springframework.web.server.adapter.WebHttpHandlerBuilder;
 import org.springframework.web.server.session.DefaultWebSessionManager;
@@ -31,6 +36,13 @@ import org.springframework.web.server.session.WebSessionManager;
  * Wire up a {@link WebSessionManager} using a Reactive {@link ReactiveSessionRepository}
  * from the application context.
  *
+ * <p>
+ * If the {@link ReactiveSessionRepository} implements {@link SessionCopierProvider},
+ * concurrent lookups of the same session id are coalesced using a
+ * {@link ReactiveSingleFlightSessionRepository} created with the copier of the
+ * repository.
+ * </p>
+ *
  * @author Greg Turnquist
  * @author Rob Winch
  * @since 2.0
@@ -41,11 +53,25 @@ public class SpringWebSessionConfiguration {
 
 	private WebSessionIdResolver webSessionIdResolver;
 
+	private SessionTouchPolicy sessionTouchPolicy;
+
+	private NegativeSessionIdCache negativeSessionIdCache;
+
 	@Autowired(required = false)
 	public void setWebSessionIdResolver(WebSessionIdResolver webSessionIdResolver) {
 		this.webSessionIdResolver = webSessionIdResolver;
 	}
 
+	@Autowired(required = false)
+	public void setSessionTouchPolicy(SessionTouchPolicy sessionTouchPolicy) {
+		this.sessionTouchPolicy = sessionTouchPolicy;
+	}
+
+	@Autowired(required = false)
+	public void setNegativeSessionIdCache(NegativeSessionIdCache negativeSessionIdCache) {
+		this.negativeSessionIdCache = negativeSessionIdCache;
+	}
+
 	/**
 	 * Configure a {@link WebSessionManager} using a provided
 	 * {@link ReactiveSessionRepository}.
@@ -55,7 +81,12 @@ public class SpringWebSessionConfiguration {
 	 */
 	@Bean(WebHttpHandlerBuilder.WEB_SESSION_MANAGER_BEAN_NAME)
 	public WebSessionManager webSessionManager(ReactiveSessionRepository<? extends Session> repository) {
-		SpringSessionWebSessionStore<? extends Session> sessionStore = new SpringSessionWebSessionStore<>(repository);
+		SpringSessionWebSessionStore<? extends Session> sessionStore = new SpringSessionWebSessionStore<>(
+				singleFlight(repository));
+		if (this.sessionTouchPolicy != null) {
+			sessionStore.setSessionTouchPolicy(this.sessionTouchPolicy);
+		}
+		sessionStore.setNegativeSessionIdCache(this.negativeSessionIdCache);
 		DefaultWebSessionManager manager = new DefaultWebSessionManager();
 		manager.setSessionStore(sessionStore);
 
@@ -66,4 +97,10 @@ public class SpringWebSessionConfiguration {
 		return manager;
 	}
 
+	@SuppressWarnings("unchecked")
+	private <S extends Session> ReactiveSessionRepository<S> singleFlight(ReactiveSessionRepository<S> repository) {
+		return (repository instanceof SessionCopierProvider<?> provider) ? new ReactiveSingleFlightSessionRepository<>(
+				repository, (SessionCopier<S>) provider.getSessionCopier()) : repository;
+	}
+
 }
@@ -28,6 +28,7 @@ import org.springframework.security.core.session.ReactiveSessionRegistry;
 import org.springframework.session.ReactiveFindByIndexNameSessionRepository;
 import org.springframework.session.ReactiveSessionRepository;
 import org.springframework.session.Session;
+import org.springframework.session.SessionMetadata;
 import org.springframework.util.Assert;
 
 /**
@@ -63,9 +64,8 @@ public final class SpringSessionBackedReactiveSessionRegistry<S extends Session>
 	@Override
 	public Flux<ReactiveSessionInformation> getAllSessions(Object principal) {
 		Authentication authenticationToken = getAuthenticationToken(principal);
-		return this.indexedSessionRepository.findByPrincipalName(authenticationToken.getName())
-			.flatMapMany((sessionMap) -> Flux.fromIterable(sessionMap.entrySet()))
-			.map((entry) -> new SpringSessionBackedReactiveSessionInformation(entry.getValue()));
+		return this.indexedSessionRepository.findSessionMetadataByPrincipalName(authenticationToken.getName())
+			.map(SpringSessionBackedReactiveSessionInformation::new);
 	}
 
 	@Override
@@ -110,6 +110,11 @@ public final class SpringSessionBackedReactiveSessionRegistry<S extends Session>
 			super(resolvePrincipalName(session), session.getId(), session.getLastAccessedTime());
 		}
 
+		SpringSessionBackedReactiveSessionInformation(SessionMetadata metadata) {
+			super((metadata.getPrincipalName() != null) ? metadata.getPrincipalName() : "", metadata.getId(),
+					metadata.getLastAccessedTime());
+		}
+
 		private static String resolvePrincipalName(Session session) {
 			String principalName = session
 				.getAttribute(ReactiveFindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME);
@@ -25,6 +25,7 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.session.SessionInformation;
 import org.springframework.session.FindByIndexNameSessionRepository;
 import org.springframework.session.Session;
+import org.springframework.session.SessionMetadata;
 import org.springframework.session.SessionRepository;
 
 /**
@@ -55,6 +56,25 @@ class SpringSessionBackedSessionInformation<S extends Session> extends SessionIn
 		}
 	}
 
+	SpringSessionBackedSessionInformation(SessionMetadata metadata, SessionRepository<S> sessionRepository) {
+		super((metadata.getPrincipalName() != null) ? metadata.getPrincipalName() : "", metadata.getId(),
+				Date.from(metadata.getLastAccessedTime()));
+		this.sessionRepository = sessionRepository;
+		if (isMarkedExpired(metadata)) {
+			super.expireNow();
+		}
+	}
+
+	/**
+	 * Determine whether the session was marked as expired by {@link #expireNow()}, using
+	 * only its attribute names.
+	 * @param metadata the session metadata
+	 * @return whether the session was marked as expired
+	 */
+	static boolean isMarkedExpired(SessionMetadata metadata) {
+		return metadata.getAttributeNames().contains(EXPIRED_ATTR);
+	}
+
 	/**
 	 * Tries to determine the principal's name from the given Session.
 	 * @param session the session
@@ -17,14 +17,15 @@
 package org.springframework.session.security;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.springframework.security.authentication.TestingAuthenticationToken;
 import org.springframework.security.core.session.SessionInformation;
 import org.springframework.security.core.session.SessionRegistry;
 import org.springframework.session.FindByIndexNameSessionRepository;
 import org.springframework.session.Session;
+import org.springframework.session.SessionMetadata;
 import org.springframework.util.Assert;
 
 /**
@@ -59,17 +60,26 @@ public class SpringSessionBackedSessionRegistry<S extends Session> implements Se
 				+ "no way to obtain that information");
 	}
 
+	/**
+	 * Returns the sessions of the given principal, loading only their
+	 * {@link SessionMetadata} rather than the full sessions.
+	 * @param principal the principal
+	 * @param includeExpiredSessions whether to include sessions that were marked as
+	 * expired through {@link SessionInformation#expireNow()}
+	 * @return the session information of the principal's sessions
+	 */
 	@Override
 	public List<SessionInformation> getAllSessions(Object principal, boolean includeExpiredSessions) {
-		Collection<S> sessions = this.sessionRepository.findByPrincipalName(name(principal)).values();
-		List<SessionInformation> infos = new ArrayList<>();
-		for (S session : sessions) {
-			if (includeExpiredSessions
-					|| !Boolean.TRUE.equals(session.getAttribute(SpringSessionBackedSessionInformation.EXPIRED_ATTR))) {
-				infos.add(new SpringSessionBackedSessionInformation<>(session, this.sessionRepository));
-			}
+		try (Stream<SessionMetadata> sessions = this.sessionRepository
+			.findSessionMetadataByPrincipalName(name(principal))) {
+			List<SessionInformation> infos = new ArrayList<>();
+			sessions.forEach((metadata) -> {
+				if (includeExpiredSessions || !SpringSessionBackedSessionInformation.isMarkedExpired(metadata)) {
+					infos.add(new SpringSessionBackedSessionInformation<>(metadata, this.sessionRepository));
+				}
+			});
+			return infos;
 		}
-		return infos;
 	}
 
 	@Override
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.web.http;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Predicate;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.util.Assert;
+
+/**
+ * A {@link SessionRequestPolicy} that selects the {@link SessionRequestPolicy.Mode} of
+ * the first matching request matcher, in the order they were added, falling back to a
+ * default mode if none of them matches. For example:
+ *
+ * <pre class="code">
+ * RequestMatchingSessionRequestPolicy policy = new RequestMatchingSessionRequestPolicy();
+ * policy.addMapping((request) -&gt; request.getRequestURI().startsWith("/static/"), Mode.BYPASS);
+ * policy.addMapping((request) -&gt; "GET".equals(request.getMethod()), Mode.READ_ONLY);
+ * </pre>
+ *
+ * Any request matcher abstraction can be adapted through a method reference, such as
+ * {@code requestMatcher::matches} for a Spring Security {@code RequestMatcher}.
+ *
+ * @author Spring Session Team
+ * @since 3.5
+ */
+public class RequestMatchingSessionRequestPolicy implements SessionRequestPolicy {
+
+	private final List<Mapping> mappings = new ArrayList<>();
+
+	private Mode defaultMode = Mode.FULL;
+
+	/**
+	 * Add a mapping from a request matcher to the mode used for the requests it matches.
+	 * @param requestMatcher the request matcher. Cannot be null.
+	 * @param mode the mode to use. Cannot be null.
+	 */
+	public void addMapping(Predicate<HttpServletRequest> requestMatcher, Mode mode) {
+		Assert.notNull(requestMatcher, "requestMatcher cannot be null");
+		Assert.notNull(mode, "mode cannot be null");
+		this.mappings.add(new Mapping(requestMatcher, mode));
+	}
+
+	/**
+	 * Set the mode to use for requests that no mapping matches. The default is
+	 * {@link Mode#FULL}.
+	 * @param defaultMode the default mode. Cannot be null.
+	 */
+	public void setDefaultMode(Mode defaultMode) {
+		Assert.notNull(defaultMode, "defaultMode cannot be null");
+		this.defaultMode = defaultMode;
+	}
+
+	@Override
+	public Mode getMode(HttpServletRequest request) {
+		for (Mapping mapping : this.mappings) {
+			if (mapping.requestMatcher().test(request)) {
+				return mapping.mode();
+			}
+		}
+		return this.defaultMode;
+	}
+
+	private record Mapping(Predicate<HttpServletRequest> requestMatcher, Mode mode) {
+	}
+
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.web.http;
+
+import java.util.List;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+import org.springframework.session.RoutingSessionIdGenerator;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link CookieSerializer} for session ids generated by a
+ * {@link RoutingSessionIdGenerator}. It writes cookies through its delegate and, when
+ * reading them, discards the values whose routing token does not match its MAC, so that
+ * forged or foreign ids are neither routed nor looked up.
+ * <p>
+ * Ids without any routing token, such as the ids issued before the
+ * {@link RoutingSessionIdGenerator} was introduced, are accepted by default so that the
+ * existing sessions survive its rollout. They are looked up like any other id but cannot
+ * be routed; {@link #setAcceptUnroutedIds(boolean)} discards them once those sessions
+ * have expired.
+ * <p>
+ * The routing token is part of the session id, so a load balancer can route on the cookie
+ * value, for instance on the second to last {@code '.'} separated segment.
+ *
+ * @author Spring Session Team
+ * @since 3.5
+ */
+public class RoutingCookieSerializer implements CookieSerializer {
+
+	private final CookieSerializer delegate;
+
+	private final RoutingSessionIdGenerator sessionIdGenerator;
+
+	private boolean acceptUnroutedIds = true;
+
+	/**
+	 * Create a new instance.
+	 * @param delegate the {@link CookieSerializer} reading and writing the cookies
+	 * @param sessionIdGenerator the generator of the session ids, used to verify their
+	 * routing tokens
+	 */
+	public RoutingCookieSerializer(CookieSerializer delegate, RoutingSessionIdGenerator sessionIdGenerator) {
+		Assert.notNull(delegate, "delegate cannot be null");
+		Assert.notNull(sessionIdGenerator, "sessionIdGenerator cannot be null");
+		this.delegate = delegate;
+		this.sessionIdGenerator = sessionIdGenerator;
+	}
+
+	/**
+	 * Set whether the ids without any routing token, that is without a {@code '.'}, are
+	 * accepted. Ids carrying a routing token that does not match its MAC are discarded
+	 * regardless. The default is {@code true}.
+	 * @param acceptUnroutedIds whether to accept the ids without a routing token
+	 */
+	public void setAcceptUnroutedIds(boolean acceptUnroutedIds) {
+		this.acceptUnroutedIds = acceptUnroutedIds;
+	}
+
+	@Override
+	public void writeCookieValue(CookieValue cookieValue) {
+		this.delegate.writeCookieValue(cookieValue);
+	}
+
+	@Override
+	public List<String> readCookieValues(HttpServletRequest request) {
+		List<String> cookieValues = this.delegate.readCookieValues(request);
+		return cookieValues.stream()
+			.filter((cookieValue) -> isUnroutedAccepted(cookieValue)
+					|| this.sessionIdGenerator.resolveRoute(cookieValue) != null)
+			.toList();
+	}
+
+	private boolean isUnroutedAccepted(String cookieValue) {
+		return this.acceptUnroutedIds && cookieValue.indexOf('.') < 0;
+	}
+
+}
@@ -18,7 +18,10 @@ package org.springframework.session.web.http;
 
 import java.io.IOException;
 import java.time.Instant;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.RequestDispatcher;
@@ -34,8 +37,11 @@ import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.core.annotation.Order;
+import org.springframework.session.MapSession;
+import org.springframework.session.NegativeSessionIdCache;
 import org.springframework.session.Session;
 import org.springframework.session.SessionRepository;
+import org.springframework.session.SessionTouchPolicy;
 
 /**
  * Switches the {@link jakarta.servlet.http.HttpSession} implementation to be backed by a
@@ -105,6 +111,14 @@ public class SessionRepositoryFilter<S extends Session> extends OncePerRequestFi
 
 	private HttpSessionIdResolver httpSessionIdResolver = new CookieHttpSessionIdResolver();
 
+	private SessionTouchPolicy sessionTouchPolicy = SessionTouchPolicy.always();
+
+	private SessionRequestPolicy sessionRequestPolicy = SessionRequestPolicy.full();
+
+	private WriteBehindSessionSaver writeBehindSessionSaver;
+
+	private NegativeSessionIdCache negativeSessionIdCache;
+
 	/**
 	 * Creates a new instance.
 	 * @param sessionRepository the <code>SessionRepository</code> to use. Cannot be null.
@@ -129,12 +143,75 @@ public class SessionRepositoryFilter<S extends Session> extends OncePerRequestFi
 		this.httpSessionIdResolver = httpSessionIdResolver;
 	}
 
+	/**
+	 * Sets the {@link SessionTouchPolicy} used to decide whether the last accessed time
+	 * of a requested session is updated. The default is
+	 * {@link SessionTouchPolicy#always()}.
+	 * @param sessionTouchPolicy the {@link SessionTouchPolicy} to use. Cannot be null.
+	 * @since 3.5
+	 */
+	public void setSessionTouchPolicy(SessionTouchPolicy sessionTouchPolicy) {
+		if (sessionTouchPolicy == null) {
+			throw new IllegalArgumentException("sessionTouchPolicy cannot be null");
+		}
+		this.sessionTouchPolicy = sessionTouchPolicy;
+	}
+
+	/**
+	 * Sets the {@link SessionRequestPolicy} used to decide whether a request bypasses
+	 * session support, uses the session read-only or receives full session support. A
+	 * session created by a bypassed or read-only request lives for that request only: it
+	 * is never saved and no session cookie is written. The default is
+	 * {@link SessionRequestPolicy#full()}.
+	 * @param sessionRequestPolicy the {@link SessionRequestPolicy} to use. Cannot be
+	 * null.
+	 * @since 3.5
+	 */
+	public void setSessionRequestPolicy(SessionRequestPolicy sessionRequestPolicy) {
+		if (sessionRequestPolicy == null) {
+			throw new IllegalArgumentException("sessionRequestPolicy cannot be null");
+		}
+		this.sessionRequestPolicy = sessionRequestPolicy;
+	}
+
+	/**
+	 * Sets the {@link WriteBehindSessionSaver} used to save sessions once a request has
+	 * completed, instead of saving them on the request thread. The session id is still
+	 * sent to the client before the response is committed. The default is {@code null},
+	 * which saves sessions synchronously.
+	 * @param writeBehindSessionSaver the {@link WriteBehindSessionSaver} to use, or
+	 * {@code null} to save synchronously
+	 * @since 3.5
+	 */
+	public void setWriteBehindSessionSaver(WriteBehindSessionSaver writeBehindSessionSaver) {
+		this.writeBehindSessionSaver = writeBehindSessionSaver;
+	}
+
+	/**
+	 * Sets the {@link NegativeSessionIdCache} used to remember requested session ids that
+	 * were not found or whose session was invalidated, so that repeated requests with
+	 * such an id do not look it up in the {@link SessionRepository} again. The default is
+	 * {@code null}, which looks up every requested session id.
+	 * @param negativeSessionIdCache the {@link NegativeSessionIdCache} to use, or
+	 * {@code null}
+	 * @since 3.5
+	 */
+	public void setNegativeSessionIdCache(NegativeSessionIdCache negativeSessionIdCache) {
+		this.negativeSessionIdCache = negativeSessionIdCache;
+	}
+
 	@Override
 	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
 			throws ServletException, IOException {
+		SessionRequestPolicy.Mode mode = this.sessionRequestPolicy.getMode(request);
+		if (mode == SessionRequestPolicy.Mode.BYPASS) {
+			filterChain.doFilter(new SessionBypassingRequestWrapper(request), response);
+			return;
+		}
 		request.setAttribute(SESSION_REPOSITORY_ATTR, this.sessionRepository);
 
-		SessionRepositoryRequestWrapper wrappedRequest = new SessionRepositoryRequestWrapper(request, response);
+		SessionRepositoryRequestWrapper wrappedRequest = new SessionRepositoryRequestWrapper(request, response,
+				mode == SessionRequestPolicy.Mode.READ_ONLY);
 		SessionRepositoryResponseWrapper wrappedResponse = new SessionRepositoryResponseWrapper(wrappedRequest,
 				response);
 
@@ -142,7 +219,7 @@ public class SessionRepositoryFilter<S extends Session> extends OncePerRequestFi
 			filterChain.doFilter(wrappedRequest, wrappedResponse);
 		}
 		finally {
-			wrappedRequest.commitSession();
+			wrappedRequest.commitSession(true);
 		}
 	}
 
@@ -177,7 +254,7 @@ public class SessionRepositoryFilter<S extends Session> extends OncePerRequestFi
 
 		@Override
 		protected void onResponseCommitted() {
-			this.request.commitSession();
+			this.request.commitSession(false);
 		}
 
 	}
@@ -206,27 +283,37 @@ public class SessionRepositoryFilter<S extends Session> extends OncePerRequestFi
 
 		private boolean hasCommittedInInclude;
 
-		private SessionRepositoryRequestWrapper(HttpServletRequest request, HttpServletResponse response) {
+		private final boolean readOnly;
+
+		private SessionRepositoryRequestWrapper(HttpServletRequest request, HttpServletResponse response,
+				boolean readOnly) {
 			super(request);
 			this.response = response;
+			this.readOnly = readOnly;
 		}
 
 		/**
 		 * Uses the {@link HttpSessionIdResolver} to write the session id to the response
-		 * and persist the Session.
+		 * and persist the Session, unless the request is read-only. With a
+		 * {@link WriteBehindSessionSaver}, the Session is only persisted by the final
+		 * commit, once the request thread no longer uses it.
+		 * @param requestCompleted whether the request has completed
 		 */
-		private void commitSession() {
+		private void commitSession(boolean requestCompleted) {
 			HttpSessionWrapper wrappedSession = getCurrentSession();
 			if (wrappedSession == null) {
 				if (isInvalidateClientSession()) {
 					SessionRepositoryFilter.this.httpSessionIdResolver.expireSession(this, this.response);
 				}
 			}
-			else {
+			else if (!this.readOnly) {
 				S session = wrappedSession.getSession();
 				String requestedSessionId = getRequestedSessionId();
 				clearRequestedSessionCache();
-				SessionRepositoryFilter.this.sessionRepository.save(session);
+				saveSession(session, requestCompleted);
+				if (SessionRepositoryFilter.this.negativeSessionIdCache != null) {
+					SessionRepositoryFilter.this.negativeSessionIdCache.remove(session.getId());
+				}
 				String sessionId = session.getId();
 				if (!isRequestedSessionIdValid() || !sessionId.equals(requestedSessionId)) {
 					SessionRepositoryFilter.this.httpSessionIdResolver.setSessionId(this, this.response, sessionId);
@@ -234,6 +321,22 @@ public class SessionRepositoryFilter<S extends Session> extends OncePerRequestFi
 			}
 		}
 
+		private void saveSession(S session, boolean requestCompleted) {
+			WriteBehindSessionSaver writeBehindSessionSaver = SessionRepositoryFilter.this.writeBehindSessionSaver;
+			if (writeBehindSessionSaver == null) {
+				SessionRepositoryFilter.this.sessionRepository.save(session);
+			}
+			else if (requestCompleted) {
+				writeBehindSessionSaver.save(session, SessionRepositoryFilter.this.sessionRepository);
+			}
+		}
+
+		private void awaitPendingSave(String sessionId) {
+			if (SessionRepositoryFilter.this.writeBehindSessionSaver != null) {
+				SessionRepositoryFilter.this.writeBehindSessionSaver.awaitPendingSave(sessionId);
+			}
+		}
+
 		@SuppressWarnings("unchecked")
 		private HttpSessionWrapper getCurrentSession() {
 			return (HttpSessionWrapper) getAttribute(CURRENT_SESSION_ATTR);
@@ -266,13 +369,20 @@ public class SessionRepositoryFilter<S extends Session> extends OncePerRequestFi
 			if (this.requestedSessionIdValid == null) {
 				S requestedSession = getRequestedSession();
 				if (requestedSession != null) {
-					requestedSession.setLastAccessedTime(Instant.now());
+					touch(requestedSession);
 				}
 				this.requestedSessionIdValid = (requestedSession != null);
 			}
 			return this.requestedSessionIdValid;
 		}
 
+		private void touch(S session) {
+			Instant now = Instant.now();
+			if (SessionRepositoryFilter.this.sessionTouchPolicy.shouldTouch(session, now)) {
+				session.setLastAccessedTime(now);
+			}
+		}
+
 		private boolean isInvalidateClientSession() {
 			return getCurrentSession() == null && this.requestedSessionInvalidated;
 		}
@@ -286,7 +396,7 @@ public class SessionRepositoryFilter<S extends Session> extends OncePerRequestFi
 			S requestedSession = getRequestedSession();
 			if (requestedSession != null) {
 				if (getAttribute(INVALID_SESSION_ID_ATTR) == null) {
-					requestedSession.setLastAccessedTime(Instant.now());
+					touch(requestedSession);
 					this.requestedSessionIdValid = true;
 					currentSession = new HttpSessionWrapper(requestedSession, getServletContext());
 					currentSession.markNotNew();
@@ -345,21 +455,65 @@ public class SessionRepositoryFilter<S extends Session> extends OncePerRequestFi
 		private S getRequestedSession() {
 			if (!this.requestedSessionCached) {
 				List<String> sessionIds = SessionRepositoryFilter.this.httpSessionIdResolver.resolveSessionIds(this);
-				for (String sessionId : sessionIds) {
+				if (!sessionIds.isEmpty()) {
 					if (this.requestedSessionId == null) {
-						this.requestedSessionId = sessionId;
-					}
-					S session = SessionRepositoryFilter.this.sessionRepository.findById(sessionId);
-					if (session != null) {
-						this.requestedSession = session;
-						break;
+						this.requestedSessionId = sessionIds.get(0);
 					}
+					this.requestedSession = (sessionIds.size() == 1) ? findSession(sessionIds.get(0))
+							: findFirstSession(sessionIds);
 				}
 				this.requestedSessionCached = true;
 			}
 			return this.requestedSession;
 		}
 
+		private S findSession(String sessionId) {
+			NegativeSessionIdCache negativeSessionIdCache = SessionRepositoryFilter.this.negativeSessionIdCache;
+			if (negativeSessionIdCache != null && negativeSessionIdCache.contains(sessionId)) {
+				return null;
+			}
+			awaitPendingSave(sessionId);
+			S session = SessionRepositoryFilter.this.sessionRepository.findById(sessionId);
+			if (session == null && negativeSessionIdCache != null) {
+				negativeSessionIdCache.add(sessionId);
+			}
+			return session;
+		}
+
+		/**
+		 * Looks up all the requested session ids with a single repository call and
+		 * returns the first session found, in the order the ids were resolved.
+		 * @param sessionIds the requested session ids
+		 * @return the first session found or {@code null}
+		 */
+		private S findFirstSession(List<String> sessionIds) {
+			NegativeSessionIdCache negativeSessionIdCache = SessionRepositoryFilter.this.negativeSessionIdCache;
+			Set<String> candidateIds = new LinkedHashSet<>(sessionIds.size());
+			for (String sessionId : sessionIds) {
+				if (negativeSessionIdCache == null || !negativeSessionIdCache.contains(sessionId)) {
+					awaitPendingSave(sessionId);
+					candidateIds.add(sessionId);
+				}
+			}
+			if (candidateIds.isEmpty()) {
+				return null;
+			}
+			Map<String, S> sessions = SessionRepositoryFilter.this.sessionRepository.findByIds(candidateIds);
+			S requestedSession = null;
+			for (String sessionId : candidateIds) {
+				S session = sessions.get(sessionId);
+				if (session == null) {
+					if (negativeSessionIdCache != null) {
+						negativeSessionIdCache.add(sessionId);
+					}
+				}
+				else if (requestedSession == null) {
+					requestedSession = session;
+				}
+			}
+			return requestedSession;
+		}
+
 		private void clearRequestedSessionCache() {
 			this.requestedSessionCached = false;
 			this.requestedSession = null;
@@ -384,7 +538,11 @@ public class SessionRepositoryFilter<S extends Session> extends OncePerRequestFi
 				SessionRepositoryRequestWrapper.this.requestedSessionInvalidated = true;
 				setCurrentSession(null);
 				clearRequestedSessionCache();
+				awaitPendingSave(getId());
 				SessionRepositoryFilter.this.sessionRepository.deleteById(getId());
+				if (SessionRepositoryFilter.this.negativeSessionIdCache != null) {
+					SessionRepositoryFilter.this.negativeSessionIdCache.add(getId());
+				}
 			}
 
 		}
@@ -410,7 +568,7 @@ public class SessionRepositoryFilter<S extends Session> extends OncePerRequestFi
 			@Override
 			public void include(ServletRequest request, ServletResponse response) throws ServletException, IOException {
 				if (!SessionRepositoryRequestWrapper.this.hasCommittedInInclude) {
-					SessionRepositoryRequestWrapper.this.commitSession();
+					SessionRepositoryRequestWrapper.this.commitSession(false);
 					SessionRepositoryRequestWrapper.this.hasCommittedInInclude = true;
 				}
 				this.delegate.include(request, response);
@@ -420,4 +578,69 @@ public class SessionRepositoryFilter<S extends Session> extends OncePerRequestFi
 
 	}
 
+	/**
+	 * A {@link jakarta.servlet.http.HttpServletRequest} for requests that bypass session
+	 * support. It neither resolves a session id nor creates a container session; a
+	 * session created by the request is transient and discarded when the request
+	 * completes.
+	 */
+	private static final class SessionBypassingRequestWrapper extends HttpServletRequestWrapper {
+
+		private TransientHttpSession session;
+
+		private SessionBypassingRequestWrapper(HttpServletRequest request) {
+			super(request);
+		}
+
+		@Override
+		public HttpSession getSession(boolean create) {
+			if (this.session == null && create) {
+				this.session = new TransientHttpSession(getServletContext());
+			}
+			return this.session;
+		}
+
+		@Override
+		public HttpSession getSession() {
+			return getSession(true);
+		}
+
+		@Override
+		public String getRequestedSessionId() {
+			return null;
+		}
+
+		@Override
+		public boolean isRequestedSessionIdValid() {
+			return false;
+		}
+
+		@Override
+		public String changeSessionId() {
+			if (this.session == null) {
+				throw new IllegalStateException(
+						"Cannot change session ID. There is no session associated with this request.");
+			}
+			return this.session.getSession().changeSessionId();
+		}
+
+		/**
+		 * A {@link HttpSession} backed by a {@link MapSession} that is never saved.
+		 */
+		private final class TransientHttpSession extends HttpSessionAdapter<MapSession> {
+
+			TransientHttpSession(ServletContext servletContext) {
+				super(new MapSession(), servletContext);
+			}
+
+			@Override
+			public void invalidate() {
+				super.invalidate();
+				SessionBypassingRequestWrapper.this.session = null;
+			}
+
+		}
+
+	}
+
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.web.http;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * Strategy used by {@link SessionRepositoryFilter} to decide how much session support a
+ * given request receives.
+ *
+ * @author Spring Session Team
+ * @since 3.5
+ * @see RequestMatchingSessionRequestPolicy
+ */
+@FunctionalInterface
+public interface SessionRequestPolicy {
+
+	/**
+	 * Determine the {@link Mode} to use for the given request.
+	 * @param request the current request
+	 * @return the mode, never {@code null}
+	 */
+	Mode getMode(HttpServletRequest request);
+
+	/**
+	 * Returns a {@link SessionRequestPolicy} that applies {@link Mode#FULL} to every
+	 * request. This is the default behavior.
+	 * @return the policy
+	 */
+	static SessionRequestPolicy full() {
+		return (request) -> Mode.FULL;
+	}
+
+	/**
+	 * The level of session support applied to a request.
+	 */
+	enum Mode {
+
+		/**
+		 * The request is only wrapped to hide any session from it. Neither the session id
+		 * is resolved nor the {@link org.springframework.session.SessionRepository} is
+		 * consulted, and {@code getSession(false)} returns {@code null} until the request
+		 * creates a session. A session created by the request is transient: it is
+		 * available until the request completes, but it is neither saved nor is a session
+		 * cookie written. Suitable for static resources and health probes.
+		 */
+		BYPASS,
+
+		/**
+		 * The requested session is loaded and available to the request, but it is never
+		 * saved and no session id is sent to the client. Changes made to the session
+		 * during the request are discarded. When there is no requested session,
+		 * {@code getSession()} still creates a new session for the rest of the request,
+		 * but that session is dropped when the request completes: it is not saved and no
+		 * session cookie is written, so the next request starts without a session again.
+		 * An explicit {@link jakarta.servlet.http.HttpSession#invalidate()} is still
+		 * honored.
+		 */
+		READ_ONLY,
+
+		/**
+		 * The request receives full session support and the session is saved when the
+		 * request completes.
+		 */
+		FULL
+
+	}
+
+}
@@ -0,0 +1,296 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.web.http;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.session.Session;
+import org.springframework.session.SessionRepository;
+import org.springframework.util.Assert;
+
+/**
+ * Saves sessions on background threads so that {@link SessionRepositoryFilter} does not
+ * wait for the session store when a request completes.
+ * <p>
+ * Saves are distributed over a fixed number of stripes by session id. Each stripe is
+ * served by a single thread, so saves of the same session are applied in the order they
+ * were submitted and never concurrently. A save of a session object that is already
+ * queued is coalesced with the queued save; saves of other objects with the same session
+ * id are queued behind it, so that the changes each of them tracks are all applied. Each
+ * stripe holds a bounded number of queued saves; once it is full,
+ * {@link #save(Session, SessionRepository)} blocks until space is available.
+ * <p>
+ * {@link #awaitPendingSave(String)} waits for the queued or running save of a session,
+ * which {@link SessionRepositoryFilter} uses to read its own writes on this node. No such
+ * guarantee exists across nodes. When this bean is destroyed, queued saves are drained
+ * and subsequent saves are performed on the calling thread. Saves that could not be
+ * drained within the shutdown timeout are dropped and their pending save completes
+ * exceptionally.
+ *
+ * @author Spring Session Team
+ * @since 3.5
+ * @see SessionRepositoryFilter#setWriteBehindSessionSaver(WriteBehindSessionSaver)
+ */
+public class WriteBehindSessionSaver implements DisposableBean {
+
+	/**
+	 * The default number of queued saves per stripe.
+	 */
+	public static final int DEFAULT_QUEUE_CAPACITY = 1024;
+
+	/**
+	 * The default amount of time to wait for queued saves to drain on shutdown.
+	 */
+	public static final Duration DEFAULT_SHUTDOWN_TIMEOUT = Duration.ofSeconds(30);
+
+	private static final Log logger = LogFactory.getLog(WriteBehindSessionSaver.class);
+
+	private final ConcurrentHashMap<String, PendingSave> pendingSaves = new ConcurrentHashMap<>();
+
+	private final List<Stripe> stripes;
+
+	private Duration shutdownTimeout = DEFAULT_SHUTDOWN_TIMEOUT;
+
+	private volatile boolean running = true;
+
+	/**
+	 * Create a new instance with one stripe per available processor and
+	 * {@link #DEFAULT_QUEUE_CAPACITY} queued saves per stripe.
+	 */
+	public WriteBehindSessionSaver() {
+		this(Runtime.getRuntime().availableProcessors(), DEFAULT_QUEUE_CAPACITY);
+	}
+
+	/**
+	 * Create a new instance.
+	 * @param stripeCount the number of stripes, each served by its own thread
+	 * @param queueCapacity the maximum number of queued saves per stripe
+	 */
+	public WriteBehindSessionSaver(int stripeCount, int queueCapacity) {
+		Assert.isTrue(stripeCount > 0, "stripeCount must be positive");
+		Assert.isTrue(queueCapacity > 0, "queueCapacity must be positive");
+		this.stripes = new ArrayList<>(stripeCount);
+		for (int i = 0; i < stripeCount; i++) {
+			Stripe stripe = new Stripe(queueCapacity);
+			stripe.thread = new Thread(stripe, "spring-session-write-behind-" + i);
+			stripe.thread.setDaemon(true);
+			this.stripes.add(stripe);
+		}
+		this.stripes.forEach((stripe) -> stripe.thread.start());
+	}
+
+	/**
+	 * Set the maximum amount of time {@link #destroy()} waits for queued saves to be
+	 * applied. The default is {@link #DEFAULT_SHUTDOWN_TIMEOUT}.
+	 * @param shutdownTimeout the shutdown timeout
+	 */
+	public void setShutdownTimeout(Duration shutdownTimeout) {
+		Assert.notNull(shutdownTimeout, "shutdownTimeout cannot be null");
+		this.shutdownTimeout = shutdownTimeout;
+	}
+
+	/**
+	 * Queue the given session to be saved to the given repository. Blocks while the
+	 * stripe of the session is full. After {@link #destroy()}, the session is saved on
+	 * the calling thread instead.
+	 * @param session the session to save
+	 * @param sessionRepository the repository to save the session to
+	 * @param <S> the session type
+	 */
+	public <S extends Session> void save(S session, SessionRepository<S> sessionRepository) {
+		String sessionId = session.getId();
+		Runnable save = () -> sessionRepository.save(session);
+		if (!this.running) {
+			awaitPendingSave(sessionId);
+			save.run();
+			return;
+		}
+		PendingSave created = new PendingSave(sessionId, session, save);
+		PendingSave pendingSave = this.pendingSaves.compute(sessionId, (id, existing) -> {
+			if (existing != null && !existing.started) {
+				existing.add(session, save);
+				return existing;
+			}
+			return created;
+		});
+		if (pendingSave != created) {
+			return;
+		}
+		Stripe stripe = stripeFor(sessionId);
+		try {
+			stripe.queue.put(created);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			created.run(this.pendingSaves);
+			return;
+		}
+		if (!this.running && !stripe.thread.isAlive() && stripe.queue.remove(created)) {
+			// raced with destroy() after the stripe stopped polling
+			created.run(this.pendingSaves);
+		}
+	}
+
+	/**
+	 * Wait until the queued or running save of the session with the given id, if any, has
+	 * been applied.
+	 * @param sessionId the session id
+	 */
+	public void awaitPendingSave(String sessionId) {
+		PendingSave pendingSave = this.pendingSaves.get(sessionId);
+		if (pendingSave == null) {
+			return;
+		}
+		try {
+			pendingSave.completion.get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		catch (ExecutionException ex) {
+			// already logged by the stripe that applied the save
+		}
+	}
+
+	@Override
+	public void destroy() throws InterruptedException {
+		this.running = false;
+		long deadline = System.nanoTime() + this.shutdownTimeout.toNanos();
+		for (Stripe stripe : this.stripes) {
+			long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+			stripe.thread.join(Math.max(remaining, 1));
+			if (stripe.thread.isAlive()) {
+				stripe.thread.interrupt();
+				List<PendingSave> dropped = new ArrayList<>();
+				stripe.queue.drainTo(dropped);
+				dropped.forEach((pendingSave) -> pendingSave.drop(this.pendingSaves));
+				logger.warn("Timed out draining queued session saves; " + dropped.size() + " saves were lost");
+			}
+		}
+	}
+
+	private Stripe stripeFor(String sessionId) {
+		return this.stripes.get(Math.floorMod(sessionId.hashCode(), this.stripes.size()));
+	}
+
+	private final class Stripe implements Runnable {
+
+		private final BlockingQueue<PendingSave> queue;
+
+		private Thread thread;
+
+		private Stripe(int queueCapacity) {
+			this.queue = new ArrayBlockingQueue<>(queueCapacity);
+		}
+
+		@Override
+		public void run() {
+			while (WriteBehindSessionSaver.this.running || !this.queue.isEmpty()) {
+				PendingSave pendingSave;
+				try {
+					pendingSave = this.queue.poll(100, TimeUnit.MILLISECONDS);
+				}
+				catch (InterruptedException ex) {
+					return;
+				}
+				if (pendingSave != null) {
+					pendingSave.run(WriteBehindSessionSaver.this.pendingSaves);
+				}
+			}
+		}
+
+	}
+
+	private static final class PendingSave {
+
+		private final String sessionId;
+
+		private final CompletableFuture<Void> completion = new CompletableFuture<>();
+
+		private final List<Session> sessions = new ArrayList<>(1);
+
+		private final List<Runnable> saves = new ArrayList<>(1);
+
+		private boolean started;
+
+		private PendingSave(String sessionId, Session session, Runnable save) {
+			this.sessionId = sessionId;
+			add(session, save);
+		}
+
+		/**
+		 * Add a save to be run after the ones already pending, unless the same session
+		 * object is already the last one pending, in which case its save covers the new
+		 * changes too.
+		 * @param session the session to save
+		 * @param save the save of the session
+		 */
+		private void add(Session session, Runnable save) {
+			if (!this.sessions.isEmpty() && this.sessions.get(this.sessions.size() - 1) == session) {
+				return;
+			}
+			this.sessions.add(session);
+			this.saves.add(save);
+		}
+
+		private void run(ConcurrentHashMap<String, PendingSave> pendingSaves) {
+			pendingSaves.computeIfPresent(this.sessionId, (id, pendingSave) -> {
+				if (pendingSave == this) {
+					this.started = true;
+				}
+				return pendingSave;
+			});
+			RuntimeException failure = null;
+			for (Runnable save : this.saves) {
+				try {
+					save.run();
+				}
+				catch (RuntimeException ex) {
+					logger.error("Failed to save session " + this.sessionId, ex);
+					failure = (failure != null) ? failure : ex;
+				}
+			}
+			pendingSaves.remove(this.sessionId, this);
+			if (failure != null) {
+				this.completion.completeExceptionally(failure);
+			}
+			else {
+				this.completion.complete(null);
+			}
+		}
+
+		private void drop(ConcurrentHashMap<String, PendingSave> pendingSaves) {
+			pendingSaves.remove(this.sessionId, this);
+			this.completion.completeExceptionally(
+					new IllegalStateException("Save of session " + this.sessionId + " dropped on shutdown"));
+		}
+
+	}
+
+}
@@ -33,8 +33,10 @@ import java.util.concurrent.atomic.AtomicReference;
 import reactor.core.publisher.Mono;
 
 import org.springframework.lang.Nullable;
+import org.springframework.session.NegativeSessionIdCache;
 import org.springframework.session.ReactiveSessionRepository;
 import org.springframework.session.Session;
+import org.springframework.session.SessionTouchPolicy;
 import org.springframework.util.Assert;
 import org.springframework.web.server.WebSession;
 import org.springframework.web.server.session.WebSessionStore;
@@ -55,6 +57,10 @@ public class SpringSessionWebSessionStore<S extends Session> implements WebSessi
 
 	private Clock clock = Clock.system(ZoneOffset.UTC);
 
+	private SessionTouchPolicy sessionTouchPolicy = SessionTouchPolicy.always();
+
+	private NegativeSessionIdCache negativeSessionIdCache;
+
 	public SpringSessionWebSessionStore(ReactiveSessionRepository<S> reactiveSessionRepository) {
 		Assert.notNull(reactiveSessionRepository, "reactiveSessionRepository cannot be null");
 		this.sessions = reactiveSessionRepository;
@@ -76,6 +82,32 @@ public class SpringSessionWebSessionStore<S extends Session> implements WebSessi
 		this.clock = clock;
 	}
 
+	/**
+	 * Configure the {@link SessionTouchPolicy} used to decide whether the lastAccessTime
+	 * of an existing session is updated when it is retrieved or accessed.
+	 * <p>
+	 * By default this is {@link SessionTouchPolicy#always()}.
+	 * @param sessionTouchPolicy the session touch policy to use
+	 * @since 3.5
+	 */
+	public void setSessionTouchPolicy(SessionTouchPolicy sessionTouchPolicy) {
+		Assert.notNull(sessionTouchPolicy, "sessionTouchPolicy cannot be null");
+		this.sessionTouchPolicy = sessionTouchPolicy;
+	}
+
+	/**
+	 * Configure the {@link NegativeSessionIdCache} used to remember session ids that were
+	 * not found or whose session was removed, so that retrieving such an id again does
+	 * not access the {@link ReactiveSessionRepository}.
+	 * <p>
+	 * By default this is {@code null}, which looks up every session id.
+	 * @param negativeSessionIdCache the negative session id cache to use, or {@code null}
+	 * @since 3.5
+	 */
+	public void setNegativeSessionIdCache(NegativeSessionIdCache negativeSessionIdCache) {
+		this.negativeSessionIdCache = negativeSessionIdCache;
+	}
+
 	@Override
 	public Mono<WebSession> createWebSession() {
 		return this.sessions.createSession().map(this::createSession);
@@ -85,20 +117,47 @@ public class SpringSessionWebSessionStore<S extends Session> implements WebSessi
 	public Mono<WebSession> updateLastAccessTime(WebSession session) {
 		@SuppressWarnings("unchecked")
 		SpringSessionWebSession springSessionWebSession = (SpringSessionWebSession) session;
-		springSessionWebSession.session.setLastAccessedTime(this.clock.instant());
+		touch(springSessionWebSession.session);
 		return Mono.just(session);
 	}
 
 	@Override
 	public Mono<WebSession> retrieveSession(String sessionId) {
+		if (this.negativeSessionIdCache != null && this.negativeSessionIdCache.contains(sessionId)) {
+			return Mono.empty();
+		}
 		return this.sessions.findById(sessionId)
-			.doOnNext((session) -> session.setLastAccessedTime(this.clock.instant()))
-			.map(this::existingSession);
+			.doOnNext(this::touch)
+			.<WebSession>map(this::existingSession)
+			.switchIfEmpty(Mono.fromRunnable(() -> recordMissing(sessionId)));
 	}
 
 	@Override
 	public Mono<Void> removeSession(String sessionId) {
-		return this.sessions.deleteById(sessionId);
+		return recordMissingOnSuccess(this.sessions.deleteById(sessionId), sessionId);
+	}
+
+	private void recordMissing(String sessionId) {
+		if (this.negativeSessionIdCache != null) {
+			this.negativeSessionIdCache.add(sessionId);
+		}
+	}
+
+	private Mono<Void> recordMissingOnSuccess(Mono<Void> deletion, String sessionId) {
+		return (this.negativeSessionIdCache != null)
+				? deletion.doOnSuccess((unused) -> this.negativeSessionIdCache.add(sessionId)) : deletion;
+	}
+
+	private Mono<Void> forgetMissingOnSuccess(Mono<Void> save, String sessionId) {
+		return (this.negativeSessionIdCache != null)
+				? save.doOnSuccess((unused) -> this.negativeSessionIdCache.remove(sessionId)) : save;
+	}
+
+	private void touch(S session) {
+		Instant now = this.clock.instant();
+		if (this.sessionTouchPolicy.shouldTouch(session, now)) {
+			session.setLastAccessedTime(now);
+		}
 	}
 
 	private SpringSessionWebSession createSession(S session) {
@@ -159,12 +218,14 @@ public class SpringSessionWebSessionStore<S extends Session> implements WebSessi
 		@Override
 		public Mono<Void> invalidate() {
 			this.state.set(State.EXPIRED);
-			return SpringSessionWebSessionStore.this.sessions.deleteById(this.session.getId());
+			String sessionId = this.session.getId();
+			return recordMissingOnSuccess(SpringSessionWebSessionStore.this.sessions.deleteById(sessionId), sessionId);
 		}
 
 		@Override
 		public Mono<Void> save() {
-			return SpringSessionWebSessionStore.this.sessions.save(this.session);
+			return forgetMissingOnSuccess(SpringSessionWebSessionStore.this.sessions.save(this.session),
+					this.session.getId());
 		}
 
 		@Override
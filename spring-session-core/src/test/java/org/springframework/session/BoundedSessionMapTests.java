@@ -0,0 +1,159 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link BoundedSessionMap}.
+ *
+ * @author Spring Session Team
+ */
+class BoundedSessionMapTests {
+
+	@Test
+	void constructorWhenMaximumWeightNotPositiveThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new BoundedSessionMap(0))
+			.withMessage("maximumWeight must be positive");
+	}
+
+	@Test
+	void setWeigherWhenNullThenException() {
+		BoundedSessionMap map = new BoundedSessionMap(10);
+		assertThatIllegalArgumentException().isThrownBy(() -> map.setWeigher(null))
+			.withMessage("weigher cannot be null");
+	}
+
+	@Test
+	void putThenGet() {
+		BoundedSessionMap map = new BoundedSessionMap(10);
+		MapSession session = new MapSession("id");
+		assertThat(map.put("id", session)).isNull();
+		assertThat(map.get("id")).isSameAs(session);
+		assertThat(map.containsKey("id")).isTrue();
+		assertThat(map).hasSize(1);
+	}
+
+	@Test
+	void putWhenReplacedThenPreviousReturned() {
+		BoundedSessionMap map = new BoundedSessionMap(10);
+		MapSession first = new MapSession("id");
+		MapSession second = new MapSession("id");
+		map.put("id", first);
+		assertThat(map.put("id", second)).isSameAs(first);
+		assertThat(map.get("id")).isSameAs(second);
+		assertThat(map.getStatistics().size()).isEqualTo(1);
+	}
+
+	@Test
+	void removeWhenValueDoesNotMatchThenKept() {
+		BoundedSessionMap map = new BoundedSessionMap(10);
+		MapSession session = new MapSession("id");
+		map.put("id", session);
+		assertThat(map.remove("id", new MapSession("other"))).isFalse();
+		assertThat(map.remove("id", session)).isTrue();
+		assertThat(map).isEmpty();
+	}
+
+	@Test
+	void putWhenMaximumExceededThenSizeBounded() {
+		BoundedSessionMap map = new BoundedSessionMap(100);
+		for (int i = 0; i < 1000; i++) {
+			map.put("id" + i, new MapSession("id" + i));
+		}
+		assertThat(map).hasSize(100);
+		assertThat(map.getStatistics().evictionCount()).isEqualTo(900);
+	}
+
+	@Test
+	void putWhenFloodOfOneShotSessionsThenActiveSessionsRetained() {
+		BoundedSessionMap map = new BoundedSessionMap(100);
+		for (int i = 0; i < 50; i++) {
+			map.put("active" + i, new MapSession("active" + i));
+		}
+		for (int i = 0; i < 10000; i++) {
+			map.put("anonymous" + i, new MapSession("anonymous" + i));
+			if (i % 100 == 0) {
+				for (int j = 0; j < 50; j++) {
+					map.get("active" + j);
+				}
+			}
+		}
+		for (int i = 0; i < 50; i++) {
+			assertThat(map.containsKey("active" + i)).as("active" + i).isTrue();
+		}
+		assertThat(map).hasSize(100);
+	}
+
+	@Test
+	void putWhenWeigherThenTotalWeightBounded() {
+		BoundedSessionMap map = new BoundedSessionMap(1000);
+		map.setWeigher((session) -> session.getAttribute("weight"));
+		for (int i = 0; i < 100; i++) {
+			MapSession session = new MapSession("id" + i);
+			session.setAttribute("weight", 30L);
+			map.put(session.getId(), session);
+		}
+		BoundedSessionMap.Statistics statistics = map.getStatistics();
+		assertThat(statistics.weight()).isLessThanOrEqualTo(1000);
+		assertThat(statistics.weight()).isEqualTo(statistics.size() * 30);
+	}
+
+	@Test
+	void putWhenHeavierThanMaximumThenNotStored() {
+		BoundedSessionMap map = new BoundedSessionMap(10);
+		map.setWeigher((session) -> 11);
+		map.put("id", new MapSession("id"));
+		assertThat(map).isEmpty();
+		assertThat(map.getStatistics().evictionCount()).isEqualTo(1);
+	}
+
+	@Test
+	void getStatisticsThenHitsAndMissesCounted() {
+		BoundedSessionMap map = new BoundedSessionMap(10);
+		map.put("id", new MapSession("id"));
+		map.get("id");
+		map.get("id");
+		map.get("missing");
+		BoundedSessionMap.Statistics statistics = map.getStatistics();
+		assertThat(statistics.hitCount()).isEqualTo(2);
+		assertThat(statistics.missCount()).isEqualTo(1);
+		assertThat(statistics.weight()).isEqualTo(1);
+	}
+
+	@Test
+	void estimatedSizeWeigherThenGrowsWithAttributes() {
+		MapSession session = new MapSession("id");
+		long empty = BoundedSessionMap.estimatedSizeWeigher().applyAsLong(session);
+		session.setAttribute("name", "a fairly long attribute value");
+		assertThat(BoundedSessionMap.estimatedSizeWeigher().applyAsLong(session)).isGreaterThan(empty);
+	}
+
+	@Test
+	void mapSessionRepositoryWhenBoundedThenSessionsFound() {
+		MapSessionRepository repository = new MapSessionRepository(new BoundedSessionMap(10));
+		MapSession session = repository.createSession();
+		repository.save(session);
+		assertThat(repository.findById(session.getId())).isNotNull();
+		repository.deleteById(session.getId());
+		assertThat(repository.findById(session.getId())).isNull();
+	}
+
+}
@@ -0,0 +1,348 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.session.CachingSessionRepository.CachedSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link CachingSessionRepository}.
+ */
+class CachingSessionRepositoryTests {
+
+	private final Map<String, Session> store = new ConcurrentHashMap<>();
+
+	private MapSessionRepository delegate;
+
+	private LocalSessionCacheInvalidationChannel channel;
+
+	private CachingSessionRepository<MapSession> repository;
+
+	@BeforeEach
+	void setup() {
+		this.delegate = spy(new MapSessionRepository(this.store));
+		this.channel = new LocalSessionCacheInvalidationChannel();
+		this.repository = new CachingSessionRepository<>(this.delegate, MapSession::new, this.channel);
+	}
+
+	@Test
+	void constructorWhenDelegateNullThenException() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new CachingSessionRepository<>(null, MapSession::new, this.channel))
+			.withMessage("delegate cannot be null");
+	}
+
+	@Test
+	void constructorWhenSessionCopierNullThenException() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new CachingSessionRepository<>(this.delegate, null, this.channel))
+			.withMessage("sessionCopier cannot be null");
+	}
+
+	@Test
+	void constructorWhenInvalidationChannelNullThenException() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new CachingSessionRepository<>(this.delegate, MapSession::new, null))
+			.withMessage("invalidationChannel cannot be null");
+	}
+
+	@Test
+	void findByIdWhenCachedThenDelegateNotAccessed() {
+		String id = saveInDelegate("a", "b");
+
+		CachedSession first = this.repository.findById(id);
+		CachedSession second = this.repository.findById(id);
+
+		assertThat(first.<String>getAttribute("a")).isEqualTo("b");
+		assertThat(second.<String>getAttribute("a")).isEqualTo("b");
+		verify(this.delegate, times(1)).findById(id);
+	}
+
+	@Test
+	void findByIdWhenMissingThenNull() {
+		assertThat(this.repository.findById("missing")).isNull();
+	}
+
+	@Test
+	void findByIdReturnsIndependentCopies() {
+		String id = saveInDelegate("a", "b");
+
+		this.repository.findById(id).setAttribute("a", "changed");
+
+		assertThat(this.repository.findById(id).<String>getAttribute("a")).isEqualTo("b");
+	}
+
+	@Test
+	void findByIdWhenAttributeNotSerializableThenCached() {
+		String id = saveInDelegate("a", new Object());
+
+		this.repository.findById(id);
+		this.repository.findById(id);
+
+		verify(this.delegate, times(1)).findById(id);
+	}
+
+	@Test
+	void findByIdWhenOtherIdInvalidatedDuringLoadThenCached() {
+		String id = saveInDelegate("a", "b");
+		String otherId = saveInDelegate("a", "b");
+		given(this.delegate.findById(id)).willAnswer((invocation) -> {
+			this.repository.invalidate(otherId);
+			return invocation.callRealMethod();
+		}).willCallRealMethod();
+
+		this.repository.findById(id);
+		this.repository.findById(id);
+
+		verify(this.delegate, times(1)).findById(id);
+	}
+
+	@Test
+	void findByIdWhenInvalidatedDuringLoadThenNotCached() {
+		String id = saveInDelegate("a", "b");
+		given(this.delegate.findById(id)).willAnswer((invocation) -> {
+			this.repository.invalidate(id);
+			return invocation.callRealMethod();
+		}).willCallRealMethod();
+
+		this.repository.findById(id);
+		this.repository.findById(id);
+
+		verify(this.delegate, times(2)).findById(id);
+	}
+
+	@Test
+	void saveWhenUnchangedThenDelegateNotAccessed() {
+		String id = saveInDelegate("a", "b");
+		CachedSession session = this.repository.findById(id);
+
+		this.repository.save(session);
+
+		verify(this.delegate, times(1)).findById(id);
+		verify(this.delegate, never()).save(any());
+	}
+
+	@Test
+	void saveWhenChangedThenDelegateNotReloaded() {
+		String id = saveInDelegate("a", "b");
+		CachedSession session = this.repository.findById(id);
+		session.setAttribute("a", "c");
+
+		this.repository.save(session);
+
+		verify(this.delegate, times(1)).findById(id);
+		verify(this.delegate, times(1)).save(any());
+	}
+
+	@Test
+	void saveWhenAttributeReadAndSaveModeOnGetAttributeThenSaved() {
+		this.repository.setSaveMode(SaveMode.ON_GET_ATTRIBUTE);
+		String id = saveInDelegate("a", new ArrayList<>(List.of("b")));
+		CachedSession session = this.repository.findById(id);
+		session.<List<String>>getAttribute("a").add("c");
+
+		this.repository.save(session);
+
+		verify(this.delegate, times(1)).save(any());
+		assertThat(this.delegate.findById(id).<List<String>>getAttribute("a")).containsExactly("b", "c");
+	}
+
+	@Test
+	void saveWhenAttributeReadAndSaveModeOnSetAttributeThenNotSaved() {
+		String id = saveInDelegate("a", "b");
+		CachedSession session = this.repository.findById(id);
+		session.getAttribute("a");
+
+		this.repository.save(session);
+
+		verify(this.delegate, never()).save(any());
+	}
+
+	@Test
+	void saveWhenSaveModeAlwaysThenSaved() {
+		this.repository.setSaveMode(SaveMode.ALWAYS);
+		String id = saveInDelegate("a", "b");
+		CachedSession session = this.repository.findById(id);
+
+		this.repository.save(session);
+
+		verify(this.delegate, times(1)).save(any());
+	}
+
+	@Test
+	void saveWhenAttributeChangedThenAppliedToDelegate() {
+		String id = saveInDelegate("a", "b");
+		CachedSession session = this.repository.findById(id);
+		session.setAttribute("a", "c");
+		session.setAttribute("d", "e");
+
+		this.repository.save(session);
+
+		MapSession saved = this.delegate.findById(id);
+		assertThat(saved.<String>getAttribute("a")).isEqualTo("c");
+		assertThat(saved.<String>getAttribute("d")).isEqualTo("e");
+		assertThat(this.repository.findById(id).<String>getAttribute("a")).isEqualTo("c");
+	}
+
+	@Test
+	void saveWhenAttributeRemovedThenRemovedFromDelegate() {
+		String id = saveInDelegate("a", "b");
+		CachedSession session = this.repository.findById(id);
+		session.removeAttribute("a");
+
+		this.repository.save(session);
+
+		assertThat(this.delegate.findById(id).getAttributeNames()).isEmpty();
+	}
+
+	@Test
+	void saveTwiceWhenUnchangedSinceFirstSaveThenDelegateSavedOnce() {
+		String id = saveInDelegate("a", "b");
+		CachedSession session = this.repository.findById(id);
+		session.setAttribute("a", "c");
+
+		this.repository.save(session);
+		this.repository.save(session);
+
+		verify(this.delegate, times(1)).save(any());
+	}
+
+	@Test
+	void createSessionThenSavedToDelegate() {
+		CachedSession session = this.repository.createSession();
+		session.setAttribute("a", "b");
+
+		this.repository.save(session);
+
+		assertThat(this.delegate.findById(session.getId()).<String>getAttribute("a")).isEqualTo("b");
+		assertThat(this.repository.findById(session.getId())).isNotNull();
+	}
+
+	@Test
+	void changeSessionIdThenOriginalIdRemoved() {
+		String id = saveInDelegate("a", "b");
+		CachedSession session = this.repository.findById(id);
+
+		String changedId = session.changeSessionId();
+		this.repository.save(session);
+
+		assertThat(changedId).isNotEqualTo(id);
+		assertThat(this.repository.findById(id)).isNull();
+		assertThat(this.repository.findById(changedId).<String>getAttribute("a")).isEqualTo("b");
+	}
+
+	@Test
+	void deleteByIdThenRemovedFromCache() {
+		String id = saveInDelegate("a", "b");
+		this.repository.findById(id);
+
+		this.repository.deleteById(id);
+
+		assertThat(this.repository.findById(id)).isNull();
+		verify(this.delegate).deleteById(id);
+	}
+
+	@Test
+	void findByIdWhenTimeToLiveElapsedThenReloaded() {
+		Instant now = Instant.now();
+		this.repository.setClock(Clock.fixed(now, ZoneOffset.UTC));
+		this.repository.setTimeToLive(Duration.ofSeconds(10));
+		String id = saveInDelegate("a", "b");
+		this.repository.findById(id);
+
+		this.repository.setClock(Clock.fixed(now.plusSeconds(11), ZoneOffset.UTC));
+		this.repository.findById(id);
+
+		verify(this.delegate, times(2)).findById(id);
+	}
+
+	@Test
+	void findByIdWhenMaximumSizeZeroThenNotCached() {
+		this.repository.setMaximumSize(0);
+		String id = saveInDelegate("a", "b");
+
+		this.repository.findById(id);
+		this.repository.findById(id);
+
+		verify(this.delegate, times(2)).findById(id);
+	}
+
+	@Test
+	void findByIdWhenModifiedByOtherNodeThenReloaded() {
+		CachingSessionRepository<MapSession> otherNode = new CachingSessionRepository<>(this.delegate, MapSession::new,
+				new LocalSessionCacheInvalidationChannel(this.channel));
+		String id = saveInDelegate("a", "b");
+		this.repository.findById(id);
+		CachedSession session = otherNode.findById(id);
+		session.setAttribute("a", "c");
+
+		otherNode.save(session);
+
+		assertThat(this.repository.findById(id).<String>getAttribute("a")).isEqualTo("c");
+	}
+
+	@Test
+	void findByIdWhenDeletedByOtherNodeThenNull() {
+		CachingSessionRepository<MapSession> otherNode = new CachingSessionRepository<>(this.delegate, MapSession::new,
+				new LocalSessionCacheInvalidationChannel(this.channel));
+		String id = saveInDelegate("a", "b");
+		this.repository.findById(id);
+
+		otherNode.deleteById(id);
+
+		assertThat(this.repository.findById(id)).isNull();
+	}
+
+	@Test
+	void publishDoesNotInvalidateOwnCache() {
+		String id = saveInDelegate("a", "b");
+		CachedSession session = this.repository.findById(id);
+		session.setAttribute("a", "c");
+		this.repository.save(session);
+
+		assertThat(this.repository.findById(id).<String>getAttribute("a")).isEqualTo("c");
+		verify(this.delegate, times(1)).findById(id);
+	}
+
+	private String saveInDelegate(String attributeName, Object attributeValue) {
+		MapSession session = new MapSession();
+		session.setAttribute(attributeName, attributeValue);
+		this.store.put(session.getId(), session);
+		return session.getId();
+	}
+
+}
@@ -49,6 +49,15 @@ class DelegatingIndexResolverTests {
 		assertThat(indexes.get("two")).isEqualTo("second");
 	}
 
+	@Test
+	void resolveWhenOtherDelegatesResolveNothingThenSingleIndex() {
+		DelegatingIndexResolver<MapSession> indexResolver = new DelegatingIndexResolver<>(
+				(session) -> Collections.emptyMap(), new TestIndexResolver("one"), (session) -> Collections.emptyMap());
+		MapSession session = new MapSession();
+		session.setAttribute("one", "first");
+		assertThat(indexResolver.resolveIndexesFor(session)).containsExactly(Map.entry("one", "first"));
+	}
+
 	private static class TestIndexResolver implements IndexResolver<MapSession> {
 
 		private final String supportedIndex;
@@ -0,0 +1,279 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.session.events.SessionExpiredEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link FileSessionRepository}.
+ *
+ * @author Spring Session Team
+ */
+class FileSessionRepositoryTests {
+
+	@TempDir
+	Path directory;
+
+	@Test
+	void constructorWhenDirectoryNullThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new FileSessionRepository(null))
+			.withMessage("directory cannot be null");
+	}
+
+	@Test
+	void saveThenFindById() {
+		FileSessionRepository repository = new FileSessionRepository(this.directory);
+		MapSession session = repository.createSession();
+		session.setAttribute("name", "value");
+		repository.save(session);
+
+		MapSession found = repository.findById(session.getId());
+		assertThat(found).isNotSameAs(session);
+		assertThat(found.<String>getAttribute("name")).isEqualTo("value");
+	}
+
+	@Test
+	void findByIdWhenExpiredThenNull() {
+		FileSessionRepository repository = new FileSessionRepository(this.directory);
+		MapSession session = repository.createSession();
+		session.setMaxInactiveInterval(Duration.ofSeconds(1));
+		session.setLastAccessedTime(Instant.now().minus(5, ChronoUnit.MINUTES));
+		repository.save(session);
+
+		assertThat(repository.findById(session.getId())).isNull();
+	}
+
+	@Test
+	void findByIdWhenRestartedThenSessionRestored() {
+		FileSessionRepository repository = new FileSessionRepository(this.directory);
+		MapSession session = repository.createSession();
+		session.setAttribute("name", "value");
+		session.setMaxInactiveInterval(Duration.ofMinutes(5));
+		repository.save(session);
+		repository.destroy();
+
+		MapSession found = new FileSessionRepository(this.directory).findById(session.getId());
+		assertThat(found.<String>getAttribute("name")).isEqualTo("value");
+		assertThat(found.getCreationTime()).isEqualTo(session.getCreationTime());
+		assertThat(found.getLastAccessedTime()).isEqualTo(session.getLastAccessedTime());
+		assertThat(found.getMaxInactiveInterval()).isEqualTo(Duration.ofMinutes(5));
+	}
+
+	@Test
+	void findByIdWhenRestartedAfterUpdatesThenLatestAttributesRestored() {
+		FileSessionRepository repository = new FileSessionRepository(this.directory);
+		MapSession session = repository.createSession();
+		session.setAttribute("kept", "1");
+		session.setAttribute("changed", "1");
+		session.setAttribute("removed", "1");
+		repository.save(session);
+		session = repository.findById(session.getId());
+		session.setAttribute("changed", "2");
+		session.removeAttribute("removed");
+		session.setAttribute("added", "2");
+		repository.save(session);
+
+		MapSession found = new FileSessionRepository(this.directory).findById(session.getId());
+		assertThat(found.getAttributeNames()).containsOnly("kept", "changed", "added");
+		assertThat(found.<String>getAttribute("changed")).isEqualTo("2");
+	}
+
+	@Test
+	void findByIdWhenRestartedAfterDeleteThenNull() {
+		FileSessionRepository repository = new FileSessionRepository(this.directory);
+		MapSession session = repository.createSession();
+		repository.save(session);
+		repository.deleteById(session.getId());
+
+		assertThat(new FileSessionRepository(this.directory).findById(session.getId())).isNull();
+	}
+
+	@Test
+	void findByIdWhenRestartedAfterChangeSessionIdThenOnlyNewIdFound() {
+		FileSessionRepository repository = new FileSessionRepository(this.directory);
+		MapSession session = repository.createSession();
+		session.setAttribute("name", "value");
+		repository.save(session);
+		String originalId = session.getId();
+		session.changeSessionId();
+		repository.save(session);
+
+		FileSessionRepository restarted = new FileSessionRepository(this.directory);
+		assertThat(restarted.findById(originalId)).isNull();
+		assertThat(restarted.findById(session.getId()).<String>getAttribute("name")).isEqualTo("value");
+	}
+
+	@Test
+	void findByIdWhenRestartedWithExpiredSessionThenNull() {
+		FileSessionRepository repository = new FileSessionRepository(this.directory);
+		MapSession session = repository.createSession();
+		session.setMaxInactiveInterval(Duration.ofSeconds(1));
+		session.setLastAccessedTime(Instant.now().minus(5, ChronoUnit.MINUTES));
+		repository.save(session);
+
+		assertThat(new FileSessionRepository(this.directory).findById(session.getId())).isNull();
+	}
+
+	@Test
+	void saveWhenSegmentFullThenNewSegment() throws IOException {
+		FileSessionRepository repository = new FileSessionRepository(this.directory);
+		repository.setSegmentSize(1024);
+		List<String> ids = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			MapSession session = repository.createSession();
+			session.setAttribute("index", i);
+			repository.save(session);
+			ids.add(session.getId());
+		}
+
+		assertThat(segmentCount()).isGreaterThan(1);
+		FileSessionRepository restarted = new FileSessionRepository(this.directory);
+		for (int i = 0; i < ids.size(); i++) {
+			assertThat(restarted.findById(ids.get(i)).<Integer>getAttribute("index")).isEqualTo(i);
+		}
+	}
+
+	@Test
+	void compactThenSupersededSegmentsDeletedAndSessionsRestored() throws IOException {
+		FileSessionRepository repository = new FileSessionRepository(this.directory);
+		repository.setSegmentSize(1024);
+		MapSession deleted = repository.createSession();
+		repository.save(deleted);
+		MapSession session = repository.createSession();
+		for (int i = 0; i < 50; i++) {
+			session.setAttribute("counter", i);
+			repository.save(session);
+		}
+		repository.deleteById(deleted.getId());
+
+		repository.compact();
+		session.setAttribute("afterCompaction", true);
+		repository.save(session);
+
+		assertThat(segmentCount()).isEqualTo(1);
+		FileSessionRepository restarted = new FileSessionRepository(this.directory);
+		assertThat(restarted.findById(deleted.getId())).isNull();
+		MapSession found = restarted.findById(session.getId());
+		assertThat(found.<Integer>getAttribute("counter")).isEqualTo(49);
+		assertThat(found.<Boolean>getAttribute("afterCompaction")).isTrue();
+	}
+
+	@Test
+	void saveWhenCompactionThresholdReachedThenCompacted() throws IOException {
+		FileSessionRepository repository = new FileSessionRepository(this.directory);
+		repository.setSegmentSize(1024);
+		repository.setCompactionThreshold(2);
+		List<String> ids = new ArrayList<>();
+		for (int i = 0; i < 50; i++) {
+			MapSession session = repository.createSession();
+			session.setAttribute("index", i);
+			repository.save(session);
+			ids.add(session.getId());
+		}
+
+		assertThat(this.directory.resolve("sessions.snapshot")).exists();
+		assertThat(segmentCount()).isLessThanOrEqualTo(3);
+		FileSessionRepository restarted = new FileSessionRepository(this.directory);
+		for (int i = 0; i < ids.size(); i++) {
+			assertThat(restarted.findById(ids.get(i)).<Integer>getAttribute("index")).isEqualTo(i);
+		}
+	}
+
+	@Test
+	void findByIdWhenRestartedWithInvalidSnapshotThenSegmentsReplayed() throws IOException {
+		FileSessionRepository repository = new FileSessionRepository(this.directory);
+		repository.save(repository.createSession());
+		repository.compact();
+		MapSession session = repository.createSession();
+		repository.save(session);
+		Files.write(this.directory.resolve("sessions.snapshot"), new byte[] { 1, 2, 3, 4 });
+
+		assertThat(new FileSessionRepository(this.directory).findById(session.getId())).isNotNull();
+	}
+
+	@Test
+	void findByIdWhenRestartedWithUndeserializableAttributeThenSessionSkipped() {
+		FileSessionRepository repository = new FileSessionRepository(this.directory);
+		MapSession undeserializable = repository.createSession();
+		undeserializable.setAttribute("attribute", "undeserializable");
+		repository.save(undeserializable);
+		MapSession session = repository.createSession();
+		session.setAttribute("attribute", "value");
+		repository.save(session);
+
+		DeserializingConverter deserializer = new DeserializingConverter();
+		FileSessionRepository restarted = new FileSessionRepository(this.directory, new SerializingConverter(),
+				(bytes) -> {
+					Object value = deserializer.convert(bytes);
+					if ("undeserializable".equals(value)) {
+						throw new IllegalStateException("Cannot deserialize " + value);
+					}
+					return value;
+				});
+		assertThat(restarted.findById(undeserializable.getId())).isNull();
+		assertThat(restarted.findById(session.getId()).<String>getAttribute("attribute")).isEqualTo("value");
+	}
+
+	@Test
+	void cleanUpExpiredSessionsThenExpiredSessionRemovedAndEventPublished() {
+		FileSessionRepository repository = new FileSessionRepository(this.directory);
+		ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+		repository.setApplicationEventPublisher(eventPublisher);
+		MapSession expired = repository.createSession();
+		expired.setMaxInactiveInterval(Duration.ofSeconds(1));
+		expired.setLastAccessedTime(Instant.now().minus(5, ChronoUnit.MINUTES));
+		repository.save(expired);
+		MapSession active = repository.createSession();
+		repository.save(active);
+
+		repository.cleanUpExpiredSessions();
+
+		ArgumentCaptor<SessionExpiredEvent> event = ArgumentCaptor.forClass(SessionExpiredEvent.class);
+		verify(eventPublisher).publishEvent(event.capture());
+		assertThat(event.getValue().getSessionId()).isEqualTo(expired.getId());
+		assertThat(repository.findById(active.getId())).isNotNull();
+	}
+
+	private long segmentCount() throws IOException {
+		try (Stream<Path> files = Files.list(this.directory)) {
+			return files.filter((file) -> file.getFileName().toString().endsWith(".log")).count();
+		}
+	}
+
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link LazySessionAttribute}.
+ *
+ * @author Spring Session Team
+ */
+class LazySessionAttributeTests {
+
+	private final SerializingConverter serializer = new SerializingConverter();
+
+	private final DeserializingConverter deserializer = new DeserializingConverter();
+
+	@Test
+	void getThenDeserializedOnce() {
+		AtomicInteger deserializations = new AtomicInteger();
+		LazySessionAttribute lazy = LazySessionAttribute.of(this.serializer.convert("value"), (bytes) -> {
+			deserializations.incrementAndGet();
+			return this.deserializer.convert(bytes);
+		});
+		assertThat(lazy.isDeserialized()).isFalse();
+		assertThat(lazy.get()).isEqualTo("value");
+		assertThat(lazy.get()).isEqualTo("value");
+		assertThat(lazy.isDeserialized()).isTrue();
+		assertThat(deserializations).hasValue(1);
+	}
+
+	@Test
+	void getUntouchedSerializedValueWhenNotDeserializedThenBytes() {
+		byte[] bytes = this.serializer.convert("value");
+		LazySessionAttribute lazy = LazySessionAttribute.of(bytes, this.deserializer);
+		assertThat(LazySessionAttribute.getUntouchedSerializedValue(lazy)).isSameAs(bytes);
+		lazy.get();
+		assertThat(LazySessionAttribute.getUntouchedSerializedValue(lazy)).isNull();
+		assertThat(LazySessionAttribute.getUntouchedSerializedValue("value")).isNull();
+	}
+
+	@Test
+	void getIfModifiedWhenContentUnchangedThenNull() {
+		LazySessionAttribute lazy = LazySessionAttribute.of(this.serializer.convert(new ArrayList<>(List.of("a"))),
+				this.deserializer, this.serializer);
+		assertThat(lazy.getIfModified()).isNull();
+		List<String> value = LazySessionAttribute.resolve(lazy);
+		assertThat(lazy.getIfModified()).isNull();
+		value.add("b");
+		LazySessionAttribute modified = lazy.getIfModified();
+		assertThat(modified).isNotNull();
+		assertThat(modified.isDeserialized()).isFalse();
+		assertThat(modified.getSerializedValue()).isEqualTo(this.serializer.convert(value));
+	}
+
+	@Test
+	void getIfModifiedWhenDeserializedWithoutSerializerThenException() {
+		LazySessionAttribute lazy = LazySessionAttribute.of(this.serializer.convert("value"), this.deserializer);
+		assertThat(lazy.getIfModified()).isNull();
+		lazy.get();
+		assertThatIllegalStateException().isThrownBy(lazy::getIfModified);
+	}
+
+	@Test
+	void copyOfThenLazyValuesNotShared() {
+		MapSession session = new MapSession();
+		session.setAttribute("one", LazySessionAttribute.of(this.serializer.convert(new ArrayList<>(List.of("a"))),
+				this.deserializer, this.serializer));
+		session.setAttribute("two", "second");
+		session.<List<String>>getAttribute("one").add("b");
+		MapSession copy = LazySessionAttribute.copyOf(session);
+		assertThat(((LazySessionAttribute) copy.getStoredAttribute("one")).isDeserialized()).isFalse();
+		assertThat(copy.<List<String>>getAttribute("one")).containsExactly("a");
+		assertThat(copy.<String>getAttribute("two")).isEqualTo("second");
+	}
+
+	@Test
+	void copyWhenLazyThenNewInstanceNotDeserialized() {
+		LazySessionAttribute lazy = LazySessionAttribute.of(this.serializer.convert("value"), this.deserializer);
+		lazy.get();
+		Object copy = LazySessionAttribute.copy(lazy);
+		assertThat(copy).isInstanceOf(LazySessionAttribute.class).isNotSameAs(lazy);
+		assertThat(((LazySessionAttribute) copy).isDeserialized()).isFalse();
+		assertThat(LazySessionAttribute.<String>resolve(copy)).isEqualTo("value");
+		assertThat(LazySessionAttribute.copy("value")).isEqualTo("value");
+	}
+
+	@Test
+	void mapSessionGetAttributeWhenLazyThenDeserialized() {
+		MapSession session = new MapSession();
+		session.setAttribute("one", LazySessionAttribute.of(this.serializer.convert("first"), this.deserializer));
+		session.setAttribute("two", LazySessionAttribute.of(this.serializer.convert("second"), this.deserializer));
+		assertThat(session.<String>getAttribute("one")).isEqualTo("first");
+		assertThat(((LazySessionAttribute) session.getStoredAttribute("one")).isDeserialized()).isTrue();
+		assertThat(((LazySessionAttribute) session.getStoredAttribute("two")).isDeserialized()).isFalse();
+	}
+
+	@Test
+	void mapSessionSerializedThenLazyValuesReplacedByDeserializedValues() {
+		MapSession session = new MapSession();
+		session.setAttribute("one", LazySessionAttribute.of(this.serializer.convert("first"), this.deserializer));
+		MapSession copy = (MapSession) this.deserializer.convert(this.serializer.convert(session));
+		assertThat(copy.getStoredAttribute("one")).isEqualTo("first");
+	}
+
+}
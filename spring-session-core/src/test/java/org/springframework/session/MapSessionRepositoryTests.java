@@ -23,8 +23,15 @@ import java.util.concurrent.ConcurrentHashMap;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.session.events.SessionExpiredEvent;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 /**
  * Tests for {@link MapSessionRepository}.
@@ -109,4 +116,52 @@ class MapSessionRepositoryTests {
 		assertThat(session.getAttributeNames()).isEmpty();
 	}
 
+	@Test
+	void cleanUpExpiredSessionsThenExpiredSessionRemovedAndEventPublished() {
+		ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+		this.repository.setApplicationEventPublisher(eventPublisher);
+		this.session.setMaxInactiveInterval(Duration.ofSeconds(1));
+		this.session.setLastAccessedTime(Instant.now().minus(5, ChronoUnit.MINUTES));
+		this.repository.save(this.session);
+		MapSession active = this.repository.createSession();
+		this.repository.save(active);
+
+		this.repository.cleanUpExpiredSessions();
+
+		ArgumentCaptor<SessionExpiredEvent> event = ArgumentCaptor.forClass(SessionExpiredEvent.class);
+		verify(eventPublisher).publishEvent(event.capture());
+		assertThat(event.getValue().getSessionId()).isEqualTo(this.session.getId());
+		assertThat(this.repository.findById(active.getId())).isNotNull();
+	}
+
+	@Test
+	void cleanUpExpiredSessionsWhenDeletedThenNoEvent() {
+		ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+		this.repository.setApplicationEventPublisher(eventPublisher);
+		this.session.setMaxInactiveInterval(Duration.ofSeconds(1));
+		this.session.setLastAccessedTime(Instant.now().minus(5, ChronoUnit.MINUTES));
+		this.repository.save(this.session);
+		this.repository.deleteById(this.session.getId());
+
+		this.repository.cleanUpExpiredSessions();
+
+		verifyNoInteractions(eventPublisher);
+	}
+
+	@Test
+	void cleanUpExpiredSessionsWhenSavedAfterFirstCleanUpThenExpiredSessionRemoved() {
+		ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+		this.repository.setApplicationEventPublisher(eventPublisher);
+		this.repository.cleanUpExpiredSessions();
+		this.session.setMaxInactiveInterval(Duration.ofSeconds(1));
+		this.session.setLastAccessedTime(Instant.now().minus(5, ChronoUnit.MINUTES));
+		this.repository.save(this.session);
+
+		this.repository.cleanUpExpiredSessions();
+
+		ArgumentCaptor<SessionExpiredEvent> event = ArgumentCaptor.forClass(SessionExpiredEvent.class);
+		verify(eventPublisher).publishEvent(event.capture());
+		assertThat(event.getValue().getSessionId()).isEqualTo(this.session.getId());
+	}
+
 }
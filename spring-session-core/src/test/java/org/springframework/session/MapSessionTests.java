@@ -18,6 +18,8 @@ package org.springframework.session;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 
@@ -25,6 +27,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 
 class MapSessionTests {
@@ -145,6 +148,55 @@ class MapSessionTests {
 		assertThat(this.session.isExpired(now)).isTrue();
 	}
 
+	@Test
+	void isExpiredWhenIntervalOverflowsThenFalse() {
+		this.session.setMaxInactiveInterval(Duration.ofSeconds(Long.MAX_VALUE));
+		assertThat(this.session.isExpired()).isFalse();
+	}
+
+	@Test
+	void isExpiredWhenZeroIntervalThenTrue() {
+		MapSession session = new MapSession();
+		session.setMaxInactiveInterval(Duration.ZERO);
+		assertThat(session.isExpired()).isTrue();
+	}
+
+	@Test
+	void isExpiredWhenNotYetExpiredThenFalse() {
+		MapSession session = new MapSession();
+		assertThat(session.isExpired()).isFalse();
+	}
+
+	@Test
+	void getAttributeNamesThenReadOnly() {
+		this.session.setAttribute("attribute1", "value1");
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+			.isThrownBy(() -> this.session.getAttributeNames().remove("attribute1"));
+	}
+
+	@Test
+	void getAttributeNamesWhenModifiedThenNamesUpdated() {
+		this.session.setAttribute("attribute1", "value1");
+		Set<String> names = this.session.getAttributeNames();
+		this.session.setAttribute("attribute2", "value2");
+		assertThat(names).containsOnly("attribute1", "attribute2");
+		assertThat(this.session.getAttributeNames()).isSameAs(names);
+	}
+
+	@Test
+	void getAttributeNamesWhenModifiedDuringIterationThenIterationUnchanged() {
+		this.session.setAttribute("attribute1", "value1");
+		this.session.setAttribute("attribute2", "value2");
+		List<String> iterated = new ArrayList<>();
+		for (String attributeName : this.session.getAttributeNames()) {
+			iterated.add(attributeName);
+			this.session.setAttribute("added-" + attributeName, "value");
+		}
+		assertThat(iterated).containsExactlyInAnyOrder("attribute1", "attribute2");
+		assertThat(this.session.getAttributeNames()).containsOnly("attribute1", "attribute2", "added-attribute1",
+				"added-attribute2");
+	}
+
 	@Test // gh-1120
 	void getAttributeNamesAndRemove() {
 		this.session.setAttribute("attribute1", "value1");
@@ -166,6 +218,32 @@ class MapSessionTests {
 		assertThat(idAfterChange).isEqualTo("2");
 	}
 
+	@Test
+	void copyWhenCopyModifiedThenOriginalUnchanged() {
+		MapSession original = new MapSession("id");
+		original.setAttribute("a", "1");
+		MapSession copy = new MapSession(original);
+		copy.setAttribute("a", "2");
+		copy.setAttribute("b", "3");
+		assertThat(original.<String>getAttribute("a")).isEqualTo("1");
+		assertThat(original.getAttributeNames()).containsOnly("a");
+		assertThat(copy.<String>getAttribute("a")).isEqualTo("2");
+		assertThat(copy.getAttributeNames()).containsOnly("a", "b");
+	}
+
+	@Test
+	void copyWhenOriginalModifiedThenCopyUnchanged() {
+		MapSession original = new MapSession("id");
+		original.setAttribute("a", "1");
+		MapSession first = new MapSession(original);
+		MapSession second = new MapSession(first);
+		original.removeAttribute("a");
+		first.setAttribute("a", "2");
+		assertThat(original.getAttributeNames()).isEmpty();
+		assertThat(first.<String>getAttribute("a")).isEqualTo("2");
+		assertThat(second.<String>getAttribute("a")).isEqualTo("1");
+	}
+
 	static class FixedSessionIdGenerator implements SessionIdGenerator {
 
 		private final String id;
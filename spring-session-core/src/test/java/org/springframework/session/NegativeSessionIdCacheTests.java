@@ -0,0 +1,138 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link NegativeSessionIdCache}.
+ *
+ * @author Spring Session Team
+ */
+class NegativeSessionIdCacheTests {
+
+	private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+	private final NegativeSessionIdCache cache = new NegativeSessionIdCache(1024, Duration.ofSeconds(30));
+
+	@Test
+	void constructorWhenCapacityNotPositiveThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new NegativeSessionIdCache(0, Duration.ofSeconds(1)))
+			.withMessage("capacity must be positive");
+	}
+
+	@Test
+	void containsWhenNotAddedThenFalse() {
+		assertThat(this.cache.contains("id")).isFalse();
+	}
+
+	@Test
+	void containsWhenAddedThenTrue() {
+		this.cache.add("id");
+		assertThat(this.cache.contains("id")).isTrue();
+		assertThat(this.cache.contains("other")).isFalse();
+	}
+
+	@Test
+	void containsWhenRemovedThenFalse() {
+		this.cache.add("id");
+		this.cache.remove("id");
+		assertThat(this.cache.contains("id")).isFalse();
+	}
+
+	@Test
+	void containsWhenWithinTimeToLiveThenTrue() {
+		MutableClock clock = new MutableClock();
+		this.cache.setClock(clock);
+		this.cache.add("id");
+		clock.advance(Duration.ofSeconds(15));
+		assertThat(this.cache.contains("id")).isTrue();
+		clock.advance(Duration.ofSeconds(14));
+		assertThat(this.cache.contains("id")).isTrue();
+	}
+
+	@Test
+	void containsWhenTimeToLiveElapsedThenFalse() {
+		MutableClock clock = new MutableClock();
+		this.cache.setClock(clock);
+		this.cache.add("id");
+		clock.advance(Duration.ofSeconds(15));
+		assertThat(this.cache.contains("id")).isTrue();
+		clock.advance(Duration.ofSeconds(15));
+		assertThat(this.cache.contains("id")).isFalse();
+	}
+
+	@Test
+	void containsWhenIdleForTimeToLiveThenFalse() {
+		MutableClock clock = new MutableClock();
+		this.cache.setClock(clock);
+		this.cache.add("id");
+		clock.advance(Duration.ofSeconds(30));
+		assertThat(this.cache.contains("id")).isFalse();
+	}
+
+	@Test
+	void addWhenCapacityExceededThenBounded() {
+		NegativeSessionIdCache small = new NegativeSessionIdCache(8, Duration.ofSeconds(30));
+		for (int i = 0; i < 100; i++) {
+			small.add("id-" + i);
+		}
+		int remembered = 0;
+		for (int i = 0; i < 100; i++) {
+			if (small.contains("id-" + i)) {
+				remembered++;
+			}
+		}
+		assertThat(remembered).isLessThanOrEqualTo(8);
+		assertThat(small.contains("id-99")).isTrue();
+	}
+
+	private static final class MutableClock extends Clock {
+
+		private Instant instant = NOW;
+
+		void advance(Duration duration) {
+			this.instant = this.instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return this.instant;
+		}
+
+	}
+
+}
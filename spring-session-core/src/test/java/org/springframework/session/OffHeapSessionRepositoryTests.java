@@ -0,0 +1,199 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.session.events.SessionExpiredEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+/**
+ * Tests for {@link OffHeapSessionRepository}.
+ *
+ * @author Spring Session Team
+ */
+class OffHeapSessionRepositoryTests {
+
+	private final OffHeapSessionRepository repository = new OffHeapSessionRepository(1024 * 1024, 64 * 1024);
+
+	@Test
+	void constructorWhenCapacityBelowSlabSizeThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new OffHeapSessionRepository(1024, 4096))
+			.withMessage("maximumCapacity must be at least slabSize");
+	}
+
+	@Test
+	void saveThenFindById() {
+		MapSession session = this.repository.createSession();
+		session.setAttribute("name", "value");
+		this.repository.save(session);
+
+		MapSession found = this.repository.findById(session.getId());
+		assertThat(found).isNotSameAs(session);
+		assertThat(found.getId()).isEqualTo(session.getId());
+		assertThat(found.<String>getAttribute("name")).isEqualTo("value");
+		assertThat(found.getMaxInactiveInterval()).isEqualTo(session.getMaxInactiveInterval());
+		assertThat(found.getCreationTime()).isEqualTo(session.getCreationTime());
+	}
+
+	@Test
+	void findByIdWhenMissingThenNull() {
+		assertThat(this.repository.findById("missing")).isNull();
+	}
+
+	@Test
+	void findByIdWhenExpiredThenNullAndDeleted() {
+		MapSession session = this.repository.createSession();
+		session.setMaxInactiveInterval(Duration.ofSeconds(1));
+		session.setLastAccessedTime(Instant.now().minus(5, ChronoUnit.MINUTES));
+		this.repository.save(session);
+
+		assertThat(this.repository.findById(session.getId())).isNull();
+		assertThat(this.repository.getSessionCount()).isZero();
+	}
+
+	@Test
+	void saveWhenSessionGrowsThenUpdated() {
+		MapSession session = this.repository.createSession();
+		this.repository.save(session);
+		session.setAttribute("large", "x".repeat(10000));
+		this.repository.save(session);
+		session.removeAttribute("large");
+		session.setAttribute("small", "y");
+		this.repository.save(session);
+
+		MapSession found = this.repository.findById(session.getId());
+		assertThat(found.getAttributeNames()).containsOnly("small");
+		assertThat(this.repository.getSessionCount()).isEqualTo(1);
+	}
+
+	@Test
+	void changeSessionIdWhenSavedThenOriginalIdRemoved() {
+		MapSession session = this.repository.createSession();
+		this.repository.save(session);
+		String originalId = session.getId();
+		session.changeSessionId();
+		this.repository.save(session);
+
+		assertThat(this.repository.findById(originalId)).isNull();
+		assertThat(this.repository.findById(session.getId())).isNotNull();
+	}
+
+	@Test
+	void deleteByIdThenChunkReused() {
+		Map<String, MapSession> sessions = new HashMap<>();
+		for (int i = 0; i < 500; i++) {
+			MapSession session = this.repository.createSession();
+			session.setAttribute("index", i);
+			this.repository.save(session);
+			sessions.put(session.getId(), session);
+		}
+		long allocated = this.repository.getAllocatedCapacity();
+		for (int round = 0; round < 5; round++) {
+			for (String id : sessions.keySet()) {
+				this.repository.deleteById(id);
+			}
+			for (MapSession session : sessions.values()) {
+				this.repository.save(session);
+			}
+		}
+		assertThat(this.repository.getAllocatedCapacity()).isEqualTo(allocated);
+		assertThat(this.repository.getSessionCount()).isEqualTo(500);
+		sessions.forEach((id, session) -> assertThat(this.repository.findById(id).<Integer>getAttribute("index"))
+			.isEqualTo(session.<Integer>getAttribute("index")));
+	}
+
+	@Test
+	void deleteByIdThenFreeChunksMergedForLargerSession() {
+		OffHeapSessionRepository repository = new OffHeapSessionRepository(64 * 1024, 64 * 1024);
+		List<String> ids = new ArrayList<>();
+		for (int i = 0; i < 40; i++) {
+			MapSession session = repository.createSession();
+			session.setAttribute("index", i);
+			repository.save(session);
+			ids.add(session.getId());
+		}
+		ids.forEach(repository::deleteById);
+		MapSession large = repository.createSession();
+		large.setAttribute("large", "x".repeat(40000));
+
+		repository.save(large);
+
+		assertThat(repository.findById(large.getId()).<String>getAttribute("large")).hasSize(40000);
+		assertThat(repository.getAllocatedCapacity()).isEqualTo(64 * 1024);
+	}
+
+	@Test
+	void saveWhenCapacityExceededThenException() {
+		OffHeapSessionRepository repository = new OffHeapSessionRepository(64 * 1024, 64 * 1024);
+		MapSession session = repository.createSession();
+		session.setAttribute("large", "x".repeat(100000));
+		assertThatIllegalStateException().isThrownBy(() -> repository.save(session));
+	}
+
+	@Test
+	void cleanUpExpiredSessionsThenExpiredSessionRemovedAndEventPublished() {
+		ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+		this.repository.setApplicationEventPublisher(eventPublisher);
+		MapSession expired = this.repository.createSession();
+		expired.setMaxInactiveInterval(Duration.ofSeconds(1));
+		expired.setLastAccessedTime(Instant.now().minus(5, ChronoUnit.MINUTES));
+		this.repository.save(expired);
+		MapSession active = this.repository.createSession();
+		this.repository.save(active);
+
+		this.repository.cleanUpExpiredSessions();
+
+		ArgumentCaptor<SessionExpiredEvent> event = ArgumentCaptor.forClass(SessionExpiredEvent.class);
+		verify(eventPublisher).publishEvent(event.capture());
+		assertThat(event.getValue().getSessionId()).isEqualTo(expired.getId());
+		assertThat(this.repository.getSessionCount()).isEqualTo(1);
+		assertThat(this.repository.findById(active.getId())).isNotNull();
+	}
+
+	@Test
+	void cleanUpExpiredSessionsWhenDeletedThenNoEvent() {
+		ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+		this.repository.setApplicationEventPublisher(eventPublisher);
+		MapSession session = this.repository.createSession();
+		session.setMaxInactiveInterval(Duration.ofSeconds(1));
+		session.setLastAccessedTime(Instant.now().minus(5, ChronoUnit.MINUTES));
+		this.repository.save(session);
+		this.repository.deleteById(session.getId());
+
+		this.repository.cleanUpExpiredSessions();
+
+		verifyNoInteractions(eventPublisher);
+	}
+
+}
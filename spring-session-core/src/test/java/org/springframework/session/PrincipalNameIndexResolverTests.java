@@ -63,4 +63,23 @@ class PrincipalNameIndexResolverTests {
 		assertThat(this.indexResolver.resolveIndexValueFor(session)).isEqualTo(PRINCIPAL_NAME);
 	}
 
+	@Test
+	void resolveFromSpringSecurityContextWithoutAuthentication() {
+		MapSession session = new MapSession();
+		session.setAttribute(SPRING_SECURITY_CONTEXT, new SecurityContextImpl());
+		assertThat(this.indexResolver.resolveIndexValueFor(session)).isNull();
+	}
+
+	@Test
+	void resolveFromObjectWithAuthenticationProperty() {
+		MapSession session = new MapSession();
+		session.setAttribute(SPRING_SECURITY_CONTEXT,
+				new CustomContext(new UsernamePasswordAuthenticationToken(PRINCIPAL_NAME, "notused")));
+		assertThat(this.indexResolver.resolveIndexValueFor(session)).isEqualTo(PRINCIPAL_NAME);
+	}
+
+	record CustomContext(Authentication authentication) {
+
+	}
+
 }
@@ -0,0 +1,66 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.CALLS_REAL_METHODS;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link ReactiveFindByIndexNameSessionRepository}.
+ *
+ * @author Spring Session Team
+ */
+class ReactiveFindByIndexNameSessionRepositoryTests {
+
+	@Test
+	void deleteByIndexNameAndIndexValueWhenSessionRepositoryThenFoundSessionsDeleted() {
+		IndexedSessionRepository repository = mock(IndexedSessionRepository.class, CALLS_REAL_METHODS);
+		MapSession session = new MapSession();
+		given(repository.findByIndexNameAndIndexValue("tenant", "acme"))
+			.willReturn(Mono.just(Map.of(session.getId(), session)));
+		given(repository.deleteById(anyString())).willReturn(Mono.empty());
+
+		StepVerifier.create(repository.deleteByIndexNameAndIndexValue("tenant", "acme")).verifyComplete();
+
+		verify(repository).deleteById(session.getId());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void deleteByIndexNameAndIndexValueWhenNotSessionRepositoryThenUnsupportedOperationException() {
+		ReactiveFindByIndexNameSessionRepository<MapSession> repository = mock(
+				ReactiveFindByIndexNameSessionRepository.class, CALLS_REAL_METHODS);
+
+		StepVerifier.create(repository.deleteByIndexNameAndIndexValue("tenant", "acme"))
+			.verifyError(UnsupportedOperationException.class);
+	}
+
+	interface IndexedSessionRepository
+			extends ReactiveSessionRepository<MapSession>, ReactiveFindByIndexNameSessionRepository<MapSession> {
+
+	}
+
+}
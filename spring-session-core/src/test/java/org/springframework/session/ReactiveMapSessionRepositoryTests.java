@@ -22,12 +22,20 @@ import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.session.events.SessionExpiredEvent;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 /**
  * Tests for {@link ReactiveMapSessionRepository}.
@@ -93,6 +101,16 @@ class ReactiveMapSessionRepositoryTests {
 		assertThat(sessions).isEmpty();
 	}
 
+	@Test
+	void findByIdWhenNotFoundThenSessionMapNotModified() {
+		Map<String, Session> sessions = mock(Map.class);
+		this.repository = new ReactiveMapSessionRepository(sessions);
+
+		assertThat(this.repository.findById("missing").block()).isNull();
+		verify(sessions).get("missing");
+		verifyNoMoreInteractions(sessions);
+	}
+
 	@Test
 	void createSessionWhenDefaultMaxInactiveIntervalThenDefaultMaxInactiveInterval() {
 		Session session = this.repository.createSession().block();
@@ -101,6 +119,16 @@ class ReactiveMapSessionRepositoryTests {
 		assertThat(session.getMaxInactiveInterval()).isEqualTo(new MapSession().getMaxInactiveInterval());
 	}
 
+	@Test
+	void createSessionWhenNonBlockingSessionIdGeneratorThenCreatedOnCallingThread() {
+		this.repository.setSessionIdGenerator(new SecureRandomSessionIdGenerator());
+		AtomicReference<Thread> thread = new AtomicReference<>();
+
+		this.repository.createSession().doOnNext((session) -> thread.set(Thread.currentThread())).subscribe();
+
+		assertThat(thread.get()).isSameAs(Thread.currentThread());
+	}
+
 	@Test
 	void createSessionWhenCustomMaxInactiveIntervalThenCustomMaxInactiveInterval() {
 		Duration expectedMaxInterval = new MapSession().getMaxInactiveInterval().plusSeconds(10);
@@ -179,4 +207,22 @@ class ReactiveMapSessionRepositoryTests {
 		assertThat(savedSession.changeSessionId()).isEqualTo("test");
 	}
 
+	@Test
+	void cleanUpExpiredSessionsThenExpiredSessionRemovedAndEventPublished() {
+		Map<String, Session> sessions = new ConcurrentHashMap<>();
+		this.repository = new ReactiveMapSessionRepository(sessions);
+		ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+		this.repository.setApplicationEventPublisher(eventPublisher);
+		this.session.setMaxInactiveInterval(Duration.ofMinutes(1));
+		this.session.setLastAccessedTime(Instant.now().minus(5, ChronoUnit.MINUTES));
+		this.repository.save(this.session).block();
+
+		this.repository.cleanUpExpiredSessions();
+
+		assertThat(sessions).isEmpty();
+		ArgumentCaptor<SessionExpiredEvent> event = ArgumentCaptor.forClass(SessionExpiredEvent.class);
+		verify(eventPublisher).publishEvent(event.capture());
+		assertThat(event.getValue().getSessionId()).isEqualTo(this.session.getId());
+	}
+
 }
@@ -0,0 +1,99 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.Sinks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link ReactiveSingleFlightSessionRepository}.
+ *
+ * @author Spring Session Team
+ */
+class ReactiveSingleFlightSessionRepositoryTests {
+
+	@SuppressWarnings("unchecked")
+	private final ReactiveSessionRepository<MapSession> delegate = mock(ReactiveSessionRepository.class);
+
+	private final ReactiveSingleFlightSessionRepository<MapSession> repository = new ReactiveSingleFlightSessionRepository<>(
+			this.delegate, MapSession::new);
+
+	@Test
+	void constructorWhenNullDelegateThenException() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new ReactiveSingleFlightSessionRepository<>(null, MapSession::new))
+			.withMessage("delegate cannot be null");
+	}
+
+	@Test
+	void findByIdWhenConcurrentThenSingleLookupAndIndependentCopies() {
+		MapSession stored = new MapSession("id");
+		stored.setAttribute("a", "b");
+		Sinks.One<MapSession> lookup = Sinks.one();
+		given(this.delegate.findById("id")).willReturn(lookup.asMono());
+
+		MapSession[] results = new MapSession[2];
+		this.repository.findById("id").subscribe((session) -> results[0] = session);
+		this.repository.findById("id").subscribe((session) -> results[1] = session);
+		lookup.tryEmitValue(stored);
+
+		verify(this.delegate).findById("id");
+		assertThat(results[0]).isNotSameAs(stored).isNotSameAs(results[1]);
+		results[0].setAttribute("a", "c");
+		assertThat(results[1].<String>getAttribute("a")).isEqualTo("b");
+		assertThat(stored.<String>getAttribute("a")).isEqualTo("b");
+	}
+
+	@Test
+	void findByIdWhenSequentialThenEachLooksUp() {
+		given(this.delegate.findById("id")).willReturn(Mono.just(new MapSession("id")));
+
+		this.repository.findById("id").block();
+		this.repository.findById("id").block();
+
+		verify(this.delegate, times(2)).findById("id");
+	}
+
+	@Test
+	void findByIdWhenNotFoundThenEmpty() {
+		given(this.delegate.findById("id")).willReturn(Mono.empty());
+
+		assertThat(this.repository.findById("id").block()).isNull();
+	}
+
+	@Test
+	void saveAndDeleteThenDelegates() {
+		MapSession session = new MapSession("id");
+		given(this.delegate.save(session)).willReturn(Mono.empty());
+		given(this.delegate.deleteById("id")).willReturn(Mono.empty());
+
+		this.repository.save(session).block();
+		this.repository.deleteById("id").block();
+
+		verify(this.delegate).save(session);
+		verify(this.delegate).deleteById("id");
+	}
+
+}
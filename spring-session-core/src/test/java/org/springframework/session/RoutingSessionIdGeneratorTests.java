@@ -0,0 +1,108 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.nio.charset.StandardCharsets;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+
+/**
+ * Tests for {@link RoutingSessionIdGenerator}.
+ *
+ * @author Spring Session Team
+ */
+class RoutingSessionIdGeneratorTests {
+
+	private static final byte[] KEY = "0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8);
+
+	private final RoutingSessionIdGenerator generator = new RoutingSessionIdGenerator(() -> "shard-7", KEY);
+
+	@Test
+	void constructorWhenKeyTooShortThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new RoutingSessionIdGenerator(() -> "1", new byte[8]))
+			.withMessage("key must have at least 16 bytes");
+	}
+
+	@Test
+	void generateThenRouteResolved() {
+		String id = this.generator.generate();
+		assertThat(id).matches("[A-Za-z0-9_-]+\\.shard-7\\.[A-Za-z0-9_-]+");
+		assertThat(this.generator.resolveRoute(id)).isEqualTo("shard-7");
+	}
+
+	@Test
+	void generateWhenUuidDelegateThenRouteResolved() {
+		RoutingSessionIdGenerator generator = new RoutingSessionIdGenerator(UuidSessionIdGenerator.getInstance(),
+				() -> "node1-42", KEY);
+		assertThat(generator.resolveRoute(generator.generate())).isEqualTo("node1-42");
+		assertThat(generator.isBlocking()).isTrue();
+	}
+
+	@Test
+	void generateWhenInvalidRouteThenException() {
+		RoutingSessionIdGenerator generator = new RoutingSessionIdGenerator(() -> "a.b", KEY);
+		assertThatIllegalStateException().isThrownBy(generator::generate).withMessage("Invalid route a.b");
+	}
+
+	@Test
+	void generateWhenLongerThanMaxIdLengthThenException() {
+		this.generator.setMaxIdLength(36);
+		assertThatIllegalStateException().isThrownBy(this.generator::generate)
+			.withMessage("Generated id of 42 characters exceeds maxIdLength 36");
+	}
+
+	@Test
+	void generateWhenWithinMaxIdLengthThenGenerated() {
+		RoutingSessionIdGenerator generator = new RoutingSessionIdGenerator(() -> "7", KEY);
+		generator.setMaxIdLength(36);
+		assertThat(generator.generate()).hasSize(36);
+	}
+
+	@Test
+	void resolveRouteWhenRouteTamperedThenNull() {
+		String id = this.generator.generate();
+		String tampered = id.replace(".shard-7.", ".shard-8.");
+		assertThat(this.generator.resolveRoute(tampered)).isNull();
+	}
+
+	@Test
+	void resolveRouteWhenRandomPartTamperedThenNull() {
+		String id = this.generator.generate();
+		String tampered = ((id.charAt(0) == 'A') ? "B" : "A") + id.substring(1);
+		assertThat(this.generator.resolveRoute(tampered)).isNull();
+	}
+
+	@Test
+	void resolveRouteWhenOtherKeyThenNull() {
+		RoutingSessionIdGenerator other = new RoutingSessionIdGenerator(() -> "shard-7",
+				"fedcba9876543210fedcba9876543210".getBytes(StandardCharsets.UTF_8));
+		assertThat(other.resolveRoute(this.generator.generate())).isNull();
+	}
+
+	@Test
+	void resolveRouteWhenNoRouteThenNull() {
+		assertThat(this.generator.resolveRoute(null)).isNull();
+		assertThat(this.generator.resolveRoute("plain-id")).isNull();
+		assertThat(this.generator.resolveRoute("a.b")).isNull();
+		assertThat(this.generator.resolveRoute("a.b.!!")).isNull();
+	}
+
+}
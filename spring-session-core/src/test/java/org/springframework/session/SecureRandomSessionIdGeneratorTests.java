@@ -0,0 +1,132 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.security.SecureRandom;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link SecureRandomSessionIdGenerator}.
+ *
+ * @author Spring Session Team
+ */
+class SecureRandomSessionIdGeneratorTests {
+
+	@Test
+	void constructorWhenIdBitsTooSmallThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new SecureRandomSessionIdGenerator(64))
+			.withMessage("idBits must be a multiple of 8 between 128 and 256");
+	}
+
+	@Test
+	void constructorWhenIdBitsNotMultipleOfEightThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new SecureRandomSessionIdGenerator(130))
+			.withMessage("idBits must be a multiple of 8 between 128 and 256");
+	}
+
+	@Test
+	void setReseedIntervalWhenNegativeThenException() {
+		SecureRandomSessionIdGenerator generator = new SecureRandomSessionIdGenerator();
+		assertThatIllegalArgumentException().isThrownBy(() -> generator.setReseedInterval(-1))
+			.withMessage("reseedInterval cannot be negative");
+	}
+
+	@Test
+	void generateWhenDefaultThen128BitBase64UrlId() {
+		String id = new SecureRandomSessionIdGenerator().generate();
+		assertThat(id).hasSize(22).matches("[A-Za-z0-9_-]+");
+	}
+
+	@Test
+	void generateWhen256BitsThen43Characters() {
+		assertThat(new SecureRandomSessionIdGenerator(256).generate()).hasSize(43);
+	}
+
+	@Test
+	void generateWhenConcurrentThenUniqueIds() throws Exception {
+		SecureRandomSessionIdGenerator generator = new SecureRandomSessionIdGenerator();
+		Set<String> ids = ConcurrentHashMap.newKeySet();
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		for (int i = 0; i < 4; i++) {
+			executor.execute(() -> {
+				for (int j = 0; j < 10000; j++) {
+					ids.add(generator.generate());
+				}
+			});
+		}
+		executor.shutdown();
+		assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+		assertThat(ids).hasSize(40000);
+	}
+
+	@Test
+	void generateWhenReseedIntervalThenReseeded() {
+		AtomicInteger reseeds = new AtomicInteger();
+		SecureRandomSessionIdGenerator generator = new SecureRandomSessionIdGenerator(128, () -> new SecureRandom() {
+
+			@Override
+			public void reseed() {
+				reseeds.incrementAndGet();
+			}
+
+		});
+		generator.setReseedInterval(10);
+		for (int i = 0; i < 100; i++) {
+			generator.generate();
+		}
+		assertThat(reseeds).hasValue(9);
+	}
+
+	@Test
+	void constructorThenSecureRandomsCreatedAndSeeded() {
+		AtomicInteger seeded = new AtomicInteger();
+		new SecureRandomSessionIdGenerator(128, () -> new SecureRandom() {
+
+			@Override
+			public void nextBytes(byte[] bytes) {
+				seeded.incrementAndGet();
+				super.nextBytes(bytes);
+			}
+
+		});
+		assertThat(seeded).hasPositiveValue();
+	}
+
+	@Test
+	void isBlockingThenFalse() {
+		assertThat(new SecureRandomSessionIdGenerator().isBlocking()).isFalse();
+		assertThat(UuidSessionIdGenerator.getInstance().isBlocking()).isTrue();
+	}
+
+	@Test
+	void isBlockingWhenReseedIntervalThenTrue() {
+		SecureRandomSessionIdGenerator generator = new SecureRandomSessionIdGenerator();
+		generator.setReseedInterval(1000);
+		assertThat(generator.isBlocking()).isTrue();
+	}
+
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link SessionExpirationSweeper}.
+ *
+ * @author Spring Session Team
+ */
+class SessionExpirationSweeperTests {
+
+	@Test
+	void constructorWhenIntervalZeroThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new SessionExpirationSweeper(() -> {
+		}, Duration.ZERO)).withMessage("interval must be at least one millisecond");
+	}
+
+	@Test
+	void sweeperThenRunsTaskRepeatedlyEvenAfterFailure() throws Exception {
+		CountDownLatch runs = new CountDownLatch(3);
+		try (SessionExpirationSweeper sweeper = new SessionExpirationSweeper(() -> {
+			runs.countDown();
+			throw new IllegalStateException("failed");
+		}, Duration.ofMillis(10))) {
+			assertThat(runs.await(5, TimeUnit.SECONDS)).isTrue();
+		}
+	}
+
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SessionExpirationWheel}.
+ *
+ * @author Spring Session Team
+ */
+class SessionExpirationWheelTests {
+
+	private static final Instant START = Instant.ofEpochSecond(1_000_000);
+
+	private final SessionExpirationWheel wheel = new SessionExpirationWheel(Duration.ofSeconds(1), START);
+
+	@Test
+	void expireWhenBeforeDeadlineThenNothingExpired() {
+		this.wheel.schedule("id", START.plusSeconds(10));
+
+		assertThat(this.wheel.expire(START.plusSeconds(9))).isEmpty();
+		assertThat(this.wheel.expire(START.plusSeconds(10))).containsExactly("id");
+		assertThat(this.wheel.size()).isZero();
+	}
+
+	@Test
+	void expireWhenDeadlineOnHigherLevelThenExpiredAtDeadline() {
+		this.wheel.schedule("minutes", START.plus(Duration.ofMinutes(30)));
+		this.wheel.schedule("days", START.plus(Duration.ofDays(3)));
+
+		assertThat(this.wheel.expire(START.plus(Duration.ofMinutes(30)).minusSeconds(1))).isEmpty();
+		assertThat(this.wheel.expire(START.plus(Duration.ofMinutes(30)))).containsExactly("minutes");
+		assertThat(this.wheel.expire(START.plus(Duration.ofDays(3)).minusSeconds(1))).isEmpty();
+		assertThat(this.wheel.expire(START.plus(Duration.ofDays(3)))).containsExactly("days");
+	}
+
+	@Test
+	void expireWhenAlreadyExpiredThenExpiredOnNextTick() {
+		this.wheel.schedule("id", START.minusSeconds(60));
+
+		assertThat(this.wheel.expire(START.plusSeconds(1))).containsExactly("id");
+	}
+
+	@Test
+	void scheduleWhenRescheduledThenLatestDeadlineApplies() {
+		this.wheel.schedule("id", START.plusSeconds(10));
+		this.wheel.schedule("id", START.plusSeconds(100));
+
+		assertThat(this.wheel.expire(START.plusSeconds(99))).isEmpty();
+		assertThat(this.wheel.expire(START.plusSeconds(100))).containsExactly("id");
+	}
+
+	@Test
+	void removeThenNotExpired() {
+		this.wheel.schedule("id", START.plusSeconds(10));
+		this.wheel.remove("id");
+
+		assertThat(this.wheel.expire(START.plusSeconds(20))).isEmpty();
+		assertThat(this.wheel.size()).isZero();
+	}
+
+	@Test
+	void expireWhenBeyondRangeThenExpired() {
+		this.wheel.schedule("soon", START.plusSeconds(10));
+		this.wheel.schedule("later", START.plus(Duration.ofDays(1000)));
+
+		assertThat(this.wheel.expire(START.plus(Duration.ofDays(500)))).containsExactly("soon");
+		assertThat(this.wheel.expire(START.plus(Duration.ofDays(1000)))).containsExactly("later");
+	}
+
+	@Test
+	void expireWhenRandomDeadlinesThenEachExpiredExactlyOnceNotBeforeDeadline() {
+		Random random = new Random(42);
+		Map<String, Long> deadlines = new HashMap<>();
+		for (int i = 0; i < 5000; i++) {
+			long seconds = 1 + random.nextInt(300_000);
+			deadlines.put("id-" + i, seconds);
+			this.wheel.schedule("id-" + i, START.plusSeconds(seconds));
+		}
+		List<String> expired = new ArrayList<>();
+		for (long second = 0; second <= 300_000; second += 1 + random.nextInt(5000)) {
+			long now = second;
+			List<String> batch = this.wheel.expire(START.plusSeconds(now));
+			batch.forEach((id) -> assertThat(deadlines.get(id)).isLessThanOrEqualTo(now));
+			expired.addAll(batch);
+		}
+		expired.addAll(this.wheel.expire(START.plusSeconds(300_000)));
+
+		assertThat(expired).hasSize(deadlines.size()).doesNotHaveDuplicates();
+	}
+
+	@Test
+	void expireWhenSparseDeadlinesThenEachExpiredAtDeadline() {
+		Random random = new Random(7);
+		Map<String, Long> deadlines = new HashMap<>();
+		for (int i = 0; i < 200; i++) {
+			long seconds = 1 + random.nextInt(100_000);
+			deadlines.put("id-" + i, seconds);
+			this.wheel.schedule("id-" + i, START.plusSeconds(seconds));
+		}
+		for (long second = 1; second <= 100_000; second += 1 + random.nextInt(200)) {
+			long now = second;
+			List<String> batch = this.wheel.expire(START.plusSeconds(now));
+			batch.forEach((id) -> assertThat(deadlines.remove(id)).isLessThanOrEqualTo(now));
+			assertThat(deadlines.values()).allMatch((deadline) -> deadline > now);
+		}
+		assertThat(this.wheel.expire(START.plusSeconds(100_000))).hasSameSizeAs(deadlines.keySet());
+	}
+
+}
@@ -0,0 +1,72 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link SessionMetadata}.
+ *
+ * @author Spring Session Team
+ */
+class SessionMetadataTests {
+
+	@Test
+	void fromSessionThenPrincipalAndAttributeNamesResolved() {
+		MapSession session = new MapSession();
+		session.setAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, "john");
+		session.setAttribute("attribute", "value");
+
+		SessionMetadata metadata = SessionMetadata.from(session);
+
+		assertThat(metadata.getId()).isEqualTo(session.getId());
+		assertThat(metadata.getCreationTime()).isEqualTo(session.getCreationTime());
+		assertThat(metadata.getLastAccessedTime()).isEqualTo(session.getLastAccessedTime());
+		assertThat(metadata.getMaxInactiveInterval()).isEqualTo(session.getMaxInactiveInterval());
+		assertThat(metadata.getPrincipalName()).isEqualTo("john");
+		assertThat(metadata.getAttributeNames())
+			.containsExactlyInAnyOrder(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, "attribute");
+	}
+
+	@Test
+	void isExpiredWhenLastAccessedBeforeMaxInactiveIntervalThenTrue() {
+		SessionMetadata expired = new SessionMetadata("id", Instant.EPOCH, Instant.now().minus(Duration.ofMinutes(31)),
+				Duration.ofMinutes(30), null, Collections.emptySet());
+		SessionMetadata active = new SessionMetadata("id", Instant.EPOCH, Instant.now(), Duration.ofMinutes(30), null,
+				Collections.emptySet());
+		SessionMetadata neverExpires = new SessionMetadata("id", Instant.EPOCH, Instant.EPOCH, Duration.ofSeconds(-1),
+				null, Collections.emptySet());
+
+		assertThat(expired.isExpired()).isTrue();
+		assertThat(active.isExpired()).isFalse();
+		assertThat(neverExpires.isExpired()).isFalse();
+	}
+
+	@Test
+	void constructorWhenNullIdThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new SessionMetadata(null, Instant.EPOCH, Instant.EPOCH,
+				Duration.ZERO, null, Collections.emptySet()));
+	}
+
+}
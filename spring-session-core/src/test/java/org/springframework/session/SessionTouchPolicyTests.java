@@ -0,0 +1,95 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.time.Duration;
+import java.time.Instant;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link SessionTouchPolicy}.
+ *
+ * @author Spring Session Team
+ */
+class SessionTouchPolicyTests {
+
+	private final Instant now = Instant.parse("2026-01-01T00:00:00Z");
+
+	@Test
+	void alwaysThenTouches() {
+		MapSession session = createSession(this.now, Duration.ofMinutes(30));
+		assertThat(SessionTouchPolicy.always().shouldTouch(session, this.now)).isTrue();
+	}
+
+	@Test
+	void olderThanWhenRecentlyAccessedThenDoesNotTouch() {
+		MapSession session = createSession(this.now.minusSeconds(59), Duration.ofMinutes(30));
+		assertThat(SessionTouchPolicy.olderThan(Duration.ofMinutes(1)).shouldTouch(session, this.now)).isFalse();
+	}
+
+	@Test
+	void olderThanWhenThresholdReachedThenTouches() {
+		MapSession session = createSession(this.now.minusSeconds(60), Duration.ofMinutes(30));
+		assertThat(SessionTouchPolicy.olderThan(Duration.ofMinutes(1)).shouldTouch(session, this.now)).isTrue();
+	}
+
+	@Test
+	void olderThanWhenNegativeThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> SessionTouchPolicy.olderThan(Duration.ofSeconds(-1)))
+			.withMessage("threshold cannot be negative");
+	}
+
+	@Test
+	void olderThanFractionWhenRecentlyAccessedThenDoesNotTouch() {
+		MapSession session = createSession(this.now.minusSeconds(179), Duration.ofMinutes(30));
+		assertThat(SessionTouchPolicy.olderThanFractionOfMaxInactiveInterval(0.1).shouldTouch(session, this.now))
+			.isFalse();
+	}
+
+	@Test
+	void olderThanFractionWhenThresholdReachedThenTouches() {
+		MapSession session = createSession(this.now.minusSeconds(180), Duration.ofMinutes(30));
+		assertThat(SessionTouchPolicy.olderThanFractionOfMaxInactiveInterval(0.1).shouldTouch(session, this.now))
+			.isTrue();
+	}
+
+	@Test
+	void olderThanFractionWhenNoMaxInactiveIntervalThenTouches() {
+		MapSession session = createSession(this.now, Duration.ofSeconds(-1));
+		assertThat(SessionTouchPolicy.olderThanFractionOfMaxInactiveInterval(0.5).shouldTouch(session, this.now))
+			.isTrue();
+	}
+
+	@Test
+	void olderThanFractionWhenOutOfRangeThenException() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> SessionTouchPolicy.olderThanFractionOfMaxInactiveInterval(1.5))
+			.withMessage("fraction must be between 0 and 1");
+	}
+
+	private static MapSession createSession(Instant lastAccessedTime, Duration maxInactiveInterval) {
+		MapSession session = new MapSession();
+		session.setLastAccessedTime(lastAccessedTime);
+		session.setMaxInactiveInterval(maxInactiveInterval);
+		return session;
+	}
+
+}
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link SingleFlightSessionRepository}.
+ *
+ * @author Spring Session Team
+ */
+class SingleFlightSessionRepositoryTests {
+
+	@SuppressWarnings("unchecked")
+	private final SessionRepository<MapSession> delegate = mock(SessionRepository.class);
+
+	private final SingleFlightSessionRepository<MapSession> repository = new SingleFlightSessionRepository<>(
+			this.delegate, MapSession::new);
+
+	@Test
+	void constructorWhenNullDelegateThenException() {
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new SingleFlightSessionRepository<>(null, MapSession::new))
+			.withMessage("delegate cannot be null");
+	}
+
+	@Test
+	void constructorWhenNullSessionCopierThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new SingleFlightSessionRepository<>(this.delegate, null))
+			.withMessage("sessionCopier cannot be null");
+	}
+
+	@Test
+	void findByIdWhenConcurrentThenSingleLookupAndIndependentCopies() throws Exception {
+		MapSession stored = new MapSession("id");
+		stored.setAttribute("a", "b");
+		CountDownLatch lookupStarted = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		willAnswer((invocation) -> {
+			lookupStarted.countDown();
+			release.await();
+			return stored;
+		}).given(this.delegate).findById("id");
+
+		CompletableFuture<MapSession> leader = CompletableFuture.supplyAsync(() -> this.repository.findById("id"));
+		assertThat(lookupStarted.await(5, TimeUnit.SECONDS)).isTrue();
+		Thread follower = new Thread(() -> this.repository.findById("id").setAttribute("a", "c"));
+		follower.start();
+		awaitWaiting(follower);
+		release.countDown();
+		follower.join(5000);
+		MapSession leaderSession = leader.get(5, TimeUnit.SECONDS);
+
+		verify(this.delegate).findById("id");
+		assertThat(leaderSession).isSameAs(stored);
+		assertThat(leaderSession.<String>getAttribute("a")).isEqualTo("b");
+	}
+
+	@Test
+	void findByIdWhenSequentialThenEachLooksUp() {
+		given(this.delegate.findById("id")).willReturn(new MapSession("id"));
+
+		this.repository.findById("id");
+		this.repository.findById("id");
+
+		verify(this.delegate, times(2)).findById("id");
+	}
+
+	@Test
+	void findByIdWhenNotFoundThenNull() {
+		assertThat(this.repository.findById("id")).isNull();
+	}
+
+	@Test
+	void findByIdWhenDelegateFailsThenException() {
+		given(this.delegate.findById("id")).willThrow(new IllegalStateException("store unavailable"));
+
+		assertThatIllegalStateException().isThrownBy(() -> this.repository.findById("id"))
+			.withMessage("store unavailable");
+	}
+
+	@Test
+	void saveAndDeleteThenDelegates() {
+		MapSession session = new MapSession("id");
+
+		this.repository.save(session);
+		this.repository.deleteById("id");
+
+		verify(this.delegate).save(session);
+		verify(this.delegate).deleteById("id");
+	}
+
+	private static void awaitWaiting(Thread thread) throws InterruptedException {
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		while (thread.getState() != Thread.State.WAITING && System.nanoTime() < deadline) {
+			Thread.sleep(1);
+		}
+	}
+
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.codec;
+
+import java.io.Serializable;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import org.springframework.core.serializer.support.SerializationFailedException;
+import org.springframework.core.serializer.support.SerializingConverter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link BinarySessionAttributeCodec}.
+ *
+ * @author Spring Session Team
+ */
+class BinarySessionAttributeCodecTests {
+
+	private final BinarySessionAttributeCodec codec = new BinarySessionAttributeCodec();
+
+	static List<Object> values() {
+		Map<String, Object> map = new LinkedHashMap<>();
+		map.put("b", 1);
+		map.put("a", List.of("immutable"));
+		return List.of("", "text with ünicode", 0, -1, Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MIN_VALUE, 42L, true,
+				false, 1.5d, Double.NaN, -2.5f, (short) -3, (byte) 7, 'x', Instant.parse("2026-01-01T10:15:30.5Z"),
+				Duration.ofMillis(-1500), UUID.randomUUID(), new HashMap<>(Map.of("k", "v")), map,
+				new ArrayList<>(List.of(1, "two", 3L)), new HashSet<>(Set.of("a", "b")),
+				new LinkedHashSet<>(List.of("z", "y")), new TreeMap<>(Map.of("t", 1)), new Custom("custom"));
+	}
+
+	@ParameterizedTest
+	@MethodSource("values")
+	void decodeWhenEncodedThenEqual(Object value) {
+		Object decoded = this.codec.decode(this.codec.encode(value));
+		assertThat(decoded).isEqualTo(value);
+		assertThat(decoded).hasSameClassAs(value);
+	}
+
+	@Test
+	void decodeWhenNullThenNull() {
+		assertThat(this.codec.decode(this.codec.encode(null))).isNull();
+	}
+
+	@Test
+	void decodeWhenByteArrayThenEqual() {
+		byte[] bytes = { 1, 2, 3 };
+		assertThat((byte[]) this.codec.decode(this.codec.encode(bytes))).containsExactly(1, 2, 3);
+	}
+
+	@Test
+	void decodeWhenWrittenWithJavaSerializationThenDecoded() {
+		byte[] bytes = new SerializingConverter().convert(new Custom("legacy"));
+		assertThat(this.codec.decode(bytes)).isEqualTo(new Custom("legacy"));
+	}
+
+	@Test
+	void encodeWhenCommonTypeThenSmallerThanJavaSerialization() {
+		SerializingConverter serializer = new SerializingConverter();
+		assertThat(this.codec.encode("value")).hasSizeLessThan(serializer.convert("value").length);
+		assertThat(this.codec.encode(42L)).hasSizeLessThan(serializer.convert(42L).length / 10);
+	}
+
+	@Test
+	void encodeWhenOtherTypeThenJavaSerialization() {
+		assertThat(this.codec.encode(new Custom("other")))
+			.isEqualTo(new SerializingConverter().convert(new Custom("other")));
+	}
+
+	@Test
+	void decodeWhenTruncatedThenException() {
+		byte[] bytes = this.codec.encode("value");
+		byte[] truncated = new byte[bytes.length - 1];
+		System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+		assertThatExceptionOfType(SerializationFailedException.class).isThrownBy(() -> this.codec.decode(truncated));
+	}
+
+	@Test
+	void decodeWhenUnknownTagThenException() {
+		assertThatExceptionOfType(SerializationFailedException.class)
+			.isThrownBy(() -> this.codec.decode(new byte[] { 99 }))
+			.withMessage("Unknown attribute value tag 99");
+	}
+
+	record Custom(String name) implements Serializable {
+
+	}
+
+}
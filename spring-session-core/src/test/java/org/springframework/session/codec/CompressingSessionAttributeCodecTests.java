@@ -0,0 +1,168 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.codec;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.serializer.support.SerializationFailedException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link CompressingSessionAttributeCodec} and
+ * {@link SessionAttributeDictionary}.
+ *
+ * @author Spring Session Team
+ */
+class CompressingSessionAttributeCodecTests {
+
+	private final BinarySessionAttributeCodec delegate = new BinarySessionAttributeCodec();
+
+	@Test
+	void encodeWhenBelowThresholdThenDelegateEncoding() {
+		CompressingSessionAttributeCodec codec = new CompressingSessionAttributeCodec(this.delegate);
+		assertThat(codec.encode("small")).isEqualTo(this.delegate.encode("small"));
+		assertThat(codec.decode(codec.encode("small"))).isEqualTo("small");
+	}
+
+	@Test
+	void encodeWhenAboveThresholdThenCompressed() {
+		CompressingSessionAttributeCodec codec = new CompressingSessionAttributeCodec(this.delegate);
+		Map<String, Object> value = attributes(0);
+		byte[] encoded = codec.encode(value);
+		assertThat(encoded).hasSizeLessThan(this.delegate.encode(value).length);
+		assertThat(codec.decode(encoded)).isEqualTo(value);
+	}
+
+	@Test
+	void encodeWhenDictionaryThenSmallerThanWithout() {
+		SessionAttributeDictionary dictionary = SessionAttributeDictionary.train(1, samples(), 4096);
+		CompressingSessionAttributeCodec codec = new CompressingSessionAttributeCodec(this.delegate, dictionary);
+		codec.setThreshold(0);
+		CompressingSessionAttributeCodec plain = new CompressingSessionAttributeCodec(this.delegate);
+		plain.setThreshold(0);
+		Map<String, Object> value = attributes(1000);
+		byte[] encoded = codec.encode(value);
+		assertThat(encoded).hasSizeLessThan(plain.encode(value).length);
+		assertThat(codec.decode(encoded)).isEqualTo(value);
+	}
+
+	@Test
+	void decodeWhenPreviousDictionaryThenDecoded() {
+		SessionAttributeDictionary previous = SessionAttributeDictionary.train(1, samples(), 4096);
+		SessionAttributeDictionary current = SessionAttributeDictionary.train(2, samples(), 1024);
+		CompressingSessionAttributeCodec old = new CompressingSessionAttributeCodec(this.delegate, previous);
+		CompressingSessionAttributeCodec codec = new CompressingSessionAttributeCodec(this.delegate, current, previous);
+		Map<String, Object> value = attributes(7);
+		assertThat(codec.decode(old.encode(value))).isEqualTo(value);
+	}
+
+	@Test
+	void decodeWhenUnknownDictionaryThenSerializationFailedException() {
+		SessionAttributeDictionary dictionary = SessionAttributeDictionary.train(1, samples(), 4096);
+		byte[] encoded = new CompressingSessionAttributeCodec(this.delegate, dictionary).encode(attributes(3));
+		CompressingSessionAttributeCodec codec = new CompressingSessionAttributeCodec(this.delegate);
+		assertThatExceptionOfType(SerializationFailedException.class).isThrownBy(() -> codec.decode(encoded))
+			.withMessage("Unknown compression dictionary 1");
+	}
+
+	@Test
+	void decodeWhenTruncatedThenSerializationFailedException() {
+		CompressingSessionAttributeCodec codec = new CompressingSessionAttributeCodec(this.delegate);
+		byte[] encoded = codec.encode(attributes(5));
+		byte[] truncated = new byte[encoded.length / 2];
+		System.arraycopy(encoded, 0, truncated, 0, truncated.length);
+		assertThatExceptionOfType(SerializationFailedException.class).isThrownBy(() -> codec.decode(truncated));
+	}
+
+	@Test
+	void constructorWhenDuplicateDictionaryIdThenIllegalArgumentException() {
+		SessionAttributeDictionary dictionary = new SessionAttributeDictionary(1, new byte[] { 1 });
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> new CompressingSessionAttributeCodec(this.delegate, dictionary,
+					new SessionAttributeDictionary(1, new byte[] { 2 })))
+			.withMessage("Duplicate dictionary id 1");
+	}
+
+	@Test
+	void constructorWhenInvalidDictionaryIdThenIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new SessionAttributeDictionary(0, new byte[] { 1 }))
+			.withMessage("id must be between 1 and 65535");
+	}
+
+	@Test
+	void trainWhenSamplesThenDictionaryWithinMaxSize() {
+		SessionAttributeDictionary dictionary = SessionAttributeDictionary.train(3, samples(), 512);
+		assertThat(dictionary.getId()).isEqualTo(3);
+		assertThat(dictionary.getContent()).isNotEmpty().hasSizeLessThanOrEqualTo(512);
+	}
+
+	@Test
+	void trainWhenSharedRunThenRunSelectedOnce() {
+		byte[] shared = "org.springframework.security.core.context.SecurityContextImpl"
+			.getBytes(StandardCharsets.ISO_8859_1);
+		Random random = new Random(42);
+		List<byte[]> samples = new ArrayList<>();
+		for (int i = 0; i < 5; i++) {
+			byte[] sample = new byte[shared.length + 64];
+			random.nextBytes(sample);
+			System.arraycopy(shared, 0, sample, 32, shared.length);
+			samples.add(sample);
+		}
+		SessionAttributeDictionary dictionary = SessionAttributeDictionary.train(1, samples, 4096);
+		assertThat(dictionary.getContent()).isEqualTo(shared);
+	}
+
+	@Test
+	void trainWhenSamplesReorderedThenSameDictionary() {
+		List<byte[]> samples = samples();
+		List<byte[]> reversed = new ArrayList<>(samples);
+		Collections.reverse(reversed);
+		assertThat(SessionAttributeDictionary.train(1, reversed, 1024).getContent())
+			.isEqualTo(SessionAttributeDictionary.train(1, samples, 1024).getContent());
+	}
+
+	private List<byte[]> samples() {
+		List<byte[]> samples = new ArrayList<>();
+		for (int i = 0; i < 20; i++) {
+			samples.add(this.delegate.encode(attributes(i)));
+		}
+		return samples;
+	}
+
+	private static Map<String, Object> attributes(int user) {
+		Map<String, Object> attributes = new LinkedHashMap<>();
+		attributes.put("org.springframework.security.web.savedrequest.SavedRequest",
+				"https://example.com/account/settings?user=" + user);
+		attributes.put("org.springframework.web.servlet.i18n.SessionLocaleResolver.LOCALE", "en_US");
+		attributes.put("username", "user-" + user);
+		attributes.put("roles", new ArrayList<>(List.of("ROLE_USER", "ROLE_ACCOUNT_MANAGER", "ROLE_REPORTING")));
+		attributes.put("lastVisitedPage", "/account/settings/notifications/preferences");
+		return attributes;
+	}
+
+}
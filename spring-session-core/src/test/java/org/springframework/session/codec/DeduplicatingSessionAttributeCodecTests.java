@@ -0,0 +1,128 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.codec;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextImpl;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link DeduplicatingSessionAttributeCodec} and
+ * {@link MapSessionAttributeContentStore}.
+ *
+ * @author Spring Session Team
+ */
+class DeduplicatingSessionAttributeCodecTests {
+
+	private final BinarySessionAttributeCodec delegate = new BinarySessionAttributeCodec();
+
+	private MapSessionAttributeContentStore store;
+
+	private DeduplicatingSessionAttributeCodec codec;
+
+	@BeforeEach
+	void setUp() {
+		this.store = spy(new MapSessionAttributeContentStore());
+		this.codec = new DeduplicatingSessionAttributeCodec(this.delegate, this.store);
+	}
+
+	@Test
+	void encodeWhenSecurityContextThenReferenceToSharedContent() {
+		byte[] reference = this.codec.encode(securityContext("user"));
+		assertThat(reference).hasSize(34);
+		assertThat(this.store.size()).isEqualTo(1);
+		SecurityContext decoded = (SecurityContext) this.codec.decode(reference);
+		assertThat(decoded.getAuthentication().getName()).isEqualTo("user");
+	}
+
+	@Test
+	void encodeWhenSameSecurityContextThenSingleCopyWrittenOnce() {
+		byte[] first = this.codec.encode(securityContext("user"));
+		byte[] second = this.codec.encode(securityContext("user"));
+		this.codec.encode(securityContext("other"));
+		assertThat(first).isEqualTo(second);
+		assertThat(this.store.size()).isEqualTo(2);
+		verify(this.store, times(2)).put(anyString(), any(), any());
+	}
+
+	@Test
+	void encodeWhenOtherValueThenDelegateEncoding() {
+		assertThat(this.codec.encode("value")).isEqualTo(this.delegate.encode("value"));
+		assertThat(this.codec.decode(this.codec.encode("value"))).isEqualTo("value");
+		assertThat(this.store.size()).isZero();
+	}
+
+	@Test
+	void decodeWhenNotCachedThenReadFromStore() {
+		byte[] reference = this.codec.encode(securityContext("user"));
+		DeduplicatingSessionAttributeCodec otherNode = new DeduplicatingSessionAttributeCodec(this.delegate,
+				this.store);
+		SecurityContext decoded = (SecurityContext) otherNode.decode(reference);
+		assertThat(decoded.getAuthentication().getName()).isEqualTo("user");
+	}
+
+	@Test
+	void decodeWhenContentMissingThenNull() {
+		byte[] reference = this.codec.encode(securityContext("user"));
+		DeduplicatingSessionAttributeCodec otherNode = new DeduplicatingSessionAttributeCodec(this.delegate,
+				new MapSessionAttributeContentStore());
+		assertThat(otherNode.decode(reference)).isNull();
+	}
+
+	@Test
+	void encodeWhenHalfTimeToLiveElapsedThenTimeToLiveExtended() {
+		Instant now = Instant.now();
+		this.codec.setClock(Clock.fixed(now, ZoneOffset.UTC));
+		this.codec.encode(securityContext("user"));
+		this.codec.setClock(Clock.fixed(now.plus(Duration.ofHours(13)), ZoneOffset.UTC));
+		this.codec.encode(securityContext("user"));
+		verify(this.store, times(2)).put(anyString(), any(), any());
+	}
+
+	@Test
+	void getWhenExpiredThenNull() {
+		Instant now = Instant.now();
+		this.store.setClock(Clock.fixed(now, ZoneOffset.UTC));
+		this.store.put("hash", new byte[] { 1 }, Duration.ofMinutes(1));
+		assertThat(this.store.get("hash")).containsExactly(1);
+		this.store.setClock(Clock.fixed(now.plus(Duration.ofMinutes(2)), ZoneOffset.UTC));
+		assertThat(this.store.get("hash")).isNull();
+		assertThat(this.store.size()).isZero();
+	}
+
+	private static SecurityContext securityContext(String username) {
+		return new SecurityContextImpl(UsernamePasswordAuthenticationToken.authenticated(username, null,
+				AuthorityUtils.createAuthorityList("ROLE_USER")));
+	}
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.codec;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.convert.support.GenericConversionService;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link SessionAttributeCodecConverter}.
+ *
+ * @author Spring Session Team
+ */
+class SessionAttributeCodecConverterTests {
+
+	private final BinarySessionAttributeCodec codec = new BinarySessionAttributeCodec();
+
+	private final SessionAttributeCodecConverter converter = new SessionAttributeCodecConverter(this.codec);
+
+	@Test
+	void convertWhenRegisteredWithConversionServiceThenUsesCodec() {
+		GenericConversionService conversionService = new GenericConversionService();
+		conversionService.addConverter(this.converter);
+
+		byte[] bytes = conversionService.convert("value", byte[].class);
+
+		assertThat(bytes).isEqualTo(this.codec.encode("value"));
+		assertThat(conversionService.convert(bytes, Object.class)).isEqualTo("value");
+	}
+
+	@Test
+	void serializerAndDeserializerThenUseCodec() {
+		byte[] bytes = this.converter.serializer().convert(42);
+		assertThat(this.converter.deserializer().convert(bytes)).isEqualTo(42);
+	}
+
+}
@@ -30,8 +30,12 @@ import org.springframework.context.annotation.AnnotationConfigApplicationContext
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.mock.web.MockServletContext;
+import org.springframework.session.MapSession;
 import org.springframework.session.MapSessionRepository;
+import org.springframework.session.SessionCopier;
+import org.springframework.session.SessionCopierProvider;
 import org.springframework.session.SessionRepository;
+import org.springframework.session.SingleFlightSessionRepository;
 import org.springframework.session.security.web.authentication.SpringSessionRememberMeServices;
 import org.springframework.session.web.http.CookieHttpSessionIdResolver;
 import org.springframework.session.web.http.DefaultCookieSerializer;
@@ -83,6 +87,24 @@ class SpringHttpSessionConfigurationTests {
 		assertThat(this.context.getBean(SessionRepository.class)).isNotNull();
 	}
 
+	@Test
+	void sessionCopierProviderConfiguration() {
+		registerAndRefresh(SessionCopierProviderConfiguration.class);
+
+		SessionRepositoryFilter<?> sessionRepositoryFilter = this.context.getBean(SessionRepositoryFilter.class);
+		assertThat(ReflectionTestUtils.getField(sessionRepositoryFilter, "sessionRepository"))
+			.isInstanceOf(SingleFlightSessionRepository.class);
+	}
+
+	@Test
+	void sessionRepositoryWithoutSessionCopierThenNotSingleFlight() {
+		registerAndRefresh(DefaultConfiguration.class);
+
+		SessionRepositoryFilter<?> sessionRepositoryFilter = this.context.getBean(SessionRepositoryFilter.class);
+		assertThat(ReflectionTestUtils.getField(sessionRepositoryFilter, "sessionRepository"))
+			.isInstanceOf(MapSessionRepository.class);
+	}
+
 	@Test
 	void sessionCookieConfigConfiguration() {
 		registerAndRefresh(SessionCookieConfigConfiguration.class);
@@ -151,6 +173,17 @@ class SpringHttpSessionConfigurationTests {
 
 	}
 
+	@Configuration
+	@EnableSpringHttpSession
+	static class SessionCopierProviderConfiguration {
+
+		@Bean
+		CopyingMapSessionRepository sessionRepository() {
+			return new CopyingMapSessionRepository();
+		}
+
+	}
+
 	@Configuration
 	@EnableSpringHttpSession
 	static class SessionCookieConfigConfiguration extends BaseConfiguration {
@@ -189,4 +222,17 @@ class SpringHttpSessionConfigurationTests {
 
 	}
 
+	static class CopyingMapSessionRepository extends MapSessionRepository implements SessionCopierProvider<MapSession> {
+
+		CopyingMapSessionRepository() {
+			super(new ConcurrentHashMap<>());
+		}
+
+		@Override
+		public SessionCopier<MapSession> getSessionCopier() {
+			return MapSession::new;
+		}
+
+	}
+
 }
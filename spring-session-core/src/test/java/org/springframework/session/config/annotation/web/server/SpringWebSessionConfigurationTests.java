@@ -25,8 +25,13 @@ import org.springframework.beans.factory.UnsatisfiedDependencyException;
 import org.springframework.context.annotation.AnnotationConfigApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.session.MapSession;
 import org.springframework.session.ReactiveMapSessionRepository;
 import org.springframework.session.ReactiveSessionRepository;
+import org.springframework.session.ReactiveSingleFlightSessionRepository;
+import org.springframework.session.SessionCopier;
+import org.springframework.session.SessionCopierProvider;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.web.server.adapter.WebHttpHandlerBuilder;
 import org.springframework.web.server.session.CookieWebSessionIdResolver;
 import org.springframework.web.server.session.DefaultWebSessionManager;
@@ -103,6 +108,30 @@ class SpringWebSessionConfigurationTests {
 		assertThat(manager.getSessionIdResolver().getClass()).isAssignableFrom(HeaderWebSessionIdResolver.class);
 	}
 
+	@Test
+	void sessionCopierProviderThenSingleFlight() {
+
+		this.context = new AnnotationConfigApplicationContext();
+		this.context.register(SessionCopierProviderConfig.class);
+		this.context.refresh();
+
+		DefaultWebSessionManager manager = this.context.getBean(DefaultWebSessionManager.class);
+		assertThat(ReflectionTestUtils.getField(manager.getSessionStore(), "sessions"))
+			.isInstanceOf(ReactiveSingleFlightSessionRepository.class);
+	}
+
+	@Test
+	void noSessionCopierProviderThenNotSingleFlight() {
+
+		this.context = new AnnotationConfigApplicationContext();
+		this.context.register(GoodConfig.class);
+		this.context.refresh();
+
+		DefaultWebSessionManager manager = this.context.getBean(DefaultWebSessionManager.class);
+		assertThat(ReflectionTestUtils.getField(manager.getSessionStore(), "sessions"))
+			.isInstanceOf(ReactiveMapSessionRepository.class);
+	}
+
 	/**
 	 * A configuration with all the right parts.
 	 */
@@ -146,4 +175,29 @@ class SpringWebSessionConfigurationTests {
 
 	}
 
+	@Configuration(proxyBeanMethods = false)
+	@EnableSpringWebSession
+	static class SessionCopierProviderConfig {
+
+		@Bean
+		ReactiveSessionRepository<?> reactiveSessionRepository() {
+			return new CopyingReactiveMapSessionRepository();
+		}
+
+	}
+
+	static class CopyingReactiveMapSessionRepository extends ReactiveMapSessionRepository
+			implements SessionCopierProvider<MapSession> {
+
+		CopyingReactiveMapSessionRepository() {
+			super(new HashMap<>());
+		}
+
+		@Override
+		public SessionCopier<MapSession> getSessionCopier() {
+			return MapSession::new;
+		}
+
+	}
+
 }
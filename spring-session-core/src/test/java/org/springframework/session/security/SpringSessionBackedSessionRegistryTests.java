@@ -20,9 +20,8 @@ import java.security.Principal;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
 import java.util.Collections;
-import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Map;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -40,6 +39,7 @@ import org.springframework.security.core.userdetails.User;
 import org.springframework.session.FindByIndexNameSessionRepository;
 import org.springframework.session.MapSession;
 import org.springframework.session.Session;
+import org.springframework.session.SessionMetadata;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.given;
@@ -126,6 +126,14 @@ class SpringSessionBackedSessionRegistryTests {
 		assertThat(allSessionInfos).extracting("sessionId").containsExactly(SESSION_ID, SESSION_ID2);
 	}
 
+	@Test
+	void getAllSessionsResolvesPrincipalFromMetadata() {
+		setUpSessions();
+		List<SessionInformation> allSessionInfos = this.sessionRegistry.getAllSessions(PRINCIPAL, true);
+		assertThat(allSessionInfos).extracting("principal").containsExactly(USER_NAME, USER_NAME);
+		assertThat(allSessionInfos).extracting("expired").containsExactly(true, false);
+	}
+
 	@Test
 	void getNonExpiredSessions() {
 		setUpSessions();
@@ -167,10 +175,8 @@ class SpringSessionBackedSessionRegistryTests {
 		Session session1 = createSession(SESSION_ID, USER_NAME, NOW);
 		session1.setAttribute(SpringSessionBackedSessionInformation.EXPIRED_ATTR, Boolean.TRUE);
 		Session session2 = createSession(SESSION_ID2, USER_NAME, NOW);
-		Map<String, Session> sessions = new LinkedHashMap<>();
-		sessions.put(session1.getId(), session1);
-		sessions.put(session2.getId(), session2);
-		given(this.sessionRepository.findByPrincipalName(USER_NAME)).willReturn(sessions);
+		Stream<SessionMetadata> sessions = Stream.of(SessionMetadata.from(session1), SessionMetadata.from(session2));
+		given(this.sessionRepository.findSessionMetadataByPrincipalName(USER_NAME)).willReturn(sessions);
 	}
 
 	private static final class TestPrincipal implements Principal {
@@ -0,0 +1,69 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.web.http;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.session.web.http.SessionRequestPolicy.Mode;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link RequestMatchingSessionRequestPolicy}.
+ *
+ * @author Spring Session Team
+ */
+class RequestMatchingSessionRequestPolicyTests {
+
+	private final RequestMatchingSessionRequestPolicy policy = new RequestMatchingSessionRequestPolicy();
+
+	@Test
+	void getModeWhenNoMappingsThenFull() {
+		assertThat(this.policy.getMode(new MockHttpServletRequest())).isEqualTo(Mode.FULL);
+	}
+
+	@Test
+	void getModeWhenNoMappingMatchesThenDefaultMode() {
+		this.policy.addMapping((request) -> false, Mode.BYPASS);
+		this.policy.setDefaultMode(Mode.READ_ONLY);
+		assertThat(this.policy.getMode(new MockHttpServletRequest())).isEqualTo(Mode.READ_ONLY);
+	}
+
+	@Test
+	void getModeWhenMultipleMappingsMatchThenFirstWins() {
+		this.policy.addMapping((request) -> request.getRequestURI().startsWith("/static/"), Mode.BYPASS);
+		this.policy.addMapping((request) -> "GET".equals(request.getMethod()), Mode.READ_ONLY);
+		assertThat(this.policy.getMode(new MockHttpServletRequest("GET", "/static/app.js"))).isEqualTo(Mode.BYPASS);
+		assertThat(this.policy.getMode(new MockHttpServletRequest("GET", "/api"))).isEqualTo(Mode.READ_ONLY);
+		assertThat(this.policy.getMode(new MockHttpServletRequest("POST", "/api"))).isEqualTo(Mode.FULL);
+	}
+
+	@Test
+	void addMappingWhenNullRequestMatcherThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.policy.addMapping(null, Mode.BYPASS))
+			.withMessage("requestMatcher cannot be null");
+	}
+
+	@Test
+	void setDefaultModeWhenNullThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.policy.setDefaultMode(null))
+			.withMessage("defaultMode cannot be null");
+	}
+
+}
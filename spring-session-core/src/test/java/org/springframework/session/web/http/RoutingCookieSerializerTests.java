@@ -0,0 +1,92 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.web.http;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.session.RoutingSessionIdGenerator;
+import org.springframework.session.web.http.CookieSerializer.CookieValue;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link RoutingCookieSerializer}.
+ *
+ * @author Spring Session Team
+ */
+class RoutingCookieSerializerTests {
+
+	private final RoutingSessionIdGenerator sessionIdGenerator = new RoutingSessionIdGenerator(() -> "3",
+			"0123456789abcdef0123456789abcdef".getBytes(StandardCharsets.UTF_8));
+
+	private final DefaultCookieSerializer delegate = new DefaultCookieSerializer();
+
+	private final RoutingCookieSerializer serializer = new RoutingCookieSerializer(this.delegate,
+			this.sessionIdGenerator);
+
+	@Test
+	void readCookieValuesThenValidRoutesAndUnroutedIdsReturned() {
+		String valid = this.sessionIdGenerator.generate();
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setCookies(new Cookie("SESSION", encode(valid)), new Cookie("SESSION", encode("forged.3.AAAAAAAAAAA")),
+				new Cookie("SESSION", encode("plain")));
+
+		assertThat(this.serializer.readCookieValues(request)).containsExactly(valid, "plain");
+	}
+
+	@Test
+	void readCookieValuesWhenUnroutedIdsNotAcceptedThenOnlyValidRoutesReturned() {
+		this.serializer.setAcceptUnroutedIds(false);
+		String valid = this.sessionIdGenerator.generate();
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setCookies(new Cookie("SESSION", encode(valid)), new Cookie("SESSION", encode("forged.3.AAAAAAAAAAA")),
+				new Cookie("SESSION", encode("plain")));
+
+		assertThat(this.serializer.readCookieValues(request)).containsExactly(valid);
+	}
+
+	@Test
+	void readCookieValuesWhenJvmRouteThenRouteResolved() {
+		this.delegate.setJvmRoute("node01");
+		String valid = this.sessionIdGenerator.generate();
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setCookies(new Cookie("SESSION", encode(valid + ".node01")));
+
+		assertThat(this.serializer.readCookieValues(request)).containsExactly(valid);
+	}
+
+	@Test
+	void writeCookieValueThenDelegated() {
+		String id = this.sessionIdGenerator.generate();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+
+		this.serializer.writeCookieValue(new CookieValue(new MockHttpServletRequest(), response, id));
+
+		assertThat(response.getCookie("SESSION").getValue()).isEqualTo(encode(id));
+	}
+
+	private static String encode(String value) {
+		return Base64.getEncoder().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+}
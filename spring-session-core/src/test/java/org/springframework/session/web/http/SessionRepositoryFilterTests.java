@@ -17,12 +17,14 @@
 package org.springframework.session.web.http;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
@@ -53,8 +55,10 @@ import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.session.MapSession;
 import org.springframework.session.MapSessionRepository;
+import org.springframework.session.NegativeSessionIdCache;
 import org.springframework.session.Session;
 import org.springframework.session.SessionRepository;
+import org.springframework.session.SessionTouchPolicy;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -174,6 +178,210 @@ class SessionRepositoryFilterTests {
 		});
 	}
 
+	@Test
+	void doFilterWhenTouchPolicySkipsThenLastAccessedTimeNotUpdated() throws Exception {
+		MapSession session = new MapSession();
+		Instant lastAccessedTime = Instant.now().minusSeconds(60);
+		session.setLastAccessedTime(lastAccessedTime);
+		this.sessionRepository.save(session);
+		this.filter.setSessionTouchPolicy(SessionTouchPolicy.olderThan(Duration.ofMinutes(5)));
+		setSessionCookie(session.getId());
+
+		doFilter(new DoInFilter() {
+			@Override
+			public void doFilter(HttpServletRequest wrappedRequest) {
+				assertThat(wrappedRequest.isRequestedSessionIdValid()).isTrue();
+				assertThat(wrappedRequest.getSession().getLastAccessedTime())
+					.isEqualTo(lastAccessedTime.toEpochMilli());
+			}
+		});
+	}
+
+	@Test
+	void doFilterWhenTouchPolicyAllowsThenLastAccessedTimeUpdated() throws Exception {
+		MapSession session = new MapSession();
+		Instant lastAccessedTime = Instant.now().minusSeconds(600);
+		session.setLastAccessedTime(lastAccessedTime);
+		this.sessionRepository.save(session);
+		this.filter.setSessionTouchPolicy(SessionTouchPolicy.olderThan(Duration.ofMinutes(5)));
+		setSessionCookie(session.getId());
+
+		doFilter(new DoInFilter() {
+			@Override
+			public void doFilter(HttpServletRequest wrappedRequest) {
+				assertThat(wrappedRequest.getSession().getLastAccessedTime())
+					.isGreaterThan(lastAccessedTime.toEpochMilli());
+			}
+		});
+	}
+
+	@Test
+	void setSessionTouchPolicyWhenNullThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.filter.setSessionTouchPolicy(null))
+			.withMessage("sessionTouchPolicy cannot be null");
+	}
+
+	@Test
+	void doFilterWhenBypassThenSessionNotResolved() throws Exception {
+		MapSession session = new MapSession();
+		this.sessionRepository.save(session);
+		this.sessionRepository = spy(this.sessionRepository);
+		this.filter = new SessionRepositoryFilter<>(this.sessionRepository);
+		this.filter.setSessionRequestPolicy((request) -> SessionRequestPolicy.Mode.BYPASS);
+		setSessionCookie(session.getId());
+
+		doFilter(new DoInFilter() {
+			@Override
+			public void doFilter(HttpServletRequest wrappedRequest) {
+				assertThat(wrappedRequest.getRequestedSessionId()).isNull();
+				assertThat(wrappedRequest.isRequestedSessionIdValid()).isFalse();
+				assertThat(wrappedRequest.getSession(false)).isNull();
+			}
+		});
+
+		verifyNoMoreInteractions(this.sessionRepository);
+		assertThat(getSessionCookie()).isNull();
+	}
+
+	@Test
+	void doFilterWhenBypassAndSessionCreatedThenSessionTransient() throws Exception {
+		this.sessionRepository = spy(this.sessionRepository);
+		this.filter = new SessionRepositoryFilter<>(this.sessionRepository);
+		this.filter.setSessionRequestPolicy((request) -> SessionRequestPolicy.Mode.BYPASS);
+
+		doFilter(new DoInFilter() {
+			@Override
+			public void doFilter(HttpServletRequest wrappedRequest) {
+				HttpSession session = wrappedRequest.getSession();
+				session.setAttribute("a", "b");
+				assertThat(wrappedRequest.getSession(false)).isSameAs(session);
+				assertThat(wrappedRequest.getSession().getAttribute("a")).isEqualTo("b");
+				session.invalidate();
+				assertThat(wrappedRequest.getSession(false)).isNull();
+			}
+		});
+
+		verifyNoMoreInteractions(this.sessionRepository);
+		assertThat(getSessionCookie()).isNull();
+	}
+
+	@Test
+	void doFilterWhenReadOnlyThenSessionNotSaved() throws Exception {
+		MapSession session = new MapSession();
+		session.setAttribute("a", "b");
+		this.sessionRepository.save(session);
+		this.sessionRepository = spy(this.sessionRepository);
+		this.filter = new SessionRepositoryFilter<>(this.sessionRepository);
+		this.filter.setSessionRequestPolicy((request) -> SessionRequestPolicy.Mode.READ_ONLY);
+		setSessionCookie(session.getId());
+
+		doFilter(new DoInFilter() {
+			@Override
+			public void doFilter(HttpServletRequest wrappedRequest) {
+				HttpSession httpSession = wrappedRequest.getSession(false);
+				assertThat(httpSession.getAttribute("a")).isEqualTo("b");
+				httpSession.setAttribute("a", "c");
+			}
+		});
+
+		verify(this.sessionRepository, never()).save(any());
+		assertThat(this.sessionRepository.findById(session.getId()).<String>getAttribute("a")).isEqualTo("b");
+	}
+
+	@Test
+	void doFilterWhenReadOnlyAndSessionCreatedThenSessionIdNotSent() throws Exception {
+		this.sessionRepository = spy(this.sessionRepository);
+		this.filter = new SessionRepositoryFilter<>(this.sessionRepository);
+		this.filter.setSessionRequestPolicy((request) -> SessionRequestPolicy.Mode.READ_ONLY);
+
+		doFilter(new DoInFilter() {
+			@Override
+			public void doFilter(HttpServletRequest wrappedRequest) {
+				wrappedRequest.getSession().setAttribute("a", "b");
+			}
+		});
+
+		verify(this.sessionRepository, never()).save(any());
+		assertThat(getSessionCookie()).isNull();
+	}
+
+	@Test
+	void setSessionRequestPolicyWhenNullThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.filter.setSessionRequestPolicy(null))
+			.withMessage("sessionRequestPolicy cannot be null");
+	}
+
+	@Test
+	void doFilterWhenWriteBehindThenSessionSavedOnceAfterRequest() throws Exception {
+		this.sessionRepository = spy(this.sessionRepository);
+		this.filter = new SessionRepositoryFilter<>(this.sessionRepository);
+		WriteBehindSessionSaver saver = new WriteBehindSessionSaver(1, 16);
+		this.filter.setWriteBehindSessionSaver(saver);
+
+		doFilter(new DoInFilter() {
+			@Override
+			public void doFilter(HttpServletRequest wrappedRequest, HttpServletResponse wrappedResponse)
+					throws IOException {
+				wrappedRequest.getSession().setAttribute("a", "b");
+				wrappedResponse.flushBuffer();
+				wrappedRequest.getSession().setAttribute("c", "d");
+			}
+		});
+		saver.destroy();
+
+		String id = base64Decode(getSessionCookie().getValue());
+		verify(this.sessionRepository).save(any());
+		MapSession session = this.sessionRepository.findById(id);
+		assertThat(session.<String>getAttribute("a")).isEqualTo("b");
+		assertThat(session.<String>getAttribute("c")).isEqualTo("d");
+	}
+
+	@Test
+	void doFilterWhenNegativeSessionIdCacheThenMissingSessionLookedUpOnce() throws Exception {
+		this.sessionRepository = spy(this.sessionRepository);
+		this.filter = new SessionRepositoryFilter<>(this.sessionRepository);
+		this.filter.setNegativeSessionIdCache(new NegativeSessionIdCache());
+		setSessionCookie("missing");
+
+		for (int i = 0; i < 2; i++) {
+			doFilter(new DoInFilter() {
+				@Override
+				public void doFilter(HttpServletRequest wrappedRequest) {
+					assertThat(wrappedRequest.getSession(false)).isNull();
+				}
+			});
+		}
+
+		verify(this.sessionRepository).findById("missing");
+	}
+
+	@Test
+	void doFilterWhenNegativeSessionIdCacheAndInvalidatedThenNotLookedUpAgain() throws Exception {
+		MapSession session = new MapSession();
+		this.sessionRepository.save(session);
+		this.sessionRepository = spy(this.sessionRepository);
+		this.filter = new SessionRepositoryFilter<>(this.sessionRepository);
+		this.filter.setNegativeSessionIdCache(new NegativeSessionIdCache());
+		setSessionCookie(session.getId());
+
+		doFilter(new DoInFilter() {
+			@Override
+			public void doFilter(HttpServletRequest wrappedRequest) {
+				wrappedRequest.getSession().invalidate();
+			}
+		});
+		setupRequest();
+		setSessionCookie(session.getId());
+		doFilter(new DoInFilter() {
+			@Override
+			public void doFilter(HttpServletRequest wrappedRequest) {
+				assertThat(wrappedRequest.getSession(false)).isNull();
+			}
+		});
+
+		verify(this.sessionRepository).findById(session.getId());
+	}
+
 	@Test
 	void doFilterId() throws Exception {
 		final String ID_ATTR = "create";
@@ -1030,6 +1238,28 @@ class SessionRepositoryFilterTests {
 		});
 	}
 
+	@Test
+	void doFilterAdapterGetRequestedSessionWhenMultipleIdsThenSingleLookup() throws Exception {
+		SessionRepository<MapSession> sessionRepository = spy(new MapSessionRepository(new ConcurrentHashMap<>()));
+		MapSession session = new MapSession();
+		sessionRepository.save(session);
+
+		this.filter = new SessionRepositoryFilter<>(sessionRepository);
+		this.filter.setHttpSessionIdResolver(this.strategy);
+		final String invalidId = "HttpSessionIdResolver-requested-id1";
+
+		given(this.strategy.resolveSessionIds(any(HttpServletRequest.class)))
+			.willReturn(Arrays.asList(invalidId, session.getId()));
+
+		doFilter(new DoInFilter() {
+			@Override
+			public void doFilter(HttpServletRequest wrappedRequest, HttpServletResponse wrappedResponse) {
+				assertThat(wrappedRequest.getSession(false).getId()).isEqualTo(session.getId());
+			}
+		});
+		verify(sessionRepository).findByIds(new LinkedHashSet<>(Arrays.asList(invalidId, session.getId())));
+	}
+
 	@Test
 	void doFilterAdapterOnNewSession() throws Exception {
 		this.filter.setHttpSessionIdResolver(this.strategy);
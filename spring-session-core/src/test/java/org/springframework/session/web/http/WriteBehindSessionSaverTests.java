@@ -0,0 +1,184 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.web.http;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import org.springframework.session.MapSession;
+import org.springframework.session.MapSessionRepository;
+import org.springframework.session.Session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link WriteBehindSessionSaver}.
+ *
+ * @author Spring Session Team
+ */
+class WriteBehindSessionSaverTests {
+
+	private final Map<String, Session> sessions = new HashMap<>();
+
+	private final MapSessionRepository sessionRepository = spy(new MapSessionRepository(this.sessions));
+
+	private final WriteBehindSessionSaver saver = new WriteBehindSessionSaver(1, 4);
+
+	@AfterEach
+	void destroy() throws Exception {
+		this.saver.destroy();
+	}
+
+	@Test
+	void constructorWhenNoStripesThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new WriteBehindSessionSaver(0, 1))
+			.withMessage("stripeCount must be positive");
+	}
+
+	@Test
+	void constructorWhenNoQueueCapacityThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new WriteBehindSessionSaver(1, 0))
+			.withMessage("queueCapacity must be positive");
+	}
+
+	@Test
+	void saveThenAwaitPendingSaveSeesSession() {
+		MapSession session = new MapSession();
+
+		this.saver.save(session, this.sessionRepository);
+		this.saver.awaitPendingSave(session.getId());
+
+		assertThat(this.sessionRepository.findById(session.getId())).isNotNull();
+	}
+
+	@Test
+	void saveWhenSameSessionQueuedTwiceThenCoalesced() throws Exception {
+		CountDownLatch release = blockStripe();
+
+		MapSession session = new MapSession();
+		session.setAttribute("a", "1");
+		this.saver.save(session, this.sessionRepository);
+		session.setAttribute("a", "2");
+		this.saver.save(session, this.sessionRepository);
+		release.countDown();
+		this.saver.awaitPendingSave(session.getId());
+
+		verify(this.sessionRepository, times(1)).save(session);
+		assertThat(this.sessionRepository.findById(session.getId()).<String>getAttribute("a")).isEqualTo("2");
+	}
+
+	@Test
+	void saveWhenOtherSessionObjectQueuedThenBothSavedInOrder() throws Exception {
+		CountDownLatch release = blockStripe();
+
+		MapSession session = new MapSession();
+		session.setAttribute("a", "1");
+		this.saver.save(session, this.sessionRepository);
+		MapSession updated = new MapSession(session);
+		updated.setAttribute("a", "2");
+		this.saver.save(updated, this.sessionRepository);
+		release.countDown();
+		this.saver.awaitPendingSave(session.getId());
+
+		ArgumentCaptor<MapSession> saved = ArgumentCaptor.forClass(MapSession.class);
+		verify(this.sessionRepository, times(3)).save(saved.capture());
+		assertThat(saved.getAllValues().get(1)).isSameAs(session);
+		assertThat(saved.getAllValues().get(2)).isSameAs(updated);
+		assertThat(this.sessionRepository.findById(session.getId()).<String>getAttribute("a")).isEqualTo("2");
+	}
+
+	@Test
+	void destroyWhenTimedOutThenDroppedSavesCompleted() throws Exception {
+		CountDownLatch release = blockStripe();
+		MapSession session = new MapSession();
+		this.saver.save(session, this.sessionRepository);
+		this.saver.setShutdownTimeout(Duration.ofMillis(10));
+
+		this.saver.destroy();
+		release.countDown();
+
+		assertThat(CompletableFuture.runAsync(() -> this.saver.awaitPendingSave(session.getId())))
+			.succeedsWithin(Duration.ofSeconds(5));
+		assertThat(this.sessions).doesNotContainKey(session.getId());
+	}
+
+	private CountDownLatch blockStripe() throws InterruptedException {
+		CountDownLatch blocked = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		MapSession blocking = new MapSession();
+		willAnswer((invocation) -> {
+			blocked.countDown();
+			release.await();
+			return invocation.callRealMethod();
+		}).given(this.sessionRepository).save(blocking);
+		this.saver.save(blocking, this.sessionRepository);
+		assertThat(blocked.await(5, TimeUnit.SECONDS)).isTrue();
+		return release;
+	}
+
+	@Test
+	void destroyThenQueuedSavesDrained() throws Exception {
+		MapSession first = new MapSession();
+		MapSession second = new MapSession();
+		this.saver.save(first, this.sessionRepository);
+		this.saver.save(second, this.sessionRepository);
+
+		this.saver.destroy();
+
+		assertThat(this.sessions).containsKeys(first.getId(), second.getId());
+	}
+
+	@Test
+	void saveWhenDestroyedThenSavedOnCallingThread() throws Exception {
+		this.saver.destroy();
+		MapSession session = new MapSession();
+
+		this.saver.save(session, this.sessionRepository);
+
+		assertThat(this.sessions).containsKey(session.getId());
+	}
+
+	@Test
+	void saveWhenRepositoryFailsThenNextSaveApplied() {
+		MapSession failing = new MapSession();
+		willAnswer((invocation) -> {
+			throw new IllegalStateException("store unavailable");
+		}).given(this.sessionRepository).save(failing);
+		MapSession session = new MapSession();
+
+		this.saver.save(failing, this.sessionRepository);
+		this.saver.save(session, this.sessionRepository);
+		this.saver.awaitPendingSave(failing.getId());
+		this.saver.awaitPendingSave(session.getId());
+
+		assertThat(this.sessions).doesNotContainKey(failing.getId()).containsKey(session.getId());
+	}
+
+}
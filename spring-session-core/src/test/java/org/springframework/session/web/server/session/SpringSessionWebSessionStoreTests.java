@@ -16,6 +16,8 @@
 
 package org.springframework.session.web.server.session;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.AbstractMap;
 import java.util.Collections;
 import java.util.Map;
@@ -28,14 +30,17 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import reactor.core.publisher.Mono;
 
+import org.springframework.session.NegativeSessionIdCache;
 import org.springframework.session.ReactiveSessionRepository;
 import org.springframework.session.Session;
+import org.springframework.session.SessionTouchPolicy;
 import org.springframework.web.server.WebSession;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 /**
@@ -235,6 +240,45 @@ class SpringSessionWebSessionStoreTests<S extends Session> {
 		verify(this.findByIdSession).setLastAccessedTime(any());
 	}
 
+	@Test
+	void retrieveSessionWhenTouchPolicySkipsThenLastAccessedTimeNotUpdated() {
+		given(this.findByIdSession.getLastAccessedTime()).willReturn(Instant.now());
+		this.webSessionStore.setSessionTouchPolicy(SessionTouchPolicy.olderThan(Duration.ofMinutes(1)));
+
+		WebSession retrievedWebSession = this.webSessionStore.retrieveSession("id").block();
+		this.webSessionStore.updateLastAccessTime(retrievedWebSession).block();
+
+		verify(this.findByIdSession, never()).setLastAccessedTime(any());
+	}
+
+	@Test
+	void setSessionTouchPolicyWhenNullThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.webSessionStore.setSessionTouchPolicy(null))
+			.withMessage("sessionTouchPolicy cannot be null");
+	}
+
+	@Test
+	void retrieveSessionWhenNegativeSessionIdCacheThenMissingSessionLookedUpOnce() {
+		given(this.sessionRepository.findById("missing")).willReturn(Mono.empty());
+		this.webSessionStore.setNegativeSessionIdCache(new NegativeSessionIdCache());
+
+		assertThat(this.webSessionStore.retrieveSession("missing").block()).isNull();
+		assertThat(this.webSessionStore.retrieveSession("missing").block()).isNull();
+
+		verify(this.sessionRepository).findById("missing");
+	}
+
+	@Test
+	void retrieveSessionWhenNegativeSessionIdCacheAndRemovedThenNotLookedUp() {
+		given(this.sessionRepository.deleteById("id")).willReturn(Mono.empty());
+		this.webSessionStore.setNegativeSessionIdCache(new NegativeSessionIdCache());
+
+		this.webSessionStore.removeSession("id").block();
+
+		assertThat(this.webSessionStore.retrieveSession("id").block()).isNull();
+		verify(this.sessionRepository, never()).findById("id");
+	}
+
 	@Test
 	void removeSessionWhenInvokedThenSessionSaved() {
 		String sessionId = "session-id";
@@ -17,6 +17,9 @@
 package org.springframework.session.data.mongo;
 
 import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import com.mongodb.DBObject;
@@ -27,6 +30,7 @@ import org.bson.Document;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.convert.converter.GenericConverter;
 import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.index.Index;
 import org.springframework.data.mongodb.core.index.IndexInfo;
 import org.springframework.data.mongodb.core.index.IndexOperations;
@@ -37,6 +41,7 @@ import org.springframework.session.FindByIndexNameSessionRepository;
 import org.springframework.session.IndexResolver;
 import org.springframework.session.PrincipalNameIndexResolver;
 import org.springframework.session.Session;
+import org.springframework.session.SessionMetadata;
 import org.springframework.util.Assert;
 
 /**
@@ -67,6 +72,34 @@ public abstract class AbstractMongoSessionConverter implements GenericConverter
 	@Nullable
 	protected abstract Query getQueryForIndex(String indexName, Object indexValue);
 
+	/**
+	 * Returns the aggregation to be executed to return the metadata of the sessions based
+	 * on a particular index, without their attribute values. Each resulting document is
+	 * passed to {@link #convertToMetadata(Document)}.
+	 * @param indexName name of the index
+	 * @param indexValue value to query against
+	 * @return built aggregation or null if the metadata cannot be projected, in which
+	 * case the full sessions are loaded instead
+	 * @since 3.5
+	 */
+	@Nullable
+	protected Aggregation getMetadataAggregationForIndex(String indexName, Object indexValue) {
+		return null;
+	}
+
+	/**
+	 * Converts a document returned by the
+	 * {@link #getMetadataAggregationForIndex(String, Object) metadata aggregation}.
+	 * @param metadataDocument the projected document
+	 * @return the session metadata or null if the document does not hold the metadata, in
+	 * which case the full session is loaded instead
+	 * @since 3.5
+	 */
+	@Nullable
+	protected SessionMetadata convertToMetadata(Document metadataDocument) {
+		return null;
+	}
+
 	/**
 	 * Method ensures that there is a TTL index on {@literal expireAt} field. It's has
 	 * {@literal expireAfterSeconds} set to zero seconds, so the expiration time is
@@ -95,6 +128,20 @@ public abstract class AbstractMongoSessionConverter implements GenericConverter
 			.get(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME);
 	}
 
+	/**
+	 * Resolves all the indexes of the session with the configured {@link IndexResolver},
+	 * leaving out those without a value.
+	 * @param expiringSession the session
+	 * @return the resolved indexes, keyed by index name
+	 * @since 3.5
+	 */
+	protected Map<String, String> extractIndexes(MongoSession expiringSession) {
+
+		Map<String, String> indexes = new LinkedHashMap<>(this.indexResolver.resolveIndexesFor(expiringSession));
+		indexes.values().removeIf(Objects::isNull);
+		return indexes;
+	}
+
 	public Set<ConvertiblePair> getConvertibleTypes() {
 
 		return Collections.singleton(new ConvertiblePair(DBObject.class, MongoSession.class));
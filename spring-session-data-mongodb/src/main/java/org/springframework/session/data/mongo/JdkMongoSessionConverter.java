@@ -18,9 +18,13 @@ package org.springframework.session.data.mongo;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Date;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import com.mongodb.BasicDBObject;
 import com.mongodb.DBObject;
@@ -30,11 +34,21 @@ import org.bson.types.Binary;
 import org.springframework.core.convert.converter.Converter;
 import org.springframework.core.serializer.support.DeserializingConverter;
 import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.index.Index;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.WildcardIndex;
 import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.lang.Nullable;
 import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.IndexResolver;
+import org.springframework.session.LazySessionAttribute;
 import org.springframework.session.Session;
+import org.springframework.session.SessionMetadata;
+import org.springframework.session.codec.SessionAttributeCodec;
+import org.springframework.session.codec.SessionAttributeCodecConverter;
 import org.springframework.util.Assert;
 
 /**
@@ -59,18 +73,44 @@ public class JdkMongoSessionConverter extends AbstractMongoSessionConverter {
 
 	private static final String PRINCIPAL_FIELD_NAME = "principal";
 
+	private static final String ATTRIBUTE_NAMES = "attrNames";
+
+	private static final String INDEXES_FIELD_NAME = "indexes";
+
 	private final Converter<Object, byte[]> serializer;
 
 	private final Converter<byte[], Object> deserializer;
 
 	private Duration maxInactiveInterval;
 
+	private final boolean perAttribute;
+
 	public JdkMongoSessionConverter(Duration maxInactiveInterval) {
 		this(new SerializingConverter(), new DeserializingConverter(), maxInactiveInterval);
 	}
 
+	/**
+	 * Create a new instance serializing the session attributes with the given
+	 * {@link SessionAttributeCodec} instead of Java serialization. Each attribute is
+	 * stored separately, so that it is only deserialized when first read and written back
+	 * without being serialized again if it was not read. Sessions stored as a single
+	 * serialized map of attributes remain readable.
+	 * @param codec the codec to use
+	 * @param maxInactiveInterval the default max inactive interval
+	 * @since 3.5
+	 */
+	public JdkMongoSessionConverter(SessionAttributeCodec codec, Duration maxInactiveInterval) {
+		this(new SessionAttributeCodecConverter(codec).serializer(),
+				new SessionAttributeCodecConverter(codec).deserializer(), maxInactiveInterval, true);
+	}
+
 	public JdkMongoSessionConverter(Converter<Object, byte[]> serializer, Converter<byte[], Object> deserializer,
 			Duration maxInactiveInterval) {
+		this(serializer, deserializer, maxInactiveInterval, false);
+	}
+
+	private JdkMongoSessionConverter(Converter<Object, byte[]> serializer, Converter<byte[], Object> deserializer,
+			Duration maxInactiveInterval, boolean perAttribute) {
 
 		Assert.notNull(serializer, "serializer cannot be null");
 		Assert.notNull(deserializer, "deserializer cannot be null");
@@ -79,18 +119,36 @@ public class JdkMongoSessionConverter extends AbstractMongoSessionConverter {
 		this.serializer = serializer;
 		this.deserializer = deserializer;
 		this.maxInactiveInterval = maxInactiveInterval;
+		this.perAttribute = perAttribute;
 	}
 
 	@Override
 	@Nullable
 	public Query getQueryForIndex(String indexName, Object indexValue) {
 
+		return Query.query(getCriteriaForIndex(indexName, indexValue));
+	}
+
+	private static Criteria getCriteriaForIndex(String indexName, Object indexValue) {
+
 		if (FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME.equals(indexName)) {
-			return Query.query(Criteria.where(PRINCIPAL_FIELD_NAME).is(indexValue));
-		}
-		else {
-			return null;
+			return Criteria.where(PRINCIPAL_FIELD_NAME).is(indexValue);
 		}
+		return Criteria.where(INDEXES_FIELD_NAME + "." + MongoSession.coverDot(indexName)).is(indexValue);
+	}
+
+	/**
+	 * Ensures, in addition to the TTL index, an index on the principal name and a
+	 * wildcard index on the other indexes resolved by the {@link IndexResolver}.
+	 * @param sessionCollectionIndexes {@link IndexOperations} to use
+	 */
+	@Override
+	protected void ensureIndexes(IndexOperations sessionCollectionIndexes) {
+
+		super.ensureIndexes(sessionCollectionIndexes);
+		sessionCollectionIndexes
+			.ensureIndex(new Index(PRINCIPAL_FIELD_NAME, Sort.Direction.ASC).named(PRINCIPAL_FIELD_NAME));
+		sessionCollectionIndexes.ensureIndex(new WildcardIndex(INDEXES_FIELD_NAME).named(INDEXES_FIELD_NAME));
 	}
 
 	@Override
@@ -102,9 +160,17 @@ public class JdkMongoSessionConverter extends AbstractMongoSessionConverter {
 		basicDBObject.put(CREATION_TIME, session.getCreationTime());
 		basicDBObject.put(LAST_ACCESSED_TIME, session.getLastAccessedTime());
 		basicDBObject.put(MAX_INTERVAL, session.getMaxInactiveInterval());
-		basicDBObject.put(PRINCIPAL_FIELD_NAME, extractPrincipal(session));
+		Map<String, String> indexes = extractIndexes(session);
+		basicDBObject.put(PRINCIPAL_FIELD_NAME,
+				indexes.remove(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME));
+		if (!indexes.isEmpty()) {
+			BasicDBObject indexesObject = new BasicDBObject();
+			indexes.forEach((indexName, indexValue) -> indexesObject.put(MongoSession.coverDot(indexName), indexValue));
+			basicDBObject.put(INDEXES_FIELD_NAME, indexesObject);
+		}
 		basicDBObject.put(EXPIRE_AT_FIELD_NAME, session.getExpireAt());
-		basicDBObject.put(ATTRIBUTES, serializeAttributes(session));
+		basicDBObject.put(ATTRIBUTES,
+				this.perAttribute ? serializeEachAttribute(session) : serializeAttributes(session));
 
 		return basicDBObject;
 	}
@@ -112,27 +178,17 @@ public class JdkMongoSessionConverter extends AbstractMongoSessionConverter {
 	@Override
 	protected MongoSession convert(Document sessionWrapper) {
 
-		Object maxInterval = sessionWrapper.getOrDefault(MAX_INTERVAL, this.maxInactiveInterval);
-
-		Duration maxIntervalDuration = (maxInterval instanceof Duration) ? (Duration) maxInterval
-				: Duration.parse(maxInterval.toString());
-
-		MongoSession session = new MongoSession(sessionWrapper.getString(ID), maxIntervalDuration.getSeconds());
+		MongoSession session = new MongoSession(sessionWrapper.getString(ID),
+				getMaxInactiveInterval(sessionWrapper).getSeconds());
 
-		Object creationTime = sessionWrapper.get(CREATION_TIME);
-		if (creationTime instanceof Instant) {
-			session.setCreationTime(((Instant) creationTime).toEpochMilli());
-		}
-		else if (creationTime instanceof Date) {
-			session.setCreationTime(((Date) creationTime).getTime());
+		Instant creationTime = getInstant(sessionWrapper, CREATION_TIME);
+		if (creationTime != null) {
+			session.setCreationTime(creationTime.toEpochMilli());
 		}
 
-		Object lastAccessedTime = sessionWrapper.get(LAST_ACCESSED_TIME);
-		if (lastAccessedTime instanceof Instant) {
-			session.setLastAccessedTime((Instant) lastAccessedTime);
-		}
-		else if (lastAccessedTime instanceof Date) {
-			session.setLastAccessedTime(Instant.ofEpochMilli(((Date) lastAccessedTime).getTime()));
+		Instant lastAccessedTime = getInstant(sessionWrapper, LAST_ACCESSED_TIME);
+		if (lastAccessedTime != null) {
+			session.setLastAccessedTime(lastAccessedTime);
 		}
 
 		session.setExpireAt((Date) sessionWrapper.get(EXPIRE_AT_FIELD_NAME));
@@ -142,6 +198,74 @@ public class JdkMongoSessionConverter extends AbstractMongoSessionConverter {
 		return session;
 	}
 
+	/**
+	 * Projects the attribute names instead of the attribute values of sessions stored one
+	 * attribute at a time. Sessions stored as a single serialized map of attributes are
+	 * loaded in full.
+	 */
+	@Override
+	@Nullable
+	protected Aggregation getMetadataAggregationForIndex(String indexName, Object indexValue) {
+
+		if (!this.perAttribute) {
+			return null;
+		}
+
+		Document attributeNames = new Document("$cond", Arrays
+			.asList(new Document("$eq", Arrays.asList(new Document("$type", "$" + ATTRIBUTES), "object")), new Document(
+					"$map",
+					new Document("input", new Document("$objectToArray", "$" + ATTRIBUTES)).append("in", "$$this.k")),
+					null));
+		Document projection = new Document(CREATION_TIME, 1).append(LAST_ACCESSED_TIME, 1)
+			.append(MAX_INTERVAL, 1)
+			.append(PRINCIPAL_FIELD_NAME, 1)
+			.append(ATTRIBUTE_NAMES, attributeNames);
+
+		return Aggregation.newAggregation(Aggregation.match(getCriteriaForIndex(indexName, indexValue)),
+				(context) -> new Document("$project", projection));
+	}
+
+	@Override
+	@Nullable
+	protected SessionMetadata convertToMetadata(Document metadataDocument) {
+
+		Instant creationTime = getInstant(metadataDocument, CREATION_TIME);
+		Instant lastAccessedTime = getInstant(metadataDocument, LAST_ACCESSED_TIME);
+		if (!(metadataDocument.get(ATTRIBUTE_NAMES) instanceof List<?> names) || creationTime == null
+				|| lastAccessedTime == null) {
+			return null;
+		}
+
+		Set<String> attributeNames = new LinkedHashSet<>(names.size());
+		for (Object name : names) {
+			attributeNames.add(MongoSession.uncoverDot((String) name));
+		}
+
+		return new SessionMetadata(metadataDocument.getString(ID), creationTime, lastAccessedTime,
+				getMaxInactiveInterval(metadataDocument), metadataDocument.getString(PRINCIPAL_FIELD_NAME),
+				attributeNames);
+	}
+
+	private Duration getMaxInactiveInterval(Document document) {
+
+		Object maxInterval = document.getOrDefault(MAX_INTERVAL, this.maxInactiveInterval);
+
+		return (maxInterval instanceof Duration) ? (Duration) maxInterval : Duration.parse(maxInterval.toString());
+	}
+
+	@Nullable
+	private static Instant getInstant(Document document, String key) {
+
+		Object value = document.get(key);
+		if (value instanceof Instant) {
+			return (Instant) value;
+		}
+		else if (value instanceof Date) {
+			return Instant.ofEpochMilli(((Date) value).getTime());
+		}
+		return null;
+	}
+
 	@Nullable
 	private byte[] serializeAttributes(Session session) {
 
@@ -154,11 +278,35 @@ public class JdkMongoSessionConverter extends AbstractMongoSessionConverter {
 		return this.serializer.convert(attributes);
 	}
 
+	private BasicDBObject serializeEachAttribute(MongoSession session) {
+
+		BasicDBObject attributes = new BasicDBObject();
+
+		for (String attrName : session.getAttributeNames()) {
+			Object storedValue = session.getStoredAttribute(attrName);
+			byte[] untouched = LazySessionAttribute.getUntouchedSerializedValue(storedValue);
+			attributes.put(MongoSession.coverDot(attrName), (untouched != null) ? untouched
+					: this.serializer.convert(LazySessionAttribute.resolve(storedValue)));
+		}
+
+		return attributes;
+	}
+
 	@SuppressWarnings("unchecked")
 	private void deserializeAttributes(Document sessionWrapper, Session session) {
 
 		Object sessionAttributes = sessionWrapper.get(ATTRIBUTES);
 
+		if (sessionAttributes instanceof Map<?, ?> attributes) {
+			for (Map.Entry<?, ?> entry : attributes.entrySet()) {
+				Object value = entry.getValue();
+				byte[] bytes = (value instanceof Binary binary) ? binary.getData() : (byte[]) value;
+				session.setAttribute(MongoSession.uncoverDot((String) entry.getKey()),
+						LazySessionAttribute.of(bytes, this.deserializer, this.serializer));
+			}
+			return;
+		}
+
 		byte[] attributesBytes = ((sessionAttributes instanceof Binary) ? ((Binary) sessionAttributes).getData()
 				: (byte[]) sessionAttributes);
 
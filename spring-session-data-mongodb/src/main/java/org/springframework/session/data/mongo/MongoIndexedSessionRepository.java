@@ -17,10 +17,14 @@
 package org.springframework.session.data.mongo;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import com.mongodb.DBObject;
 import org.apache.commons.logging.Log;
@@ -32,16 +36,23 @@ import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
 import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.lang.Nullable;
 import org.springframework.session.FindByIndexNameSessionRepository;
 import org.springframework.session.MapSession;
+import org.springframework.session.SessionCopier;
+import org.springframework.session.SessionCopierProvider;
 import org.springframework.session.SessionIdGenerator;
+import org.springframework.session.SessionMetadata;
 import org.springframework.session.UuidSessionIdGenerator;
 import org.springframework.session.events.SessionCreatedEvent;
 import org.springframework.session.events.SessionDeletedEvent;
 import org.springframework.session.events.SessionExpiredEvent;
 import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
 
 /**
  * Session repository implementation which stores sessions in Mongo. Uses
@@ -54,8 +65,8 @@ import org.springframework.util.Assert;
  * @author Vedran Pavic
  * @since 2.2.0
  */
-public class MongoIndexedSessionRepository
-		implements FindByIndexNameSessionRepository<MongoSession>, ApplicationEventPublisherAware, InitializingBean {
+public class MongoIndexedSessionRepository implements FindByIndexNameSessionRepository<MongoSession>,
+		SessionCopierProvider<MongoSession>, ApplicationEventPublisherAware, InitializingBean {
 
 	/**
 	 * The default time period in seconds in which a session will expire.
@@ -150,6 +161,42 @@ public class MongoIndexedSessionRepository
 			.collect(Collectors.toMap(MongoSession::getId, (mapSession) -> mapSession));
 	}
 
+	/**
+	 * Loads the metadata of the sessions with the
+	 * {@link AbstractMongoSessionConverter#getMetadataAggregationForIndex(String, Object)
+	 * metadata aggregation} of the converter, if any, so that the attribute values are
+	 * not read. Sessions the converter cannot project are loaded in full.
+	 * @param indexName the name of the index
+	 * @param indexValue the value of the index to search for
+	 * @return the metadata of the sessions that were found
+	 */
+	@Override
+	public Stream<SessionMetadata> findSessionMetadataByIndexNameAndIndexValue(String indexName, String indexValue) {
+
+		Aggregation aggregation = this.mongoSessionConverter.getMetadataAggregationForIndex(indexName, indexValue);
+		if (aggregation == null) {
+			return FindByIndexNameSessionRepository.super.findSessionMetadataByIndexNameAndIndexValue(indexName,
+					indexValue);
+		}
+		List<SessionMetadata> sessions = new ArrayList<>();
+		List<String> unprojectedIds = new ArrayList<>();
+		for (Document document : this.mongoOperations.aggregate(aggregation, this.collectionName, Document.class)) {
+			SessionMetadata metadata = this.mongoSessionConverter.convertToMetadata(document);
+			if (metadata == null) {
+				unprojectedIds.add(document.getString("_id"));
+			}
+			else if (!metadata.isExpired()) {
+				sessions.add(metadata);
+			}
+		}
+		if (!unprojectedIds.isEmpty()) {
+			findByIds(unprojectedIds).values()
+				.forEach((session) -> sessions.add(PRINCIPAL_NAME_INDEX_NAME.equals(indexName)
+						? SessionMetadata.from(session, indexValue) : SessionMetadata.from(session)));
+		}
+		return sessions.stream();
+	}
+
 	@Override
 	public void deleteById(String id) {
 
@@ -163,6 +210,80 @@ public class MongoIndexedSessionRepository
 		});
 	}
 
+	/**
+	 * Loads all the sessions with a single {@code $in} query.
+	 * @param ids the session ids to lookup
+	 * @return the sessions that were found, keyed by id
+	 */
+	@Override
+	public Map<String, MongoSession> findByIds(Collection<String> ids) {
+		Assert.notNull(ids, "ids must not be null");
+		if (ids.size() <= 1) {
+			return FindByIndexNameSessionRepository.super.findByIds(ids);
+		}
+		List<Document> documents = this.mongoOperations.find(getQueryForIds(ids), Document.class, this.collectionName);
+		Map<String, MongoSession> sessions = CollectionUtils.newLinkedHashMap(documents.size());
+		List<String> expiredIds = new ArrayList<>();
+		for (Document document : documents) {
+			MongoSession session = MongoSessionUtils.convertToSession(this.mongoSessionConverter, document);
+			if (session == null) {
+				continue;
+			}
+			if (session.isExpired()) {
+				publishEvent(new SessionExpiredEvent(this, session));
+				expiredIds.add(session.getId());
+			}
+			else {
+				session.setSessionIdGenerator(this.sessionIdGenerator);
+				sessions.put(session.getId(), session);
+			}
+		}
+		if (!expiredIds.isEmpty()) {
+			deleteByIds(expiredIds);
+		}
+		return sessions;
+	}
+
+	/**
+	 * Deletes all the sessions with a single {@code $in} query.
+	 * @param ids the session ids to delete
+	 */
+	@Override
+	public void deleteByIds(Collection<String> ids) {
+		Assert.notNull(ids, "ids must not be null");
+		if (ids.isEmpty()) {
+			return;
+		}
+		this.mongoOperations.findAllAndRemove(getQueryForIds(ids), Document.class, this.collectionName)
+			.forEach((document) -> {
+				MongoSession session = MongoSessionUtils.convertToSession(this.mongoSessionConverter, document);
+				if (session != null) {
+					publishEvent(new SessionDeletedEvent(this, session));
+				}
+			});
+	}
+
+	/**
+	 * Deletes the sessions matching the query of the converter for the index with a
+	 * single {@code findAllAndRemove}, publishing a {@link SessionDeletedEvent} for each
+	 * of them.
+	 * @param indexName the name of the index
+	 * @param indexValue the value of the index to search for
+	 */
+	@Override
+	public void deleteByIndexNameAndIndexValue(String indexName, String indexValue) {
+		Query query = this.mongoSessionConverter.getQueryForIndex(indexName, indexValue);
+		if (query == null) {
+			return;
+		}
+		this.mongoOperations.findAllAndRemove(query, Document.class, this.collectionName).forEach((document) -> {
+			MongoSession session = MongoSessionUtils.convertToSession(this.mongoSessionConverter, document);
+			if (session != null) {
+				publishEvent(new SessionDeletedEvent(this, session));
+			}
+		});
+	}
+
 	@Override
 	public void afterPropertiesSet() {
 
@@ -175,6 +296,10 @@ public class MongoIndexedSessionRepository
 		return this.mongoOperations.findById(id, Document.class, this.collectionName);
 	}
 
+	private static Query getQueryForIds(Collection<String> ids) {
+		return Query.query(Criteria.where("_id").in(ids));
+	}
+
 	@Override
 	public void setApplicationEventPublisher(ApplicationEventPublisher eventPublisher) {
 		this.eventPublisher = eventPublisher;
@@ -223,6 +348,18 @@ public class MongoIndexedSessionRepository
 		this.mongoSessionConverter = mongoSessionConverter;
 	}
 
+	/**
+	 * Return a {@link SessionCopier} creating independent copies of the sessions loaded
+	 * by this repository, for instance to coalesce concurrent lookups of the same session
+	 * with a {@link org.springframework.session.SingleFlightSessionRepository}.
+	 * @return the session copier
+	 * @since 3.5
+	 */
+	@Override
+	public SessionCopier<MongoSession> getSessionCopier() {
+		return MongoSession::new;
+	}
+
 	/**
 	 * Set the {@link SessionIdGenerator} to use to generate session ids.
 	 * @param sessionIdGenerator the {@link SessionIdGenerator} to use
@@ -26,6 +26,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.springframework.lang.Nullable;
+import org.springframework.session.LazySessionAttribute;
 import org.springframework.session.MapSession;
 import org.springframework.session.Session;
 import org.springframework.session.SessionIdGenerator;
@@ -115,6 +116,23 @@ public final class MongoSession implements Session {
 		this.sessionIdGenerator = sessionIdGenerator;
 	}
 
+	/**
+	 * Constructs a copy of the provided session that does not share the attributes map
+	 * nor the {@link LazySessionAttribute} instances with it.
+	 * @param session the session to copy
+	 * @since 3.5
+	 */
+	MongoSession(MongoSession session) {
+		this.id = session.id;
+		this.originalSessionId = session.originalSessionId;
+		this.createdMillis = session.createdMillis;
+		this.accessedMillis = session.accessedMillis;
+		this.intervalSeconds = session.intervalSeconds;
+		this.expireAt = session.expireAt;
+		session.attrs.forEach((name, value) -> this.attrs.put(name, LazySessionAttribute.copy(value)));
+		this.sessionIdGenerator = session.sessionIdGenerator;
+	}
+
 	static String coverDot(String attributeName) {
 		return attributeName.replace('.', DOT_COVER_CHAR);
 	}
@@ -133,9 +151,13 @@ public final class MongoSession implements Session {
 
 	@Override
 	@Nullable
-	@SuppressWarnings("unchecked")
 	public <T> T getAttribute(String attributeName) {
-		return (T) this.attrs.get(coverDot(attributeName));
+		return LazySessionAttribute.resolve(this.attrs.get(coverDot(attributeName)));
+	}
+
+	@Nullable
+	Object getStoredAttribute(String attributeName) {
+		return this.attrs.get(coverDot(attributeName));
 	}
 
 	@Override
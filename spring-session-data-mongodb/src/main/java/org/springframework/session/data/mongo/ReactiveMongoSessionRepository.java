@@ -17,10 +17,12 @@
 package org.springframework.session.data.mongo;
 
 import java.time.Duration;
+import java.util.Collection;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 import org.bson.Document;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Schedulers;
 
@@ -35,6 +37,8 @@ import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.session.MapSession;
 import org.springframework.session.ReactiveSessionRepository;
+import org.springframework.session.SessionCopier;
+import org.springframework.session.SessionCopierProvider;
 import org.springframework.session.SessionIdGenerator;
 import org.springframework.session.UuidSessionIdGenerator;
 import org.springframework.session.events.SessionCreatedEvent;
@@ -48,8 +52,8 @@ import org.springframework.util.Assert;
  * @author Vedran Pavic
  * @since 2.2.0
  */
-public class ReactiveMongoSessionRepository
-		implements ReactiveSessionRepository<MongoSession>, ApplicationEventPublisherAware, InitializingBean {
+public class ReactiveMongoSessionRepository implements ReactiveSessionRepository<MongoSession>,
+		SessionCopierProvider<MongoSession>, ApplicationEventPublisherAware, InitializingBean {
 
 	/**
 	 * The default time period in seconds in which a session will expire.
@@ -99,17 +103,19 @@ public class ReactiveMongoSessionRepository
 	@Override
 	public Mono<MongoSession> createSession() {
 		// @formatter:off
-		return Mono.fromSupplier(() -> this.sessionIdGenerator.generate())
+		Mono<MongoSession> session = Mono.fromSupplier(() -> this.sessionIdGenerator.generate())
 				.zipWith(Mono.just(this.defaultMaxInactiveInterval.toSeconds()))
 				.map((tuple) -> new MongoSession(tuple.getT1(), tuple.getT2()))
 				.doOnNext((mongoSession) -> mongoSession.setMaxInactiveInterval(this.defaultMaxInactiveInterval))
 				.doOnNext(
 						(mongoSession) -> mongoSession.setSessionIdGenerator(this.sessionIdGenerator))
 				.doOnNext((mongoSession) -> publishEvent(new SessionCreatedEvent(this, mongoSession)))
-				.switchIfEmpty(Mono.just(new MongoSession(this.sessionIdGenerator)))
-				.subscribeOn(Schedulers.boundedElastic())
-				.publishOn(Schedulers.parallel());
+				.switchIfEmpty(Mono.just(new MongoSession(this.sessionIdGenerator)));
 		// @formatter:on
+		if (this.sessionIdGenerator.isBlocking()) {
+			session = session.subscribeOn(Schedulers.boundedElastic()).publishOn(Schedulers.parallel());
+		}
+		return session;
 	}
 
 	@Override
@@ -138,9 +144,9 @@ public class ReactiveMongoSessionRepository
 
 		return findSession(id) //
 			.map((document) -> MongoSessionUtils.convertToSession(this.mongoSessionConverter, document)) //
-			.filter((mongoSession) -> !mongoSession.isExpired()) //
-			.doOnNext((mongoSession) -> mongoSession.setSessionIdGenerator(this.sessionIdGenerator))
-			.switchIfEmpty(Mono.defer(() -> this.deleteById(id).then(Mono.empty())));
+			.flatMap((mongoSession) -> mongoSession.isExpired() ? this.deleteById(id).then(Mono.<MongoSession>empty())
+					: Mono.just(mongoSession)) //
+			.doOnNext((mongoSession) -> mongoSession.setSessionIdGenerator(this.sessionIdGenerator));
 	}
 
 	@Override
@@ -154,6 +160,35 @@ public class ReactiveMongoSessionRepository
 			.then();
 	}
 
+	/**
+	 * Loads all the sessions with a single {@code $in} query.
+	 * @param ids the session ids to lookup
+	 * @return the sessions that were found
+	 */
+	@Override
+	public Flux<MongoSession> findByIds(Collection<String> ids) {
+		Assert.notNull(ids, "ids must not be null");
+		return this.mongoOperations.find(getQueryForIds(ids), Document.class, this.collectionName) //
+			.map((document) -> MongoSessionUtils.convertToSession(this.mongoSessionConverter, document)) //
+			.filterWhen((mongoSession) -> mongoSession.isExpired()
+					? this.deleteById(mongoSession.getId()).thenReturn(false) : Mono.just(true)) //
+			.doOnNext((mongoSession) -> mongoSession.setSessionIdGenerator(this.sessionIdGenerator));
+	}
+
+	/**
+	 * Deletes all the sessions with a single {@code $in} query.
+	 * @param ids the session ids to delete
+	 * @return indicator of operation completion
+	 */
+	@Override
+	public Mono<Void> deleteByIds(Collection<String> ids) {
+		Assert.notNull(ids, "ids must not be null");
+		return this.mongoOperations.findAllAndRemove(getQueryForIds(ids), Document.class, this.collectionName) //
+			.map((document) -> MongoSessionUtils.convertToSession(this.mongoSessionConverter, document)) //
+			.doOnNext((mongoSession) -> publishEvent(new SessionDeletedEvent(this, mongoSession))) //
+			.then();
+	}
+
 	/**
 	 * Do not use
 	 * {@link org.springframework.data.mongodb.core.index.ReactiveIndexOperations} to
@@ -174,6 +209,10 @@ public class ReactiveMongoSessionRepository
 		return this.mongoOperations.findById(id, Document.class, this.collectionName);
 	}
 
+	private static Query getQueryForIds(Collection<String> ids) {
+		return Query.query(Criteria.where("_id").in(ids));
+	}
+
 	@Override
 	public void setApplicationEventPublisher(ApplicationEventPublisher eventPublisher) {
 		this.eventPublisher = eventPublisher;
@@ -229,6 +268,18 @@ public class ReactiveMongoSessionRepository
 		this.blockingMongoOperations = blockingMongoOperations;
 	}
 
+	/**
+	 * Return a {@link SessionCopier} creating independent copies of the sessions loaded
+	 * by this repository, for instance to coalesce concurrent lookups of the same session
+	 * with a {@link org.springframework.session.ReactiveSingleFlightSessionRepository}.
+	 * @return the session copier
+	 * @since 3.5
+	 */
+	@Override
+	public SessionCopier<MongoSession> getSessionCopier() {
+		return MongoSession::new;
+	}
+
 	public void setSessionIdGenerator(SessionIdGenerator sessionIdGenerator) {
 		Assert.notNull(sessionIdGenerator, "sessionIdGenerator cannot be null");
 		this.sessionIdGenerator = sessionIdGenerator;
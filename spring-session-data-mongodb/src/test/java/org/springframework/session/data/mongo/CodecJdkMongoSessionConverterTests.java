@@ -0,0 +1,159 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.mongo;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+import com.mongodb.DBObject;
+import org.bson.Document;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.core.convert.TypeDescriptor;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextImpl;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.LazySessionAttribute;
+import org.springframework.session.SessionMetadata;
+import org.springframework.session.codec.BinarySessionAttributeCodec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link JdkMongoSessionConverter} configured with a
+ * {@link BinarySessionAttributeCodec}.
+ *
+ * @author Spring Session Team
+ */
+class CodecJdkMongoSessionConverterTests extends AbstractMongoSessionConverterTests {
+
+	JdkMongoSessionConverter mongoSessionConverter = new JdkMongoSessionConverter(new BinarySessionAttributeCodec(),
+			Duration.ofMinutes(30));
+
+	@Override
+	AbstractMongoSessionConverter getMongoSessionConverter() {
+		return this.mongoSessionConverter;
+	}
+
+	@Test
+	@Override
+	void verifyRoundTripSerialization() {
+		MongoSession toSerialize = new MongoSession();
+		toSerialize.setAttribute("username", "john_the_springer");
+		toSerialize.setAttribute("dotted.name", 42L);
+
+		MongoSession deserialized = convertToSession(convertToDBObject(toSerialize));
+
+		assertThat(deserialized.getId()).isEqualTo(toSerialize.getId());
+		assertThat(deserialized.getAttributeNames()).isEqualTo(toSerialize.getAttributeNames());
+		assertThat(deserialized.<String>getAttribute("username")).isEqualTo("john_the_springer");
+		assertThat(deserialized.<Long>getAttribute("dotted.name")).isEqualTo(42L);
+	}
+
+	@Test
+	@Override
+	void verifyRoundTripSecuritySerialization() {
+		MongoSession toSerialize = new MongoSession();
+		SecurityContextImpl context = new SecurityContextImpl();
+		context.setAuthentication(new UsernamePasswordAuthenticationToken("john_the_springer", null));
+		toSerialize.setAttribute("SPRING_SECURITY_CONTEXT", context);
+
+		MongoSession deserialized = convertToSession(convertToDBObject(toSerialize));
+
+		SecurityContextImpl springSecurityContextAfter = deserialized.getAttribute("SPRING_SECURITY_CONTEXT");
+		assertThat(springSecurityContextAfter).usingRecursiveComparison().isEqualTo(context);
+	}
+
+	@Test
+	void attributesDeserializedOnFirstAccessAndUntouchedWrittenAsIs() {
+		MongoSession toSerialize = new MongoSession();
+		toSerialize.setAttribute("one", "first");
+		toSerialize.setAttribute("two", "second");
+		DBObject serialized = convertToDBObject(toSerialize);
+		byte[] twoBytes = (byte[]) ((DBObject) serialized.get("attr")).get("two");
+
+		MongoSession deserialized = convertToSession(serialized);
+		assertThat(deserialized.<String>getAttribute("one")).isEqualTo("first");
+		assertThat(((LazySessionAttribute) deserialized.getStoredAttribute("one")).isDeserialized()).isTrue();
+		assertThat(((LazySessionAttribute) deserialized.getStoredAttribute("two")).isDeserialized()).isFalse();
+
+		DBObject reserialized = convertToDBObject(deserialized);
+		assertThat(((DBObject) reserialized.get("attr")).get("two")).isSameAs(twoBytes);
+	}
+
+	@Test
+	void convertWhenSingleSerializedMapThenAttributesRead() {
+		MongoSession toSerialize = new MongoSession();
+		toSerialize.setAttribute("username", "john_the_springer");
+		JdkMongoSessionConverter jdkConverter = new JdkMongoSessionConverter(Duration.ofMinutes(30));
+		DBObject serialized = (DBObject) jdkConverter.convert(toSerialize, TypeDescriptor.valueOf(MongoSession.class),
+				TypeDescriptor.valueOf(DBObject.class));
+
+		MongoSession deserialized = convertToSession(serialized);
+		assertThat(deserialized.<String>getAttribute("username")).isEqualTo("john_the_springer");
+	}
+
+	@Test
+	void metadataAggregationProjectsAttributeNamesOnly() {
+		List<Document> pipeline = this.mongoSessionConverter
+			.getMetadataAggregationForIndex(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, "john")
+			.toPipeline(Aggregation.DEFAULT_CONTEXT);
+
+		assertThat(pipeline).hasSize(2);
+		assertThat(pipeline.get(0).get("$match", Document.class)).containsEntry("principal", "john");
+		assertThat(pipeline.get(1).get("$project", Document.class))
+			.containsKeys("created", "accessed", "interval", "principal", "attrNames")
+			.doesNotContainKey("attr");
+	}
+
+	@Test
+	void convertToMetadataWhenAttributeNamesProjectedThenMetadata() {
+		Instant now = Instant.now();
+		Document document = new Document("_id", "id").append("created", Date.from(now))
+			.append("accessed", Date.from(now))
+			.append("interval", Duration.ofMinutes(30))
+			.append("principal", "john")
+			.append("attrNames", Arrays.asList("username", MongoSession.coverDot("dotted.name")));
+
+		SessionMetadata metadata = this.mongoSessionConverter.convertToMetadata(document);
+
+		assertThat(metadata).isNotNull();
+		assertThat(metadata.getId()).isEqualTo("id");
+		assertThat(metadata.getLastAccessedTime()).isEqualTo(now.truncatedTo(ChronoUnit.MILLIS));
+		assertThat(metadata.getMaxInactiveInterval()).isEqualTo(Duration.ofMinutes(30));
+		assertThat(metadata.getPrincipalName()).isEqualTo("john");
+		assertThat(metadata.getAttributeNames()).containsExactly("username", "dotted.name");
+	}
+
+	@Test
+	void convertToMetadataWhenSingleSerializedMapThenNull() {
+		Document document = new Document("_id", "id").append("created", new Date())
+			.append("accessed", new Date())
+			.append("attrNames", null);
+
+		assertThat(this.mongoSessionConverter.convertToMetadata(document)).isNull();
+		assertThat(new JdkMongoSessionConverter(Duration.ofMinutes(30))
+			.getMetadataAggregationForIndex(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, "john"))
+			.isNull();
+	}
+
+}
@@ -17,13 +17,28 @@
 package org.springframework.session.data.mongo;
 
 import java.time.Duration;
+import java.util.Map;
 
+import com.mongodb.DBObject;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 
+import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.core.serializer.support.DeserializingConverter;
 import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.data.mongodb.core.index.IndexDefinition;
+import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.index.WildcardIndex;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.session.DelegatingIndexResolver;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.PrincipalNameIndexResolver;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 /**
  * @author Jakub Kubrynski
@@ -53,4 +68,39 @@ class JdkMongoSessionConverterTests extends AbstractMongoSessionConverterTests {
 			.isThrownBy(() -> new JdkMongoSessionConverter(new SerializingConverter(), null, this.inactiveInterval));
 	}
 
+	@Test
+	void shouldQueryAgainstIndexes() {
+		Query query = this.mongoSessionConverter.getQueryForIndex("tenant", "acme");
+
+		assertThat(query.getQueryObject().get("indexes.tenant")).isEqualTo("acme");
+	}
+
+	@Test
+	void shouldStoreIndexesResolvedByIndexResolver() {
+		this.mongoSessionConverter.setIndexResolver(new DelegatingIndexResolver<>(new PrincipalNameIndexResolver<>(),
+				new PrincipalNameIndexResolver<>("tenant")));
+		MongoSession session = new MongoSession();
+		session.setAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, "john");
+		session.setAttribute("tenant", "acme");
+
+		DBObject serialized = (DBObject) this.mongoSessionConverter.convert(session,
+				TypeDescriptor.valueOf(MongoSession.class), TypeDescriptor.valueOf(DBObject.class));
+
+		assertThat(serialized.get("principal")).isEqualTo("john");
+		assertThat(((DBObject) serialized.get("indexes")).toMap()).containsOnly(Map.entry("tenant", "acme"));
+	}
+
+	@Test
+	void shouldEnsurePrincipalAndIndexesIndexes() {
+		IndexOperations indexOperations = mock(IndexOperations.class);
+
+		this.mongoSessionConverter.ensureIndexes(indexOperations);
+
+		ArgumentCaptor<IndexDefinition> indexes = ArgumentCaptor.forClass(IndexDefinition.class);
+		verify(indexOperations, times(3)).ensureIndex(indexes.capture());
+		assertThat(indexes.getAllValues()).extracting((index) -> index.getIndexOptions().get("name"))
+			.containsExactly("expireAt", "principal", "indexes");
+		assertThat(indexes.getAllValues().get(2)).isInstanceOf(WildcardIndex.class);
+	}
+
 }
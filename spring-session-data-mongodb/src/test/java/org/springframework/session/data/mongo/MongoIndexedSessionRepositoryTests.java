@@ -18,7 +18,9 @@ package org.springframework.session.data.mongo;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 import java.util.UUID;
 
@@ -31,20 +33,28 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.data.mongodb.core.MongoOperations;
+import org.springframework.data.mongodb.core.aggregation.Aggregation;
+import org.springframework.data.mongodb.core.aggregation.AggregationResults;
+import org.springframework.data.mongodb.core.query.Criteria;
 import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.session.FindByIndexNameSessionRepository;
 import org.springframework.session.MapSession;
 import org.springframework.session.SessionIdGenerator;
+import org.springframework.session.SessionMetadata;
+import org.springframework.session.events.SessionDeletedEvent;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.never;
 import static org.mockito.BDDMockito.verify;
 
 /**
@@ -152,6 +162,77 @@ class MongoIndexedSessionRepositoryTests {
 				eq(MongoIndexedSessionRepository.DEFAULT_COLLECTION_NAME));
 	}
 
+	@Test
+	void shouldGetSessionsWithSingleQuery() {
+
+		// given
+		MongoSession session1 = new MongoSession();
+		MongoSession session2 = new MongoSession();
+		Document sessionDocument1 = new Document("_id", session1.getId());
+		Document sessionDocument2 = new Document("_id", session2.getId());
+
+		given(this.mongoOperations.find(any(Query.class), eq(Document.class),
+				eq(MongoIndexedSessionRepository.DEFAULT_COLLECTION_NAME)))
+			.willReturn(Arrays.asList(sessionDocument1, sessionDocument2));
+		given(this.converter.convert(sessionDocument1, TypeDescriptor.valueOf(Document.class),
+				TypeDescriptor.valueOf(MongoSession.class)))
+			.willReturn(session1);
+		given(this.converter.convert(sessionDocument2, TypeDescriptor.valueOf(Document.class),
+				TypeDescriptor.valueOf(MongoSession.class)))
+			.willReturn(session2);
+
+		// when
+		Map<String, MongoSession> sessions = this.repository
+			.findByIds(Arrays.asList(session1.getId(), session2.getId(), "missing"));
+
+		// then
+		assertThat(sessions).containsOnlyKeys(session1.getId(), session2.getId());
+		verify(this.mongoOperations).find(any(Query.class), eq(Document.class),
+				eq(MongoIndexedSessionRepository.DEFAULT_COLLECTION_NAME));
+	}
+
+	@Test
+	void shouldDeleteSessionsWithSingleQuery() {
+
+		// given
+		given(this.mongoOperations.findAllAndRemove(any(Query.class), eq(Document.class),
+				eq(MongoIndexedSessionRepository.DEFAULT_COLLECTION_NAME)))
+			.willReturn(Collections.emptyList());
+
+		// when
+		this.repository.deleteByIds(Arrays.asList("id1", "id2"));
+
+		// then
+		verify(this.mongoOperations).findAllAndRemove(any(Query.class), eq(Document.class),
+				eq(MongoIndexedSessionRepository.DEFAULT_COLLECTION_NAME));
+	}
+
+	@Test
+	void shouldDeleteSessionsByPrincipalNameWithSingleQuery() {
+
+		// given
+		ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+		this.repository.setApplicationEventPublisher(eventPublisher);
+		Query query = mock(Query.class);
+		Document sessionDocument = new Document("_id", "id1");
+		MongoSession mongoSession = new MongoSession("id1", MapSession.DEFAULT_MAX_INACTIVE_INTERVAL_SECONDS);
+		given(this.converter.getQueryForIndex(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, "john"))
+			.willReturn(query);
+		given(this.mongoOperations.findAllAndRemove(query, Document.class,
+				MongoIndexedSessionRepository.DEFAULT_COLLECTION_NAME))
+			.willReturn(Collections.singletonList(sessionDocument));
+		given(this.converter.convert(sessionDocument, TypeDescriptor.valueOf(Document.class),
+				TypeDescriptor.valueOf(MongoSession.class)))
+			.willReturn(mongoSession);
+
+		// when
+		this.repository.deleteByPrincipalName("john");
+
+		// then
+		verify(eventPublisher).publishEvent(isA(SessionDeletedEvent.class));
+		verify(this.mongoOperations, never()).remove(any(Document.class), anyString());
+	}
+
 	@Test
 	void shouldDeleteSession() {
 
@@ -208,6 +289,41 @@ class MongoIndexedSessionRepositoryTests {
 		assertThat(sessionsMap).containsValues(session);
 	}
 
+	@Test
+	void shouldGetSessionMetadataByPrincipalWithMetadataAggregation() {
+
+		// given
+		Aggregation aggregation = Aggregation.newAggregation(Aggregation.match(new Criteria("principal").is("john")));
+		Document projected = new Document("_id", "projected");
+		Document unprojected = new Document("_id", "unprojected");
+		SessionMetadata metadata = new SessionMetadata("projected", Instant.now(), Instant.now(),
+				Duration.ofMinutes(30), "john", Collections.singleton("attribute"));
+		MongoSession session = new MongoSession("unprojected", 1800);
+
+		given(this.converter.getMetadataAggregationForIndex(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME,
+				"john"))
+			.willReturn(aggregation);
+		given(this.mongoOperations.aggregate(aggregation, MongoIndexedSessionRepository.DEFAULT_COLLECTION_NAME,
+				Document.class))
+			.willReturn(new AggregationResults<>(Arrays.asList(projected, unprojected), new Document()));
+		given(this.converter.convertToMetadata(projected)).willReturn(metadata);
+		given(this.mongoOperations.findById("unprojected", Document.class,
+				MongoIndexedSessionRepository.DEFAULT_COLLECTION_NAME))
+			.willReturn(unprojected);
+		given(this.converter.convert(unprojected, TypeDescriptor.valueOf(Document.class),
+				TypeDescriptor.valueOf(MongoSession.class)))
+			.willReturn(session);
+
+		// when
+		List<SessionMetadata> sessions = this.repository.findSessionMetadataByPrincipalName("john").toList();
+
+		// then
+		assertThat(sessions).hasSize(2);
+		assertThat(sessions.get(0)).isSameAs(metadata);
+		assertThat(sessions.get(1).getId()).isEqualTo("unprojected");
+		assertThat(sessions.get(1).getPrincipalName()).isEqualTo("john");
+	}
+
 	@Test
 	void shouldReturnEmptyMapForNotSupportedIndex() {
 
@@ -264,6 +380,20 @@ class MongoIndexedSessionRepositoryTests {
 		assertThat(session.getExpireAt()).isBetween(now.plusSeconds(59), Instant.now().plusSeconds(61));
 	}
 
+	@Test
+	void getSessionCopierThenCopyIndependent() {
+		MongoSession session = new MongoSession();
+		session.setAttribute("attribute1", "value1");
+		session.setAttribute("attribute2", "value2");
+		MongoSession copy = this.repository.getSessionCopier().copy(session);
+		copy.setAttribute("attribute1", "changed");
+		assertThat(copy.getId()).isEqualTo(session.getId());
+		assertThat(copy.getCreationTime()).isEqualTo(session.getCreationTime());
+		assertThat(copy.getMaxInactiveInterval()).isEqualTo(session.getMaxInactiveInterval());
+		assertThat(session.<String>getAttribute("attribute1")).isEqualTo("value1");
+		assertThat(copy.<String>getAttribute("attribute2")).isEqualTo("value2");
+	}
+
 	static class FixedSessionIdGenerator implements SessionIdGenerator {
 
 		private final String id;
@@ -18,6 +18,7 @@ package org.springframework.session.data.mongo;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.Arrays;
 import java.util.UUID;
 
 import com.mongodb.BasicDBObject;
@@ -29,6 +30,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -37,6 +39,7 @@ import org.springframework.core.convert.TypeDescriptor;
 import org.springframework.data.mongodb.core.MongoOperations;
 import org.springframework.data.mongodb.core.ReactiveMongoOperations;
 import org.springframework.data.mongodb.core.index.IndexOperations;
+import org.springframework.data.mongodb.core.query.Query;
 import org.springframework.session.MapSession;
 import org.springframework.session.events.SessionDeletedEvent;
 
@@ -171,6 +174,58 @@ class ReactiveMongoSessionRepositoryTests {
 				eq(ReactiveMongoSessionRepository.DEFAULT_COLLECTION_NAME));
 	}
 
+	@Test
+	void shouldGetSessionsWithSingleQuery() {
+
+		// given
+		MongoSession session1 = new MongoSession();
+		MongoSession session2 = new MongoSession();
+		Document sessionDocument1 = new Document("_id", session1.getId());
+		Document sessionDocument2 = new Document("_id", session2.getId());
+
+		given(this.mongoOperations.find(any(Query.class), eq(Document.class),
+				eq(ReactiveMongoSessionRepository.DEFAULT_COLLECTION_NAME)))
+			.willReturn(Flux.just(sessionDocument1, sessionDocument2));
+		given(this.converter.convert(sessionDocument1, TypeDescriptor.valueOf(Document.class),
+				TypeDescriptor.valueOf(MongoSession.class)))
+			.willReturn(session1);
+		given(this.converter.convert(sessionDocument2, TypeDescriptor.valueOf(Document.class),
+				TypeDescriptor.valueOf(MongoSession.class)))
+			.willReturn(session2);
+
+		// when
+		this.repository.findByIds(Arrays.asList(session1.getId(), session2.getId())) //
+			.as(StepVerifier::create) //
+			.expectNext(session1, session2) //
+			.verifyComplete();
+	}
+
+	@Test
+	void shouldDeleteSessionsWithSingleQuery() {
+
+		// given
+		Document sessionDocument = new Document();
+		MongoSession session = new MongoSession();
+
+		given(this.mongoOperations.findAllAndRemove(any(Query.class), eq(Document.class),
+				eq(ReactiveMongoSessionRepository.DEFAULT_COLLECTION_NAME)))
+			.willReturn(Flux.just(sessionDocument));
+		given(this.converter.convert(sessionDocument, TypeDescriptor.valueOf(Document.class),
+				TypeDescriptor.valueOf(MongoSession.class)))
+			.willReturn(session);
+
+		ApplicationEventPublisher eventPublisher = mock(ApplicationEventPublisher.class);
+		this.repository.setApplicationEventPublisher(eventPublisher);
+
+		// when
+		this.repository.deleteByIds(Arrays.asList(session.getId(), "missing")) //
+			.as(StepVerifier::create) //
+			.verifyComplete();
+
+		// then
+		verify(eventPublisher).publishEvent(any(SessionDeletedEvent.class));
+	}
+
 	@Test
 	void shouldDeleteSession() {
 
@@ -268,4 +323,18 @@ class ReactiveMongoSessionRepositoryTests {
 		assertThat(session.getExpireAt()).isBetween(now.plusSeconds(59), Instant.now().plusSeconds(61));
 	}
 
+	@Test
+	void getSessionCopierThenCopyIndependent() {
+		MongoSession session = new MongoSession();
+		session.setAttribute("attribute1", "value1");
+		session.setAttribute("attribute2", "value2");
+		MongoSession copy = this.repository.getSessionCopier().copy(session);
+		copy.setAttribute("attribute1", "changed");
+		assertThat(copy.getId()).isEqualTo(session.getId());
+		assertThat(copy.getCreationTime()).isEqualTo(session.getCreationTime());
+		assertThat(copy.getMaxInactiveInterval()).isEqualTo(session.getMaxInactiveInterval());
+		assertThat(session.<String>getAttribute("attribute1")).isEqualTo("value1");
+		assertThat(copy.<String>getAttribute("attribute2")).isEqualTo("value2");
+	}
+
 }
@@ -155,6 +155,23 @@ class ReactiveRedisIndexedSessionRepositoryITests {
 		assertThat(principalSessions).isEmpty();
 	}
 
+	@Test
+	void deleteByPrincipalNameWhenExistsThenDeleted() {
+		String principalName = "deleteByPrincipalName" + UUID.randomUUID();
+		RedisSession session1 = this.repository.createSession().block();
+		session1.setAttribute(ReactiveRedisIndexedSessionRepository.PRINCIPAL_NAME_INDEX_NAME, principalName);
+		this.repository.save(session1).block();
+		RedisSession session2 = this.repository.createSession().block();
+		session2.setAttribute(ReactiveRedisIndexedSessionRepository.PRINCIPAL_NAME_INDEX_NAME, principalName);
+		this.repository.save(session2).block();
+
+		this.repository.deleteByPrincipalName(principalName).block();
+
+		assertThat(this.repository.findById(session1.getId()).block()).isNull();
+		assertThat(this.repository.findById(session2.getId()).block()).isNull();
+		assertThat(this.repository.findByPrincipalName(principalName).block()).isEmpty();
+	}
+
 	@Test
 	void findByPrincipalNameWhenExpireKeyEventThenRemovesIndexAndSessionExpiredEvent() {
 		String principalName = "findByPrincipalNameExpireRemovesIndex" + UUID.randomUUID();
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.redis;
+
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.lang.Nullable;
+import org.springframework.session.LazySessionAttribute;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link RedisSerializer} for the hash values of the Redis session repositories that
+ * defers deserializing each session attribute until it is first read. Values are read as
+ * {@link LazySessionAttribute} instances holding the raw bytes, and attributes that were
+ * never read are written back as is, without serializing them again.
+ * <p>
+ * This serializer must only be configured as the hash value serializer of the
+ * {@link org.springframework.data.redis.core.RedisTemplate} used by the repository, for
+ * instance with
+ * {@code redisTemplate.setHashValueSerializer(new LazySessionAttributeRedisSerializer(serializer))},
+ * since other values, such as the members of the principal index sets, are not session
+ * attributes.
+ * <p>
+ * It is not configured by default: {@code @EnableRedisHttpSession} and
+ * {@code @EnableRedisIndexedHttpSession} use the
+ * {@code springSessionDefaultRedisSerializer} bean, or JDK serialization, for the hash
+ * values. To opt in, replace the hash value serializer of the template returned by
+ * {@code getSessionRedisOperations()} in a
+ * {@link org.springframework.session.config.SessionRepositoryCustomizer}.
+ *
+ * @author Spring Session Team
+ * @since 3.5
+ */
+public class LazySessionAttributeRedisSerializer implements RedisSerializer<Object> {
+
+	private final RedisSerializer<Object> serializer;
+
+	/**
+	 * Create a new instance.
+	 * @param serializer the serializer of the attribute values
+	 */
+	public LazySessionAttributeRedisSerializer(RedisSerializer<Object> serializer) {
+		Assert.notNull(serializer, "serializer cannot be null");
+		this.serializer = serializer;
+	}
+
+	@Override
+	@Nullable
+	public byte[] serialize(@Nullable Object value) throws SerializationException {
+		byte[] untouched = LazySessionAttribute.getUntouchedSerializedValue(value);
+		return (untouched != null) ? untouched : this.serializer.serialize(LazySessionAttribute.resolve(value));
+	}
+
+	@Override
+	@Nullable
+	public Object deserialize(@Nullable byte[] bytes) throws SerializationException {
+		return (bytes != null)
+				? LazySessionAttribute.of(bytes, this.serializer::deserialize, this.serializer::serialize) : null;
+	}
+
+}
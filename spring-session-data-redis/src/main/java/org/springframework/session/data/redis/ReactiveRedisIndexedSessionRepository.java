@@ -21,6 +21,7 @@ import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -43,11 +44,14 @@ import org.springframework.data.redis.connection.ReactiveSubscription;
 import org.springframework.data.redis.core.ReactiveRedisOperations;
 import org.springframework.data.redis.core.ReactiveRedisTemplate;
 import org.springframework.session.IndexResolver;
+import org.springframework.session.LazySessionAttribute;
 import org.springframework.session.MapSession;
 import org.springframework.session.ReactiveFindByIndexNameSessionRepository;
 import org.springframework.session.ReactiveSessionRepository;
 import org.springframework.session.SaveMode;
 import org.springframework.session.Session;
+import org.springframework.session.SessionCopier;
+import org.springframework.session.SessionCopierProvider;
 import org.springframework.session.SessionIdGenerator;
 import org.springframework.session.UuidSessionIdGenerator;
 import org.springframework.session.events.SessionCreatedEvent;
@@ -234,8 +238,8 @@ import org.springframework.util.StringUtils;
  */
 public class ReactiveRedisIndexedSessionRepository
 		implements ReactiveSessionRepository<ReactiveRedisIndexedSessionRepository.RedisSession>,
-		ReactiveFindByIndexNameSessionRepository<ReactiveRedisIndexedSessionRepository.RedisSession>, DisposableBean,
-		InitializingBean {
+		ReactiveFindByIndexNameSessionRepository<ReactiveRedisIndexedSessionRepository.RedisSession>,
+		SessionCopierProvider<ReactiveRedisIndexedSessionRepository.RedisSession>, DisposableBean, InitializingBean {
 
 	private static final Log logger = LogFactory.getLog(ReactiveRedisIndexedSessionRepository.class);
 
@@ -347,12 +351,25 @@ public class ReactiveRedisIndexedSessionRepository
 			.collectMap(RedisSession::getId);
 	}
 
+	/**
+	 * Deletes the sessions of the index with {@link #deleteByIds(Collection)}, without
+	 * loading them.
+	 * @param indexName the name of the index
+	 * @param indexValue the value of the index to search for
+	 * @return a {@link Mono} that completes once the sessions are deleted
+	 */
+	@Override
+	public Mono<Void> deleteByIndexNameAndIndexValue(String indexName, String indexValue) {
+		return this.indexer.getSessionIds(indexName, indexValue).collectList().flatMap(this::deleteByIds);
+	}
+
 	@Override
 	public Mono<RedisSession> createSession() {
-		return Mono.fromSupplier(() -> this.sessionIdGenerator.generate())
-			.subscribeOn(Schedulers.boundedElastic())
-			.publishOn(Schedulers.parallel())
-			.map(MapSession::new)
+		Mono<String> generatedId = Mono.fromSupplier(() -> this.sessionIdGenerator.generate());
+		if (this.sessionIdGenerator.isBlocking()) {
+			generatedId = generatedId.subscribeOn(Schedulers.boundedElastic()).publishOn(Schedulers.parallel());
+		}
+		return generatedId.map(MapSession::new)
 			.doOnNext((session) -> session.setMaxInactiveInterval(this.defaultMaxInactiveInterval))
 			.map((session) -> new RedisSession(session, true));
 	}
@@ -366,6 +383,18 @@ public class ReactiveRedisIndexedSessionRepository
 		// @formatter:on
 	}
 
+	/**
+	 * Return a {@link SessionCopier} creating independent copies of the sessions loaded
+	 * by this repository, for instance to coalesce concurrent lookups of the same session
+	 * with a {@link org.springframework.session.ReactiveSingleFlightSessionRepository}.
+	 * @return the session copier
+	 * @since 3.5
+	 */
+	@Override
+	public SessionCopier<RedisSession> getSessionCopier() {
+		return (session) -> new RedisSession(LazySessionAttribute.copyOf(session.cached), false);
+	}
+
 	@Override
 	public Mono<RedisSession> findById(String id) {
 		return getSession(id, false);
@@ -388,6 +417,31 @@ public class ReactiveRedisIndexedSessionRepository
 		return deleteAndReturn(id).then();
 	}
 
+	/**
+	 * Deletes the sessions without loading them. Their keys are deleted with a single
+	 * {@code DEL}, and they are removed from each of their indexes and from the
+	 * expirations sorted set with a single command per key.
+	 * @param ids the session ids to delete
+	 * @return a {@link Mono} that completes once the sessions are deleted
+	 */
+	@Override
+	public Mono<Void> deleteByIds(Collection<String> ids) {
+		Assert.notNull(ids, "ids must not be null");
+		if (ids.isEmpty()) {
+			return Mono.empty();
+		}
+		List<String> keys = new ArrayList<>(ids.size() * 2);
+		for (String id : ids) {
+			keys.add(getExpiredKey(id));
+			keys.add(getSessionKey(id));
+		}
+		// @formatter:off
+		return this.sessionRedisOperations.delete(keys.toArray(new String[0]))
+				.then(this.indexer.delete(ids))
+				.then(this.expirationStore.remove(ids));
+		// @formatter:on
+	}
+
 	private Mono<RedisSession> deleteAndReturn(String id) {
 		// @formatter:off
 		return getSession(id, true)
@@ -605,7 +659,7 @@ public class ReactiveRedisIndexedSessionRepository
 			}
 			if (this.isNew || (ReactiveRedisIndexedSessionRepository.this.saveMode == SaveMode.ALWAYS)) {
 				getAttributeNames().forEach((attributeName) -> this.delta.put(getAttributeNameWithPrefix(attributeName),
-						cached.getAttribute(attributeName)));
+						cached.getStoredAttribute(attributeName)));
 			}
 		}
 
@@ -16,11 +16,13 @@
 
 package org.springframework.session.data.redis;
 
+import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.util.function.Tuple2;
 import reactor.util.function.Tuples;
 
 import org.springframework.data.redis.core.ReactiveRedisOperations;
@@ -108,6 +110,26 @@ final class ReactiveRedisSessionIndexer {
 			.then();
 	}
 
+	/**
+	 * Remove the given sessions from all their indexes, removing each session from an
+	 * index with a single command, and delete their index keys with a single command.
+	 * @param sessionIds the session ids
+	 * @return a {@link Mono} that completes when the indexes are updated
+	 */
+	Mono<Void> delete(Collection<String> sessionIds) {
+		String[] sessionIndexesKeys = sessionIds.stream().map(this::getSessionIndexesKey).toArray(String[]::new);
+		return Flux.fromIterable(sessionIds)
+			.flatMap((sessionId) -> this.sessionRedisOperations.opsForSet()
+				.members(getSessionIndexesKey(sessionId))
+				.map((indexKey) -> Tuples.of((String) indexKey, sessionId)))
+			.collectMultimap(Tuple2::getT1, Tuple2::getT2)
+			.flatMapMany((sessionIdsByIndexKey) -> Flux.fromIterable(sessionIdsByIndexKey.entrySet()))
+			.flatMap((entry) -> this.sessionRedisOperations.opsForSet()
+				.remove(entry.getKey(), entry.getValue().toArray()))
+			.then(this.sessionRedisOperations.delete(sessionIndexesKeys))
+			.then();
+	}
+
 	private Mono<Void> removeSessionFromIndex(String indexKey, String sessionId) {
 		return this.sessionRedisOperations.opsForSet().remove(indexKey, sessionId).then();
 	}
@@ -29,10 +29,13 @@ import reactor.core.scheduler.Schedulers;
 
 import org.springframework.core.NestedExceptionUtils;
 import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.session.LazySessionAttribute;
 import org.springframework.session.MapSession;
 import org.springframework.session.ReactiveSessionRepository;
 import org.springframework.session.SaveMode;
 import org.springframework.session.Session;
+import org.springframework.session.SessionCopier;
+import org.springframework.session.SessionCopierProvider;
 import org.springframework.session.SessionIdGenerator;
 import org.springframework.session.UuidSessionIdGenerator;
 import org.springframework.util.Assert;
@@ -47,7 +50,8 @@ import org.springframework.util.StringUtils;
  * @since 2.2.0
  */
 public class ReactiveRedisSessionRepository
-		implements ReactiveSessionRepository<ReactiveRedisSessionRepository.RedisSession> {
+		implements ReactiveSessionRepository<ReactiveRedisSessionRepository.RedisSession>,
+		SessionCopierProvider<ReactiveRedisSessionRepository.RedisSession> {
 
 	/**
 	 * The default namespace for each key and channel in Redis used by Spring Session.
@@ -127,10 +131,12 @@ public class ReactiveRedisSessionRepository
 
 	@Override
 	public Mono<RedisSession> createSession() {
+		Mono<String> generatedId = Mono.fromSupplier(() -> this.sessionIdGenerator.generate());
+		if (this.sessionIdGenerator.isBlocking()) {
+			generatedId = generatedId.subscribeOn(Schedulers.boundedElastic()).publishOn(Schedulers.parallel());
+		}
 		// @formatter:off
-		return Mono.fromSupplier(() -> this.sessionIdGenerator.generate())
-				.subscribeOn(Schedulers.boundedElastic())
-				.publishOn(Schedulers.parallel())
+		return generatedId
 				.map((sessionId) -> {
 					MapSession cached = new MapSession(sessionId);
 					cached.setMaxInactiveInterval(this.defaultMaxInactiveInterval);
@@ -150,6 +156,18 @@ public class ReactiveRedisSessionRepository
 					: Mono.error(new IllegalStateException("Session was invalidated")));
 	}
 
+	/**
+	 * Return a {@link SessionCopier} creating independent copies of the sessions loaded
+	 * by this repository, for instance to coalesce concurrent lookups of the same session
+	 * with a {@link org.springframework.session.ReactiveSingleFlightSessionRepository}.
+	 * @return the session copier
+	 * @since 3.5
+	 */
+	@Override
+	public SessionCopier<RedisSession> getSessionCopier() {
+		return (session) -> new RedisSession(LazySessionAttribute.copyOf(session.cached), false);
+	}
+
 	@Override
 	public Mono<RedisSession> findById(String id) {
 		String sessionKey = getSessionKey(id);
@@ -159,9 +177,9 @@ public class ReactiveRedisSessionRepository
 				.collectMap((e) -> e.getKey().toString(), Map.Entry::getValue)
 				.filter((map) -> !map.isEmpty())
 				.flatMap((map) -> this.redisSessionMapper.apply(id, map))
-				.filter((session) -> !session.isExpired())
-				.map((session) -> new RedisSession(session, false))
-				.switchIfEmpty(Mono.defer(() -> deleteById(id).then(Mono.empty())));
+				.flatMap((session) -> session.isExpired()
+						? deleteById(id).then(Mono.<RedisSession>empty())
+						: Mono.just(new RedisSession(session, false)));
 		// @formatter:on
 	}
 
@@ -228,7 +246,7 @@ public class ReactiveRedisSessionRepository
 			}
 			if (this.isNew || (ReactiveRedisSessionRepository.this.saveMode == SaveMode.ALWAYS)) {
 				getAttributeNames().forEach((attributeName) -> this.delta.put(getAttributeKey(attributeName),
-						cached.getAttribute(attributeName)));
+						cached.getStoredAttribute(attributeName)));
 			}
 		}
 
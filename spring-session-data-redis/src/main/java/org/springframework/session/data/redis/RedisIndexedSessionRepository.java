@@ -19,14 +19,22 @@ package org.springframework.session.data.redis;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.stream.Stream;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -43,6 +51,7 @@ import org.springframework.data.redis.core.BoundHashOperations;
 import org.springframework.data.redis.core.BoundSetOperations;
 import org.springframework.data.redis.core.BoundValueOperations;
 import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.data.redis.util.ByteUtils;
@@ -54,11 +63,15 @@ import org.springframework.session.DelegatingIndexResolver;
 import org.springframework.session.FindByIndexNameSessionRepository;
 import org.springframework.session.FlushMode;
 import org.springframework.session.IndexResolver;
+import org.springframework.session.LazySessionAttribute;
 import org.springframework.session.MapSession;
 import org.springframework.session.PrincipalNameIndexResolver;
 import org.springframework.session.SaveMode;
 import org.springframework.session.Session;
+import org.springframework.session.SessionCopier;
+import org.springframework.session.SessionCopierProvider;
 import org.springframework.session.SessionIdGenerator;
+import org.springframework.session.SessionMetadata;
 import org.springframework.session.UuidSessionIdGenerator;
 import org.springframework.session.events.SessionCreatedEvent;
 import org.springframework.session.events.SessionDeletedEvent;
@@ -266,11 +279,12 @@ import org.springframework.util.StringUtils;
  */
 public class RedisIndexedSessionRepository
 		implements FindByIndexNameSessionRepository<RedisIndexedSessionRepository.RedisSession>, MessageListener,
-		InitializingBean, DisposableBean {
+		SessionCopierProvider<RedisIndexedSessionRepository.RedisSession>, InitializingBean, DisposableBean {
 
 	private static final Log logger = LogFactory.getLog(RedisIndexedSessionRepository.class);
 
-	private static final String SPRING_SECURITY_CONTEXT = "SPRING_SECURITY_CONTEXT";
+	private static final List<Object> METADATA_KEYS = List.of(RedisSessionMapper.CREATION_TIME_KEY,
+			RedisSessionMapper.LAST_ACCESSED_TIME_KEY, RedisSessionMapper.MAX_INACTIVE_INTERVAL_KEY);
 
 	/**
 	 * The default cron expression used for expired session cleanup job.
@@ -327,6 +341,8 @@ public class RedisIndexedSessionRepository
 
 	private SaveMode saveMode = SaveMode.ON_SET_ATTRIBUTE;
 
+	private boolean skipUnmodifiedAttributes;
+
 	private String cleanupCron = DEFAULT_CLEANUP_CRON;
 
 	private ThreadPoolTaskScheduler taskScheduler;
@@ -443,6 +459,20 @@ public class RedisIndexedSessionRepository
 		this.saveMode = saveMode;
 	}
 
+	/**
+	 * Set whether attributes that are saved because they were read, as with
+	 * {@link SaveMode#ON_GET_ATTRIBUTE} and {@link SaveMode#ALWAYS}, should be skipped
+	 * when their serialized form did not change since the session was loaded. This
+	 * requires attributes to be loaded lazily, using a
+	 * {@link LazySessionAttributeRedisSerializer} as hash value serializer. Default is
+	 * {@code false}.
+	 * @param skipUnmodifiedAttributes whether to skip unmodified attributes
+	 * @since 3.5
+	 */
+	public void setSkipUnmodifiedAttributes(boolean skipUnmodifiedAttributes) {
+		this.skipUnmodifiedAttributes = skipUnmodifiedAttributes;
+	}
+
 	/**
 	 * Set the cleanup cron expression.
 	 * @param cleanupCron the cleanup cron expression
@@ -495,6 +525,22 @@ public class RedisIndexedSessionRepository
 		this.expirationStore.cleanupExpiredSessions();
 	}
 
+	/**
+	 * Return a {@link SessionCopier} creating independent copies of the sessions loaded
+	 * by this repository, for instance to coalesce concurrent lookups of the same session
+	 * with a {@link org.springframework.session.SingleFlightSessionRepository}.
+	 * @return the session copier
+	 * @since 3.5
+	 */
+	@Override
+	public SessionCopier<RedisSession> getSessionCopier() {
+		return (session) -> {
+			RedisSession copy = new RedisSession(LazySessionAttribute.copyOf(session.cached), false);
+			copy.originalLastAccessTime = session.originalLastAccessTime;
+			return copy;
+		};
+	}
+
 	@Override
 	public RedisSession findById(String id) {
 		return getSession(id, false);
@@ -502,22 +548,224 @@ public class RedisIndexedSessionRepository
 
 	@Override
 	public Map<String, RedisSession> findByIndexNameAndIndexValue(String indexName, String indexValue) {
-		if (!PRINCIPAL_NAME_INDEX_NAME.equals(indexName)) {
-			return Collections.emptyMap();
-		}
-		String principalKey = getPrincipalKey(indexValue);
-		Set<Object> sessionIds = this.sessionRedisOperations.boundSetOps(principalKey).members();
+		String indexKey = getIndexKey(indexName, indexValue);
+		Set<Object> sessionIds = this.sessionRedisOperations.boundSetOps(indexKey).members();
 		if (sessionIds == null) {
 			return Collections.emptyMap();
 		}
-		Map<String, RedisSession> sessions = new HashMap<>(sessionIds.size());
+		List<String> ids = new ArrayList<>(sessionIds.size());
 		for (Object id : sessionIds) {
-			RedisSession session = findById((String) id);
-			if (session != null) {
-				sessions.put(session.getId(), session);
+			ids.add((String) id);
+		}
+		return findByIds(ids);
+	}
+
+	/**
+	 * Loads the metadata of the sessions of the principal with a single pipelined round
+	 * trip that reads the session fields and the attribute names, but not the attribute
+	 * values. Falls back to loading the full sessions for other indexes or if a custom
+	 * {@link #setRedisSessionMapper(BiFunction) session mapper} is used.
+	 * @param indexName the name of the index
+	 * @param indexValue the value of the index to search for
+	 * @return the metadata of the sessions that were found
+	 */
+	@Override
+	public Stream<SessionMetadata> findSessionMetadataByIndexNameAndIndexValue(String indexName, String indexValue) {
+		if (!PRINCIPAL_NAME_INDEX_NAME.equals(indexName) || !(this.redisSessionMapper instanceof RedisSessionMapper)) {
+			return FindByIndexNameSessionRepository.super.findSessionMetadataByIndexNameAndIndexValue(indexName,
+					indexValue);
+		}
+		Set<Object> sessionIds = this.sessionRedisOperations.boundSetOps(getPrincipalKey(indexValue)).members();
+		if (CollectionUtils.isEmpty(sessionIds)) {
+			return Stream.empty();
+		}
+		List<String> ids = new ArrayList<>(sessionIds.size());
+		for (Object id : sessionIds) {
+			ids.add((String) id);
+		}
+		List<Object> results = this.sessionRedisOperations.executePipelined(new SessionCallback<>() {
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) {
+				for (String sessionId : ids) {
+					K sessionKey = (K) getSessionKey(sessionId);
+					operations.opsForHash().multiGet(sessionKey, METADATA_KEYS);
+					operations.opsForHash().keys(sessionKey);
+				}
+				return null;
+			}
+
+		}, RedisSerializer.byteArray());
+		List<SessionMetadata> sessions = new ArrayList<>(ids.size());
+		for (int i = 0; i < ids.size(); i++) {
+			@SuppressWarnings("unchecked")
+			SessionMetadata metadata = getSessionMetadata(ids.get(i), indexValue, (List<Object>) results.get(2 * i),
+					(Collection<Object>) results.get(2 * i + 1));
+			if (metadata != null && !metadata.isExpired()) {
+				sessions.add(metadata);
 			}
 		}
-		return sessions;
+		return sessions.stream();
+	}
+
+	@SuppressWarnings("unchecked")
+	private SessionMetadata getSessionMetadata(String id, String principalName, List<Object> values,
+			Collection<Object> keys) {
+		if (CollectionUtils.isEmpty(values) || CollectionUtils.isEmpty(keys)) {
+			return null;
+		}
+		RedisSerializer<Object> hashKeySerializer = (RedisSerializer<Object>) this.sessionRedisOperations
+			.getHashKeySerializer();
+		RedisSerializer<Object> hashValueSerializer = (RedisSerializer<Object>) this.sessionRedisOperations
+			.getHashValueSerializer();
+		Long creationTime = deserialize(hashValueSerializer, values.get(0));
+		Long lastAccessedTime = deserialize(hashValueSerializer, values.get(1));
+		Integer maxInactiveInterval = deserialize(hashValueSerializer, values.get(2));
+		if (creationTime == null || lastAccessedTime == null || maxInactiveInterval == null) {
+			return null;
+		}
+		Set<String> attributeNames = new LinkedHashSet<>();
+		for (Object key : keys) {
+			String name = deserialize(hashKeySerializer, key);
+			if (name != null && name.startsWith(RedisSessionMapper.ATTRIBUTE_PREFIX)) {
+				attributeNames.add(name.substring(RedisSessionMapper.ATTRIBUTE_PREFIX.length()));
+			}
+		}
+		return new SessionMetadata(id, Instant.ofEpochMilli(creationTime), Instant.ofEpochMilli(lastAccessedTime),
+				Duration.ofSeconds(maxInactiveInterval), principalName, attributeNames);
+	}
+
+	private static boolean hasLazyAttributes(MapSession session) {
+		for (String attributeName : session.getAttributeNames()) {
+			if (session.getStoredAttribute(attributeName) instanceof LazySessionAttribute) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static <T> T deserialize(RedisSerializer<Object> serializer, Object value) {
+		if (!(value instanceof byte[] bytes)) {
+			return LazySessionAttribute.resolve(value);
+		}
+		return LazySessionAttribute.resolve((serializer != null) ? serializer.deserialize(bytes) : bytes);
+	}
+
+	/**
+	 * Loads all the sessions with a single pipelined round trip.
+	 * @param ids the session ids to lookup
+	 * @return the sessions that were found, keyed by id
+	 */
+	@Override
+	public Map<String, RedisSession> findByIds(Collection<String> ids) {
+		Assert.notNull(ids, "ids must not be null");
+		if (ids.size() <= 1) {
+			return FindByIndexNameSessionRepository.super.findByIds(ids);
+		}
+		return getSessions(ids, false);
+	}
+
+	/**
+	 * Deletes all the sessions, loading them with a single pipelined round trip and
+	 * invalidating them with a second one. The {@link SessionDeletedEvent}s are published
+	 * when the keyspace notifications of their deleted expiration keys are received. A
+	 * custom {@link RedisSessionExpirationStore} is updated for each session before the
+	 * pipeline is executed.
+	 * @param ids the session ids to delete
+	 */
+	@Override
+	public void deleteByIds(Collection<String> ids) {
+		Assert.notNull(ids, "ids must not be null");
+		if (ids.size() <= 1) {
+			FindByIndexNameSessionRepository.super.deleteByIds(ids);
+			return;
+		}
+		Collection<RedisSession> sessions = getSessions(ids, true).values();
+		if (sessions.isEmpty()) {
+			return;
+		}
+		MinuteBasedRedisSessionExpirationStore minuteBasedExpirationStore = (this.expirationStore instanceof MinuteBasedRedisSessionExpirationStore store)
+				? store : null;
+		if (minuteBasedExpirationStore == null) {
+			sessions.forEach((session) -> this.expirationStore.remove(session.getId()));
+		}
+		long fiveMinutes = TimeUnit.MINUTES.toSeconds(5);
+		this.sessionRedisOperations.executePipelined(new SessionCallback<>() {
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) {
+				for (RedisSession session : sessions) {
+					String sessionId = session.getId();
+					session.getOriginalIndexes()
+						.forEach((indexName, indexValue) -> operations.opsForSet()
+							.remove((K) getIndexKey(indexName, indexValue), sessionId));
+					if (minuteBasedExpirationStore != null) {
+						minuteBasedExpirationStore.remove(session, operations);
+					}
+					String sessionKey = getSessionKey(sessionId);
+					operations.delete((K) getExpiredKey(sessionId));
+					operations.opsForHash().put((K) sessionKey, RedisSessionMapper.MAX_INACTIVE_INTERVAL_KEY, 0);
+					operations.expire((K) sessionKey, fiveMinutes, TimeUnit.SECONDS);
+				}
+				return null;
+			}
+
+		});
+	}
+
+	/**
+	 * Deletes the sessions of the index without loading them. The sessions that still
+	 * exist are invalidated in a single pipelined round trip, and the
+	 * {@link SessionDeletedEvent}s are published, and the other indexes cleaned up, when
+	 * the keyspace notifications of their deleted expiration keys are received.
+	 * @param indexName the name of the index
+	 * @param indexValue the value of the index to search for
+	 */
+	@Override
+	public void deleteByIndexNameAndIndexValue(String indexName, String indexValue) {
+		String indexKey = getIndexKey(indexName, indexValue);
+		Set<Object> sessionIds = this.sessionRedisOperations.boundSetOps(indexKey).members();
+		if (CollectionUtils.isEmpty(sessionIds)) {
+			return;
+		}
+		List<String> ids = new ArrayList<>(sessionIds.size());
+		for (Object id : sessionIds) {
+			ids.add((String) id);
+		}
+		List<Object> exists = this.sessionRedisOperations.executePipelined(new SessionCallback<>() {
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) {
+				for (String id : ids) {
+					operations.hasKey((K) getSessionKey(id));
+				}
+				return null;
+			}
+
+		});
+		long fiveMinutes = TimeUnit.MINUTES.toSeconds(5);
+		this.sessionRedisOperations.executePipelined(new SessionCallback<>() {
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) {
+				for (int i = 0; i < ids.size(); i++) {
+					if (!Boolean.TRUE.equals(exists.get(i))) {
+						continue;
+					}
+					String sessionKey = getSessionKey(ids.get(i));
+					operations.delete((K) getExpiredKey(ids.get(i)));
+					operations.opsForHash().put((K) sessionKey, RedisSessionMapper.MAX_INACTIVE_INTERVAL_KEY, 0);
+					operations.expire((K) sessionKey, fiveMinutes, TimeUnit.SECONDS);
+				}
+				operations.opsForSet().remove((K) indexKey, sessionIds.toArray());
+				return null;
+			}
+
+		});
 	}
 
 	/**
@@ -528,7 +776,36 @@ public class RedisIndexedSessionRepository
 	 * @return the Redis session
 	 */
 	private RedisSession getSession(String id, boolean allowExpired) {
-		Map<String, Object> entries = getSessionBoundHashOperations(id).entries();
+		return getSession(id, getSessionBoundHashOperations(id).entries(), allowExpired);
+	}
+
+	private Map<String, RedisSession> getSessions(Collection<String> ids, boolean allowExpired) {
+		List<String> sessionIds = new ArrayList<>(ids);
+		List<Object> results = this.sessionRedisOperations.executePipelined(new SessionCallback<>() {
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) {
+				for (String sessionId : sessionIds) {
+					operations.opsForHash().entries((K) getSessionKey(sessionId));
+				}
+				return null;
+			}
+
+		});
+		Map<String, RedisSession> sessions = CollectionUtils.newLinkedHashMap(sessionIds.size());
+		for (int i = 0; i < sessionIds.size(); i++) {
+			String sessionId = sessionIds.get(i);
+			@SuppressWarnings("unchecked")
+			RedisSession session = getSession(sessionId, (Map<String, Object>) results.get(i), allowExpired);
+			if (session != null) {
+				sessions.put(sessionId, session);
+			}
+		}
+		return sessions;
+	}
+
+	private RedisSession getSession(String id, Map<String, Object> entries, boolean allowExpired) {
 		if ((entries == null) || entries.isEmpty()) {
 			return null;
 		}
@@ -547,9 +824,12 @@ public class RedisIndexedSessionRepository
 		if (session == null) {
 			return;
 		}
+		delete(session);
+	}
 
-		cleanupPrincipalIndex(session);
-		this.expirationStore.remove(sessionId);
+	private void delete(RedisSession session) {
+		cleanupIndexes(session);
+		this.expirationStore.remove(session.getId());
 
 		String expireKey = getExpiredKey(session.getId());
 		this.sessionRedisOperations.delete(expireKey);
@@ -609,7 +889,7 @@ public class RedisIndexedSessionRepository
 				logger.debug("Publishing SessionDestroyedEvent for session " + sessionId);
 			}
 
-			cleanupPrincipalIndex(session);
+			cleanupIndexes(session);
 			this.expirationStore.remove(session.getId());
 
 			if (isDeleted) {
@@ -621,13 +901,12 @@ public class RedisIndexedSessionRepository
 		}
 	}
 
-	private void cleanupPrincipalIndex(RedisSession session) {
+	private void cleanupIndexes(RedisSession session) {
 		String sessionId = session.getId();
-		Map<String, String> indexes = RedisIndexedSessionRepository.this.indexResolver.resolveIndexesFor(session);
-		String principal = indexes.get(PRINCIPAL_NAME_INDEX_NAME);
-		if (principal != null) {
-			this.sessionRedisOperations.boundSetOps(getPrincipalKey(principal)).remove(sessionId);
-		}
+		session.getOriginalIndexes()
+			.forEach((indexName, indexValue) -> this.sessionRedisOperations
+				.boundSetOps(getIndexKey(indexName, indexValue))
+				.remove(sessionId));
 	}
 
 	private void handleCreated(RedisSession session) {
@@ -679,8 +958,11 @@ public class RedisIndexedSessionRepository
 	}
 
 	String getPrincipalKey(String principalName) {
-		return this.namespace + "index:" + FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME + ":"
-				+ principalName;
+		return getIndexKey(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, principalName);
+	}
+
+	String getIndexKey(String indexName, String indexValue) {
+		return this.namespace + "index:" + indexName + ":" + indexValue;
 	}
 
 	String getExpirationsKey(long expiration) {
@@ -783,7 +1065,9 @@ public class RedisIndexedSessionRepository
 
 		private boolean isNew;
 
-		private String originalPrincipalName;
+		private Map<String, String> originalIndexes;
+
+		private MapSession originalAttributes;
 
 		private String originalSessionId;
 
@@ -791,8 +1075,17 @@ public class RedisIndexedSessionRepository
 			this.cached = cached;
 			this.isNew = isNew;
 			this.originalSessionId = cached.getId();
-			Map<String, String> indexes = RedisIndexedSessionRepository.this.indexResolver.resolveIndexesFor(this);
-			this.originalPrincipalName = indexes.get(PRINCIPAL_NAME_INDEX_NAME);
+			if (isNew) {
+				this.originalIndexes = Collections.emptyMap();
+			}
+			else if (hasLazyAttributes(cached)) {
+				// resolving the indexes would deserialize the attributes they are read
+				// from
+				this.originalAttributes = LazySessionAttribute.copyOf(cached);
+			}
+			else {
+				this.originalIndexes = resolveIndexes(this);
+			}
 			if (this.isNew) {
 				this.delta.put(RedisSessionMapper.CREATION_TIME_KEY, cached.getCreationTime().toEpochMilli());
 				this.delta.put(RedisSessionMapper.MAX_INACTIVE_INTERVAL_KEY,
@@ -801,7 +1094,7 @@ public class RedisIndexedSessionRepository
 			}
 			if (this.isNew || (RedisIndexedSessionRepository.this.saveMode == SaveMode.ALWAYS)) {
 				getAttributeNames().forEach((attributeName) -> this.delta.put(getSessionAttrNameKey(attributeName),
-						cached.getAttribute(attributeName)));
+						cached.getStoredAttribute(attributeName)));
 			}
 		}
 
@@ -896,28 +1189,16 @@ public class RedisIndexedSessionRepository
 		 * session.
 		 */
 		private void saveDelta() {
+			if (RedisIndexedSessionRepository.this.skipUnmodifiedAttributes) {
+				removeUnmodifiedAttributes();
+			}
 			if (this.delta.isEmpty()) {
 				return;
 			}
 			String sessionId = getId();
 			getSessionBoundHashOperations(sessionId).putAll(this.delta);
-			String principalSessionKey = getSessionAttrNameKey(
-					FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME);
-			String securityPrincipalSessionKey = getSessionAttrNameKey(SPRING_SECURITY_CONTEXT);
-			if (this.delta.containsKey(principalSessionKey) || this.delta.containsKey(securityPrincipalSessionKey)) {
-				if (this.originalPrincipalName != null) {
-					String originalPrincipalRedisKey = getPrincipalKey(this.originalPrincipalName);
-					RedisIndexedSessionRepository.this.sessionRedisOperations.boundSetOps(originalPrincipalRedisKey)
-						.remove(sessionId);
-				}
-				Map<String, String> indexes = RedisIndexedSessionRepository.this.indexResolver.resolveIndexesFor(this);
-				String principal = indexes.get(PRINCIPAL_NAME_INDEX_NAME);
-				this.originalPrincipalName = principal;
-				if (principal != null) {
-					String principalRedisKey = getPrincipalKey(principal);
-					RedisIndexedSessionRepository.this.sessionRedisOperations.boundSetOps(principalRedisKey)
-						.add(sessionId);
-				}
+			if (this.delta.keySet().stream().anyMatch((key) -> key.startsWith(RedisSessionMapper.ATTRIBUTE_PREFIX))) {
+				saveIndexes(sessionId);
 			}
 			if (this.isNew) {
 				String sessionCreatedKey = getSessionCreatedChannel(getId());
@@ -937,6 +1218,80 @@ public class RedisIndexedSessionRepository
 			this.delta = new HashMap<>(this.delta.size());
 		}
 
+		/**
+		 * Update the index sets of the indexes whose value changed since the session was
+		 * loaded or last saved.
+		 * @param sessionId the session id
+		 */
+		private void saveIndexes(String sessionId) {
+			Map<String, String> originalIndexes = this.isNew ? Collections.emptyMap() : getOriginalIndexes();
+			Map<String, String> indexes = resolveIndexes(this);
+			Set<String> indexNames = new HashSet<>(originalIndexes.keySet());
+			indexNames.addAll(indexes.keySet());
+			for (String indexName : indexNames) {
+				String originalIndexValue = originalIndexes.get(indexName);
+				String indexValue = indexes.get(indexName);
+				if (Objects.equals(originalIndexValue, indexValue)) {
+					continue;
+				}
+				if (originalIndexValue != null) {
+					RedisIndexedSessionRepository.this.sessionRedisOperations
+						.boundSetOps(getIndexKey(indexName, originalIndexValue))
+						.remove(sessionId);
+				}
+				if (indexValue != null) {
+					RedisIndexedSessionRepository.this.sessionRedisOperations
+						.boundSetOps(getIndexKey(indexName, indexValue))
+						.add(sessionId);
+				}
+			}
+			this.originalIndexes = indexes;
+			this.originalAttributes = null;
+		}
+
+		/**
+		 * Return the indexes of the session as it was loaded or last saved. When the
+		 * attributes were loaded lazily, the indexes are only resolved on first use, from
+		 * a copy of the attributes as they were loaded.
+		 * @return the original indexes
+		 */
+		private Map<String, String> getOriginalIndexes() {
+			if (this.originalIndexes == null) {
+				this.originalIndexes = resolveIndexes(this.originalAttributes);
+				this.originalAttributes = null;
+			}
+			return this.originalIndexes;
+		}
+
+		private Map<String, String> resolveIndexes(Session session) {
+			Map<String, String> indexes = new HashMap<>(
+					RedisIndexedSessionRepository.this.indexResolver.resolveIndexesFor(session));
+			indexes.values().removeIf(Objects::isNull);
+			return indexes;
+		}
+
+		/**
+		 * Remove from the delta the lazily loaded attributes whose content did not
+		 * change, and replace the others with their new serialized form.
+		 */
+		private void removeUnmodifiedAttributes() {
+			Iterator<Map.Entry<String, Object>> entries = this.delta.entrySet().iterator();
+			while (entries.hasNext()) {
+				Map.Entry<String, Object> entry = entries.next();
+				String key = entry.getKey();
+				if (key.startsWith(RedisSessionMapper.ATTRIBUTE_PREFIX) && this.cached.getStoredAttribute(key
+					.substring(RedisSessionMapper.ATTRIBUTE_PREFIX.length())) instanceof LazySessionAttribute lazy) {
+					LazySessionAttribute modified = lazy.getIfModified();
+					if (modified != null) {
+						entry.setValue(modified);
+					}
+					else {
+						entries.remove();
+					}
+				}
+			}
+		}
+
 		private void createShadowKey(long sessionExpireInSeconds) {
 			String keyToExpire = "expires:" + getId();
 			String sessionKey = getSessionKey(keyToExpire);
@@ -984,11 +1339,11 @@ public class RedisIndexedSessionRepository
 				catch (NonTransientDataAccessException ex) {
 					handleErrNoSuchKeyError(ex);
 				}
-				if (this.originalPrincipalName != null) {
-					String originalPrincipalRedisKey = getPrincipalKey(this.originalPrincipalName);
-					RedisIndexedSessionRepository.this.sessionRedisOperations.boundSetOps(originalPrincipalRedisKey)
+				for (Map.Entry<String, String> index : getOriginalIndexes().entrySet()) {
+					String originalIndexRedisKey = getIndexKey(index.getKey(), index.getValue());
+					RedisIndexedSessionRepository.this.sessionRedisOperations.boundSetOps(originalIndexRedisKey)
 						.remove(this.originalSessionId);
-					RedisIndexedSessionRepository.this.sessionRedisOperations.boundSetOps(originalPrincipalRedisKey)
+					RedisIndexedSessionRepository.this.sessionRedisOperations.boundSetOps(originalIndexRedisKey)
 						.add(sessionId);
 				}
 				RedisIndexedSessionRepository.this.expirationStore.remove(this.originalSessionId);
@@ -1055,6 +1410,20 @@ public class RedisIndexedSessionRepository
 			}
 		}
 
+		/**
+		 * Removes the already loaded session from its expiration set using the given
+		 * operations, which may be pipelined.
+		 * @param session the session
+		 * @param operations the operations to use
+		 * @param <K> the key type of the operations
+		 * @param <V> the value type of the operations
+		 */
+		@SuppressWarnings("unchecked")
+		<K, V> void remove(RedisSession session, RedisOperations<K, V> operations) {
+			long toExpire = roundUpToNextMinute(expiresInMillis(session));
+			operations.opsForSet().remove((K) getExpirationKey(toExpire), SESSION_EXPIRES_PREFIX + session.getId());
+		}
+
 		@Override
 		public void cleanupExpiredSessions() {
 			long now = System.currentTimeMillis();
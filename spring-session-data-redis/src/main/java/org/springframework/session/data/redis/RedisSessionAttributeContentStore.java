@@ -0,0 +1,80 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.redis;
+
+import java.time.Duration;
+
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.lang.Nullable;
+import org.springframework.session.codec.DeduplicatingSessionAttributeCodec;
+import org.springframework.session.codec.SessionAttributeContentStore;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link SessionAttributeContentStore} keeping the content shared by
+ * {@link DeduplicatingSessionAttributeCodec} in Redis strings with a time to live. The
+ * given {@link RedisOperations} must use a byte array value serializer, for instance
+ * {@link org.springframework.data.redis.serializer.RedisSerializer#byteArray()}.
+ *
+ * @author Spring Session Team
+ * @since 3.5
+ */
+public class RedisSessionAttributeContentStore implements SessionAttributeContentStore {
+
+	/**
+	 * The default namespace for each key.
+	 */
+	public static final String DEFAULT_NAMESPACE = RedisIndexedSessionRepository.DEFAULT_NAMESPACE;
+
+	private final RedisOperations<String, byte[]> redisOperations;
+
+	private String keyPrefix = DEFAULT_NAMESPACE + ":attribute-content:";
+
+	/**
+	 * Create a new instance.
+	 * @param redisOperations the {@link RedisOperations} to use
+	 */
+	public RedisSessionAttributeContentStore(RedisOperations<String, byte[]> redisOperations) {
+		Assert.notNull(redisOperations, "redisOperations cannot be null");
+		this.redisOperations = redisOperations;
+	}
+
+	/**
+	 * Set the namespace for the keys.
+	 * @param namespace the namespace
+	 */
+	public void setRedisKeyNamespace(String namespace) {
+		Assert.hasText(namespace, "namespace must not be empty");
+		this.keyPrefix = namespace.trim() + ":attribute-content:";
+	}
+
+	@Override
+	@Nullable
+	public byte[] get(String hash) {
+		return this.redisOperations.opsForValue().get(getKey(hash));
+	}
+
+	@Override
+	public void put(String hash, byte[] content, Duration timeToLive) {
+		this.redisOperations.opsForValue().set(getKey(hash), content, timeToLive);
+	}
+
+	private String getKey(String hash) {
+		return this.keyPrefix + hash;
+	}
+
+}
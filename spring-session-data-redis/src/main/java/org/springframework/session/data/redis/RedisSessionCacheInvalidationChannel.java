@@ -0,0 +1,114 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.redis;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.session.CachingSessionRepository;
+import org.springframework.session.SessionCacheInvalidationChannel;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link SessionCacheInvalidationChannel} that exchanges invalidations through Redis
+ * Pub/Sub. Each instance identifies itself with a random node id so that it ignores the
+ * invalidations it published.
+ *
+ * @author Spring Session Team
+ * @since 3.5
+ * @see CachingSessionRepository
+ */
+public class RedisSessionCacheInvalidationChannel implements SessionCacheInvalidationChannel {
+
+	/**
+	 * The default name of the channel used to exchange invalidations.
+	 */
+	public static final String DEFAULT_CHANNEL = "spring:session:cache:invalidations";
+
+	private static final char SEPARATOR = ':';
+
+	private final RedisOperations<String, Object> sessionRedisOperations;
+
+	private final String channel;
+
+	private final String nodeId = UUID.randomUUID().toString();
+
+	private final List<Consumer<String>> listeners = new CopyOnWriteArrayList<>();
+
+	/**
+	 * Create a new instance using the {@link #DEFAULT_CHANNEL}.
+	 * @param sessionRedisOperations the {@link RedisOperations} used to publish
+	 * invalidations
+	 * @param listenerContainer the {@link RedisMessageListenerContainer} used to receive
+	 * invalidations
+	 */
+	public RedisSessionCacheInvalidationChannel(RedisOperations<String, Object> sessionRedisOperations,
+			RedisMessageListenerContainer listenerContainer) {
+		this(sessionRedisOperations, listenerContainer, DEFAULT_CHANNEL);
+	}
+
+	/**
+	 * Create a new instance.
+	 * @param sessionRedisOperations the {@link RedisOperations} used to publish
+	 * invalidations
+	 * @param listenerContainer the {@link RedisMessageListenerContainer} used to receive
+	 * invalidations
+	 * @param channel the name of the channel used to exchange invalidations
+	 */
+	public RedisSessionCacheInvalidationChannel(RedisOperations<String, Object> sessionRedisOperations,
+			RedisMessageListenerContainer listenerContainer, String channel) {
+		Assert.notNull(sessionRedisOperations, "sessionRedisOperations cannot be null");
+		Assert.notNull(listenerContainer, "listenerContainer cannot be null");
+		Assert.hasText(channel, "channel cannot be empty");
+		this.sessionRedisOperations = sessionRedisOperations;
+		this.channel = channel;
+		listenerContainer.addMessageListener(this::onMessage, new ChannelTopic(channel));
+	}
+
+	@Override
+	public void publish(String sessionId) {
+		this.sessionRedisOperations.convertAndSend(this.channel, this.nodeId + SEPARATOR + sessionId);
+	}
+
+	@Override
+	public void subscribe(Consumer<String> listener) {
+		Assert.notNull(listener, "listener cannot be null");
+		this.listeners.add(listener);
+	}
+
+	private void onMessage(Message message, byte[] pattern) {
+		Object body = this.sessionRedisOperations.getValueSerializer().deserialize(message.getBody());
+		if (!(body instanceof String payload)) {
+			return;
+		}
+		int separatorIndex = payload.indexOf(SEPARATOR);
+		if (separatorIndex == -1 || payload.substring(0, separatorIndex).equals(this.nodeId)) {
+			return;
+		}
+		String sessionId = payload.substring(separatorIndex + 1);
+		for (Consumer<String> listener : this.listeners) {
+			listener.accept(sessionId);
+		}
+	}
+
+}
@@ -22,6 +22,7 @@ import java.util.Map;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 
+import org.springframework.session.LazySessionAttribute;
 import org.springframework.session.MapSession;
 import org.springframework.session.Session;
 import org.springframework.util.Assert;
@@ -67,17 +68,17 @@ public final class RedisSessionMapper implements BiFunction<String, Map<String,
 		Assert.hasText(sessionId, "sessionId must not be empty");
 		Assert.notEmpty(map, "map must not be empty");
 		MapSession session = new MapSession(sessionId);
-		Long creationTime = (Long) map.get(CREATION_TIME_KEY);
+		Long creationTime = LazySessionAttribute.resolve(map.get(CREATION_TIME_KEY));
 		if (creationTime == null) {
 			handleMissingKey(CREATION_TIME_KEY);
 		}
 		session.setCreationTime(Instant.ofEpochMilli(creationTime));
-		Long lastAccessedTime = (Long) map.get(LAST_ACCESSED_TIME_KEY);
+		Long lastAccessedTime = LazySessionAttribute.resolve(map.get(LAST_ACCESSED_TIME_KEY));
 		if (lastAccessedTime == null) {
 			handleMissingKey(LAST_ACCESSED_TIME_KEY);
 		}
 		session.setLastAccessedTime(Instant.ofEpochMilli(lastAccessedTime));
-		Integer maxInactiveInterval = (Integer) map.get(MAX_INACTIVE_INTERVAL_KEY);
+		Integer maxInactiveInterval = LazySessionAttribute.resolve(map.get(MAX_INACTIVE_INTERVAL_KEY));
 		if (maxInactiveInterval == null) {
 			handleMissingKey(MAX_INACTIVE_INTERVAL_KEY);
 		}
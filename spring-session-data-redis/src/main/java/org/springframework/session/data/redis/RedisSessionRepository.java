@@ -18,20 +18,29 @@ package org.springframework.session.data.redis;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.function.BiFunction;
 
 import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.session.FlushMode;
+import org.springframework.session.LazySessionAttribute;
 import org.springframework.session.MapSession;
 import org.springframework.session.SaveMode;
 import org.springframework.session.Session;
+import org.springframework.session.SessionCopier;
+import org.springframework.session.SessionCopierProvider;
 import org.springframework.session.SessionIdGenerator;
 import org.springframework.session.SessionRepository;
 import org.springframework.session.UuidSessionIdGenerator;
 import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
 
 /**
  * A {@link SessionRepository} implementation that uses Spring Data's
@@ -42,7 +51,8 @@ import org.springframework.util.Assert;
  * @author Vedran Pavic
  * @since 2.2.0
  */
-public class RedisSessionRepository implements SessionRepository<RedisSessionRepository.RedisSession> {
+public class RedisSessionRepository implements SessionRepository<RedisSessionRepository.RedisSession>,
+		SessionCopierProvider<RedisSessionRepository.RedisSession> {
 
 	/**
 	 * The default namespace for each key and channel in Redis used by Spring Session.
@@ -59,6 +69,8 @@ public class RedisSessionRepository implements SessionRepository<RedisSessionRep
 
 	private SaveMode saveMode = SaveMode.ON_SET_ATTRIBUTE;
 
+	private boolean skipUnmodifiedAttributes;
+
 	private SessionIdGenerator sessionIdGenerator = UuidSessionIdGenerator.getInstance();
 
 	private BiFunction<String, Map<String, Object>, MapSession> redisSessionMapper = new RedisSessionMapper();
@@ -111,6 +123,20 @@ public class RedisSessionRepository implements SessionRepository<RedisSessionRep
 		this.saveMode = saveMode;
 	}
 
+	/**
+	 * Set whether attributes that are saved because they were read, as with
+	 * {@link SaveMode#ON_GET_ATTRIBUTE} and {@link SaveMode#ALWAYS}, should be skipped
+	 * when their serialized form did not change since the session was loaded. This
+	 * requires attributes to be loaded lazily, using a
+	 * {@link LazySessionAttributeRedisSerializer} as hash value serializer. Default is
+	 * {@code false}.
+	 * @param skipUnmodifiedAttributes whether to skip unmodified attributes
+	 * @since 3.5
+	 */
+	public void setSkipUnmodifiedAttributes(boolean skipUnmodifiedAttributes) {
+		this.skipUnmodifiedAttributes = skipUnmodifiedAttributes;
+	}
+
 	@Override
 	public RedisSession createSession() {
 		MapSession cached = new MapSession(this.sessionIdGenerator);
@@ -132,6 +158,18 @@ public class RedisSessionRepository implements SessionRepository<RedisSessionRep
 		session.save();
 	}
 
+	/**
+	 * Return a {@link SessionCopier} creating independent copies of the sessions loaded
+	 * by this repository, for instance to coalesce concurrent lookups of the same session
+	 * with a {@link org.springframework.session.SingleFlightSessionRepository}.
+	 * @return the session copier
+	 * @since 3.5
+	 */
+	@Override
+	public SessionCopier<RedisSession> getSessionCopier() {
+		return (session) -> new RedisSession(LazySessionAttribute.copyOf(session.cached), false);
+	}
+
 	@Override
 	public RedisSession findById(String sessionId) {
 		String key = getSessionKey(sessionId);
@@ -153,6 +191,56 @@ public class RedisSessionRepository implements SessionRepository<RedisSessionRep
 		this.sessionRedisOperations.delete(key);
 	}
 
+	/**
+	 * Loads all the sessions with a single pipelined round trip. Expired sessions that
+	 * are found are deleted with a single command.
+	 * @param sessionIds the session ids to lookup
+	 * @return the sessions that were found, keyed by id
+	 */
+	@Override
+	public Map<String, RedisSession> findByIds(Collection<String> sessionIds) {
+		Assert.notNull(sessionIds, "sessionIds must not be null");
+		if (sessionIds.size() <= 1) {
+			return SessionRepository.super.findByIds(sessionIds);
+		}
+		List<String> ids = new ArrayList<>(sessionIds);
+		List<Object> results = getAllEntries(ids.stream().map(this::getSessionKey).toList());
+		Map<String, RedisSession> sessions = CollectionUtils.newLinkedHashMap(ids.size());
+		List<String> expiredKeys = new ArrayList<>();
+		for (int i = 0; i < ids.size(); i++) {
+			String sessionId = ids.get(i);
+			@SuppressWarnings("unchecked")
+			Map<String, Object> entries = (Map<String, Object>) results.get(i);
+			if (CollectionUtils.isEmpty(entries)) {
+				continue;
+			}
+			MapSession session = this.redisSessionMapper.apply(sessionId, entries);
+			if (session == null || session.isExpired()) {
+				expiredKeys.add(getSessionKey(sessionId));
+			}
+			else {
+				sessions.put(sessionId, new RedisSession(session, false));
+			}
+		}
+		if (!expiredKeys.isEmpty()) {
+			this.sessionRedisOperations.delete(expiredKeys);
+		}
+		return sessions;
+	}
+
+	/**
+	 * Deletes all the sessions with a single command.
+	 * @param sessionIds the session ids to delete
+	 */
+	@Override
+	public void deleteByIds(Collection<String> sessionIds) {
+		Assert.notNull(sessionIds, "sessionIds must not be null");
+		if (sessionIds.isEmpty()) {
+			return;
+		}
+		this.sessionRedisOperations.delete(sessionIds.stream().map(this::getSessionKey).toList());
+	}
+
 	/**
 	 * Returns the {@link RedisOperations} used for sessions.
 	 * @return the {@link RedisOperations} used for sessions
@@ -165,6 +253,21 @@ public class RedisSessionRepository implements SessionRepository<RedisSessionRep
 		return this.keyNamespace + "sessions:" + sessionId;
 	}
 
+	private List<Object> getAllEntries(List<String> keys) {
+		return this.sessionRedisOperations.executePipelined(new SessionCallback<>() {
+
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) {
+				for (String key : keys) {
+					operations.opsForHash().entries((K) key);
+				}
+				return null;
+			}
+
+		});
+	}
+
 	private static String getAttributeKey(String attributeName) {
 		return RedisSessionMapper.ATTRIBUTE_PREFIX + attributeName;
 	}
@@ -215,7 +318,7 @@ public class RedisSessionRepository implements SessionRepository<RedisSessionRep
 			}
 			if (this.isNew || (RedisSessionRepository.this.saveMode == SaveMode.ALWAYS)) {
 				getAttributeNames().forEach((attributeName) -> this.delta.put(getAttributeKey(attributeName),
-						cached.getAttribute(attributeName)));
+						cached.getStoredAttribute(attributeName)));
 			}
 		}
 
@@ -309,6 +412,28 @@ public class RedisSessionRepository implements SessionRepository<RedisSessionRep
 			}
 		}
 
+		/**
+		 * Remove from the delta the lazily loaded attributes whose content did not
+		 * change, and replace the others with their new serialized form.
+		 */
+		private void removeUnmodifiedAttributes() {
+			Iterator<Map.Entry<String, Object>> entries = this.delta.entrySet().iterator();
+			while (entries.hasNext()) {
+				Map.Entry<String, Object> entry = entries.next();
+				String key = entry.getKey();
+				if (key.startsWith(RedisSessionMapper.ATTRIBUTE_PREFIX) && this.cached.getStoredAttribute(key
+					.substring(RedisSessionMapper.ATTRIBUTE_PREFIX.length())) instanceof LazySessionAttribute lazy) {
+					LazySessionAttribute modified = lazy.getIfModified();
+					if (modified != null) {
+						entry.setValue(modified);
+					}
+					else {
+						entries.remove();
+					}
+				}
+			}
+		}
+
 		private void saveChangeSessionId() {
 			if (hasChangedSessionId()) {
 				if (!this.isNew) {
@@ -321,6 +446,9 @@ public class RedisSessionRepository implements SessionRepository<RedisSessionRep
 		}
 
 		private void saveDelta() {
+			if (RedisSessionRepository.this.skipUnmodifiedAttributes) {
+				removeUnmodifiedAttributes();
+			}
 			if (this.delta.isEmpty()) {
 				return;
 			}
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.redis;
+
+import org.springframework.core.serializer.support.SerializationFailedException;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.lang.Nullable;
+import org.springframework.session.codec.SessionAttributeCodec;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link RedisSerializer} encoding session attribute values with a
+ * {@link SessionAttributeCodec}, to be configured as the default Redis serializer of the
+ * Redis session repositories, for instance with
+ * {@code new SessionAttributeCodecRedisSerializer(new BinarySessionAttributeCodec())}.
+ *
+ * @author Spring Session Team
+ * @since 3.5
+ */
+public class SessionAttributeCodecRedisSerializer implements RedisSerializer<Object> {
+
+	private static final byte[] EMPTY_ARRAY = new byte[0];
+
+	private final SessionAttributeCodec codec;
+
+	/**
+	 * Create a new instance.
+	 * @param codec the codec to use
+	 */
+	public SessionAttributeCodecRedisSerializer(SessionAttributeCodec codec) {
+		Assert.notNull(codec, "codec cannot be null");
+		this.codec = codec;
+	}
+
+	@Override
+	public byte[] serialize(@Nullable Object value) throws SerializationException {
+		if (value == null) {
+			return EMPTY_ARRAY;
+		}
+		try {
+			return this.codec.encode(value);
+		}
+		catch (SerializationFailedException ex) {
+			throw new SerializationException("Cannot serialize", ex);
+		}
+	}
+
+	@Override
+	@Nullable
+	public Object deserialize(@Nullable byte[] bytes) throws SerializationException {
+		if (bytes == null || bytes.length == 0) {
+			return null;
+		}
+		try {
+			return this.codec.decode(bytes);
+		}
+		catch (SerializationFailedException ex) {
+			throw new SerializationException("Cannot deserialize", ex);
+		}
+	}
+
+}
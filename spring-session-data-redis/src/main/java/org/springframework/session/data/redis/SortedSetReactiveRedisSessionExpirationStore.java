@@ -17,6 +17,7 @@
 package org.springframework.session.data.redis;
 
 import java.time.Instant;
+import java.util.Collection;
 
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
@@ -68,6 +69,15 @@ final class SortedSetReactiveRedisSessionExpirationStore {
 		return this.sessionRedisOperations.opsForZSet().remove(getExpirationsKey(), sessionId).then();
 	}
 
+	/**
+	 * Remove the session ids from the sorted set with a single command.
+	 * @param sessionIds the session ids
+	 * @return a {@link Mono} that completes when the operation completes
+	 */
+	Mono<Void> remove(Collection<String> sessionIds) {
+		return this.sessionRedisOperations.opsForZSet().remove(getExpirationsKey(), sessionIds.toArray()).then();
+	}
+
 	/**
 	 * Retrieve the session ids that have the expiration time less than the value passed
 	 * in {@code expiredBefore}.
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.redis;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.session.LazySessionAttribute;
+import org.springframework.session.MapSession;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Tests for {@link LazySessionAttributeRedisSerializer}.
+ *
+ * @author Spring Session Team
+ */
+class LazySessionAttributeRedisSerializerTests {
+
+	private final RedisSerializer<Object> delegate = new JdkSerializationRedisSerializer();
+
+	private final LazySessionAttributeRedisSerializer serializer = new LazySessionAttributeRedisSerializer(
+			this.delegate);
+
+	@Test
+	void deserializeThenLazySessionAttribute() {
+		Object value = this.serializer.deserialize(this.delegate.serialize("value"));
+		assertThat(value).isInstanceOf(LazySessionAttribute.class);
+		assertThat(((LazySessionAttribute) value).isDeserialized()).isFalse();
+		assertThat(LazySessionAttribute.<String>resolve(value)).isEqualTo("value");
+	}
+
+	@Test
+	void serializeWhenUntouchedThenOriginalBytes() {
+		byte[] bytes = this.delegate.serialize("value");
+		Object value = this.serializer.deserialize(bytes);
+		assertThat(this.serializer.serialize(value)).isSameAs(bytes);
+	}
+
+	@Test
+	void serializeWhenDeserializedThenSerializedAgain() {
+		byte[] bytes = this.delegate.serialize("value");
+		LazySessionAttribute value = (LazySessionAttribute) this.serializer.deserialize(bytes);
+		value.get();
+		assertThat(this.serializer.serialize(value)).isNotSameAs(bytes).isEqualTo(bytes);
+		assertThat(this.serializer.serialize("other")).isEqualTo(this.delegate.serialize("other"));
+	}
+
+	@Test
+	void mapperWhenLazyValuesThenAttributesDeserializedOnAccess() {
+		Map<String, Object> entries = new HashMap<>();
+		entries.put(RedisSessionMapper.CREATION_TIME_KEY, lazy(0L));
+		entries.put(RedisSessionMapper.LAST_ACCESSED_TIME_KEY, lazy(0L));
+		entries.put(RedisSessionMapper.MAX_INACTIVE_INTERVAL_KEY, lazy(1800));
+		entries.put(RedisSessionMapper.ATTRIBUTE_PREFIX + "one", lazy("first"));
+		entries.put(RedisSessionMapper.ATTRIBUTE_PREFIX + "two", lazy("second"));
+		MapSession session = new RedisSessionMapper().apply("id", entries);
+		assertThat(session.getMaxInactiveInterval()).hasSeconds(1800);
+		assertThat(session.<String>getAttribute("one")).isEqualTo("first");
+		assertThat(((LazySessionAttribute) session.getStoredAttribute("one")).isDeserialized()).isTrue();
+		assertThat(((LazySessionAttribute) session.getStoredAttribute("two")).isDeserialized()).isFalse();
+	}
+
+	private Object lazy(Object value) {
+		return this.serializer.deserialize(this.delegate.serialize(value));
+	}
+
+}
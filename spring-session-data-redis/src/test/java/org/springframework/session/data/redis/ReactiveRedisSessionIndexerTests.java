@@ -37,6 +37,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
@@ -86,6 +87,24 @@ class ReactiveRedisSessionIndexerTests {
 		verify(this.sessionRedisOperations.opsForSet()).remove(index2, "1234");
 	}
 
+	@Test
+	void deleteWhenMultipleSessionsThenRemoveFromEachIndexWithSingleCommand() {
+		String index1 = this.indexKeyPrefix + "principalName:user";
+		String index2 = this.indexKeyPrefix + "index_name:index_value";
+		given(this.sessionRedisOperations.opsForSet().members("spring:session:sessions:1234:idx"))
+			.willReturn(Flux.just(index1, index2));
+		given(this.sessionRedisOperations.opsForSet().members("spring:session:sessions:5678:idx"))
+			.willReturn(Flux.just(index1));
+		given(this.sessionRedisOperations.opsForSet().remove(anyString(), any(Object[].class)))
+			.willReturn(Mono.just(1L));
+		given(this.sessionRedisOperations.delete(any(String[].class))).willReturn(Mono.just(2L));
+		this.indexer.delete(List.of("1234", "5678")).block();
+		verify(this.sessionRedisOperations.opsForSet()).remove(index1, "1234", "5678");
+		verify(this.sessionRedisOperations.opsForSet()).remove(index2, "1234");
+		verify(this.sessionRedisOperations).delete("spring:session:sessions:1234:idx",
+				"spring:session:sessions:5678:idx");
+	}
+
 	@Test
 	void updateWhenSessionHasNoIndexesSavedThenUpdates() {
 		RedisSession session = mock();
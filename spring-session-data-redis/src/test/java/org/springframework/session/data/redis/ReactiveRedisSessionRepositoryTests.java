@@ -289,13 +289,11 @@ class ReactiveRedisSessionRepositoryTests {
 	void getSessionNotFound() {
 		given(this.redisOperations.opsForHash()).willReturn(this.hashOperations);
 		given(this.hashOperations.entries(anyString())).willReturn(Flux.empty());
-		given(this.redisOperations.delete(anyString())).willReturn(Mono.just(0L));
 
 		StepVerifier.create(this.repository.findById("test")).verifyComplete();
 
 		verify(this.redisOperations).opsForHash();
 		verify(this.hashOperations).entries(anyString());
-		verify(this.redisOperations).delete(anyString());
 		verifyNoMoreInteractions(this.redisOperations);
 		verifyNoMoreInteractions(this.hashOperations);
 	}
@@ -24,9 +24,11 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -41,13 +43,19 @@ import org.springframework.data.redis.connection.DefaultMessage;
 import org.springframework.data.redis.core.BoundHashOperations;
 import org.springframework.data.redis.core.BoundSetOperations;
 import org.springframework.data.redis.core.BoundValueOperations;
+import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
 import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.session.DelegatingIndexResolver;
 import org.springframework.session.FindByIndexNameSessionRepository;
 import org.springframework.session.FlushMode;
+import org.springframework.session.LazySessionAttribute;
 import org.springframework.session.MapSession;
+import org.springframework.session.PrincipalNameIndexResolver;
 import org.springframework.session.SaveMode;
 import org.springframework.session.Session;
 import org.springframework.session.data.redis.RedisIndexedSessionRepository.RedisSession;
@@ -59,8 +67,10 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
 import static org.mockito.Mockito.times;
@@ -442,6 +452,119 @@ class RedisIndexedSessionRepositoryTests {
 			.isEqualTo(createdTime.truncatedTo(ChronoUnit.MILLIS));
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	void findByPrincipalNameWhenMultipleSessionsThenLoadedInSinglePipeline() {
+		Instant lastAccessed = Instant.now().minusMillis(10);
+		given(this.redisOperations.boundSetOps(anyString())).willReturn(this.boundSetOperations);
+		given(this.boundSetOperations.members()).willReturn(new LinkedHashSet<>(Arrays.asList("id1", "id2")));
+		Map<String, Object> map = map(RedisSessionMapper.CREATION_TIME_KEY, lastAccessed.toEpochMilli(),
+				RedisSessionMapper.MAX_INACTIVE_INTERVAL_KEY, 1800, RedisSessionMapper.LAST_ACCESSED_TIME_KEY,
+				lastAccessed.toEpochMilli());
+		given(this.redisOperations.executePipelined(any(SessionCallback.class))).willReturn(Arrays.asList(map, map));
+
+		Map<String, RedisSession> sessionIdToSessions = this.redisRepository
+			.findByIndexNameAndIndexValue(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, "principal");
+
+		assertThat(sessionIdToSessions).containsOnlyKeys("id1", "id2");
+		assertThat(sessionIdToSessions.get("id2").getId()).isEqualTo("id2");
+		verify(this.redisOperations).executePipelined(any(SessionCallback.class));
+		verify(this.redisOperations, never()).boundHashOps(anyString());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void deleteByPrincipalNameInvalidatesExistingSessionsInSinglePipeline() {
+		String indexKey = "spring:session:index:" + FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME
+				+ ":principal";
+		given(this.redisOperations.boundSetOps(indexKey)).willReturn(this.boundSetOperations);
+		given(this.boundSetOperations.members()).willReturn(new LinkedHashSet<>(Arrays.asList("id1", "stale")));
+		given(this.redisOperations.executePipelined(any(SessionCallback.class))).willReturn(Arrays.asList(true, false),
+				Collections.emptyList());
+
+		this.redisRepository.deleteByPrincipalName("principal");
+
+		ArgumentCaptor<SessionCallback<Object>> callbacks = ArgumentCaptor.forClass(SessionCallback.class);
+		verify(this.redisOperations, times(2)).executePipelined(callbacks.capture());
+		RedisOperations<Object, Object> operations = mock(RedisOperations.class);
+		HashOperations<Object, Object, Object> hashOperations = mock(HashOperations.class);
+		SetOperations<Object, Object> setOperations = mock(SetOperations.class);
+		given(operations.opsForHash()).willReturn(hashOperations);
+		given(operations.opsForSet()).willReturn(setOperations);
+		callbacks.getAllValues().get(1).execute(operations);
+		verify(operations).delete("spring:session:sessions:expires:id1");
+		verify(hashOperations).put("spring:session:sessions:id1", RedisSessionMapper.MAX_INACTIVE_INTERVAL_KEY, 0);
+		verify(operations).expire("spring:session:sessions:id1", 300L, TimeUnit.SECONDS);
+		verify(setOperations).remove(indexKey, "id1", "stale");
+		verify(operations, never()).delete("spring:session:sessions:expires:stale");
+		verify(this.redisOperations, never()).boundHashOps(anyString());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void deleteByIdsWhenMultipleSessionsThenInvalidatedInSinglePipeline() {
+		Instant lastAccessed = Instant.now().minusMillis(10);
+		Map<String, Object> map = map(RedisSessionMapper.CREATION_TIME_KEY, lastAccessed.toEpochMilli(),
+				RedisSessionMapper.MAX_INACTIVE_INTERVAL_KEY, 1800, RedisSessionMapper.LAST_ACCESSED_TIME_KEY,
+				lastAccessed.toEpochMilli(),
+				RedisSessionMapper.ATTRIBUTE_PREFIX + FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME,
+				"principal");
+		given(this.redisOperations.executePipelined(any(SessionCallback.class)))
+			.willReturn(Arrays.asList(map, Collections.emptyMap()), Collections.emptyList());
+
+		this.redisRepository.deleteByIds(Arrays.asList("id1", "missing"));
+
+		ArgumentCaptor<SessionCallback<Object>> callbacks = ArgumentCaptor.forClass(SessionCallback.class);
+		verify(this.redisOperations, times(2)).executePipelined(callbacks.capture());
+		RedisOperations<Object, Object> operations = mock(RedisOperations.class);
+		HashOperations<Object, Object, Object> hashOperations = mock(HashOperations.class);
+		SetOperations<Object, Object> setOperations = mock(SetOperations.class);
+		given(operations.opsForHash()).willReturn(hashOperations);
+		given(operations.opsForSet()).willReturn(setOperations);
+		callbacks.getAllValues().get(1).execute(operations);
+		verify(setOperations).remove(
+				"spring:session:index:" + FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME + ":principal",
+				"id1");
+		verify(setOperations).remove(anyString(), eq("expires:id1"));
+		verify(operations).delete("spring:session:sessions:expires:id1");
+		verify(hashOperations).put("spring:session:sessions:id1", RedisSessionMapper.MAX_INACTIVE_INTERVAL_KEY, 0);
+		verify(operations).expire("spring:session:sessions:id1", 300L, TimeUnit.SECONDS);
+		verify(operations, never()).delete("spring:session:sessions:expires:missing");
+		verify(this.redisOperations, never()).boundHashOps(anyString());
+		verify(this.redisOperations, never()).boundSetOps(anyString());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void findSessionMetadataByPrincipalNameDoesNotLoadAttributeValues() {
+		Instant lastAccessed = Instant.now().minusMillis(10);
+		RedisSerializer<Object> valueSerializer = new JdkSerializationRedisSerializer();
+		given(this.redisOperations.boundSetOps(anyString())).willReturn(this.boundSetOperations);
+		given(this.boundSetOperations.members()).willReturn(new LinkedHashSet<>(Arrays.asList("id1", "expired")));
+		given(this.redisOperations.getHashKeySerializer()).willAnswer((invocation) -> RedisSerializer.string());
+		given(this.redisOperations.getHashValueSerializer()).willAnswer((invocation) -> valueSerializer);
+		given(this.redisOperations.executePipelined(any(SessionCallback.class), any(RedisSerializer.class)))
+			.willReturn(Arrays.asList(
+					Arrays.asList(valueSerializer.serialize(lastAccessed.toEpochMilli()),
+							valueSerializer.serialize(lastAccessed.toEpochMilli()), valueSerializer.serialize(1800)),
+					Set.of(RedisSessionMapper.CREATION_TIME_KEY.getBytes(StandardCharsets.UTF_8),
+							RedisSessionMapper.ATTRIBUTE_PREFIX.concat("attribute").getBytes(StandardCharsets.UTF_8)),
+					Arrays.asList(valueSerializer.serialize(0L), valueSerializer.serialize(0L),
+							valueSerializer.serialize(1)),
+					Set.of(RedisSessionMapper.CREATION_TIME_KEY.getBytes(StandardCharsets.UTF_8))));
+
+		assertThat(this.redisRepository.findSessionMetadataByPrincipalName("principal")).singleElement()
+			.satisfies((metadata) -> {
+				assertThat(metadata.getId()).isEqualTo("id1");
+				assertThat(metadata.getPrincipalName()).isEqualTo("principal");
+				assertThat(metadata.getLastAccessedTime()).isEqualTo(lastAccessed.truncatedTo(ChronoUnit.MILLIS));
+				assertThat(metadata.getMaxInactiveInterval()).isEqualTo(Duration.ofMinutes(30));
+				assertThat(metadata.getAttributeNames()).containsExactly("attribute");
+			});
+		verify(this.redisOperations, never()).executePipelined(any(SessionCallback.class));
+		verify(this.redisOperations, never()).boundHashOps(anyString());
+	}
+
 	@Test
 	void cleanupExpiredSessions() {
 		given(this.redisOperations.boundSetOps(anyString())).willReturn(this.boundSetOperations);
@@ -920,6 +1043,108 @@ class RedisIndexedSessionRepositoryTests {
 		assertThat(getDelta()).hasSize(3);
 	}
 
+	@Test
+	void saveWithSaveModeAlwaysWhenPrincipalUnchangedThenPrincipalIndexNotUpdated() {
+		given(this.redisOperations.<String, Object>boundHashOps(anyString())).willReturn(this.boundHashOperations);
+		given(this.redisOperations.boundValueOps(anyString())).willReturn(this.boundValueOperations);
+		this.redisRepository.setSaveMode(SaveMode.ALWAYS);
+		MapSession delegate = new MapSession();
+		delegate.setAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME, "principal");
+		RedisSession session = this.redisRepository.new RedisSession(delegate, false);
+		given(this.redisOperations.boundSetOps(anyString())).willReturn(this.boundSetOperations);
+		this.redisRepository.save(session);
+		verify(this.redisOperations, never()).boundSetOps(startsWith("spring:session:index:"));
+	}
+
+	@Test
+	void saveNewWithCustomIndexThenIndexSetUpdated() {
+		this.redisRepository.setIndexResolver(new DelegatingIndexResolver<>(new PrincipalNameIndexResolver<>(),
+				new PrincipalNameIndexResolver<>("tenant")));
+		given(this.redisOperations.<String, Object>boundHashOps(anyString())).willReturn(this.boundHashOperations);
+		given(this.redisOperations.boundSetOps(anyString())).willReturn(this.boundSetOperations);
+		given(this.redisOperations.boundValueOps(anyString())).willReturn(this.boundValueOperations);
+		RedisSession session = this.redisRepository.createSession();
+		session.setAttribute("tenant", "acme");
+
+		this.redisRepository.save(session);
+
+		verify(this.redisOperations).boundSetOps("spring:session:index:tenant:acme");
+		verify(this.boundSetOperations).add(session.getId());
+	}
+
+	@Test
+	void saveWhenCustomIndexChangedThenSessionMovedBetweenIndexSets() {
+		this.redisRepository.setIndexResolver(new PrincipalNameIndexResolver<>("tenant"));
+		given(this.redisOperations.<String, Object>boundHashOps(anyString())).willReturn(this.boundHashOperations);
+		given(this.redisOperations.boundSetOps(anyString())).willReturn(this.boundSetOperations);
+		given(this.redisOperations.boundValueOps(anyString())).willReturn(this.boundValueOperations);
+		MapSession delegate = new MapSession();
+		delegate.setAttribute("tenant", "acme");
+		RedisSession session = this.redisRepository.new RedisSession(delegate, false);
+		session.setAttribute("tenant", "other");
+
+		this.redisRepository.save(session);
+
+		verify(this.redisOperations).boundSetOps("spring:session:index:tenant:acme");
+		verify(this.boundSetOperations).remove(session.getId());
+		verify(this.redisOperations).boundSetOps("spring:session:index:tenant:other");
+		verify(this.boundSetOperations).add(session.getId());
+	}
+
+	@Test
+	void saveWhenLazyAttributesUnchangedThenIndexedAttributeNotDeserialized() {
+		given(this.redisOperations.<String, Object>boundHashOps(anyString())).willReturn(this.boundHashOperations);
+		given(this.redisOperations.boundSetOps(anyString())).willReturn(this.boundSetOperations);
+		given(this.redisOperations.boundValueOps(anyString())).willReturn(this.boundValueOperations);
+		AtomicInteger deserializations = new AtomicInteger();
+		MapSession delegate = new MapSession();
+		delegate.setAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME,
+				lazy("principal", deserializations));
+		RedisSession session = this.redisRepository.new RedisSession(delegate, false);
+		session.setLastAccessedTime(Instant.now());
+
+		this.redisRepository.save(session);
+
+		assertThat(deserializations).hasValue(0);
+		verify(this.redisOperations, never()).boundSetOps(startsWith("spring:session:index:"));
+	}
+
+	@Test
+	void saveWhenLazyIndexedAttributeChangedThenOriginalIndexResolvedFromLoadedValue() {
+		this.redisRepository.setIndexResolver(new PrincipalNameIndexResolver<>("tenant"));
+		given(this.redisOperations.<String, Object>boundHashOps(anyString())).willReturn(this.boundHashOperations);
+		given(this.redisOperations.boundSetOps(anyString())).willReturn(this.boundSetOperations);
+		given(this.redisOperations.boundValueOps(anyString())).willReturn(this.boundValueOperations);
+		MapSession delegate = new MapSession();
+		delegate.setAttribute("tenant", lazy("acme", new AtomicInteger()));
+		RedisSession session = this.redisRepository.new RedisSession(delegate, false);
+		session.setAttribute("tenant", "other");
+
+		this.redisRepository.save(session);
+
+		verify(this.redisOperations).boundSetOps("spring:session:index:tenant:acme");
+		verify(this.boundSetOperations).remove(session.getId());
+		verify(this.redisOperations).boundSetOps("spring:session:index:tenant:other");
+		verify(this.boundSetOperations).add(session.getId());
+	}
+
+	@Test
+	void findByIndexNameAndIndexValueWhenCustomIndexThenReadsIndexSet() {
+		String sessionId = "some-id";
+		given(this.redisOperations.boundSetOps("spring:session:index:tenant:acme")).willReturn(this.boundSetOperations);
+		given(this.boundSetOperations.members()).willReturn(Collections.singleton(sessionId));
+		given(this.redisOperations.<String, Object>boundHashOps(getKey(sessionId)))
+			.willReturn(this.boundHashOperations);
+		Map<String, Object> map = map(RedisSessionMapper.CREATION_TIME_KEY, Instant.now().toEpochMilli(),
+				RedisSessionMapper.MAX_INACTIVE_INTERVAL_KEY, 1800, RedisSessionMapper.LAST_ACCESSED_TIME_KEY,
+				Instant.now().toEpochMilli());
+		given(this.boundHashOperations.entries()).willReturn(map);
+
+		Map<String, RedisSession> sessions = this.redisRepository.findByIndexNameAndIndexValue("tenant", "acme");
+
+		assertThat(sessions).containsOnlyKeys(sessionId);
+	}
+
 	@Test
 	void createSessionWhenSessionIdGeneratorThenUses() {
 		this.redisRepository.setSessionIdGenerator(() -> "test");
@@ -964,6 +1189,13 @@ class RedisIndexedSessionRepositoryTests {
 		return "spring:session:sessions:" + id;
 	}
 
+	private static LazySessionAttribute lazy(String value, AtomicInteger deserializations) {
+		return LazySessionAttribute.of(value.getBytes(StandardCharsets.UTF_8), (bytes) -> {
+			deserializations.incrementAndGet();
+			return new String(bytes, StandardCharsets.UTF_8);
+		});
+	}
+
 	private Map<String, Object> map(Object... objects) {
 		Map<String, Object> result = new HashMap<>();
 		if (objects == null) {
@@ -0,0 +1,78 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.redis;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.ValueOperations;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Tests for {@link RedisSessionAttributeContentStore}.
+ *
+ * @author Spring Session Team
+ */
+@ExtendWith(MockitoExtension.class)
+class RedisSessionAttributeContentStoreTests {
+
+	@Mock(strictness = Mock.Strictness.LENIENT)
+	private RedisOperations<String, byte[]> redisOperations;
+
+	@Mock
+	private ValueOperations<String, byte[]> valueOperations;
+
+	private RedisSessionAttributeContentStore store;
+
+	@BeforeEach
+	void setUp() {
+		given(this.redisOperations.opsForValue()).willReturn(this.valueOperations);
+		this.store = new RedisSessionAttributeContentStore(this.redisOperations);
+	}
+
+	@Test
+	void putThenSetWithTimeToLive() {
+		byte[] content = { 1, 2, 3 };
+		this.store.put("abc", content, Duration.ofHours(1));
+		verify(this.valueOperations).set("spring:session:attribute-content:abc", content, Duration.ofHours(1));
+	}
+
+	@Test
+	void getWhenCustomNamespaceThenPrefixedKey() {
+		byte[] content = { 1, 2, 3 };
+		given(this.valueOperations.get("custom:attribute-content:abc")).willReturn(content);
+		this.store.setRedisKeyNamespace("custom");
+		assertThat(this.store.get("abc")).isEqualTo(content);
+	}
+
+	@Test
+	void setRedisKeyNamespaceWhenEmptyThenIllegalArgumentException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> this.store.setRedisKeyNamespace(" "))
+			.withMessage("namespace must not be empty");
+	}
+
+}
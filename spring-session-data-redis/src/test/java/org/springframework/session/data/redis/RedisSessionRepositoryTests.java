@@ -19,6 +19,7 @@ package org.springframework.session.data.redis;
 import java.time.Duration;
 import java.time.Instant;
 import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -33,6 +34,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.springframework.data.redis.core.HashOperations;
 import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
 import org.springframework.session.FlushMode;
 import org.springframework.session.MapSession;
 import org.springframework.session.SaveMode;
@@ -42,6 +45,7 @@ import org.springframework.test.util.ReflectionTestUtils;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.assertj.core.api.Assertions.assertThatIllegalStateException;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.verify;
@@ -300,6 +304,41 @@ class RedisSessionRepositoryTests {
 		verifyNoMoreInteractions(this.sessionHashOperations);
 	}
 
+	@Test
+	void getSessionCopierThenCopyIndependent() {
+		RedisSession session = createTestSession(createLazyAttributes());
+		RedisSession copy = this.sessionRepository.getSessionCopier().copy(session);
+		copy.setAttribute("attribute1", "changed");
+		assertThat(copy.getId()).isEqualTo(session.getId());
+		assertThat(session.<String>getAttribute("attribute1")).isEqualTo("value1");
+		assertThat(copy.<String>getAttribute("attribute2")).isEqualTo("value2");
+	}
+
+	@Test
+	void saveWithSaveModeAlwaysWhenLazyAttributesUnchangedThenAllSaved() {
+		given(this.sessionRedisOperations.hasKey(eq(TEST_SESSION_KEY))).willReturn(true);
+		this.sessionRepository.setSaveMode(SaveMode.ALWAYS);
+		RedisSession session = createTestSession(createLazyAttributes());
+		session.getAttribute("attribute2");
+		this.sessionRepository.save(session);
+		verify(this.sessionHashOperations).putAll(eq(TEST_SESSION_KEY), this.delta.capture());
+		assertThat(this.delta.getValue()).containsOnlyKeys(RedisSessionMapper.ATTRIBUTE_PREFIX + "attribute1",
+				RedisSessionMapper.ATTRIBUTE_PREFIX + "attribute2", RedisSessionMapper.ATTRIBUTE_PREFIX + "attribute3");
+	}
+
+	@Test
+	void saveWithSkipUnmodifiedAttributesWhenLazyAttributesUnchangedThenOnlyModifiedSaved() {
+		given(this.sessionRedisOperations.hasKey(eq(TEST_SESSION_KEY))).willReturn(true);
+		this.sessionRepository.setSaveMode(SaveMode.ALWAYS);
+		this.sessionRepository.setSkipUnmodifiedAttributes(true);
+		RedisSession session = createTestSession(createLazyAttributes());
+		session.getAttribute("attribute2");
+		session.setAttribute("attribute3", "value4");
+		this.sessionRepository.save(session);
+		verify(this.sessionHashOperations).putAll(eq(TEST_SESSION_KEY), this.delta.capture());
+		assertThat(this.delta.getValue()).containsOnlyKeys(RedisSessionMapper.ATTRIBUTE_PREFIX + "attribute3");
+	}
+
 	@Test
 	void save_SessionNotExists_ShouldThrowException() {
 		RedisSession session = createTestSession();
@@ -364,6 +403,37 @@ class RedisSessionRepositoryTests {
 		verifyNoMoreInteractions(this.sessionHashOperations);
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	void findByIds_MultipleSessions_ShouldLoadInSinglePipeline() {
+		Instant now = Instant.now().truncatedTo(ChronoUnit.MILLIS);
+		given(this.sessionRedisOperations.executePipelined(any(SessionCallback.class))).willReturn(Arrays.asList(
+				mapOf(RedisSessionMapper.CREATION_TIME_KEY, Instant.EPOCH.toEpochMilli(),
+						RedisSessionMapper.LAST_ACCESSED_TIME_KEY, now.toEpochMilli(),
+						RedisSessionMapper.MAX_INACTIVE_INTERVAL_KEY, MapSession.DEFAULT_MAX_INACTIVE_INTERVAL_SECONDS),
+				Collections.emptyMap(),
+				mapOf(RedisSessionMapper.CREATION_TIME_KEY, Instant.EPOCH.toEpochMilli(),
+						RedisSessionMapper.LAST_ACCESSED_TIME_KEY, Instant.EPOCH.toEpochMilli(),
+						RedisSessionMapper.MAX_INACTIVE_INTERVAL_KEY,
+						MapSession.DEFAULT_MAX_INACTIVE_INTERVAL_SECONDS)));
+		Map<String, RedisSession> sessions = this.sessionRepository
+			.findByIds(Arrays.asList(TEST_SESSION_ID, "missing", "expired"));
+		assertThat(sessions).containsOnlyKeys(TEST_SESSION_ID);
+		assertThat(sessions.get(TEST_SESSION_ID).getLastAccessedTime()).isEqualTo(now);
+		verify(this.sessionRedisOperations).executePipelined(any(SessionCallback.class));
+		verify(this.sessionRedisOperations).delete(Collections.singletonList(getSessionKey("expired")));
+		verifyNoMoreInteractions(this.sessionRedisOperations);
+		verifyNoMoreInteractions(this.sessionHashOperations);
+	}
+
+	@Test
+	void deleteByIds_MultipleSessions_ShouldDeleteInSingleCommand() {
+		this.sessionRepository.deleteByIds(Arrays.asList(TEST_SESSION_ID, "other"));
+		verify(this.sessionRedisOperations).delete(Arrays.asList(TEST_SESSION_KEY, getSessionKey("other")));
+		verifyNoMoreInteractions(this.sessionRedisOperations);
+		verifyNoMoreInteractions(this.sessionHashOperations);
+	}
+
 	@Test
 	void getSessionRedisOperations__ShouldReturnRedisOperations() {
 		assertThat(this.sessionRepository.getSessionRedisOperations()).isEqualTo(this.sessionRedisOperations);
@@ -430,4 +500,14 @@ class RedisSessionRepositoryTests {
 		return createTestSession(Collections.singletonMap("attribute1", "value1"));
 	}
 
+	private static Map<String, Object> createLazyAttributes() {
+		LazySessionAttributeRedisSerializer serializer = new LazySessionAttributeRedisSerializer(
+				new JdkSerializationRedisSerializer());
+		Map<String, Object> attributes = new HashMap<>();
+		attributes.put("attribute1", serializer.deserialize(serializer.serialize("value1")));
+		attributes.put("attribute2", serializer.deserialize(serializer.serialize("value2")));
+		attributes.put("attribute3", serializer.deserialize(serializer.serialize("value3")));
+		return attributes;
+	}
+
 }
@@ -0,0 +1,63 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.data.redis;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.session.codec.BinarySessionAttributeCodec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+/**
+ * Tests for {@link SessionAttributeCodecRedisSerializer}.
+ *
+ * @author Spring Session Team
+ */
+class SessionAttributeCodecRedisSerializerTests {
+
+	private final SessionAttributeCodecRedisSerializer serializer = new SessionAttributeCodecRedisSerializer(
+			new BinarySessionAttributeCodec());
+
+	@Test
+	void deserializeWhenSerializedThenEqual() {
+		assertThat(this.serializer.deserialize(this.serializer.serialize("value"))).isEqualTo("value");
+		assertThat(this.serializer.deserialize(this.serializer.serialize(42L))).isEqualTo(42L);
+	}
+
+	@Test
+	void serializeWhenNullThenEmpty() {
+		assertThat(this.serializer.serialize(null)).isEmpty();
+		assertThat(this.serializer.deserialize(new byte[0])).isNull();
+		assertThat(this.serializer.deserialize(null)).isNull();
+	}
+
+	@Test
+	void deserializeWhenWrittenByJdkSerializerThenDecoded() {
+		byte[] bytes = new JdkSerializationRedisSerializer().serialize("legacy");
+		assertThat(this.serializer.deserialize(bytes)).isEqualTo("legacy");
+	}
+
+	@Test
+	void deserializeWhenInvalidThenSerializationException() {
+		assertThatExceptionOfType(SerializationException.class)
+			.isThrownBy(() -> this.serializer.deserialize(new byte[] { 99 }));
+	}
+
+}
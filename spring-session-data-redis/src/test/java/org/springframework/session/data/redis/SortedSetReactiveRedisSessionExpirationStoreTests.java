@@ -17,6 +17,7 @@
 package org.springframework.session.data.redis;
 
 import java.time.Instant;
+import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -74,6 +75,15 @@ class SortedSetReactiveRedisSessionExpirationStoreTests {
 		verify(this.sessionRedisOperations.opsForZSet()).remove(this.namespace + "sessions:expirations", sessionId);
 	}
 
+	@Test
+	void removeWhenMultipleSessionsThenRemovesWithSingleCommand() {
+		given(this.sessionRedisOperations.opsForZSet().remove(anyString(), any(Object[].class)))
+			.willReturn(Mono.just(2L));
+		StepVerifier.create(this.store.remove(List.of("1234", "5678"))).verifyComplete();
+		verify(this.sessionRedisOperations.opsForZSet()).remove(this.namespace + "sessions:expirations", "1234",
+				"5678");
+	}
+
 	@Test
 	void retrieveExpiredSessionsThenUsesExpectedRangeAndLimit() {
 		Instant now = Instant.now();
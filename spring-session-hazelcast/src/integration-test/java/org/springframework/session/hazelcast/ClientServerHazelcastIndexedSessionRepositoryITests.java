@@ -31,6 +31,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.session.MapSession;
 import org.springframework.session.Session;
 import org.springframework.session.SessionIdGenerator;
+import org.springframework.session.SessionMetadata;
 import org.springframework.session.hazelcast.config.annotation.web.http.EnableHazelcastHttpSession;
 import org.springframework.test.context.ContextConfiguration;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
@@ -84,6 +85,8 @@ class ClientServerHazelcastIndexedSessionRepositoryITests extends AbstractHazelc
 				.addClass(Session.class)
 				.addClass(MapSession.class)
 				.addClass(SessionUpdateEntryProcessor.class)
+				.addClass(SessionMetadata.class)
+				.addClass(SessionMetadataProjection.class)
 				.addClass(SessionIdGenerator.class);
 			return HazelcastClient.newHazelcastClient(clientConfig);
 		}
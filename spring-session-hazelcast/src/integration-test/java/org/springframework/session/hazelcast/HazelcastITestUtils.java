@@ -49,8 +49,12 @@ final class HazelcastITestUtils {
 		AttributeConfig attributeConfig = new AttributeConfig()
 			.setName(HazelcastIndexedSessionRepository.PRINCIPAL_NAME_ATTRIBUTE)
 			.setExtractorClassName(PrincipalNameExtractor.class.getName());
+		AttributeConfig indexesConfig = new AttributeConfig()
+			.setName(HazelcastIndexedSessionRepository.INDEXES_ATTRIBUTE)
+			.setExtractorClassName(IndexValueExtractor.class.getName());
 		config.getMapConfig(HazelcastIndexedSessionRepository.DEFAULT_SESSION_MAP_NAME)
 			.addAttributeConfig(attributeConfig)
+			.addAttributeConfig(indexesConfig)
 			.addIndexConfig(
 					new IndexConfig(IndexType.HASH, HazelcastIndexedSessionRepository.PRINCIPAL_NAME_ATTRIBUTE));
 		SerializerConfig serializerConfig = new SerializerConfig();
@@ -21,10 +21,13 @@ import java.time.Instant;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 import com.hazelcast.core.EntryEvent;
 import com.hazelcast.core.HazelcastInstance;
@@ -33,28 +36,36 @@ import com.hazelcast.map.listener.EntryAddedListener;
 import com.hazelcast.map.listener.EntryEvictedListener;
 import com.hazelcast.map.listener.EntryExpiredListener;
 import com.hazelcast.map.listener.EntryRemovedListener;
+import com.hazelcast.query.Predicate;
 import com.hazelcast.query.Predicates;
+import com.hazelcast.query.QueryConstants;
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
 
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.InitializingBean;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.lang.Nullable;
 import org.springframework.session.DelegatingIndexResolver;
 import org.springframework.session.FindByIndexNameSessionRepository;
 import org.springframework.session.FlushMode;
 import org.springframework.session.IndexResolver;
+import org.springframework.session.LazySessionAttribute;
 import org.springframework.session.MapSession;
 import org.springframework.session.PrincipalNameIndexResolver;
 import org.springframework.session.SaveMode;
 import org.springframework.session.Session;
+import org.springframework.session.SessionCopier;
+import org.springframework.session.SessionCopierProvider;
 import org.springframework.session.SessionIdGenerator;
+import org.springframework.session.SessionMetadata;
 import org.springframework.session.UuidSessionIdGenerator;
 import org.springframework.session.events.AbstractSessionEvent;
 import org.springframework.session.events.SessionCreatedEvent;
 import org.springframework.session.events.SessionDeletedEvent;
 import org.springframework.session.events.SessionExpiredEvent;
 import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
 
 /**
  * A {@link org.springframework.session.SessionRepository} implementation that stores
@@ -97,6 +108,21 @@ import org.springframework.util.Assert;
  * Hazelcast.newHazelcastInstance(config);
  * </pre>
  *
+ * When a custom {@link IndexResolver} is set, the values of the other indexes it resolves
+ * are stored in the session under {@link #INDEXES_ATTRIBUTE_NAME}. Finding sessions by
+ * those indexes requires an {@link IndexValueExtractor} registered under
+ * {@link #INDEXES_ATTRIBUTE}, together with an index for each index name:
+ *
+ * <pre class="code">
+ * AttributeConfig indexesConfig = new AttributeConfig()
+ *         .setName(HazelcastIndexedSessionRepository.INDEXES_ATTRIBUTE)
+ *         .setExtractorClassName(IndexValueExtractor.class.getName());
+ *
+ * config.getMapConfig(HazelcastIndexedSessionRepository.DEFAULT_SESSION_MAP_NAME)
+ *         .addAttributeConfig(indexesConfig)
+ *         .addIndexConfig(new IndexConfig(IndexType.HASH, "indexes[tenant]"));
+ * </pre>
+ *
  * This implementation listens for events on the Hazelcast-backed SessionRepository and
  * translates those events into the corresponding Spring Session events. Publish the
  * Spring Session events with the given {@link ApplicationEventPublisher}.
@@ -117,8 +143,8 @@ import org.springframework.util.Assert;
 public class HazelcastIndexedSessionRepository
 		implements FindByIndexNameSessionRepository<HazelcastIndexedSessionRepository.HazelcastSession>,
 		EntryAddedListener<String, MapSession>, EntryEvictedListener<String, MapSession>,
-		EntryRemovedListener<String, MapSession>, EntryExpiredListener<String, MapSession>, InitializingBean,
-		DisposableBean {
+		EntryRemovedListener<String, MapSession>, EntryExpiredListener<String, MapSession>,
+		SessionCopierProvider<HazelcastIndexedSessionRepository.HazelcastSession>, InitializingBean, DisposableBean {
 
 	/**
 	 * The default name of map used by Spring Session to store sessions.
@@ -130,6 +156,22 @@ public class HazelcastIndexedSessionRepository
 	 */
 	public static final String PRINCIPAL_NAME_ATTRIBUTE = "principalName";
 
+	/**
+	 * The custom attribute name of the indexes resolved by a custom
+	 * {@link IndexResolver}, queried as {@code indexes[<index name>]}.
+	 * @since 3.5
+	 */
+	public static final String INDEXES_ATTRIBUTE = "indexes";
+
+	/**
+	 * The name of the session attribute that holds the values of the indexes resolved by
+	 * a custom {@link IndexResolver}, other than the principal name. The attribute is
+	 * reserved: it is not visible through the sessions returned by this repository and
+	 * cannot be set on them.
+	 * @since 3.5
+	 */
+	public static final String INDEXES_ATTRIBUTE_NAME = HazelcastIndexedSessionRepository.class.getName() + ".INDEXES";
+
 	private static final String SPRING_SECURITY_CONTEXT = "SPRING_SECURITY_CONTEXT";
 
 	private static final Log logger = LogFactory.getLog(HazelcastIndexedSessionRepository.class);
@@ -149,12 +191,16 @@ public class HazelcastIndexedSessionRepository
 
 	private SaveMode saveMode = SaveMode.ON_SET_ATTRIBUTE;
 
+	private boolean skipUnmodifiedAttributes;
+
 	private IMap<String, MapSession> sessions;
 
 	private UUID sessionListenerId;
 
 	private SessionIdGenerator sessionIdGenerator = UuidSessionIdGenerator.getInstance();
 
+	private boolean secondaryIndexesEnabled;
+
 	/**
 	 * Create a new {@link HazelcastIndexedSessionRepository} instance.
 	 * @param hazelcastInstance the {@link HazelcastInstance} to use for managing sessions
@@ -212,12 +258,16 @@ public class HazelcastIndexedSessionRepository
 	}
 
 	/**
-	 * Set the {@link IndexResolver} to use.
+	 * Set the {@link IndexResolver} to use. The values of the indexes it resolves, other
+	 * than the principal name, are stored in the session under
+	 * {@link #INDEXES_ATTRIBUTE_NAME} so that they can be queried through an
+	 * {@link IndexValueExtractor}.
 	 * @param indexResolver the index resolver
 	 */
 	public void setIndexResolver(IndexResolver<Session> indexResolver) {
 		Assert.notNull(indexResolver, "indexResolver cannot be null");
 		this.indexResolver = indexResolver;
+		this.secondaryIndexesEnabled = true;
 	}
 
 	/**
@@ -247,6 +297,20 @@ public class HazelcastIndexedSessionRepository
 		this.saveMode = saveMode;
 	}
 
+	/**
+	 * Set whether attributes that are saved because they were read, as with
+	 * {@link SaveMode#ON_GET_ATTRIBUTE} and {@link SaveMode#ALWAYS}, should be skipped
+	 * when their serialized form did not change since the session was loaded. This
+	 * requires attributes to be loaded lazily, using a {@link HazelcastSessionSerializer}
+	 * with a {@link org.springframework.session.codec.SessionAttributeCodec}. Default is
+	 * {@code false}.
+	 * @param skipUnmodifiedAttributes whether to skip unmodified attributes
+	 * @since 3.5
+	 */
+	public void setSkipUnmodifiedAttributes(boolean skipUnmodifiedAttributes) {
+		this.skipUnmodifiedAttributes = skipUnmodifiedAttributes;
+	}
+
 	@Override
 	public HazelcastSession createSession() {
 		MapSession cached = new MapSession(this.sessionIdGenerator);
@@ -258,6 +322,12 @@ public class HazelcastIndexedSessionRepository
 
 	@Override
 	public void save(HazelcastSession session) {
+		if (this.skipUnmodifiedAttributes) {
+			session.removeUnmodifiedAttributes();
+		}
+		if (this.secondaryIndexesEnabled && (session.isNew || !session.delta.isEmpty())) {
+			session.updateSecondaryIndexes();
+		}
 		if (session.isNew) {
 			this.sessions.set(session.getId(), session.getDelegate(), session.getMaxInactiveInterval().getSeconds(),
 					TimeUnit.SECONDS);
@@ -277,13 +347,27 @@ public class HazelcastIndexedSessionRepository
 				entryProcessor.setMaxInactiveInterval(session.getMaxInactiveInterval());
 			}
 			if (!session.delta.isEmpty()) {
-				entryProcessor.setDelta(new HashMap<>(session.delta));
+				Map<String, Object> delta = new HashMap<>(session.delta.size());
+				session.delta.forEach((name, value) -> delta.put(name, LazySessionAttribute.resolve(value)));
+				entryProcessor.setDelta(delta);
 			}
 			this.sessions.executeOnKey(session.getId(), entryProcessor);
 		}
 		session.clearChangeFlags();
 	}
 
+	/**
+	 * Return a {@link SessionCopier} creating independent copies of the sessions loaded
+	 * by this repository, for instance to coalesce concurrent lookups of the same session
+	 * with a {@link org.springframework.session.SingleFlightSessionRepository}.
+	 * @return the session copier
+	 * @since 3.5
+	 */
+	@Override
+	public SessionCopier<HazelcastSession> getSessionCopier() {
+		return (session) -> new HazelcastSession(LazySessionAttribute.copyOf(session.getDelegate()), false);
+	}
+
 	@Override
 	public HazelcastSession findById(String id) {
 		MapSession saved = this.sessions.get(id);
@@ -302,12 +386,51 @@ public class HazelcastIndexedSessionRepository
 		this.sessions.remove(id);
 	}
 
+	/**
+	 * Loads all the sessions with a single {@link IMap#getAll(Set)} call.
+	 * @param ids the session ids to lookup
+	 * @return the sessions that were found, keyed by id
+	 */
+	@Override
+	public Map<String, HazelcastSession> findByIds(Collection<String> ids) {
+		Assert.notNull(ids, "ids must not be null");
+		if (ids.size() <= 1) {
+			return FindByIndexNameSessionRepository.super.findByIds(ids);
+		}
+		Map<String, MapSession> saved = this.sessions.getAll(new HashSet<>(ids));
+		Map<String, HazelcastSession> sessions = CollectionUtils.newLinkedHashMap(saved.size());
+		for (MapSession session : saved.values()) {
+			if (session.isExpired()) {
+				deleteById(session.getId());
+			}
+			else {
+				sessions.put(session.getId(), new HazelcastSession(session, false));
+			}
+		}
+		return sessions;
+	}
+
+	/**
+	 * Deletes all the sessions with a single {@link IMap#removeAll} call.
+	 * @param ids the session ids to delete
+	 */
+	@Override
+	public void deleteByIds(Collection<String> ids) {
+		Assert.notNull(ids, "ids must not be null");
+		if (ids.size() <= 1) {
+			FindByIndexNameSessionRepository.super.deleteByIds(ids);
+			return;
+		}
+		this.sessions.removeAll(Predicates.in(QueryConstants.KEY_ATTRIBUTE_NAME.value(), ids.toArray(new String[0])));
+	}
+
 	@Override
 	public Map<String, HazelcastSession> findByIndexNameAndIndexValue(String indexName, String indexValue) {
-		if (!PRINCIPAL_NAME_INDEX_NAME.equals(indexName)) {
+		Predicate<String, MapSession> predicate = getIndexPredicate(indexName, indexValue);
+		if (predicate == null) {
 			return Collections.emptyMap();
 		}
-		Collection<MapSession> sessions = this.sessions.values(Predicates.equal(PRINCIPAL_NAME_ATTRIBUTE, indexValue));
+		Collection<MapSession> sessions = this.sessions.values(predicate);
 		Map<String, HazelcastSession> sessionMap = new HashMap<>(sessions.size());
 		for (MapSession session : sessions) {
 			sessionMap.put(session.getId(), new HazelcastSession(session, false));
@@ -315,6 +438,51 @@ public class HazelcastIndexedSessionRepository
 		return sessionMap;
 	}
 
+	/**
+	 * Projects the metadata of the sessions of the principal on the members that own
+	 * them, so that the attribute values are not transferred.
+	 * @param indexName the name of the index
+	 * @param indexValue the value of the index to search for
+	 * @return the metadata of the sessions that were found
+	 */
+	@Override
+	public Stream<SessionMetadata> findSessionMetadataByIndexNameAndIndexValue(String indexName, String indexValue) {
+		Predicate<String, MapSession> predicate = getIndexPredicate(indexName, indexValue);
+		if (predicate == null) {
+			return Stream.empty();
+		}
+		String principalName = PRINCIPAL_NAME_INDEX_NAME.equals(indexName) ? indexValue : null;
+		return this.sessions.project(new SessionMetadataProjection(principalName), predicate)
+			.stream()
+			.filter((metadata) -> !metadata.isExpired());
+	}
+
+	/**
+	 * Deletes the sessions with a single {@link IMap#removeAll} call, on the members that
+	 * own them. A {@link SessionDeletedEvent} is published for each of them through the
+	 * entry listener.
+	 * @param indexName the name of the index
+	 * @param indexValue the value of the index to search for
+	 */
+	@Override
+	public void deleteByIndexNameAndIndexValue(String indexName, String indexValue) {
+		Predicate<String, MapSession> predicate = getIndexPredicate(indexName, indexValue);
+		if (predicate != null) {
+			this.sessions.removeAll(predicate);
+		}
+	}
+
+	@Nullable
+	private Predicate<String, MapSession> getIndexPredicate(String indexName, String indexValue) {
+		if (PRINCIPAL_NAME_INDEX_NAME.equals(indexName)) {
+			return Predicates.equal(PRINCIPAL_NAME_ATTRIBUTE, indexValue);
+		}
+		if (this.secondaryIndexesEnabled) {
+			return Predicates.equal(INDEXES_ATTRIBUTE + "[" + indexName + "]", indexValue);
+		}
+		return null;
+	}
+
 	@Override
 	public void entryAdded(EntryEvent<String, MapSession> event) {
 		MapSession session = event.getValue();
@@ -390,8 +558,8 @@ public class HazelcastIndexedSessionRepository
 			this.isNew = isNew;
 			this.originalId = cached.getId();
 			if (this.isNew || (HazelcastIndexedSessionRepository.this.saveMode == SaveMode.ALWAYS)) {
-				getAttributeNames()
-					.forEach((attributeName) -> this.delta.put(attributeName, cached.getAttribute(attributeName)));
+				getAttributeNames().forEach(
+						(attributeName) -> this.delta.put(attributeName, cached.getStoredAttribute(attributeName)));
 			}
 		}
 
@@ -444,6 +612,9 @@ public class HazelcastIndexedSessionRepository
 
 		@Override
 		public <T> T getAttribute(String attributeName) {
+			if (INDEXES_ATTRIBUTE_NAME.equals(attributeName)) {
+				return null;
+			}
 			T attributeValue = this.delegate.getAttribute(attributeName);
 			if (attributeValue != null
 					&& HazelcastIndexedSessionRepository.this.saveMode.equals(SaveMode.ON_GET_ATTRIBUTE)) {
@@ -454,11 +625,19 @@ public class HazelcastIndexedSessionRepository
 
 		@Override
 		public Set<String> getAttributeNames() {
-			return this.delegate.getAttributeNames();
+			Set<String> attributeNames = this.delegate.getAttributeNames();
+			if (!attributeNames.contains(INDEXES_ATTRIBUTE_NAME)) {
+				return attributeNames;
+			}
+			Set<String> visibleAttributeNames = new HashSet<>(attributeNames);
+			visibleAttributeNames.remove(INDEXES_ATTRIBUTE_NAME);
+			return visibleAttributeNames;
 		}
 
 		@Override
 		public void setAttribute(String attributeName, Object attributeValue) {
+			Assert.isTrue(!INDEXES_ATTRIBUTE_NAME.equals(attributeName),
+					() -> "Session attribute " + INDEXES_ATTRIBUTE_NAME + " is reserved");
 			this.delegate.setAttribute(attributeName, attributeValue);
 			this.delta.put(attributeName, attributeValue);
 			if (SPRING_SECURITY_CONTEXT.equals(attributeName)) {
@@ -484,6 +663,33 @@ public class HazelcastIndexedSessionRepository
 			return (this.lastAccessedTimeChanged || this.maxInactiveIntervalChanged || !this.delta.isEmpty());
 		}
 
+		/**
+		 * Remove from the delta the attributes that were saved because they were read but
+		 * whose content did not change.
+		 */
+		void removeUnmodifiedAttributes() {
+			this.delta.keySet()
+				.removeIf((attributeName) -> this.delegate
+					.getStoredAttribute(attributeName) instanceof LazySessionAttribute lazy
+						&& lazy.getIfModified() == null);
+		}
+
+		/**
+		 * Store the values of the indexes resolved by the custom {@link IndexResolver},
+		 * other than the principal name, if they changed.
+		 */
+		void updateSecondaryIndexes() {
+			Map<String, String> indexes = new HashMap<>(
+					HazelcastIndexedSessionRepository.this.indexResolver.resolveIndexesFor(this));
+			indexes.remove(PRINCIPAL_NAME_INDEX_NAME);
+			indexes.values().removeIf(Objects::isNull);
+			Map<String, String> secondaryIndexes = indexes.isEmpty() ? null : indexes;
+			if (!Objects.equals(secondaryIndexes, this.delegate.getAttribute(INDEXES_ATTRIBUTE_NAME))) {
+				this.delegate.setAttribute(INDEXES_ATTRIBUTE_NAME, secondaryIndexes);
+				this.delta.put(INDEXES_ATTRIBUTE_NAME, secondaryIndexes);
+			}
+		}
+
 		void clearChangeFlags() {
 			this.isNew = false;
 			this.lastAccessedTimeChanged = false;
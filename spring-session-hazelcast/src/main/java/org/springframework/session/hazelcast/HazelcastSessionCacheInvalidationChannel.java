@@ -0,0 +1,88 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.hazelcast;
+
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import com.hazelcast.core.HazelcastInstance;
+import com.hazelcast.topic.ITopic;
+
+import org.springframework.session.CachingSessionRepository;
+import org.springframework.session.SessionCacheInvalidationChannel;
+import org.springframework.util.Assert;
+
+/**
+ * A {@link SessionCacheInvalidationChannel} that exchanges invalidations through a
+ * Hazelcast {@link ITopic}. Each instance identifies itself with a random node id so that
+ * it ignores the invalidations it published, which works for both embedded members and
+ * clients.
+ *
+ * @author Spring Session Team
+ * @since 3.5
+ * @see CachingSessionRepository
+ */
+public class HazelcastSessionCacheInvalidationChannel implements SessionCacheInvalidationChannel {
+
+	/**
+	 * The default name of the topic used to exchange invalidations.
+	 */
+	public static final String DEFAULT_TOPIC_NAME = "spring:session:cache:invalidations";
+
+	private static final char SEPARATOR = ':';
+
+	private final ITopic<String> topic;
+
+	private final String nodeId = UUID.randomUUID().toString();
+
+	/**
+	 * Create a new instance using the {@link #DEFAULT_TOPIC_NAME}.
+	 * @param hazelcastInstance the {@link HazelcastInstance} to use
+	 */
+	public HazelcastSessionCacheInvalidationChannel(HazelcastInstance hazelcastInstance) {
+		this(hazelcastInstance, DEFAULT_TOPIC_NAME);
+	}
+
+	/**
+	 * Create a new instance.
+	 * @param hazelcastInstance the {@link HazelcastInstance} to use
+	 * @param topicName the name of the topic used to exchange invalidations
+	 */
+	public HazelcastSessionCacheInvalidationChannel(HazelcastInstance hazelcastInstance, String topicName) {
+		Assert.notNull(hazelcastInstance, "hazelcastInstance cannot be null");
+		Assert.hasText(topicName, "topicName cannot be empty");
+		this.topic = hazelcastInstance.getTopic(topicName);
+	}
+
+	@Override
+	public void publish(String sessionId) {
+		this.topic.publish(this.nodeId + SEPARATOR + sessionId);
+	}
+
+	@Override
+	public void subscribe(Consumer<String> listener) {
+		Assert.notNull(listener, "listener cannot be null");
+		this.topic.addMessageListener((message) -> {
+			String payload = message.getMessageObject();
+			int separatorIndex = payload.indexOf(SEPARATOR);
+			if (separatorIndex != -1 && !payload.substring(0, separatorIndex).equals(this.nodeId)) {
+				listener.accept(payload.substring(separatorIndex + 1));
+			}
+		});
+	}
+
+}
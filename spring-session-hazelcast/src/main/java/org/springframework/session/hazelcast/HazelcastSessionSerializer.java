@@ -25,7 +25,10 @@ import com.hazelcast.nio.ObjectDataInput;
 import com.hazelcast.nio.ObjectDataOutput;
 import com.hazelcast.nio.serialization.StreamSerializer;
 
+import org.springframework.session.LazySessionAttribute;
 import org.springframework.session.MapSession;
+import org.springframework.session.codec.SessionAttributeCodec;
+import org.springframework.util.Assert;
 
 /**
  * A {@link com.hazelcast.nio.serialization.Serializer} implementation that handles the
@@ -85,6 +88,28 @@ public class HazelcastSessionSerializer implements StreamSerializer<MapSession>
 
 	private static final int SERIALIZER_TYPE_ID = 1453;
 
+	private final SessionAttributeCodec codec;
+
+	/**
+	 * Create a new instance writing the session attributes with Hazelcast's own
+	 * serialization.
+	 */
+	public HazelcastSessionSerializer() {
+		this.codec = null;
+	}
+
+	/**
+	 * Create a new instance writing the session attributes with the given
+	 * {@link SessionAttributeCodec}. All members and clients of the cluster must then use
+	 * the same codec.
+	 * @param codec the codec to use
+	 * @since 3.5
+	 */
+	public HazelcastSessionSerializer(SessionAttributeCodec codec) {
+		Assert.notNull(codec, "codec cannot be null");
+		this.codec = codec;
+	}
+
 	@Override
 	public void write(ObjectDataOutput out, MapSession session) throws IOException {
 		out.writeString(session.getOriginalId());
@@ -93,10 +118,23 @@ public class HazelcastSessionSerializer implements StreamSerializer<MapSession>
 		writeInstant(out, session.getLastAccessedTime());
 		writeDuration(out, session.getMaxInactiveInterval());
 		for (String attrName : session.getAttributeNames()) {
-			Object attrValue = session.getAttribute(attrName);
+			Object storedValue = session.getStoredAttribute(attrName);
+			byte[] untouched = (this.codec != null) ? LazySessionAttribute.getUntouchedSerializedValue(storedValue)
+					: null;
+			if (untouched != null) {
+				out.writeString(attrName);
+				out.writeByteArray(untouched);
+				continue;
+			}
+			Object attrValue = LazySessionAttribute.resolve(storedValue);
 			if (attrValue != null) {
 				out.writeString(attrName);
-				out.writeObject(attrValue);
+				if (this.codec != null) {
+					out.writeByteArray(this.codec.encode(attrValue));
+				}
+				else {
+					out.writeObject(attrValue);
+				}
 			}
 		}
 	}
@@ -126,7 +164,9 @@ public class HazelcastSessionSerializer implements StreamSerializer<MapSession>
 				// iteration. Hence the attributes are read until
 				// EOF here.
 				String attrName = in.readString();
-				Object attrValue = in.readObject();
+				Object attrValue = (this.codec != null)
+						? LazySessionAttribute.of(in.readByteArray(), this.codec::decode, this.codec::encode)
+						: in.readObject();
 				cached.setAttribute(attrName, attrValue);
 			}
 		}
@@ -0,0 +1,50 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.hazelcast;
+
+import java.util.Map;
+
+import com.hazelcast.query.extractor.ValueCollector;
+import com.hazelcast.query.extractor.ValueExtractor;
+
+import org.springframework.session.IndexResolver;
+import org.springframework.session.MapSession;
+
+/**
+ * Hazelcast {@link ValueExtractor} responsible for extracting the value of an index
+ * resolved by a custom {@link IndexResolver} from the {@link MapSession}. The name of the
+ * index is given as the extractor argument, for example {@code indexes[tenant]}.
+ *
+ * @author Spring Session Team
+ * @since 3.5
+ * @see HazelcastIndexedSessionRepository#INDEXES_ATTRIBUTE
+ */
+public class IndexValueExtractor implements ValueExtractor<MapSession, String> {
+
+	@Override
+	public void extract(MapSession target, String argument, ValueCollector collector) {
+		Map<String, String> indexes = target.getAttribute(HazelcastIndexedSessionRepository.INDEXES_ATTRIBUTE_NAME);
+		if (indexes == null || argument == null) {
+			return;
+		}
+		String indexValue = indexes.get(argument);
+		if (indexValue != null) {
+			collector.addObject(indexValue);
+		}
+	}
+
+}
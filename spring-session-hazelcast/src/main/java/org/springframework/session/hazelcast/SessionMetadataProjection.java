@@ -0,0 +1,53 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.hazelcast;
+
+import java.util.Map;
+
+import com.hazelcast.projection.Projection;
+
+import org.springframework.lang.Nullable;
+import org.springframework.session.FindByIndexNameSessionRepository;
+import org.springframework.session.MapSession;
+import org.springframework.session.SessionMetadata;
+
+/**
+ * Hazelcast {@link Projection} responsible for extracting the {@link SessionMetadata}
+ * from the {@link MapSession} on the member that owns it, so that the attribute values
+ * are not sent to the caller.
+ *
+ * @author Spring Session Team
+ * @since 3.5
+ */
+public class SessionMetadataProjection implements Projection<Map.Entry<String, MapSession>, SessionMetadata> {
+
+	@Nullable
+	private final String principalName;
+
+	SessionMetadataProjection(@Nullable String principalName) {
+		this.principalName = principalName;
+	}
+
+	@Override
+	public SessionMetadata transform(Map.Entry<String, MapSession> entry) {
+		MapSession session = entry.getValue();
+		String principalName = (this.principalName != null) ? this.principalName
+				: session.getAttribute(FindByIndexNameSessionRepository.PRINCIPAL_NAME_INDEX_NAME);
+		return SessionMetadata.from(session, principalName);
+	}
+
+}
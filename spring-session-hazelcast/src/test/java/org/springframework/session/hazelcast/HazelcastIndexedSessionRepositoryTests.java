@@ -19,6 +19,9 @@ package org.springframework.session.hazelcast;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.concurrent.TimeUnit;
@@ -27,7 +30,9 @@ import com.hazelcast.core.HazelcastInstance;
 import com.hazelcast.map.EntryProcessor;
 import com.hazelcast.map.IMap;
 import com.hazelcast.map.listener.MapListener;
+import com.hazelcast.query.Predicates;
 import com.hazelcast.query.impl.predicates.EqualPredicate;
+import com.hazelcast.query.impl.predicates.InPredicate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
@@ -35,10 +40,13 @@ import org.mockito.ArgumentCaptor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.session.DelegatingIndexResolver;
 import org.springframework.session.FindByIndexNameSessionRepository;
 import org.springframework.session.FlushMode;
 import org.springframework.session.MapSession;
+import org.springframework.session.PrincipalNameIndexResolver;
 import org.springframework.session.SaveMode;
+import org.springframework.session.SessionMetadata;
 import org.springframework.session.hazelcast.HazelcastIndexedSessionRepository.HazelcastSession;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -46,6 +54,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anySet;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
@@ -333,6 +342,38 @@ class HazelcastIndexedSessionRepositoryTests {
 		verifyNoMoreInteractions(this.sessions);
 	}
 
+	@Test
+	void getSessionsFound() {
+		verify(this.sessions, times(1)).addEntryListener(any(MapListener.class), anyBoolean());
+
+		MapSession saved = new MapSession();
+		MapSession expired = new MapSession();
+		expired.setLastAccessedTime(Instant.now().minusSeconds(MapSession.DEFAULT_MAX_INACTIVE_INTERVAL_SECONDS + 1));
+		Map<String, MapSession> found = new HashMap<>();
+		found.put(saved.getId(), saved);
+		found.put(expired.getId(), expired);
+		given(this.sessions.getAll(anySet())).willReturn(found);
+
+		Map<String, HazelcastSession> sessions = this.repository
+			.findByIds(Arrays.asList(saved.getId(), expired.getId(), "missing"));
+
+		assertThat(sessions).containsOnlyKeys(saved.getId());
+		verify(this.sessions, times(1))
+			.getAll(eq(new HashSet<>(Arrays.asList(saved.getId(), expired.getId(), "missing"))));
+		verify(this.sessions, times(1)).remove(eq(expired.getId()));
+		verifyNoMoreInteractions(this.sessions);
+	}
+
+	@Test
+	void deleteAll() {
+		verify(this.sessions, times(1)).addEntryListener(any(MapListener.class), anyBoolean());
+
+		this.repository.deleteByIds(Arrays.asList("id1", "id2"));
+
+		verify(this.sessions, times(1)).removeAll(isA(InPredicate.class));
+		verifyNoMoreInteractions(this.sessions);
+	}
+
 	@Test
 	void delete() {
 		verify(this.sessions, times(1)).addEntryListener(any(MapListener.class), anyBoolean());
@@ -396,6 +437,117 @@ class HazelcastIndexedSessionRepositoryTests {
 		verifyNoMoreInteractions(this.sessions);
 	}
 
+	@Test
+	void findByIndexNameAndIndexValueSecondaryIndexName() {
+		this.repository.setIndexResolver(new PrincipalNameIndexResolver<>("tenant"));
+		MapSession saved = new MapSession();
+		given(this.sessions.values(isA(EqualPredicate.class))).willReturn(List.of(saved));
+
+		Map<String, HazelcastSession> sessions = this.repository.findByIndexNameAndIndexValue("tenant", "acme");
+
+		assertThat(sessions).containsOnlyKeys(saved.getId());
+		verify(this.sessions, times(1)).values(Predicates.equal("indexes[tenant]", "acme"));
+	}
+
+	@Test
+	void saveNewWithCustomIndexResolverThenSecondaryIndexesStored() {
+		this.repository.setIndexResolver(new DelegatingIndexResolver<>(new PrincipalNameIndexResolver<>(),
+				new PrincipalNameIndexResolver<>("tenant")));
+		HazelcastSession session = this.repository.createSession();
+		session.setAttribute("tenant", "acme");
+
+		this.repository.save(session);
+
+		assertThat(session.getDelegate()
+			.<Map<String, String>>getAttribute(HazelcastIndexedSessionRepository.INDEXES_ATTRIBUTE_NAME))
+			.containsOnly(Map.entry("tenant", "acme"));
+		verify(this.sessions, times(1)).set(eq(session.getId()), eq(session.getDelegate()), isA(Long.class),
+				eq(TimeUnit.SECONDS));
+	}
+
+	@Test
+	void getAttributeNamesWhenSecondaryIndexesStoredThenIndexesAttributeHidden() {
+		this.repository.setIndexResolver(new PrincipalNameIndexResolver<>("tenant"));
+		MapSession saved = new MapSession();
+		saved.setAttribute("tenant", "acme");
+		saved.setAttribute(HazelcastIndexedSessionRepository.INDEXES_ATTRIBUTE_NAME,
+				new HashMap<>(Map.of("tenant", "acme")));
+		given(this.sessions.get(saved.getId())).willReturn(saved);
+
+		HazelcastSession session = this.repository.findById(saved.getId());
+
+		assertThat(session.getAttributeNames()).containsOnly("tenant");
+		assertThat(session.<Object>getAttribute(HazelcastIndexedSessionRepository.INDEXES_ATTRIBUTE_NAME)).isNull();
+		assertThatIllegalArgumentException()
+			.isThrownBy(() -> session.setAttribute(HazelcastIndexedSessionRepository.INDEXES_ATTRIBUTE_NAME, "other"));
+	}
+
+	@Test
+	void saveUpdatedWhenSecondaryIndexUnchangedThenIndexesNotSaved() {
+		this.repository.setIndexResolver(new PrincipalNameIndexResolver<>("tenant"));
+		MapSession saved = new MapSession();
+		saved.setAttribute("tenant", "acme");
+		saved.setAttribute(HazelcastIndexedSessionRepository.INDEXES_ATTRIBUTE_NAME,
+				new HashMap<>(Map.of("tenant", "acme")));
+		given(this.sessions.get(saved.getId())).willReturn(saved);
+		HazelcastSession session = this.repository.findById(saved.getId());
+		session.setAttribute("attribute", "value");
+
+		this.repository.save(session);
+
+		ArgumentCaptor<SessionUpdateEntryProcessor> captor = ArgumentCaptor.forClass(SessionUpdateEntryProcessor.class);
+		verify(this.sessions, times(1)).executeOnKey(eq(saved.getId()), captor.capture());
+		assertThat((Map<String, Object>) ReflectionTestUtils.getField(captor.getValue(), "delta"))
+			.containsOnlyKeys("attribute");
+	}
+
+	@Test
+	void deleteByPrincipalNameRemovesOnMembers() {
+		verify(this.sessions, times(1)).addEntryListener(any(MapListener.class), anyBoolean());
+
+		this.repository.deleteByPrincipalName("username");
+
+		verify(this.sessions, times(1))
+			.removeAll(Predicates.equal(HazelcastIndexedSessionRepository.PRINCIPAL_NAME_ATTRIBUTE, "username"));
+		verifyNoMoreInteractions(this.sessions);
+	}
+
+	@Test
+	void deleteByIndexNameAndIndexValueUnknownIndexName() {
+		verify(this.sessions, times(1)).addEntryListener(any(MapListener.class), anyBoolean());
+
+		this.repository.deleteByIndexNameAndIndexValue("tenant", "acme");
+
+		verifyNoMoreInteractions(this.sessions);
+	}
+
+	@Test
+	void findSessionMetadataByPrincipalNameProjectsOnMembers() {
+		verify(this.sessions, times(1)).addEntryListener(any(MapListener.class), anyBoolean());
+
+		String principal = "username";
+		MapSession active = new MapSession();
+		active.setAttribute("attribute", "value");
+		MapSession expired = new MapSession();
+		expired.setLastAccessedTime(Instant.EPOCH);
+		given(this.sessions.project(isA(SessionMetadataProjection.class), isA(EqualPredicate.class)))
+			.willAnswer((invocation) -> {
+				SessionMetadataProjection projection = invocation.getArgument(0);
+				return Arrays.asList(projection.transform(Map.entry(active.getId(), active)),
+						projection.transform(Map.entry(expired.getId(), expired)));
+			});
+
+		List<SessionMetadata> sessions = this.repository.findSessionMetadataByPrincipalName(principal).toList();
+
+		assertThat(sessions).singleElement().satisfies((metadata) -> {
+			assertThat(metadata.getId()).isEqualTo(active.getId());
+			assertThat(metadata.getPrincipalName()).isEqualTo(principal);
+			assertThat(metadata.getAttributeNames()).containsExactly("attribute");
+		});
+		verify(this.sessions, times(1)).project(isA(SessionMetadataProjection.class), isA(EqualPredicate.class));
+		verifyNoMoreInteractions(this.sessions);
+	}
+
 	@Test // gh-1120
 	void getAttributeNamesAndRemove() {
 		HazelcastSession session = this.repository.createSession();
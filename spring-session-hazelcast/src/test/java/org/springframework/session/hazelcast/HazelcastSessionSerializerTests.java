@@ -0,0 +1,185 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.hazelcast;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.hazelcast.config.SerializationConfig;
+import com.hazelcast.config.SerializerConfig;
+import com.hazelcast.internal.serialization.Data;
+import com.hazelcast.internal.serialization.SerializationService;
+import com.hazelcast.internal.serialization.impl.DefaultSerializationServiceBuilder;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.lang.Nullable;
+import org.springframework.session.LazySessionAttribute;
+import org.springframework.session.MapSession;
+import org.springframework.session.codec.BinarySessionAttributeCodec;
+import org.springframework.session.codec.CompressingSessionAttributeCodec;
+import org.springframework.session.codec.SessionAttributeCodec;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+
+/**
+ * Tests for {@link HazelcastSessionSerializer}.
+ *
+ * @author Spring Session Team
+ */
+class HazelcastSessionSerializerTests {
+
+	@Test
+	void constructorWhenCodecNullThenException() {
+		assertThatIllegalArgumentException().isThrownBy(() -> new HazelcastSessionSerializer(null))
+			.withMessage("codec cannot be null");
+	}
+
+	@Test
+	void roundTripWithoutCodecThenSessionRestored() {
+		SerializationService serializationService = createSerializationService(new HazelcastSessionSerializer());
+		MapSession session = createSession();
+
+		MapSession read = serializationService.toObject(serializationService.toData(session));
+
+		assertSessionRestored(session, read);
+		assertThat(read.getStoredAttribute("list")).isNotInstanceOf(LazySessionAttribute.class);
+	}
+
+	@Test
+	void roundTripWithCodecThenSessionRestored() {
+		SerializationService serializationService = createSerializationService(
+				new HazelcastSessionSerializer(new BinarySessionAttributeCodec()));
+		MapSession session = createSession();
+
+		MapSession read = serializationService.toObject(serializationService.toData(session));
+
+		assertSessionRestored(session, read);
+	}
+
+	@Test
+	void roundTripWithCompressingCodecThenSessionRestored() {
+		SerializationService serializationService = createSerializationService(new HazelcastSessionSerializer(
+				new CompressingSessionAttributeCodec(new BinarySessionAttributeCodec())));
+		MapSession session = createSession();
+		session.setAttribute("large", "value".repeat(1000));
+
+		Data data = serializationService.toData(session);
+		MapSession read = serializationService.toObject(data);
+
+		assertSessionRestored(session, read);
+		assertThat(read.<String>getAttribute("large")).isEqualTo("value".repeat(1000));
+		assertThat(data.totalSize()).isLessThan(1000);
+	}
+
+	@Test
+	void readWithCodecThenAttributesDeserializedLazily() {
+		CountingCodec codec = new CountingCodec();
+		SerializationService serializationService = createSerializationService(new HazelcastSessionSerializer(codec));
+		MapSession session = createSession();
+
+		MapSession read = serializationService.toObject(serializationService.toData(session));
+
+		assertThat(read.getStoredAttribute("list")).isInstanceOfSatisfying(LazySessionAttribute.class,
+				(lazy) -> assertThat(lazy.isDeserialized()).isFalse());
+		assertThat(codec.decodes).hasValue(0);
+		assertThat(read.<List<String>>getAttribute("list")).containsExactly("a", "b");
+		assertThat(codec.decodes).hasValue(1);
+	}
+
+	@Test
+	void writeWithCodecWhenAttributesUntouchedThenNotEncodedAgain() {
+		CountingCodec codec = new CountingCodec();
+		SerializationService serializationService = createSerializationService(new HazelcastSessionSerializer(codec));
+		Data data = serializationService.toData(createSession());
+		int encodes = codec.encodes.get();
+
+		MapSession read = serializationService.toObject(data);
+		Data written = serializationService.toData(read);
+
+		assertThat(codec.encodes).hasValue(encodes);
+		assertThat(written.toByteArray()).isEqualTo(data.toByteArray());
+	}
+
+	@Test
+	void writeWithCodecWhenAttributeReadThenEncodedAgain() {
+		CountingCodec codec = new CountingCodec();
+		SerializationService serializationService = createSerializationService(new HazelcastSessionSerializer(codec));
+		Data data = serializationService.toData(createSession());
+		int encodes = codec.encodes.get();
+
+		MapSession read = serializationService.toObject(data);
+		read.<List<String>>getAttribute("list").add("c");
+		MapSession reread = serializationService.toObject(serializationService.toData(read));
+
+		assertThat(codec.encodes).hasValue(encodes + 1);
+		assertThat(reread.<List<String>>getAttribute("list")).containsExactly("a", "b", "c");
+		assertThat(reread.<String>getAttribute("string")).isEqualTo("value");
+	}
+
+	private static MapSession createSession() {
+		MapSession session = new MapSession();
+		session.setMaxInactiveInterval(Duration.ofMinutes(10));
+		session.setAttribute("string", "value");
+		session.setAttribute("list", new ArrayList<>(List.of("a", "b")));
+		return session;
+	}
+
+	private static void assertSessionRestored(MapSession expected, MapSession actual) {
+		assertThat(actual.getId()).isEqualTo(expected.getId());
+		assertThat(actual.getOriginalId()).isEqualTo(expected.getOriginalId());
+		assertThat(actual.getCreationTime()).isEqualTo(expected.getCreationTime());
+		assertThat(actual.getLastAccessedTime()).isEqualTo(expected.getLastAccessedTime());
+		assertThat(actual.getMaxInactiveInterval()).isEqualTo(expected.getMaxInactiveInterval());
+		assertThat(actual.getAttributeNames()).isEqualTo(expected.getAttributeNames());
+		assertThat(actual.<String>getAttribute("string")).isEqualTo("value");
+		assertThat(actual.<List<String>>getAttribute("list")).containsExactly("a", "b");
+	}
+
+	private static SerializationService createSerializationService(HazelcastSessionSerializer serializer) {
+		SerializationConfig serializationConfig = new SerializationConfig();
+		serializationConfig
+			.addSerializerConfig(new SerializerConfig().setImplementation(serializer).setTypeClass(MapSession.class));
+		return new DefaultSerializationServiceBuilder().setConfig(serializationConfig).build();
+	}
+
+	private static final class CountingCodec implements SessionAttributeCodec {
+
+		private final SessionAttributeCodec delegate = new BinarySessionAttributeCodec();
+
+		private final AtomicInteger encodes = new AtomicInteger();
+
+		private final AtomicInteger decodes = new AtomicInteger();
+
+		@Override
+		public byte[] encode(@Nullable Object value) {
+			this.encodes.incrementAndGet();
+			return this.delegate.encode(value);
+		}
+
+		@Override
+		@Nullable
+		public Object decode(byte[] bytes) {
+			this.decodes.incrementAndGet();
+			return this.delegate.decode(bytes);
+		}
+
+	}
+
+}
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2014-2026 the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.springframework.session.jdbc;
+
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabase;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseBuilder;
+import org.springframework.jdbc.datasource.embedded.EmbeddedDatabaseType;
+import org.springframework.session.DelegatingIndexResolver;
+import org.springframework.session.IndexResolver;
+import org.springframework.session.PrincipalNameIndexResolver;
+import org.springframework.session.Session;
+import org.springframework.session.jdbc.JdbcIndexedSessionRepository.JdbcSession;
+import org.springframework.session.jdbc.config.annotation.web.http.EnableJdbcHttpSession;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+import org.springframework.test.context.web.WebAppConfiguration;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for {@link JdbcIndexedSessionRepository} using a custom
+ * {@link IndexResolver} with an H2 database whose schema has no indexes table.
+ *
+ * @author Spring Session Team
+ */
+@ExtendWith(SpringExtension.class)
+@WebAppConfiguration
+@ContextConfiguration
+class H2JdbcIndexedSessionRepositoryWithoutIndexesTableITests {
+
+	@Autowired
+	private JdbcIndexedSessionRepository repository;
+
+	@Test
+	void saveWhenCustomIndexResolverThenSessionFoundByPrincipalName() {
+		JdbcSession toSave = this.repository.createSession();
+		toSave.setAttribute(JdbcIndexedSessionRepository.PRINCIPAL_NAME_INDEX_NAME, "user");
+		toSave.setAttribute("tenant", "acme");
+
+		this.repository.save(toSave);
+		JdbcSession session = this.repository.findById(toSave.getId());
+		session.setAttribute("tenant", "globex");
+		this.repository.save(session);
+
+		Map<String, JdbcSession> sessions = this.repository.findByPrincipalName("user");
+		assertThat(sessions).containsOnlyKeys(toSave.getId());
+		assertThat(sessions.get(toSave.getId()).<String>getAttribute("tenant")).isEqualTo("globex");
+		assertThat(this.repository.findByIndexNameAndIndexValue("tenant", "globex")).isEmpty();
+		this.repository.deleteById(toSave.getId());
+		assertThat(this.repository.findById(toSave.getId())).isNull();
+	}
+
+	@Configuration(proxyBeanMethods = false)
+	@EnableJdbcHttpSession
+	static class Config {
+
+		@Bean
+		EmbeddedDatabase dataSource() {
+			EmbeddedDatabase dataSource = new EmbeddedDatabaseBuilder().setType(EmbeddedDatabaseType.H2)
+				.addScript("org/springframework/session/jdbc/schema-h2.sql")
+				.build();
+			new JdbcTemplate(dataSource).execute("DROP TABLE SPRING_SESSION_INDEXES");
+			return dataSource;
+		}
+
+		@Bean
+		PlatformTransactionManager transactionManager(DataSource dataSource) {
+			return new DataSourceTransactionManager(dataSource);
+		}
+
+		@Bean
+		IndexResolver<Session> indexResolver() {
+			return new DelegatingIndexResolver<>(new PrincipalNameIndexResolver<>(),
+					new PrincipalNameIndexResolver<>("tenant"));
+		}
+
+	}
+
+}
@@ -22,14 +22,18 @@ import java.sql.SQLException;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 import java.util.UUID;
-import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import org.apache.commons.logging.Log;
 import org.apache.commons.logging.LogFactory;
@@ -58,14 +62,19 @@ import org.springframework.session.DelegatingIndexResolver;
 import org.springframework.session.FindByIndexNameSessionRepository;
 import org.springframework.session.FlushMode;
 import org.springframework.session.IndexResolver;
+import org.springframework.session.LazySessionAttribute;
 import org.springframework.session.MapSession;
 import org.springframework.session.PrincipalNameIndexResolver;
 import org.springframework.session.SaveMode;
 import org.springframework.session.Session;
+import org.springframework.session.SessionCopier;
+import org.springframework.session.SessionCopierProvider;
 import org.springframework.session.SessionIdGenerator;
+import org.springframework.session.SessionMetadata;
 import org.springframework.session.UuidSessionIdGenerator;
 import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.util.Assert;
+import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 
 /**
@@ -97,7 +106,8 @@ import org.springframework.util.StringUtils;
  * <code>SPRING_SESSION_ATTRIBUTES</code> tables to store sessions. Note that the table
  * name can be customized using the {@link #setTableName(String)} method. In that case the
  * table used to store attributes will be named using the provided table name, suffixed
- * with <code>_ATTRIBUTES</code>.
+ * with <code>_ATTRIBUTES</code>, and the table used to store indexes will be suffixed
+ * with <code>_INDEXES</code>.
  *
  * Depending on your database, the table definition can be described as below:
  *
@@ -126,8 +136,23 @@ import org.springframework.util.StringUtils;
  * );
  *
  * CREATE INDEX SPRING_SESSION_ATTRIBUTES_IX1 ON SPRING_SESSION_ATTRIBUTES (SESSION_PRIMARY_ID);
+ *
+ * CREATE TABLE SPRING_SESSION_INDEXES (
+ *  SESSION_PRIMARY_ID CHAR(36) NOT NULL,
+ *  INDEX_NAME VARCHAR(200) NOT NULL,
+ *  INDEX_VALUE VARCHAR(200) NOT NULL,
+ *  CONSTRAINT SPRING_SESSION_INDEXES_PK PRIMARY KEY (SESSION_PRIMARY_ID, INDEX_NAME),
+ *  CONSTRAINT SPRING_SESSION_INDEXES_FK FOREIGN KEY (SESSION_PRIMARY_ID) REFERENCES SPRING_SESSION(PRIMARY_ID) ON DELETE CASCADE
+ * );
+ *
+ * CREATE INDEX SPRING_SESSION_INDEXES_IX1 ON SPRING_SESSION_INDEXES (INDEX_NAME, INDEX_VALUE);
  * </pre>
  *
+ * The <code>SPRING_SESSION_INDEXES</code> table is only used when secondary indexes are
+ * {@link #setSecondaryIndexesEnabled(boolean) enabled}, to store the indexes other than
+ * the principal name resolved by a custom {@link IndexResolver}. Schemas created before
+ * this table was introduced keep working as long as secondary indexes are not enabled.
+ *
  * Due to the differences between the various database vendors, especially when it comes
  * to storing binary data, make sure to use SQL script specific to your database. Scripts
  * for most major database vendors are packaged as
@@ -138,8 +163,9 @@ import org.springframework.util.StringUtils;
  * @author Craig Andrews
  * @since 2.2.0
  */
-public class JdbcIndexedSessionRepository implements
-		FindByIndexNameSessionRepository<JdbcIndexedSessionRepository.JdbcSession>, InitializingBean, DisposableBean {
+public class JdbcIndexedSessionRepository
+		implements FindByIndexNameSessionRepository<JdbcIndexedSessionRepository.JdbcSession>,
+		SessionCopierProvider<JdbcIndexedSessionRepository.JdbcSession>, InitializingBean, DisposableBean {
 
 	/**
 	 * The default name of database table used by Spring Session to store sessions.
@@ -170,6 +196,13 @@ public class JdbcIndexedSessionRepository implements
 			WHERE S.SESSION_ID = ?
 			""";
 
+	private static final String GET_SESSIONS_QUERY = """
+			SELECT S.PRIMARY_ID, S.SESSION_ID, S.CREATION_TIME, S.LAST_ACCESS_TIME, S.MAX_INACTIVE_INTERVAL, SA.ATTRIBUTE_NAME, SA.ATTRIBUTE_BYTES
+			FROM %TABLE_NAME% S
+			LEFT JOIN %TABLE_NAME%_ATTRIBUTES SA ON S.PRIMARY_ID = SA.SESSION_PRIMARY_ID
+			WHERE S.SESSION_ID IN (%SESSION_IDS%)
+			""";
+
 	private static final String UPDATE_SESSION_QUERY = """
 			UPDATE %TABLE_NAME%
 			SET SESSION_ID = ?, LAST_ACCESS_TIME = ?, MAX_INACTIVE_INTERVAL = ?, EXPIRY_TIME = ?, PRINCIPAL_NAME = ?
@@ -195,6 +228,12 @@ public class JdbcIndexedSessionRepository implements
 			AND MAX_INACTIVE_INTERVAL >= 0
 			""";
 
+	private static final String DELETE_SESSIONS_QUERY = """
+			DELETE FROM %TABLE_NAME%
+			WHERE SESSION_ID IN (%SESSION_IDS%)
+			AND MAX_INACTIVE_INTERVAL >= 0
+			""";
+
 	private static final String LIST_SESSIONS_BY_PRINCIPAL_NAME_QUERY = """
 			SELECT S.PRIMARY_ID, S.SESSION_ID, S.CREATION_TIME, S.LAST_ACCESS_TIME, S.MAX_INACTIVE_INTERVAL, SA.ATTRIBUTE_NAME, SA.ATTRIBUTE_BYTES
 			FROM %TABLE_NAME% S
@@ -202,13 +241,77 @@ public class JdbcIndexedSessionRepository implements
 			WHERE S.PRINCIPAL_NAME = ?
 			""";
 
+	private static final String LIST_SESSION_METADATA_BY_PRINCIPAL_NAME_QUERY = """
+			SELECT S.SESSION_ID, S.CREATION_TIME, S.LAST_ACCESS_TIME, S.MAX_INACTIVE_INTERVAL, S.PRINCIPAL_NAME, SA.ATTRIBUTE_NAME
+			FROM %TABLE_NAME% S
+			LEFT JOIN %TABLE_NAME%_ATTRIBUTES SA ON S.PRIMARY_ID = SA.SESSION_PRIMARY_ID
+			WHERE S.PRINCIPAL_NAME = ?
+			""";
+
+	private static final String LIST_SESSIONS_BY_INDEX_QUERY = """
+			SELECT S.PRIMARY_ID, S.SESSION_ID, S.CREATION_TIME, S.LAST_ACCESS_TIME, S.MAX_INACTIVE_INTERVAL, SA.ATTRIBUTE_NAME, SA.ATTRIBUTE_BYTES
+			FROM %TABLE_NAME% S
+			LEFT JOIN %TABLE_NAME%_ATTRIBUTES SA ON S.PRIMARY_ID = SA.SESSION_PRIMARY_ID
+			WHERE S.PRIMARY_ID IN (
+				SELECT SI.SESSION_PRIMARY_ID
+				FROM %TABLE_NAME%_INDEXES SI
+				WHERE SI.INDEX_NAME = ?
+				AND SI.INDEX_VALUE = ?
+			)
+			""";
+
+	private static final String LIST_SESSION_METADATA_BY_INDEX_QUERY = """
+			SELECT S.SESSION_ID, S.CREATION_TIME, S.LAST_ACCESS_TIME, S.MAX_INACTIVE_INTERVAL, S.PRINCIPAL_NAME, SA.ATTRIBUTE_NAME
+			FROM %TABLE_NAME% S
+			LEFT JOIN %TABLE_NAME%_ATTRIBUTES SA ON S.PRIMARY_ID = SA.SESSION_PRIMARY_ID
+			WHERE S.PRIMARY_ID IN (
+				SELECT SI.SESSION_PRIMARY_ID
+				FROM %TABLE_NAME%_INDEXES SI
+				WHERE SI.INDEX_NAME = ?
+				AND SI.INDEX_VALUE = ?
+			)
+			""";
+
+	private static final String CREATE_SESSION_INDEX_QUERY = """
+			INSERT INTO %TABLE_NAME%_INDEXES (SESSION_PRIMARY_ID, INDEX_NAME, INDEX_VALUE)
+			VALUES (?, ?, ?)
+			""";
+
+	private static final String DELETE_SESSION_INDEXES_QUERY = """
+			DELETE FROM %TABLE_NAME%_INDEXES
+			WHERE SESSION_PRIMARY_ID = ?
+			""";
+
+	private static final String DELETE_SESSIONS_BY_PRINCIPAL_NAME_QUERY = """
+			DELETE FROM %TABLE_NAME%
+			WHERE PRINCIPAL_NAME = ?
+			AND MAX_INACTIVE_INTERVAL >= 0
+			""";
+
+	private static final String DELETE_SESSIONS_BY_INDEX_QUERY = """
+			DELETE FROM %TABLE_NAME%
+			WHERE PRIMARY_ID IN (
+				SELECT SI.SESSION_PRIMARY_ID
+				FROM %TABLE_NAME%_INDEXES SI
+				WHERE SI.INDEX_NAME = ?
+				AND SI.INDEX_VALUE = ?
+			)
+			AND MAX_INACTIVE_INTERVAL >= 0
+			""";
+
 	private static final String DELETE_SESSIONS_BY_EXPIRY_TIME_QUERY = """
 			DELETE FROM %TABLE_NAME%
 			WHERE EXPIRY_TIME < ?
 			""";
 
+	private static final String SESSION_IDS_PLACEHOLDER = "%SESSION_IDS%";
+
+	private static final int MAX_SESSION_IDS_PER_QUERY = 1000;
+
 	private static final Log logger = LogFactory.getLog(JdbcIndexedSessionRepository.class);
 
+	private static final ResultSetExtractor<List<SessionMetadata>> SESSION_METADATA_EXTRACTOR = new SessionMetadataResultSetExtractor();
+
 	private final JdbcOperations jdbcOperations;
 
 	private final TransactionOperations transactionOperations;
@@ -226,6 +329,8 @@ public class JdbcIndexedSessionRepository implements
 
 	private String getSessionQuery;
 
+	private String getSessionsQuery;
+
 	private String updateSessionQuery;
 
 	private String updateSessionAttributeQuery;
@@ -234,14 +339,32 @@ public class JdbcIndexedSessionRepository implements
 
 	private String deleteSessionQuery;
 
+	private String deleteSessionsQuery;
+
 	private String listSessionsByPrincipalNameQuery;
 
+	private String listSessionMetadataByPrincipalNameQuery;
+
+	private String listSessionsByIndexQuery;
+
+	private String listSessionMetadataByIndexQuery;
+
+	private String createSessionIndexQuery;
+
+	private String deleteSessionIndexesQuery;
+
+	private String deleteSessionsByPrincipalNameQuery;
+
+	private String deleteSessionsByIndexQuery;
+
 	private String deleteSessionsByExpiryTimeQuery;
 
 	private Duration defaultMaxInactiveInterval = Duration.ofSeconds(MapSession.DEFAULT_MAX_INACTIVE_INTERVAL_SECONDS);
 
 	private IndexResolver<Session> indexResolver = new DelegatingIndexResolver<>(new PrincipalNameIndexResolver<>());
 
+	private boolean secondaryIndexesEnabled;
+
 	private ConversionService conversionService = createDefaultConversionService();
 
 	private LobHandler lobHandler = new DefaultLobHandler();
@@ -250,6 +373,8 @@ public class JdbcIndexedSessionRepository implements
 
 	private SaveMode saveMode = SaveMode.ON_SET_ATTRIBUTE;
 
+	private boolean skipUnmodifiedAttributes;
+
 	private String cleanupCron = DEFAULT_CLEANUP_CRON;
 
 	private ThreadPoolTaskScheduler taskScheduler;
@@ -329,6 +454,18 @@ public class JdbcIndexedSessionRepository implements
 		this.getSessionQuery = getQuery(getSessionQuery);
 	}
 
+	/**
+	 * Set the custom SQL query used to retrieve multiple sessions. The
+	 * {@code %SESSION_IDS%} placeholder is replaced with one bind parameter per session
+	 * id.
+	 * @param getSessionsQuery the SQL query string
+	 * @since 3.5
+	 */
+	public void setGetSessionsQuery(String getSessionsQuery) {
+		Assert.hasText(getSessionsQuery, "Query must not be empty");
+		this.getSessionsQuery = getQuery(getSessionsQuery);
+	}
+
 	/**
 	 * Set the custom SQL query used to update the session.
 	 * @param updateSessionQuery the SQL query string
@@ -365,6 +502,18 @@ public class JdbcIndexedSessionRepository implements
 		this.deleteSessionQuery = getQuery(deleteSessionQuery);
 	}
 
+	/**
+	 * Set the custom SQL query used to delete multiple sessions. The
+	 * {@code %SESSION_IDS%} placeholder is replaced with one bind parameter per session
+	 * id.
+	 * @param deleteSessionsQuery the SQL query string
+	 * @since 3.5
+	 */
+	public void setDeleteSessionsQuery(String deleteSessionsQuery) {
+		Assert.hasText(deleteSessionsQuery, "Query must not be empty");
+		this.deleteSessionsQuery = getQuery(deleteSessionsQuery);
+	}
+
 	/**
 	 * Set the custom SQL query used to retrieve the sessions by principal name.
 	 * @param listSessionsByPrincipalNameQuery the SQL query string
@@ -374,6 +523,81 @@ public class JdbcIndexedSessionRepository implements
 		this.listSessionsByPrincipalNameQuery = getQuery(listSessionsByPrincipalNameQuery);
 	}
 
+	/**
+	 * Set the custom SQL query used to retrieve the metadata of the sessions by principal
+	 * name. The query must not select the attribute values.
+	 * @param listSessionMetadataByPrincipalNameQuery the SQL query string
+	 * @since 3.5
+	 */
+	public void setListSessionMetadataByPrincipalNameQuery(String listSessionMetadataByPrincipalNameQuery) {
+		Assert.hasText(listSessionMetadataByPrincipalNameQuery, "Query must not be empty");
+		this.listSessionMetadataByPrincipalNameQuery = getQuery(listSessionMetadataByPrincipalNameQuery);
+	}
+
+	/**
+	 * Set the custom SQL query used to retrieve the sessions by the name and value of an
+	 * index other than the principal name.
+	 * @param listSessionsByIndexQuery the SQL query string
+	 * @since 3.5
+	 */
+	public void setListSessionsByIndexQuery(String listSessionsByIndexQuery) {
+		Assert.hasText(listSessionsByIndexQuery, "Query must not be empty");
+		this.listSessionsByIndexQuery = getQuery(listSessionsByIndexQuery);
+	}
+
+	/**
+	 * Set the custom SQL query used to retrieve the metadata of the sessions by the name
+	 * and value of an index other than the principal name. The query must not select the
+	 * attribute values.
+	 * @param listSessionMetadataByIndexQuery the SQL query string
+	 * @since 3.5
+	 */
+	public void setListSessionMetadataByIndexQuery(String listSessionMetadataByIndexQuery) {
+		Assert.hasText(listSessionMetadataByIndexQuery, "Query must not be empty");
+		this.listSessionMetadataByIndexQuery = getQuery(listSessionMetadataByIndexQuery);
+	}
+
+	/**
+	 * Set the custom SQL query used to create a session index.
+	 * @param createSessionIndexQuery the SQL query string
+	 * @since 3.5
+	 */
+	public void setCreateSessionIndexQuery(String createSessionIndexQuery) {
+		Assert.hasText(createSessionIndexQuery, "Query must not be empty");
+		this.createSessionIndexQuery = getQuery(createSessionIndexQuery);
+	}
+
+	/**
+	 * Set the custom SQL query used to delete the indexes of a session.
+	 * @param deleteSessionIndexesQuery the SQL query string
+	 * @since 3.5
+	 */
+	public void setDeleteSessionIndexesQuery(String deleteSessionIndexesQuery) {
+		Assert.hasText(deleteSessionIndexesQuery, "Query must not be empty");
+		this.deleteSessionIndexesQuery = getQuery(deleteSessionIndexesQuery);
+	}
+
+	/**
+	 * Set the custom SQL query used to delete the sessions of a principal.
+	 * @param deleteSessionsByPrincipalNameQuery the SQL query string
+	 * @since 3.5
+	 */
+	public void setDeleteSessionsByPrincipalNameQuery(String deleteSessionsByPrincipalNameQuery) {
+		Assert.hasText(deleteSessionsByPrincipalNameQuery, "Query must not be empty");
+		this.deleteSessionsByPrincipalNameQuery = getQuery(deleteSessionsByPrincipalNameQuery);
+	}
+
+	/**
+	 * Set the custom SQL query used to delete the sessions by the name and value of an
+	 * index other than the principal name.
+	 * @param deleteSessionsByIndexQuery the SQL query string
+	 * @since 3.5
+	 */
+	public void setDeleteSessionsByIndexQuery(String deleteSessionsByIndexQuery) {
+		Assert.hasText(deleteSessionsByIndexQuery, "Query must not be empty");
+		this.deleteSessionsByIndexQuery = getQuery(deleteSessionsByIndexQuery);
+	}
+
 	/**
 	 * Set the custom SQL query used to delete the sessions by last access time.
 	 * @param deleteSessionsByExpiryTimeQuery the SQL query string
@@ -408,7 +632,10 @@ public class JdbcIndexedSessionRepository implements
 	}
 
 	/**
-	 * Set the {@link IndexResolver} to use.
+	 * Set the {@link IndexResolver} to use. The principal name index is stored in the
+	 * {@code PRINCIPAL_NAME} column. Any other index resolved by a custom resolver is
+	 * only stored if {@link #setSecondaryIndexesEnabled(boolean) secondary indexes are
+	 * enabled}.
 	 * @param indexResolver the index resolver
 	 */
 	public void setIndexResolver(IndexResolver<Session> indexResolver) {
@@ -416,6 +643,18 @@ public class JdbcIndexedSessionRepository implements
 		this.indexResolver = indexResolver;
 	}
 
+	/**
+	 * Set whether the indexes other than the principal name resolved by the
+	 * {@link IndexResolver} are stored in the table named using the configured table name
+	 * suffixed with {@code _INDEXES}, so that sessions can be found and deleted by them.
+	 * The table must exist when enabled. Default is {@code false}.
+	 * @param secondaryIndexesEnabled whether to store secondary indexes
+	 * @since 3.5
+	 */
+	public void setSecondaryIndexesEnabled(boolean secondaryIndexesEnabled) {
+		this.secondaryIndexesEnabled = secondaryIndexesEnabled;
+	}
+
 	public void setLobHandler(LobHandler lobHandler) {
 		Assert.notNull(lobHandler, "LobHandler must not be null");
 		this.lobHandler = lobHandler;
@@ -448,6 +687,19 @@ public class JdbcIndexedSessionRepository implements
 		this.saveMode = saveMode;
 	}
 
+	/**
+	 * Set whether attributes that are saved because they were read, as with
+	 * {@link SaveMode#ON_GET_ATTRIBUTE} and {@link SaveMode#ALWAYS}, should be skipped
+	 * when their serialized form did not change since the session was loaded. Doing so
+	 * serializes every such attribute on save, and avoids overwriting the changes made to
+	 * it by parallel requests. Default is {@code false}.
+	 * @param skipUnmodifiedAttributes whether to skip unmodified attributes
+	 * @since 3.5
+	 */
+	public void setSkipUnmodifiedAttributes(boolean skipUnmodifiedAttributes) {
+		this.skipUnmodifiedAttributes = skipUnmodifiedAttributes;
+	}
+
 	/**
 	 * Set the cleanup cron expression.
 	 * @param cleanupCron the cleanup cron expression
@@ -477,6 +729,18 @@ public class JdbcIndexedSessionRepository implements
 		session.save();
 	}
 
+	/**
+	 * Return a {@link SessionCopier} creating independent copies of the sessions loaded
+	 * by this repository, for instance to coalesce concurrent lookups of the same session
+	 * with a {@link org.springframework.session.SingleFlightSessionRepository}.
+	 * @return the session copier
+	 * @since 3.5
+	 */
+	@Override
+	public SessionCopier<JdbcSession> getSessionCopier() {
+		return (session) -> new JdbcSession(LazySessionAttribute.copyOf(session.delegate), session.primaryKey, false);
+	}
+
 	@Override
 	public JdbcSession findById(final String id) {
 		final JdbcSession session = this.transactionOperations.execute((status) -> {
@@ -506,17 +770,96 @@ public class JdbcIndexedSessionRepository implements
 			.update(JdbcIndexedSessionRepository.this.deleteSessionQuery, id));
 	}
 
+	/**
+	 * Loads all the sessions in a single transaction, using one query per
+	 * {@value #MAX_SESSION_IDS_PER_QUERY} session ids.
+	 * @param ids the session ids to lookup
+	 * @return the sessions that were found, keyed by id
+	 */
+	@Override
+	public Map<String, JdbcSession> findByIds(Collection<String> ids) {
+		Assert.notNull(ids, "ids must not be null");
+		if (ids.size() <= 1) {
+			return FindByIndexNameSessionRepository.super.findByIds(ids);
+		}
+		List<String> sessionIds = new ArrayList<>(ids);
+		List<JdbcSession> sessions = this.transactionOperations.execute((status) -> {
+			List<JdbcSession> result = new ArrayList<>(sessionIds.size());
+			for (int i = 0; i < sessionIds.size(); i += MAX_SESSION_IDS_PER_QUERY) {
+				List<String> chunk = sessionIds.subList(i, Math.min(i + MAX_SESSION_IDS_PER_QUERY, sessionIds.size()));
+				result.addAll(JdbcIndexedSessionRepository.this.jdbcOperations.query(
+						getInQuery(JdbcIndexedSessionRepository.this.getSessionsQuery, chunk.size()),
+						JdbcIndexedSessionRepository.this.extractor, chunk.toArray()));
+			}
+			return result;
+		});
+		Map<String, JdbcSession> sessionMap = CollectionUtils.newLinkedHashMap(sessions.size());
+		List<String> expiredIds = new ArrayList<>();
+		for (JdbcSession session : sessions) {
+			if (session.isExpired()) {
+				expiredIds.add(session.getId());
+			}
+			else {
+				sessionMap.put(session.getId(), session);
+			}
+		}
+		if (!expiredIds.isEmpty()) {
+			deleteByIds(expiredIds);
+		}
+		return sessionMap;
+	}
+
+	/**
+	 * Deletes all the sessions in a single transaction, using one statement per
+	 * {@value #MAX_SESSION_IDS_PER_QUERY} session ids.
+	 * @param ids the session ids to delete
+	 */
+	@Override
+	public void deleteByIds(Collection<String> ids) {
+		Assert.notNull(ids, "ids must not be null");
+		if (ids.isEmpty()) {
+			return;
+		}
+		List<String> sessionIds = new ArrayList<>(ids);
+		this.transactionOperations.executeWithoutResult((status) -> {
+			for (int i = 0; i < sessionIds.size(); i += MAX_SESSION_IDS_PER_QUERY) {
+				List<String> chunk = sessionIds.subList(i, Math.min(i + MAX_SESSION_IDS_PER_QUERY, sessionIds.size()));
+				JdbcIndexedSessionRepository.this.jdbcOperations.update(
+						getInQuery(JdbcIndexedSessionRepository.this.deleteSessionsQuery, chunk.size()),
+						chunk.toArray());
+			}
+		});
+	}
+
+	/**
+	 * Saves all the sessions in a single transaction.
+	 * @param sessions the sessions to save
+	 */
+	@Override
+	public void saveAll(Collection<JdbcSession> sessions) {
+		Assert.notNull(sessions, "sessions must not be null");
+		this.transactionOperations.executeWithoutResult((status) -> sessions.forEach(this::save));
+	}
+
 	@Override
 	public Map<String, JdbcSession> findByIndexNameAndIndexValue(String indexName, final String indexValue) {
-		if (!PRINCIPAL_NAME_INDEX_NAME.equals(indexName)) {
+		List<JdbcSession> sessions;
+		if (PRINCIPAL_NAME_INDEX_NAME.equals(indexName)) {
+			sessions = this.transactionOperations.execute((status) -> JdbcIndexedSessionRepository.this.jdbcOperations
+				.query(JdbcIndexedSessionRepository.this.listSessionsByPrincipalNameQuery,
+						(ps) -> ps.setString(1, indexValue), JdbcIndexedSessionRepository.this.extractor));
+		}
+		else if (this.secondaryIndexesEnabled) {
+			sessions = this.transactionOperations.execute((status) -> JdbcIndexedSessionRepository.this.jdbcOperations
+				.query(JdbcIndexedSessionRepository.this.listSessionsByIndexQuery, (ps) -> {
+					ps.setString(1, indexName);
+					ps.setString(2, indexValue);
+				}, JdbcIndexedSessionRepository.this.extractor));
+		}
+		else {
 			return Collections.emptyMap();
 		}
 
-		List<JdbcSession> sessions = this.transactionOperations
-			.execute((status) -> JdbcIndexedSessionRepository.this.jdbcOperations.query(
-					JdbcIndexedSessionRepository.this.listSessionsByPrincipalNameQuery,
-					(ps) -> ps.setString(1, indexValue), JdbcIndexedSessionRepository.this.extractor));
-
 		Map<String, JdbcSession> sessionMap = new HashMap<>(sessions.size());
 
 		for (JdbcSession session : sessions) {
@@ -526,6 +869,52 @@ public class JdbcIndexedSessionRepository implements
 		return sessionMap;
 	}
 
+	/**
+	 * Loads the metadata of the sessions with a column-only query that does not read the
+	 * attribute values.
+	 * @param indexName the name of the index
+	 * @param indexValue the value of the index to search for
+	 * @return the metadata of the sessions that have not expired
+	 */
+	@Override
+	public Stream<SessionMetadata> findSessionMetadataByIndexNameAndIndexValue(String indexName,
+			final String indexValue) {
+		List<SessionMetadata> sessions;
+		if (PRINCIPAL_NAME_INDEX_NAME.equals(indexName)) {
+			sessions = this.transactionOperations.execute((status) -> JdbcIndexedSessionRepository.this.jdbcOperations
+				.query(JdbcIndexedSessionRepository.this.listSessionMetadataByPrincipalNameQuery,
+						(ps) -> ps.setString(1, indexValue), SESSION_METADATA_EXTRACTOR));
+		}
+		else if (this.secondaryIndexesEnabled) {
+			sessions = this.transactionOperations.execute((status) -> JdbcIndexedSessionRepository.this.jdbcOperations
+				.query(JdbcIndexedSessionRepository.this.listSessionMetadataByIndexQuery, (ps) -> {
+					ps.setString(1, indexName);
+					ps.setString(2, indexValue);
+				}, SESSION_METADATA_EXTRACTOR));
+		}
+		else {
+			return Stream.empty();
+		}
+		return sessions.stream().filter((metadata) -> !metadata.isExpired());
+	}
+
+	/**
+	 * Deletes the sessions with a single statement, without loading them.
+	 * @param indexName the name of the index
+	 * @param indexValue the value of the index to search for
+	 */
+	@Override
+	public void deleteByIndexNameAndIndexValue(String indexName, final String indexValue) {
+		if (PRINCIPAL_NAME_INDEX_NAME.equals(indexName)) {
+			this.transactionOperations.executeWithoutResult((status) -> JdbcIndexedSessionRepository.this.jdbcOperations
+				.update(JdbcIndexedSessionRepository.this.deleteSessionsByPrincipalNameQuery, indexValue));
+		}
+		else if (this.secondaryIndexesEnabled) {
+			this.transactionOperations.executeWithoutResult((status) -> JdbcIndexedSessionRepository.this.jdbcOperations
+				.update(JdbcIndexedSessionRepository.this.deleteSessionsByIndexQuery, indexName, indexValue));
+		}
+	}
+
 	private void insertSessionAttributes(JdbcSession session, List<String> attributeNames) {
 		Assert.notEmpty(attributeNames, "attributeNames must not be null or empty");
 		try (LobCreator lobCreator = this.lobHandler.getLobCreator()) {
@@ -539,7 +928,7 @@ public class JdbcIndexedSessionRepository implements
 									String attributeName = attributeNames.get(i);
 									ps.setString(1, session.primaryKey);
 									ps.setString(2, attributeName);
-									lobCreator.setBlobAsBytes(ps, 3, serialize(session.getAttribute(attributeName)));
+									lobCreator.setBlobAsBytes(ps, 3, serializeAttribute(session, attributeName));
 								}
 
 								@Override
@@ -566,7 +955,7 @@ public class JdbcIndexedSessionRepository implements
 						String attributeName = attributeNames.get(0);
 						ps.setString(1, session.primaryKey);
 						ps.setString(2, attributeName);
-						lobCreator.setBlobAsBytes(ps, 3, serialize(session.getAttribute(attributeName)));
+						lobCreator.setBlobAsBytes(ps, 3, serializeAttribute(session, attributeName));
 					});
 				}
 				catch (DuplicateKeyException ex) {
@@ -583,33 +972,34 @@ public class JdbcIndexedSessionRepository implements
 		}
 	}
 
-	private void updateSessionAttributes(JdbcSession session, List<String> attributeNames) {
-		Assert.notEmpty(attributeNames, "attributeNames must not be null or empty");
+	private void updateSessionAttributes(JdbcSession session, Map<String, byte[]> attributes) {
+		Assert.notEmpty(attributes, "attributes must not be null or empty");
+		List<Map.Entry<String, byte[]>> entries = new ArrayList<>(attributes.entrySet());
 		try (LobCreator lobCreator = this.lobHandler.getLobCreator()) {
-			if (attributeNames.size() > 1) {
+			if (entries.size() > 1) {
 				this.jdbcOperations.batchUpdate(this.updateSessionAttributeQuery, new BatchPreparedStatementSetter() {
 
 					@Override
 					public void setValues(PreparedStatement ps, int i) throws SQLException {
-						String attributeName = attributeNames.get(i);
-						lobCreator.setBlobAsBytes(ps, 1, serialize(session.getAttribute(attributeName)));
+						Map.Entry<String, byte[]> entry = entries.get(i);
+						lobCreator.setBlobAsBytes(ps, 1, entry.getValue());
 						ps.setString(2, session.primaryKey);
-						ps.setString(3, attributeName);
+						ps.setString(3, entry.getKey());
 					}
 
 					@Override
 					public int getBatchSize() {
-						return attributeNames.size();
+						return entries.size();
 					}
 
 				});
 			}
 			else {
 				this.jdbcOperations.update(this.updateSessionAttributeQuery, (ps) -> {
-					String attributeName = attributeNames.get(0);
-					lobCreator.setBlobAsBytes(ps, 1, serialize(session.getAttribute(attributeName)));
+					Map.Entry<String, byte[]> entry = entries.get(0);
+					lobCreator.setBlobAsBytes(ps, 1, entry.getValue());
 					ps.setString(2, session.primaryKey);
-					ps.setString(3, attributeName);
+					ps.setString(3, entry.getKey());
 				});
 			}
 		}
@@ -643,6 +1033,32 @@ public class JdbcIndexedSessionRepository implements
 		}
 	}
 
+	private void saveSessionIndexes(JdbcSession session, Map<String, String> indexes, boolean isNew) {
+		if (!isNew) {
+			this.jdbcOperations.update(this.deleteSessionIndexesQuery, session.primaryKey);
+		}
+		List<Map.Entry<String, String>> entries = new ArrayList<>(indexes.entrySet());
+		if (entries.isEmpty()) {
+			return;
+		}
+		this.jdbcOperations.batchUpdate(this.createSessionIndexQuery, new BatchPreparedStatementSetter() {
+
+			@Override
+			public void setValues(PreparedStatement ps, int i) throws SQLException {
+				Map.Entry<String, String> index = entries.get(i);
+				ps.setString(1, session.primaryKey);
+				ps.setString(2, index.getKey());
+				ps.setString(3, index.getValue());
+			}
+
+			@Override
+			public int getBatchSize() {
+				return entries.size();
+			}
+
+		});
+	}
+
 	public void cleanUpExpiredSessions() {
 		Integer deletedCount = this.transactionOperations
 			.execute((status) -> JdbcIndexedSessionRepository.this.jdbcOperations
@@ -664,15 +1080,28 @@ public class JdbcIndexedSessionRepository implements
 		return StringUtils.replace(base, "%TABLE_NAME%", this.tableName);
 	}
 
+	private static String getInQuery(String query, int size) {
+		return StringUtils.replace(query, SESSION_IDS_PLACEHOLDER, String.join(", ", Collections.nCopies(size, "?")));
+	}
+
 	private void prepareQueries() {
 		this.createSessionQuery = getQuery(CREATE_SESSION_QUERY);
 		this.createSessionAttributeQuery = getQuery(CREATE_SESSION_ATTRIBUTE_QUERY);
 		this.getSessionQuery = getQuery(GET_SESSION_QUERY);
+		this.getSessionsQuery = getQuery(GET_SESSIONS_QUERY);
 		this.updateSessionQuery = getQuery(UPDATE_SESSION_QUERY);
 		this.updateSessionAttributeQuery = getQuery(UPDATE_SESSION_ATTRIBUTE_QUERY);
 		this.deleteSessionAttributeQuery = getQuery(DELETE_SESSION_ATTRIBUTE_QUERY);
 		this.deleteSessionQuery = getQuery(DELETE_SESSION_QUERY);
+		this.deleteSessionsQuery = getQuery(DELETE_SESSIONS_QUERY);
 		this.listSessionsByPrincipalNameQuery = getQuery(LIST_SESSIONS_BY_PRINCIPAL_NAME_QUERY);
+		this.listSessionMetadataByPrincipalNameQuery = getQuery(LIST_SESSION_METADATA_BY_PRINCIPAL_NAME_QUERY);
+		this.listSessionsByIndexQuery = getQuery(LIST_SESSIONS_BY_INDEX_QUERY);
+		this.listSessionMetadataByIndexQuery = getQuery(LIST_SESSION_METADATA_BY_INDEX_QUERY);
+		this.createSessionIndexQuery = getQuery(CREATE_SESSION_INDEX_QUERY);
+		this.deleteSessionIndexesQuery = getQuery(DELETE_SESSION_INDEXES_QUERY);
+		this.deleteSessionsByPrincipalNameQuery = getQuery(DELETE_SESSIONS_BY_PRINCIPAL_NAME_QUERY);
+		this.deleteSessionsByIndexQuery = getQuery(DELETE_SESSIONS_BY_INDEX_QUERY);
 		this.deleteSessionsByExpiryTimeQuery = getQuery(DELETE_SESSIONS_BY_EXPIRY_TIME_QUERY);
 	}
 
@@ -685,6 +1114,28 @@ public class JdbcIndexedSessionRepository implements
 				TypeDescriptor.valueOf(byte[].class));
 	}
 
+	private byte[] serializeAttribute(JdbcSession session, String attributeName) {
+		Object value = session.delegate.getStoredAttribute(attributeName);
+		byte[] untouched = LazySessionAttribute.getUntouchedSerializedValue(value);
+		return (untouched != null) ? untouched : serialize(LazySessionAttribute.resolve(value));
+	}
+
+	/**
+	 * Serialize an updated attribute, unless unmodified attributes are skipped and its
+	 * content did not change since it was loaded.
+	 * @param session the session
+	 * @param attributeName the attribute name
+	 * @return the serialized value or {@code null} if the attribute must not be saved
+	 */
+	private byte[] serializeUpdatedAttribute(JdbcSession session, String attributeName) {
+		if (this.skipUnmodifiedAttributes
+				&& session.delegate.getStoredAttribute(attributeName) instanceof LazySessionAttribute lazy) {
+			LazySessionAttribute modified = lazy.getIfModified();
+			return (modified != null) ? modified.getSerializedValue() : null;
+		}
+		return serializeAttribute(session, attributeName);
+	}
+
 	private Object deserialize(byte[] bytes) {
 		return this.conversionService.convert(bytes, TypeDescriptor.valueOf(byte[].class),
 				TypeDescriptor.valueOf(Object.class));
@@ -706,28 +1157,6 @@ public class JdbcIndexedSessionRepository implements
 
 	}
 
-	private static <T> Supplier<T> value(T value) {
-		return (value != null) ? () -> value : null;
-	}
-
-	private static <T> Supplier<T> lazily(Supplier<T> supplier) {
-		Supplier<T> lazySupplier = new Supplier<T>() {
-
-			private T value;
-
-			@Override
-			public T get() {
-				if (this.value == null) {
-					this.value = supplier.get();
-				}
-				return this.value;
-			}
-
-		};
-
-		return (supplier != null) ? lazySupplier : null;
-	}
-
 	/**
 	 * The {@link Session} to use for {@link JdbcIndexedSessionRepository}.
 	 *
@@ -745,6 +1174,10 @@ public class JdbcIndexedSessionRepository implements
 
 		private Map<String, DeltaValue> delta = new HashMap<>();
 
+		private Map<String, String> indexes;
+
+		private Map<String, String> originalIndexes;
+
 		JdbcSession(MapSession delegate, String primaryKey, boolean isNew) {
 			this.delegate = delegate;
 			this.primaryKey = primaryKey;
@@ -770,6 +1203,7 @@ public class JdbcIndexedSessionRepository implements
 			this.isNew = false;
 			this.changed = false;
 			this.delta.clear();
+			this.originalIndexes = null;
 		}
 
 		Instant getExpiryTime() {
@@ -794,11 +1228,7 @@ public class JdbcIndexedSessionRepository implements
 
 		@Override
 		public <T> T getAttribute(String attributeName) {
-			Supplier<T> supplier = this.delegate.getAttribute(attributeName);
-			if (supplier == null) {
-				return null;
-			}
-			T attributeValue = supplier.get();
+			T attributeValue = this.delegate.getAttribute(attributeName);
 			if (attributeValue != null
 					&& JdbcIndexedSessionRepository.this.saveMode.equals(SaveMode.ON_GET_ATTRIBUTE)) {
 				this.delta.merge(attributeName, DeltaValue.UPDATED, (oldDeltaValue,
@@ -814,7 +1244,7 @@ public class JdbcIndexedSessionRepository implements
 
 		@Override
 		public void setAttribute(String attributeName, Object attributeValue) {
-			boolean attributeExists = (this.delegate.getAttribute(attributeName) != null);
+			boolean attributeExists = (this.delegate.getStoredAttribute(attributeName) != null);
 			boolean attributeRemoved = (attributeValue == null);
 			if (!attributeExists && attributeRemoved) {
 				return;
@@ -833,7 +1263,12 @@ public class JdbcIndexedSessionRepository implements
 				this.delta.merge(attributeName, DeltaValue.ADDED, (oldDeltaValue,
 						deltaValue) -> (oldDeltaValue == DeltaValue.ADDED) ? oldDeltaValue : DeltaValue.UPDATED);
 			}
-			this.delegate.setAttribute(attributeName, value(attributeValue));
+			if (JdbcIndexedSessionRepository.this.secondaryIndexesEnabled && !this.isNew
+					&& this.originalIndexes == null) {
+				this.originalIndexes = resolveIndexes();
+			}
+			this.delegate.setAttribute(attributeName, attributeValue);
+			this.indexes = null;
 			if (PRINCIPAL_NAME_INDEX_NAME.equals(attributeName) || SPRING_SECURITY_CONTEXT.equals(attributeName)) {
 				this.changed = true;
 			}
@@ -885,11 +1320,29 @@ public class JdbcIndexedSessionRepository implements
 			}
 		}
 
+		/**
+		 * Resolve the indexes of this session, reusing the indexes resolved by a previous
+		 * save as long as no attribute changed.
+		 * @return the resolved indexes
+		 */
+		private Map<String, String> resolveIndexes() {
+			if (this.indexes == null) {
+				this.indexes = JdbcIndexedSessionRepository.this.indexResolver.resolveIndexesFor(this);
+			}
+			return this.indexes;
+		}
+
+		private Map<String, String> getSecondaryIndexes(Map<String, String> indexes) {
+			Map<String, String> secondaryIndexes = new HashMap<>(indexes);
+			secondaryIndexes.remove(PRINCIPAL_NAME_INDEX_NAME);
+			secondaryIndexes.values().removeIf(Objects::isNull);
+			return secondaryIndexes;
+		}
+
 		private void save() {
 			if (this.isNew) {
 				JdbcIndexedSessionRepository.this.transactionOperations.executeWithoutResult((status) -> {
-					Map<String, String> indexes = JdbcIndexedSessionRepository.this.indexResolver
-						.resolveIndexesFor(JdbcSession.this);
+					Map<String, String> indexes = resolveIndexes();
 					JdbcIndexedSessionRepository.this.jdbcOperations
 						.update(JdbcIndexedSessionRepository.this.createSessionQuery, (ps) -> {
 							ps.setString(1, JdbcSession.this.primaryKey);
@@ -904,13 +1357,18 @@ public class JdbcIndexedSessionRepository implements
 					if (!attributeNames.isEmpty()) {
 						insertSessionAttributes(JdbcSession.this, new ArrayList<>(attributeNames));
 					}
+					if (JdbcIndexedSessionRepository.this.secondaryIndexesEnabled) {
+						Map<String, String> secondaryIndexes = getSecondaryIndexes(indexes);
+						if (!secondaryIndexes.isEmpty()) {
+							saveSessionIndexes(JdbcSession.this, secondaryIndexes, true);
+						}
+					}
 				});
 			}
 			else {
 				JdbcIndexedSessionRepository.this.transactionOperations.executeWithoutResult((status) -> {
 					if (JdbcSession.this.changed) {
-						Map<String, String> indexes = JdbcIndexedSessionRepository.this.indexResolver
-							.resolveIndexesFor(JdbcSession.this);
+						Map<String, String> indexes = resolveIndexes();
 						JdbcIndexedSessionRepository.this.jdbcOperations
 							.update(JdbcIndexedSessionRepository.this.updateSessionQuery, (ps) -> {
 								ps.setString(1, getId());
@@ -929,13 +1387,17 @@ public class JdbcIndexedSessionRepository implements
 					if (!addedAttributeNames.isEmpty()) {
 						insertSessionAttributes(JdbcSession.this, addedAttributeNames);
 					}
-					List<String> updatedAttributeNames = JdbcSession.this.delta.entrySet()
-						.stream()
-						.filter((entry) -> entry.getValue() == DeltaValue.UPDATED)
-						.map(Map.Entry::getKey)
-						.collect(Collectors.toList());
-					if (!updatedAttributeNames.isEmpty()) {
-						updateSessionAttributes(JdbcSession.this, updatedAttributeNames);
+					Map<String, byte[]> updatedAttributes = new LinkedHashMap<>();
+					JdbcSession.this.delta.forEach((attributeName, deltaValue) -> {
+						if (deltaValue == DeltaValue.UPDATED) {
+							byte[] bytes = serializeUpdatedAttribute(JdbcSession.this, attributeName);
+							if (bytes != null) {
+								updatedAttributes.put(attributeName, bytes);
+							}
+						}
+					});
+					if (!updatedAttributes.isEmpty()) {
+						updateSessionAttributes(JdbcSession.this, updatedAttributes);
 					}
 					List<String> removedAttributeNames = JdbcSession.this.delta.entrySet()
 						.stream()
@@ -945,6 +1407,12 @@ public class JdbcIndexedSessionRepository implements
 					if (!removedAttributeNames.isEmpty()) {
 						deleteSessionAttributes(JdbcSession.this, removedAttributeNames);
 					}
+					if (JdbcSession.this.originalIndexes != null) {
+						Map<String, String> secondaryIndexes = getSecondaryIndexes(resolveIndexes());
+						if (!secondaryIndexes.equals(getSecondaryIndexes(JdbcSession.this.originalIndexes))) {
+							saveSessionIndexes(JdbcSession.this, secondaryIndexes, false);
+						}
+					}
 				});
 			}
 			clearChangeFlags();
@@ -952,37 +1420,91 @@ public class JdbcIndexedSessionRepository implements
 
 	}
 
+	private static final class SessionMetadataResultSetExtractor implements ResultSetExtractor<List<SessionMetadata>> {
+
+		@Override
+		public List<SessionMetadata> extractData(ResultSet rs) throws SQLException, DataAccessException {
+			Map<String, SessionMetadataBuilder> sessions = new LinkedHashMap<>();
+			while (rs.next()) {
+				String id = rs.getString("SESSION_ID");
+				SessionMetadataBuilder session = sessions.get(id);
+				if (session == null) {
+					session = new SessionMetadataBuilder(id, rs.getLong("CREATION_TIME"),
+							rs.getLong("LAST_ACCESS_TIME"), rs.getInt("MAX_INACTIVE_INTERVAL"),
+							rs.getString("PRINCIPAL_NAME"));
+					sessions.put(id, session);
+				}
+				String attributeName = rs.getString("ATTRIBUTE_NAME");
+				if (attributeName != null) {
+					session.attributeNames.add(attributeName);
+				}
+			}
+			List<SessionMetadata> result = new ArrayList<>(sessions.size());
+			for (SessionMetadataBuilder session : sessions.values()) {
+				result.add(session.build());
+			}
+			return result;
+		}
+
+	}
+
+	private static final class SessionMetadataBuilder {
+
+		private final String id;
+
+		private final long creationTime;
+
+		private final long lastAccessTime;
+
+		private final int maxInactiveInterval;
+
+		private final String principalName;
+
+		private final Set<String> attributeNames = new LinkedHashSet<>();
+
+		SessionMetadataBuilder(String id, long creationTime, long lastAccessTime, int maxInactiveInterval,
+				String principalName) {
+			this.id = id;
+			this.creationTime = creationTime;
+			this.lastAccessTime = lastAccessTime;
+			this.maxInactiveInterval = maxInactiveInterval;
+			this.principalName = principalName;
+		}
+
+		SessionMetadata build() {
+			return new SessionMetadata(this.id, Instant.ofEpochMilli(this.creationTime),
+					Instant.ofEpochMilli(this.lastAccessTime), Duration.ofSeconds(this.maxInactiveInterval),
+					this.principalName, this.attributeNames);
+		}
+
+	}
+
 	private class SessionResultSetExtractor implements ResultSetExtractor<List<JdbcSession>> {
 
 		@Override
 		public List<JdbcSession> extractData(ResultSet rs) throws SQLException, DataAccessException {
-			List<JdbcSession> sessions = new ArrayList<>();
+			Map<String, JdbcSession> sessions = new LinkedHashMap<>();
 			while (rs.next()) {
 				String id = rs.getString("SESSION_ID");
-				JdbcSession session;
-				if (sessions.size() > 0 && getLast(sessions).getId().equals(id)) {
-					session = getLast(sessions);
-				}
-				else {
+				JdbcSession session = sessions.get(id);
+				if (session == null) {
 					MapSession delegate = new MapSession(id);
 					String primaryKey = rs.getString("PRIMARY_ID");
 					delegate.setCreationTime(Instant.ofEpochMilli(rs.getLong("CREATION_TIME")));
 					delegate.setLastAccessedTime(Instant.ofEpochMilli(rs.getLong("LAST_ACCESS_TIME")));
 					delegate.setMaxInactiveInterval(Duration.ofSeconds(rs.getInt("MAX_INACTIVE_INTERVAL")));
 					session = new JdbcSession(delegate, primaryKey, false);
+					sessions.put(id, session);
 				}
 				String attributeName = rs.getString("ATTRIBUTE_NAME");
 				if (attributeName != null) {
 					byte[] bytes = getLobHandler().getBlobAsBytes(rs, "ATTRIBUTE_BYTES");
-					session.delegate.setAttribute(attributeName, lazily(() -> deserialize(bytes)));
+					session.delegate.setAttribute(attributeName,
+							LazySessionAttribute.of(bytes, JdbcIndexedSessionRepository.this::deserialize,
+									JdbcIndexedSessionRepository.this::serialize));
 				}
-				sessions.add(session);
 			}
-			return sessions;
-		}
-
-		private JdbcSession getLast(List<JdbcSession> sessions) {
-			return sessions.get(sessions.size() - 1);
+			return new ArrayList<>(sessions.values());
 		}
 
 	}
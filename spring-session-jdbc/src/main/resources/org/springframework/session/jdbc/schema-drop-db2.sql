@@ -1,2 +1,3 @@
+DROP TABLE SPRING_SESSION_INDEXES;
 DROP TABLE SPRING_SESSION_ATTRIBUTES;
 DROP TABLE SPRING_SESSION;
@@ -1,2 +1,3 @@
+DROP TABLE IF EXISTS SPRING_SESSION_INDEXES;
 DROP TABLE IF EXISTS SPRING_SESSION_ATTRIBUTES;
 DROP TABLE IF EXISTS SPRING_SESSION;
@@ -20,3 +20,13 @@ CREATE TABLE SPRING_SESSION_ATTRIBUTES (
 	CONSTRAINT SPRING_SESSION_ATTRIBUTES_PK PRIMARY KEY (SESSION_PRIMARY_ID, ATTRIBUTE_NAME),
 	CONSTRAINT SPRING_SESSION_ATTRIBUTES_FK FOREIGN KEY (SESSION_PRIMARY_ID) REFERENCES SPRING_SESSION(PRIMARY_ID) ON DELETE CASCADE
 ) LOCK DATAROWS;
+
+CREATE TABLE SPRING_SESSION_INDEXES (
+	SESSION_PRIMARY_ID CHAR(36) NOT NULL,
+	INDEX_NAME VARCHAR(200) NOT NULL,
+	INDEX_VALUE VARCHAR(200) NOT NULL,
+	CONSTRAINT SPRING_SESSION_INDEXES_PK PRIMARY KEY (SESSION_PRIMARY_ID, INDEX_NAME),
+	CONSTRAINT SPRING_SESSION_INDEXES_FK FOREIGN KEY (SESSION_PRIMARY_ID) REFERENCES SPRING_SESSION(PRIMARY_ID) ON DELETE CASCADE
+) LOCK DATAROWS;
+
+CREATE INDEX SPRING_SESSION_INDEXES_IX1 ON SPRING_SESSION_INDEXES (INDEX_NAME, INDEX_VALUE);
@@ -19,11 +19,11 @@ package org.springframework.session.jdbc;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
-import java.util.function.Supplier;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -32,6 +32,8 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
 import org.springframework.jdbc.core.BatchPreparedStatementSetter;
 import org.springframework.jdbc.core.JdbcOperations;
 import org.springframework.jdbc.core.PreparedStatementSetter;
@@ -42,17 +44,23 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.session.DelegatingIndexResolver;
 import org.springframework.session.FindByIndexNameSessionRepository;
 import org.springframework.session.FlushMode;
+import org.springframework.session.LazySessionAttribute;
 import org.springframework.session.MapSession;
+import org.springframework.session.PrincipalNameIndexResolver;
 import org.springframework.session.SaveMode;
 import org.springframework.session.Session;
+import org.springframework.session.SessionMetadata;
 import org.springframework.session.jdbc.JdbcIndexedSessionRepository.JdbcSession;
 import org.springframework.transaction.support.TransactionOperations;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatIllegalArgumentException;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.contains;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.isA;
 import static org.mockito.ArgumentMatchers.matches;
@@ -341,6 +349,63 @@ class JdbcIndexedSessionRepositoryTests {
 		verifyNoMoreInteractions(this.jdbcOperations);
 	}
 
+	@Test
+	void saveNewWithSecondaryIndex() {
+		this.repository.setSecondaryIndexesEnabled(true);
+		this.repository.setIndexResolver(new DelegatingIndexResolver<>(new PrincipalNameIndexResolver<>(),
+				new PrincipalNameIndexResolver<>("tenant")));
+		JdbcSession session = this.repository.createSession();
+		session.setAttribute("tenant", "acme");
+
+		this.repository.save(session);
+
+		verify(this.jdbcOperations, times(1)).update(startsWith("INSERT INTO SPRING_SESSION ("),
+				isA(PreparedStatementSetter.class));
+		verify(this.jdbcOperations, times(1)).update(startsWith("INSERT INTO SPRING_SESSION_ATTRIBUTES ("),
+				isA(PreparedStatementSetter.class));
+		verify(this.jdbcOperations, times(1)).batchUpdate(startsWith("INSERT INTO SPRING_SESSION_INDEXES ("),
+				isA(BatchPreparedStatementSetter.class));
+		verifyNoMoreInteractions(this.jdbcOperations);
+	}
+
+	@Test
+	void saveUpdatedWhenSecondaryIndexChangedThenIndexesReplaced() {
+		this.repository.setSecondaryIndexesEnabled(true);
+		this.repository.setIndexResolver(new DelegatingIndexResolver<>(new PrincipalNameIndexResolver<>(),
+				new PrincipalNameIndexResolver<>("tenant")));
+		MapSession delegate = new MapSession();
+		delegate.setAttribute("tenant", "acme");
+		JdbcSession session = this.repository.new JdbcSession(delegate, "primaryKey", false);
+		session.setAttribute("tenant", "globex");
+
+		this.repository.save(session);
+
+		verify(this.jdbcOperations, times(1)).update(matches("^UPDATE SPRING_SESSION_ATTRIBUTES\\s*SET.*"),
+				isA(PreparedStatementSetter.class));
+		verify(this.jdbcOperations, times(1)).update(startsWith("DELETE FROM SPRING_SESSION_INDEXES"),
+				eq("primaryKey"));
+		verify(this.jdbcOperations, times(1)).batchUpdate(startsWith("INSERT INTO SPRING_SESSION_INDEXES ("),
+				isA(BatchPreparedStatementSetter.class));
+		verifyNoMoreInteractions(this.jdbcOperations);
+	}
+
+	@Test
+	void saveUpdatedWhenSecondaryIndexUnchangedThenIndexesNotSaved() {
+		this.repository.setSecondaryIndexesEnabled(true);
+		this.repository.setIndexResolver(new DelegatingIndexResolver<>(new PrincipalNameIndexResolver<>(),
+				new PrincipalNameIndexResolver<>("tenant")));
+		MapSession delegate = new MapSession();
+		delegate.setAttribute("tenant", "acme");
+		JdbcSession session = this.repository.new JdbcSession(delegate, "primaryKey", false);
+		session.setAttribute("testName", "testValue");
+
+		this.repository.save(session);
+
+		verify(this.jdbcOperations, times(1)).update(startsWith("INSERT INTO SPRING_SESSION_ATTRIBUTES ("),
+				isA(PreparedStatementSetter.class));
+		verifyNoMoreInteractions(this.jdbcOperations);
+	}
+
 	@Test
 	void saveUpdatedAddSingleAttribute() {
 		JdbcSession session = this.repository.new JdbcSession(new MapSession(), "primaryKey", false);
@@ -583,6 +648,64 @@ class JdbcIndexedSessionRepositoryTests {
 		verify(this.jdbcOperations, times(1)).update(startsWith("DELETE"), eq(sessionId));
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	void findByIdsMultipleSessions() {
+		JdbcSession session = this.repository.createSession();
+		JdbcSession expired = this.repository.createSession();
+		expired.setLastAccessedTime(Instant.now().minusSeconds(MapSession.DEFAULT_MAX_INACTIVE_INTERVAL_SECONDS + 1));
+		given(this.jdbcOperations.query(contains("IN (?, ?, ?)"), isA(ResultSetExtractor.class), eq(session.getId()),
+				eq(expired.getId()), eq("missing")))
+			.willReturn(Arrays.asList(session, expired));
+
+		Map<String, JdbcSession> sessions = this.repository
+			.findByIds(Arrays.asList(session.getId(), expired.getId(), "missing"));
+
+		assertThat(sessions).containsOnlyKeys(session.getId());
+		verify(this.jdbcOperations).update(startsWith("DELETE"), eq(expired.getId()));
+	}
+
+	@Test
+	void deleteByIds() {
+		this.repository.deleteByIds(Arrays.asList("id1", "id2"));
+
+		verify(this.jdbcOperations, times(1)).update(startsWith("DELETE"), eq("id1"), eq("id2"));
+		verifyNoMoreInteractions(this.jdbcOperations);
+	}
+
+	@Test
+	void saveAllInSingleTransaction() {
+		TransactionOperations transactionOperations = mock(TransactionOperations.class);
+		this.repository = new JdbcIndexedSessionRepository(this.jdbcOperations, transactionOperations);
+		JdbcSession session1 = this.repository.createSession();
+		JdbcSession session2 = this.repository.createSession();
+
+		this.repository.saveAll(Arrays.asList(session1, session2));
+
+		verify(transactionOperations, times(1)).executeWithoutResult(any());
+	}
+
+	@Test
+	@SuppressWarnings("unchecked")
+	void findSessionMetadataByPrincipalNameDoesNotSelectAttributeBytes() {
+		String principal = "username";
+		SessionMetadata active = new SessionMetadata("active", Instant.EPOCH, Instant.now(),
+				MapSession.DEFAULT_MAX_INACTIVE_INTERVAL, principal, Collections.singleton("attribute"));
+		SessionMetadata expired = new SessionMetadata("expired", Instant.EPOCH, Instant.EPOCH,
+				MapSession.DEFAULT_MAX_INACTIVE_INTERVAL, principal, Collections.emptySet());
+		given(this.jdbcOperations.query(isA(String.class), isA(PreparedStatementSetter.class),
+				isA(ResultSetExtractor.class)))
+			.willReturn(Arrays.asList(active, expired));
+
+		List<SessionMetadata> sessions = this.repository.findSessionMetadataByPrincipalName(principal).toList();
+
+		assertThat(sessions).containsExactly(active);
+		ArgumentCaptor<String> query = ArgumentCaptor.forClass(String.class);
+		verify(this.jdbcOperations).query(query.capture(), isA(PreparedStatementSetter.class),
+				isA(ResultSetExtractor.class));
+		assertThat(query.getValue()).contains("SA.ATTRIBUTE_NAME").doesNotContain("ATTRIBUTE_BYTES");
+	}
+
 	@Test
 	void findByIndexNameAndIndexValueUnknownIndexName() {
 		String indexValue = "testIndexValue";
@@ -634,6 +757,69 @@ class JdbcIndexedSessionRepositoryTests {
 				isA(ResultSetExtractor.class));
 	}
 
+	@Test
+	@SuppressWarnings("unchecked")
+	void findByIndexNameAndIndexValueSecondaryIndexName() {
+		this.repository.setSecondaryIndexesEnabled(true);
+		this.repository.setIndexResolver(new DelegatingIndexResolver<>(new PrincipalNameIndexResolver<>(),
+				new PrincipalNameIndexResolver<>("tenant")));
+		JdbcSession saved = this.repository.createSession();
+		saved.setAttribute("tenant", "acme");
+		given(this.jdbcOperations.query(isA(String.class), isA(PreparedStatementSetter.class),
+				isA(ResultSetExtractor.class)))
+			.willReturn(Collections.singletonList(saved));
+
+		Map<String, JdbcSession> sessions = this.repository.findByIndexNameAndIndexValue("tenant", "acme");
+
+		assertThat(sessions).containsOnlyKeys(saved.getId());
+		verify(this.jdbcOperations, times(1)).query(contains("SPRING_SESSION_INDEXES"),
+				isA(PreparedStatementSetter.class), isA(ResultSetExtractor.class));
+	}
+
+	@Test
+	void saveNewWithCustomIndexResolverWhenSecondaryIndexesDisabledThenIndexesNotSaved() {
+		this.repository.setIndexResolver(new DelegatingIndexResolver<>(new PrincipalNameIndexResolver<>(),
+				new PrincipalNameIndexResolver<>("tenant")));
+		JdbcSession session = this.repository.createSession();
+		session.setAttribute("tenant", "acme");
+
+		this.repository.save(session);
+		Map<String, JdbcSession> sessions = this.repository.findByIndexNameAndIndexValue("tenant", "acme");
+
+		assertThat(sessions).isEmpty();
+		verify(this.jdbcOperations, times(1)).update(startsWith("INSERT INTO SPRING_SESSION ("),
+				isA(PreparedStatementSetter.class));
+		verify(this.jdbcOperations, times(1)).update(startsWith("INSERT INTO SPRING_SESSION_ATTRIBUTES ("),
+				isA(PreparedStatementSetter.class));
+		verifyNoMoreInteractions(this.jdbcOperations);
+	}
+
+	@Test
+	void deleteByPrincipalNameWithSingleStatement() {
+		this.repository.deleteByPrincipalName("username");
+
+		verify(this.jdbcOperations, times(1)).update(contains("WHERE PRINCIPAL_NAME = ?"), eq("username"));
+		verifyNoMoreInteractions(this.jdbcOperations);
+	}
+
+	@Test
+	void deleteByIndexNameAndIndexValueSecondaryIndexName() {
+		this.repository.setSecondaryIndexesEnabled(true);
+		this.repository.setIndexResolver(new PrincipalNameIndexResolver<>("tenant"));
+
+		this.repository.deleteByIndexNameAndIndexValue("tenant", "acme");
+
+		verify(this.jdbcOperations, times(1)).update(contains("SPRING_SESSION_INDEXES"), eq("tenant"), eq("acme"));
+		verifyNoMoreInteractions(this.jdbcOperations);
+	}
+
+	@Test
+	void deleteByIndexNameAndIndexValueUnknownIndexName() {
+		this.repository.deleteByIndexNameAndIndexValue("tenant", "acme");
+
+		verifyNoMoreInteractions(this.jdbcOperations);
+	}
+
 	@Test
 	void cleanupExpiredSessions() {
 		this.repository.cleanUpExpiredSessions();
@@ -658,9 +844,9 @@ class JdbcIndexedSessionRepositoryTests {
 	void saveWithSaveModeOnSetAttribute() {
 		this.repository.setSaveMode(SaveMode.ON_SET_ATTRIBUTE);
 		MapSession delegate = new MapSession();
-		delegate.setAttribute("attribute1", (Supplier<String>) () -> "value1");
-		delegate.setAttribute("attribute2", (Supplier<String>) () -> "value2");
-		delegate.setAttribute("attribute3", (Supplier<String>) () -> "value3");
+		delegate.setAttribute("attribute1", "value1");
+		delegate.setAttribute("attribute2", "value2");
+		delegate.setAttribute("attribute3", "value3");
 		JdbcSession session = this.repository.new JdbcSession(delegate, UUID.randomUUID().toString(), false);
 		session.getAttribute("attribute2");
 		session.setAttribute("attribute3", "value4");
@@ -674,9 +860,9 @@ class JdbcIndexedSessionRepositoryTests {
 	void saveWithSaveModeOnGetAttribute() {
 		this.repository.setSaveMode(SaveMode.ON_GET_ATTRIBUTE);
 		MapSession delegate = new MapSession();
-		delegate.setAttribute("attribute1", (Supplier<String>) () -> "value1");
-		delegate.setAttribute("attribute2", (Supplier<String>) () -> "value2");
-		delegate.setAttribute("attribute3", (Supplier<String>) () -> "value3");
+		delegate.setAttribute("attribute1", "value1");
+		delegate.setAttribute("attribute2", "value2");
+		delegate.setAttribute("attribute3", "value3");
 		JdbcSession session = this.repository.new JdbcSession(delegate, UUID.randomUUID().toString(), false);
 		session.getAttribute("attribute2");
 		session.setAttribute("attribute3", "value4");
@@ -693,7 +879,7 @@ class JdbcIndexedSessionRepositoryTests {
 	void saveWithSaveModeOnGetAttributeAndNewAttributeSetAndGet() {
 		this.repository.setSaveMode(SaveMode.ON_GET_ATTRIBUTE);
 		MapSession delegate = new MapSession();
-		delegate.setAttribute("attribute1", (Supplier<String>) () -> "value1");
+		delegate.setAttribute("attribute1", "value1");
 		JdbcSession session = this.repository.new JdbcSession(delegate, UUID.randomUUID().toString(), false);
 		session.setAttribute("attribute2", "value2");
 		session.getAttribute("attribute2");
@@ -707,9 +893,9 @@ class JdbcIndexedSessionRepositoryTests {
 	void saveWithSaveModeAlways() {
 		this.repository.setSaveMode(SaveMode.ALWAYS);
 		MapSession delegate = new MapSession();
-		delegate.setAttribute("attribute1", (Supplier<String>) () -> "value1");
-		delegate.setAttribute("attribute2", (Supplier<String>) () -> "value2");
-		delegate.setAttribute("attribute3", (Supplier<String>) () -> "value3");
+		delegate.setAttribute("attribute1", "value1");
+		delegate.setAttribute("attribute2", "value2");
+		delegate.setAttribute("attribute3", "value3");
 		JdbcSession session = this.repository.new JdbcSession(delegate, UUID.randomUUID().toString(), false);
 		session.getAttribute("attribute2");
 		session.setAttribute("attribute3", "value4");
@@ -722,6 +908,30 @@ class JdbcIndexedSessionRepositoryTests {
 		verifyNoMoreInteractions(this.jdbcOperations);
 	}
 
+	@Test
+	void saveWithSaveModeAlwaysWhenLazyAttributesUnchangedThenAllSaved() {
+		this.repository.setSaveMode(SaveMode.ALWAYS);
+		JdbcSession session = this.repository.new JdbcSession(createLazySession(), UUID.randomUUID().toString(), false);
+		session.getAttribute("attribute2");
+		this.repository.save(session);
+		verify(this.jdbcOperations).batchUpdate(matches("^UPDATE SPRING_SESSION_ATTRIBUTES\\s*SET.*"),
+				isA(BatchPreparedStatementSetter.class));
+		verifyNoMoreInteractions(this.jdbcOperations);
+	}
+
+	@Test
+	void saveWithSkipUnmodifiedAttributesWhenLazyAttributesUnchangedThenOnlyModifiedSaved() {
+		this.repository.setSaveMode(SaveMode.ALWAYS);
+		this.repository.setSkipUnmodifiedAttributes(true);
+		JdbcSession session = this.repository.new JdbcSession(createLazySession(), UUID.randomUUID().toString(), false);
+		session.getAttribute("attribute2");
+		session.<List<String>>getAttribute("attribute3").add("value3");
+		this.repository.save(session);
+		verify(this.jdbcOperations).update(matches("^UPDATE SPRING_SESSION_ATTRIBUTES\\s*SET.*"),
+				isA(PreparedStatementSetter.class));
+		verifyNoMoreInteractions(this.jdbcOperations);
+	}
+
 	@Test
 	void flushModeImmediateSetAttribute() {
 		this.repository.setFlushMode(FlushMode.IMMEDIATE);
@@ -810,4 +1020,17 @@ class JdbcIndexedSessionRepositoryTests {
 		assertThat(session.changeSessionId()).isEqualTo("test");
 	}
 
+	private static MapSession createLazySession() {
+		SerializingConverter serializer = new SerializingConverter();
+		DeserializingConverter deserializer = new DeserializingConverter();
+		MapSession delegate = new MapSession();
+		delegate.setAttribute("attribute1",
+				LazySessionAttribute.of(serializer.convert("value1"), deserializer, serializer));
+		delegate.setAttribute("attribute2",
+				LazySessionAttribute.of(serializer.convert("value2"), deserializer, serializer));
+		delegate.setAttribute("attribute3",
+				LazySessionAttribute.of(serializer.convert(new ArrayList<>()), deserializer, serializer));
+		return delegate;
+	}
+
 }
@@ -40,10 +40,10 @@ class JdbcSchemaUtilsTests {
 	void replaceCreateSchemaTableName(Resource schema) throws IOException {
 		Resource newTableNameSchema = JdbcSchemaUtils.replaceDefaultTableName(schema, "NEW_TABLE_NAME");
 		String schemaScript = new String(newTableNameSchema.getInputStream().readAllBytes());
-		assertThat(schemaScript).doesNotContain("SPRING_SESSION", "SPRING_SESSION_ATTRIBUTES", "SPRING_SESSION_IX1",
-				"SPRING_SESSION_IX2", "SPRING_SESSION_IX3");
-		assertThat(schemaScript).contains("NEW_TABLE_NAME", "NEW_TABLE_NAME_ATTRIBUTES", "NEW_TABLE_NAME_IX1",
-				"NEW_TABLE_NAME_IX2", "NEW_TABLE_NAME_IX3");
+		assertThat(schemaScript).doesNotContain("SPRING_SESSION", "SPRING_SESSION_ATTRIBUTES", "SPRING_SESSION_INDEXES",
+				"SPRING_SESSION_IX1", "SPRING_SESSION_IX2", "SPRING_SESSION_IX3");
+		assertThat(schemaScript).contains("NEW_TABLE_NAME", "NEW_TABLE_NAME_ATTRIBUTES", "NEW_TABLE_NAME_INDEXES",
+				"NEW_TABLE_NAME_IX1", "NEW_TABLE_NAME_IX2", "NEW_TABLE_NAME_IX3");
 	}
 
 	@ParameterizedTest
@@ -51,8 +51,9 @@ class JdbcSchemaUtilsTests {
 	void replaceDropSchemaTableName(Resource schema) throws IOException {
 		Resource newTableNameSchema = JdbcSchemaUtils.replaceDefaultTableName(schema, "NEW_TABLE_NAME");
 		String schemaScript = new String(newTableNameSchema.getInputStream().readAllBytes());
-		assertThat(schemaScript).doesNotContain("SPRING_SESSION", "SPRING_SESSION_ATTRIBUTES");
-		assertThat(schemaScript).contains("NEW_TABLE_NAME", "NEW_TABLE_NAME_ATTRIBUTES");
+		assertThat(schemaScript).doesNotContain("SPRING_SESSION", "SPRING_SESSION_ATTRIBUTES",
+				"SPRING_SESSION_INDEXES");
+		assertThat(schemaScript).contains("NEW_TABLE_NAME", "NEW_TABLE_NAME_ATTRIBUTES", "NEW_TABLE_NAME_INDEXES");
 	}
 
 	private static Stream<Resource> getCreateSchemaFiles() throws IOException {